@@ -15,7 +15,10 @@ import {
     ElementReferenceProperty,
     ElementTextProperty,
     RefreshPropertyPaletteAction,
-    UpdateElementPropertyAction
+    RequestReferencePageAction,
+    SetReferencePageAction,
+    UpdateElementPropertyAction,
+    UpdateMultiElementPropertyAction
 } from '@borkdominik-biguml/uml-protocol';
 import { Action } from '@eclipse-glsp/protocol';
 import { Checkbox as VSCodeCheckbox, Dropdown as VSCodeDropdown, TextField as VSCodeTextField } from '@vscode/webview-ui-toolkit';
@@ -27,12 +30,23 @@ import { groupBy } from 'lodash';
 import { BigElement } from '../base/component';
 import '../global';
 import { PropertyPaletteStyle } from './property-palette.style';
-import { PropertyDeleteEventDetail, PropertyNameChangeDetail, PropertyOrderDetail } from './reference/property-palette-reference.component';
+import {
+    PropertyDeleteEventDetail,
+    PropertyNameChangeDetail,
+    PropertyOrderDetail,
+    PropertyPageRequestDetail
+} from './reference/property-palette-reference.component';
 
 export function definePropertyPalette(): void {
     customElements.define('big-property-palette', PropertyPalette);
 }
 
+interface ReferencePage {
+    references: ElementReferenceProperty.Reference[];
+    total: number;
+    filter?: string;
+}
+
 export class PropertyPalette extends BigElement {
     static override styles = [...super.styles, PropertyPaletteStyle.style];
 
@@ -45,6 +59,9 @@ export class PropertyPalette extends BigElement {
     @state()
     protected searchText?: string;
 
+    @state()
+    protected referencePages: { [propertyId: string]: ReferencePage } = {};
+
     @state()
     protected navigationIds: { [key: string]: { from: string; to: string }[] } = {};
 
@@ -52,6 +69,28 @@ export class PropertyPalette extends BigElement {
         return html`${keyed(this.properties?.elementId, html`<div>${this.headerTemplate()} ${this.bodyTemplate()}</div>`)}`;
     }
 
+    setReferencePage(action: SetReferencePageAction): void {
+        const item = this.properties?.items.find(
+            i => ElementReferenceProperty.is(i) && i.elementId === action.elementId && i.propertyId === action.propertyId
+        ) as ElementReferenceProperty | undefined;
+        if (item === undefined) {
+            return;
+        }
+
+        const loaded = this.referencePages[action.propertyId]?.references ?? item.references;
+        const references = action.offset === 0 ? action.references : [...loaded.slice(0, action.offset), ...action.references];
+        this.referencePages = {
+            ...this.referencePages,
+            [action.propertyId]: { references, total: action.total, filter: action.filter }
+        };
+    }
+
+    protected override willUpdate(changedProperties: PropertyValues<this>): void {
+        if (changedProperties.has('properties')) {
+            this.referencePages = {};
+        }
+    }
+
     protected override updated(changedProperties: PropertyValues<this>): void {
         if (changedProperties.has('properties') && this.clientId !== undefined) {
             const ids = this.navigationIds[this.clientId];
@@ -146,7 +185,12 @@ export class PropertyPalette extends BigElement {
 
         return html`<div class="grid-label">${item.label}</div>
             <div class="grid-value grid-flex">
-                <vscode-text-field .value="${item.text}" @change="${onChange}" ?disabled="${item.disabled}"></vscode-text-field>
+                <vscode-text-field
+                    .value="${item.text}"
+                    placeholder="${item.mixed ? 'Mixed' : nothing}"
+                    @change="${onChange}"
+                    ?disabled="${item.disabled}"
+                ></vscode-text-field>
             </div>`;
     }
 
@@ -161,6 +205,8 @@ export class PropertyPalette extends BigElement {
                 <vscode-checkbox
                     class="bool-item"
                     ?checked="${item.value}"
+                    .indeterminate="${item.mixed === true}"
+                    title="${item.mixed ? 'Mixed' : nothing}"
                     @change="${onChange}"
                     ?disabled="${item.disabled}"
                 ></vscode-checkbox>
@@ -176,7 +222,9 @@ export class PropertyPalette extends BigElement {
         return html`<div class="grid-label">${item.label}</div>
             <div class="grid-value grid-flex">
                 <vscode-dropdown .value="${item.choice}" @change="${onChange}" ?disabled="${item.disabled}">
-                    <div slot="selected-value">${item.choices.find(c => c.value === item.choice)?.label}</div>
+                    <div slot="selected-value">
+                        ${item.mixed ? html`<i>Mixed</i>` : item.choices.find(c => c.value === item.choice)?.label}
+                    </div>
                     ${item.choices.map(
                         choice =>
                             html`<vscode-option .value="${choice.value}">
@@ -195,8 +243,13 @@ export class PropertyPalette extends BigElement {
     }
 
     protected referenceTemplate(item: ElementReferenceProperty): TemplateResult<1> {
+        const page = this.referencePages[item.propertyId];
+
         return html`<big-property-palette-reference
-            .item="${item}"
+            .item="${page === undefined ? item : { ...item, references: page.references }}"
+            .total="${page?.total}"
+            .filter="${page?.filter}"
+            @property-page-request="${this.onPageRequest}"
             @property-navigate="${this.onPropertyNavigate}"
             @property-order-change="${this.onOrderChange}"
             @property-name-change="${this.onPropertyNameChange}"
@@ -223,6 +276,20 @@ export class PropertyPalette extends BigElement {
 
     protected onPropertyChange(item: ElementProperty, value: string): void {
         const { elementId, propertyId } = item;
+        const elementIds = this.properties?.elementIds;
+
+        if (elementIds !== undefined && elementIds.length > 1) {
+            this.dispatchEvent(
+                new CustomEvent<Action>('dispatch-action', {
+                    detail: UpdateMultiElementPropertyAction.create({
+                        elementIds,
+                        propertyId,
+                        value
+                    })
+                })
+            );
+            return;
+        }
 
         this.dispatchEvent(
             new CustomEvent<Action>('dispatch-action', {
@@ -235,6 +302,21 @@ export class PropertyPalette extends BigElement {
         );
     }
 
+    protected onPageRequest(event: CustomEvent<PropertyPageRequestDetail>): void {
+        const { element, offset, filter } = event.detail;
+
+        this.dispatchEvent(
+            new CustomEvent<Action>('dispatch-action', {
+                detail: RequestReferencePageAction.create({
+                    elementId: element.elementId,
+                    propertyId: element.propertyId,
+                    offset,
+                    filter
+                })
+            })
+        );
+    }
+
     protected onOrderChange(event: CustomEvent<PropertyOrderDetail>): void {
         const { element, updates } = event.detail;
 
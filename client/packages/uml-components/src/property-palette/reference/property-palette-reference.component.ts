@@ -7,7 +7,7 @@
  * SPDX-License-Identifier: MIT
  *********************************************************************************/
 
-import { ElementReferenceProperty } from '@borkdominik-biguml/uml-protocol';
+import { ElementReferenceProperty, RequestReferencePageAction } from '@borkdominik-biguml/uml-protocol';
 import { Combobox as FCombobox } from '@microsoft/fast-components';
 import { html, nothing, TemplateResult } from 'lit';
 import { property, query } from 'lit/decorators.js';
@@ -33,6 +33,12 @@ export interface PropertyNameChangeDetail {
     name: string;
 }
 
+export interface PropertyPageRequestDetail {
+    element: ElementReferenceProperty;
+    offset: number;
+    filter?: string;
+}
+
 export interface PropertyOrderDetail {
     element: ElementReferenceProperty;
     updates: {
@@ -48,6 +54,13 @@ export class PropertyPaletteReference extends BigElement {
     @property({ type: Object })
     item?: ElementReferenceProperty = undefined;
 
+    /** Number of references of the (filtered) list, known once a page has been requested */
+    @property({ type: Number })
+    total?: number = undefined;
+
+    @property()
+    filter?: string = undefined;
+
     @query('#items')
     protected readonly itemsElement: HTMLDivElement;
 
@@ -98,7 +111,8 @@ export class PropertyPaletteReference extends BigElement {
                     for (const childNode of childNodes) {
                         parentNode.appendChild(childNode);
                     }
-                    if (e.oldIndex === e.newIndex) {
+                    // Indices of a filtered list do not match the model
+                    if (e.oldIndex === e.newIndex || this.filter) {
                         return;
                     }
                     const element = this.item!.references.splice(oldIndex, 1)[0];
@@ -125,7 +139,7 @@ export class PropertyPaletteReference extends BigElement {
             <div class="header">
                 <h4 class="title">${item.label}</h4>
                 ${when(
-                    item.references.some(r => r.deleteActions.length > 0),
+                    item.references.some(r => r.deleteActions.length > 0) && !this.hasMore(item),
                     () =>
                         html`<div class="actions">
                             <big-menu>
@@ -144,7 +158,9 @@ export class PropertyPaletteReference extends BigElement {
     protected renderBody(item: ElementReferenceProperty): TemplateResult<1> {
         return html`<div class="body">
             ${when(item.isAutocomplete, () => this.renderAutocomplete(item))}
+            ${when(this.isPaged(item), () => this.renderFilter(item))}
             <div id="items">${item.references.map(ref => html`${this.renderItem(item, ref)}`)}</div>
+            ${when(this.isPaged(item), () => this.renderPaging(item))}
             ${when(
                 item.creates.length > 0 && !item.isAutocomplete,
                 () =>
@@ -180,6 +196,49 @@ export class PropertyPaletteReference extends BigElement {
         </vscode-combobox>`;
     }
 
+    protected renderFilter(item: ElementReferenceProperty): TemplateResult<1> {
+        const onChange = (event: CustomEvent): void => {
+            const target = event.target as HTMLInputElement;
+            this.onPageRequest({ element: item, offset: 0, filter: target.value });
+        };
+
+        return html`<vscode-text-field class="filter" placeholder="Filter" .value="${this.filter ?? ''}" @change="${onChange}">
+            <span slot="start" class="codicon codicon-filter"></span>
+        </vscode-text-field>`;
+    }
+
+    protected renderPaging(item: ElementReferenceProperty): TemplateResult<1> {
+        return html`<div class="paging">
+            ${when(
+                this.total !== undefined,
+                () => html`<small>${item.references.length} of ${this.total}</small>`,
+                () => nothing
+            )}
+            ${when(
+                this.hasMore(item),
+                () =>
+                    html`<vscode-button
+                        appearance="secondary"
+                        @click="${() => this.onPageRequest({ element: item, offset: item.references.length, filter: this.filter })}"
+                    >
+                        Load more
+                    </vscode-button>`,
+                () => nothing
+            )}
+        </div>`;
+    }
+
+    protected isPaged(item: ElementReferenceProperty): boolean {
+        return this.total !== undefined || item.references.length >= RequestReferencePageAction.PAGE_SIZE;
+    }
+
+    protected hasMore(item: ElementReferenceProperty): boolean {
+        if (this.total === undefined) {
+            return item.references.length >= RequestReferencePageAction.PAGE_SIZE;
+        }
+        return item.references.length < this.total;
+    }
+
     protected renderItem(item: ElementReferenceProperty, ref: ElementReferenceProperty.Reference): TemplateResult<1> {
         return html`${keyed(
             ref.elementId,
@@ -238,6 +297,14 @@ export class PropertyPaletteReference extends BigElement {
         );
     }
 
+    protected onPageRequest(detail: PropertyPageRequestDetail): void {
+        this.dispatchEvent(
+            new CustomEvent<PropertyPageRequestDetail>('property-page-request', {
+                detail
+            })
+        );
+    }
+
     protected onOrderChange(detail: PropertyOrderDetail): void {
         this.dispatchEvent(
             new CustomEvent<PropertyOrderDetail>('property-order-change', {
@@ -32,6 +32,19 @@ export namespace PropertyPaletteReferenceStyle {
             justify-content: center;
         }
 
+        .body > .filter {
+            width: 100%;
+            margin-bottom: 6px;
+        }
+
+        .body > .paging {
+            display: flex;
+            flex-direction: row;
+            align-items: center;
+            justify-content: space-between;
+            margin-bottom: 6px;
+        }
+
         .body > .actions {
             display: flex;
             flex-direction: row;
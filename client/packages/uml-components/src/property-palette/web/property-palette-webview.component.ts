@@ -11,7 +11,8 @@ import {
     ActionMessageNotification,
     ElementProperties,
     RefreshPropertyPaletteAction,
-    SetPropertyPaletteAction
+    SetPropertyPaletteAction,
+    SetReferencePageAction
 } from '@borkdominik-biguml/uml-protocol';
 import { Action, ActionMessage } from '@eclipse-glsp/protocol';
 import { TemplateResult, html } from 'lit';
@@ -47,6 +48,8 @@ export class PropertyPaletteWebview extends BigElement {
             if (SetPropertyPaletteAction.is(action)) {
                 this.clientId = clientId;
                 this.elementProperties = action.palette;
+            } else if (SetReferencePageAction.is(action)) {
+                this.component.setReferencePage(action);
             } else {
                 console.warn('Unsupported action', action);
             }
@@ -12,7 +12,9 @@ import {
     BGModelResource,
     ElementProperties,
     ExportHistoryAction,
+    LocalIntentResponseAction,
     NliErrorAction,
+    RequestLocalIntentAction,
     UpdateElementPropertyAction
 } from '@borkdominik-biguml/uml-protocol';
 import { Action, ChangeBoundsOperation, CreateEdgeOperation, CreateNodeOperation, DeleteElementOperation, Dimension, ElementAndBounds, SelectAction, UndoAction } from '@eclipse-glsp/protocol';
@@ -65,6 +67,8 @@ export class TextInputPalette extends BigElement {
     @property({ type: Map })
     private inputHistory = new Map<string, string>();
 
+    protected pendingLocalIntents = new Map<string, (response: LocalIntentResponseAction) => void>();
+
     @state()
     protected navigationIds: { [key: string]: { from: string; to: string }[] } = {};
 
@@ -136,16 +140,25 @@ export class TextInputPalette extends BigElement {
                 return;
             }
 
-            if (!await this.isNliServerRunning()) {
-                this.showErrorMsg("NLI Server not ready, make sure it is running at " + NLI_SERVER_URL);
-                return;
-            }
-            
             if (!this.programmaticChange) {
                 this.recordingTimestamp = "text-input-" + Date.now().toString();
             }
             this.inputHistory.set(this.recordingTimestamp, this.inputText);
 
+            // Common commands are executed by the server directly, the NLI server is only asked for everything else
+            const local = await this.requestLocalIntent();
+            if (local.handled) {
+                if (local.error) {
+                    this.showErrorMsg(local.error);
+                }
+                return;
+            }
+
+            if (!await this.isNliServerRunning()) {
+                this.showErrorMsg("NLI Server not ready, make sure it is running at " + NLI_SERVER_URL);
+                return;
+            }
+
             const intent = await this.getIntent();
 
             await this.handleIntent(intent);
@@ -169,6 +182,35 @@ export class TextInputPalette extends BigElement {
         }
     }
 
+    handleLocalIntentResponse(response: LocalIntentResponseAction): void {
+        const resolve = this.pendingLocalIntents.get(response.responseId);
+        if (resolve !== undefined) {
+            this.pendingLocalIntents.delete(response.responseId);
+            resolve(response);
+        }
+    }
+
+    /**
+     * A handled command is answered after it has been executed. A missing answer is reported as an error instead of
+     * falling back to the NLI server, the command may still be executed and would be executed twice.
+     */
+    protected async requestLocalIntent(timeout = 10000): Promise<LocalIntentResponseAction> {
+        const requestId = `local-intent-${Date.now()}`;
+        const response = new Promise<LocalIntentResponseAction>((resolve, reject) => {
+            const timeoutId = setTimeout(() => {
+                this.pendingLocalIntents.delete(requestId);
+                reject(new Error('The server did not answer the command in time'));
+            }, timeout);
+            this.pendingLocalIntents.set(requestId, result => {
+                clearTimeout(timeoutId);
+                resolve(result);
+            });
+        });
+
+        this.sendNotification(RequestLocalIntentAction.create({ text: this.inputText, contextId: this.properties?.elementId, requestId }));
+        return response;
+    }
+
     protected async sleep(ms: number): Promise<void> {
         return new Promise((resolve) => setTimeout(resolve, ms));
     }
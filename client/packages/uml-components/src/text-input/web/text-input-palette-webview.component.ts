@@ -10,6 +10,7 @@
 import {
     ActionMessageNotification,
     ElementProperties,
+    LocalIntentResponseAction,
     ModelResourcesResponseAction,
     SetPropertyPaletteAction,
     BGModelResource,
@@ -68,6 +69,8 @@ export class TextInputPaletteWebview extends BigElement {
                 const fileBlob = new Blob([new Uint8Array(fileData)], { type: 'audio/wav' });
                 this.audioBlob = fileBlob;
                 this.transcribeAudio(recordingTimestamp);
+            } else if (LocalIntentResponseAction.is(action)) {
+                this.component.handleLocalIntentResponse(action);
             } else if (SetPropertyPaletteAction.is(action)) {
                 this.clientId = clientId;
                 this.elementProperties = action.palette;
@@ -0,0 +1,27 @@
+/*********************************************************************************
+ * Copyright (c) 2023 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the MIT License which is available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: MIT
+ *********************************************************************************/
+import { BatchOperation, LayoutCreatedElementsAction } from '@borkdominik-biguml/uml-protocol';
+import { Action, CreateEdgeOperation, CreateNodeOperation, IActionHandler } from '@eclipse-glsp/client';
+import { injectable } from 'inversify';
+
+/**
+ * Asks the server to lay out the elements of every create operation once it has been executed.
+ * Nodes the user placed at an explicit location are not moved, the server only forgets them.
+ */
+@injectable()
+export class CreatedElementsLayoutHandler implements IActionHandler {
+    handle(action: Action): Action | void {
+        if (CreateNodeOperation.is(action)) {
+            return LayoutCreatedElementsAction.create({ discard: action.location !== undefined });
+        }
+        if (CreateEdgeOperation.is(action) || BatchOperation.is(action)) {
+            return LayoutCreatedElementsAction.create();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+/*********************************************************************************
+ * Copyright (c) 2023 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the MIT License which is available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: MIT
+ *********************************************************************************/
+import { BatchOperation } from '@borkdominik-biguml/uml-protocol';
+import { CreateEdgeOperation, CreateNodeOperation, configureActionHandler } from '@eclipse-glsp/client';
+import { ContainerModule } from 'inversify';
+import { CreatedElementsLayoutHandler } from './created-elements-layout.handler';
+
+export const umlLayoutModule = new ContainerModule((bind, _unbind, isBound, rebind) => {
+    const context = { bind, _unbind, isBound, rebind };
+    bind(CreatedElementsLayoutHandler).toSelf().inSingletonScope();
+    configureActionHandler(context, CreateNodeOperation.KIND, CreatedElementsLayoutHandler);
+    configureActionHandler(context, CreateEdgeOperation.KIND, CreatedElementsLayoutHandler);
+    configureActionHandler(context, BatchOperation.KIND, CreatedElementsLayoutHandler);
+});
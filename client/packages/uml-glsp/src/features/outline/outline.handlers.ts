@@ -6,13 +6,17 @@
  *
  * SPDX-License-Identifier: MIT
  *********************************************************************************/
-import { RequestOutlineAction } from '@borkdominik-biguml/uml-protocol';
-import { Action, GModelRoot, IActionHandler, IDiagramStartup, IGModelRootListener, MaybePromise, TYPES } from '@eclipse-glsp/client';
+import { RequestOutlineChildrenAction } from '@borkdominik-biguml/uml-protocol';
+import { Action, IActionHandler, IDiagramStartup, MaybePromise, TYPES } from '@eclipse-glsp/client';
 import { inject, injectable } from 'inversify';
 import { UMLActionDispatcher } from '../../base/action-dispatcher';
 
+/**
+ * Requests the root of the outline once the model has been loaded. Deeper levels are requested by the outline view,
+ * later changes are sent by the server as incremental updates.
+ */
 @injectable()
-export class OutlineService implements IActionHandler, IDiagramStartup, IGModelRootListener {
+export class OutlineService implements IActionHandler, IDiagramStartup {
     @inject(TYPES.IActionDispatcherProvider) protected actionDispatcher: () => Promise<UMLActionDispatcher>;
 
     handle(action: Action): void | Action {
@@ -20,10 +24,6 @@ export class OutlineService implements IActionHandler, IDiagramStartup, IGModelR
         // the code will be handled outside of GLSP
     }
 
-    modelRootChanged(root: Readonly<GModelRoot>): void {
-        this.request();
-    }
-
     postModelInitialization(): MaybePromise<void> {
         return this.request();
     }
@@ -31,6 +31,6 @@ export class OutlineService implements IActionHandler, IDiagramStartup, IGModelR
     protected async request(): Promise<void> {
         const actionDispatcher = await this.actionDispatcher();
         await actionDispatcher.onceModelInitialized();
-        await actionDispatcher.dispatch(RequestOutlineAction.create());
+        await actionDispatcher.dispatch(RequestOutlineChildrenAction.create({ depth: 2 }));
     }
 }
@@ -6,7 +6,7 @@
  *
  * SPDX-License-Identifier: MIT
  *********************************************************************************/
-import { SetOutlineAction } from '@borkdominik-biguml/uml-protocol';
+import { SetOutlineAction, SetOutlineChildrenAction, UpdateOutlineAction } from '@borkdominik-biguml/uml-protocol';
 import { TYPES, configureActionHandler } from '@eclipse-glsp/client';
 import { ContainerModule } from 'inversify';
 import { OutlineService } from './outline.handlers';
@@ -15,6 +15,7 @@ export const umlOutlineModule = new ContainerModule((bind, _unbind, isBound, reb
     const context = { bind, _unbind, isBound, rebind };
     bind(OutlineService).toSelf().inSingletonScope();
     bind(TYPES.IDiagramStartup).toService(OutlineService);
-    bind(TYPES.IGModelRootListener).toService(OutlineService);
     configureActionHandler(context, SetOutlineAction.KIND, OutlineService);
+    configureActionHandler(context, SetOutlineChildrenAction.KIND, OutlineService);
+    configureActionHandler(context, UpdateOutlineAction.KIND, OutlineService);
 });
@@ -6,7 +6,12 @@
  *
  * SPDX-License-Identifier: MIT
  *********************************************************************************/
-import { RefreshPropertyPaletteAction, RequestPropertyPaletteAction, SetPropertyPaletteAction } from '@borkdominik-biguml/uml-protocol';
+import {
+    RefreshPropertyPaletteAction,
+    RequestMultiPropertyPaletteAction,
+    RequestPropertyPaletteAction,
+    SetPropertyPaletteAction
+} from '@borkdominik-biguml/uml-protocol';
 import { Action, GModelRoot, IActionHandler, ICommand, IGModelRootListener, SelectAction, TYPES } from '@eclipse-glsp/client';
 import { inject, injectable } from 'inversify';
 import { UMLActionDispatcher } from '../../base/action-dispatcher';
@@ -14,24 +19,50 @@ import { UMLActionDispatcher } from '../../base/action-dispatcher';
 @injectable()
 export class PropertyPaletteHandler implements IActionHandler, IGModelRootListener {
     @inject(TYPES.IActionDispatcherProvider) protected actionDispatcher: () => Promise<UMLActionDispatcher>;
-    protected activeElementId?: string;
+    protected activeElementIds: string[] = [];
+    /** Request of a multi selection palette that has not been answered yet */
+    protected pendingMulti?: Promise<SetPropertyPaletteAction>;
+    protected staleMulti = false;
 
     handle(action: Action): ICommand | Action | void {
         if (SelectAction.is(action) && action.selectedElementsIDs.length > 0) {
-            this.request(action.selectedElementsIDs.filter(id => id !== undefined && id !== null).at(-1));
+            this.request(action.selectedElementsIDs.filter(id => id !== undefined && id !== null));
         } else if (RefreshPropertyPaletteAction.is(action)) {
-            this.request(action.elementId ?? this.activeElementId);
+            this.request(action.elementId ? [action.elementId] : this.activeElementIds);
         }
     }
 
     modelRootChanged(root: Readonly<GModelRoot>): void {
-        this.request(this.activeElementId);
+        const elementIds = this.activeElementIds.filter(id => root.index.getById(id) !== undefined);
+        if (elementIds.length > 1 && this.pendingMulti !== undefined) {
+            // Building a multi selection palette is expensive, updates while it is requested are answered once
+            this.activeElementIds = elementIds;
+            this.staleMulti = true;
+            return;
+        }
+        this.request(elementIds);
     }
 
-    protected async request(elementId?: string): Promise<SetPropertyPaletteAction> {
+    protected async request(elementIds: string[]): Promise<SetPropertyPaletteAction> {
         const actionDispatcher = await this.actionDispatcher();
         await actionDispatcher.onceModelInitialized();
-        this.activeElementId = elementId;
-        return actionDispatcher.request<SetPropertyPaletteAction>(RequestPropertyPaletteAction.create({ elementId }));
+        this.activeElementIds = elementIds;
+        if (elementIds.length > 1) {
+            const pending = actionDispatcher.request<SetPropertyPaletteAction>(RequestMultiPropertyPaletteAction.create({ elementIds }));
+            this.pendingMulti = pending;
+            const settled = (): void => {
+                if (this.pendingMulti !== pending) {
+                    return;
+                }
+                this.pendingMulti = undefined;
+                if (this.staleMulti) {
+                    this.staleMulti = false;
+                    this.request(this.activeElementIds);
+                }
+            };
+            pending.then(settled, settled);
+            return pending;
+        }
+        return actionDispatcher.request<SetPropertyPaletteAction>(RequestPropertyPaletteAction.create({ elementId: elementIds.at(-1) }));
     }
 }
@@ -43,6 +43,7 @@ import { umlBoundsModule } from './features/bounds/uml-bounds.module';
 import { umlCopyPasteModule } from './features/copy-paste/uml-copy-paste.module';
 import { umlEditModule } from './features/edit/uml-edit.module';
 import { umlTypeHintsModule } from './features/hints/uml-type-hints.module';
+import { umlLayoutModule } from './features/layout/uml-layout.module';
 import { umlLoadingModule } from './features/loading/uml-loading.module'; 
 // import { umlMinimapModule } from './features/minimap/uml-minimap.module'; todo enable minimap when delete bug is fixed
 import { umlOutlineModule } from './features/outline/uml-outline.module';
@@ -84,6 +85,7 @@ export function initializeUMLDiagramContainer(container: Container, ...container
         umlBoundsModule,
         umlCopyPasteModule,
         umlEditModule,
+        umlLayoutModule,
         umlLoadingModule,
         umlThemeModule,
         umlToolManagerModule,
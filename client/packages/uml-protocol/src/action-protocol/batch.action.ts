@@ -0,0 +1,41 @@
+/*********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the MIT License which is available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: MIT
+ *********************************************************************************/
+
+import { Action, Operation } from '@eclipse-glsp/protocol';
+
+/**
+ * Executes the operations in order as one command with a single undo entry and model update.
+ * String arguments created with {@link BatchOperation.ref} are replaced with the id of the element created at that step.
+ */
+export interface BatchOperation extends Operation {
+    kind: typeof BatchOperation.KIND;
+    operations: Operation[];
+}
+export namespace BatchOperation {
+    export const KIND = 'umlBatchOperation';
+
+    export function is(object: unknown): object is BatchOperation {
+        return Action.hasKind(object, KIND);
+    }
+
+    export function create(operations: Operation[]): BatchOperation {
+        return {
+            kind: KIND,
+            isOperation: true,
+            operations
+        };
+    }
+
+    /**
+     * Reference to the element created by the operation at the given (zero based) step.
+     */
+    export function ref(step: number): string {
+        return `$ref:${step}`;
+    }
+}
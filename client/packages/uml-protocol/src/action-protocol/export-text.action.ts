@@ -0,0 +1,50 @@
+/*********************************************************************************
+ * Copyright (c) 2023 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the MIT License which is available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: MIT
+ *********************************************************************************/
+import { Action, hasStringProp } from '@eclipse-glsp/protocol';
+
+export type TextExportFormat = 'plantuml' | 'mermaid';
+
+/**
+ * Asks the server to write the model of the diagram as PlantUML or Mermaid text to the destination file.
+ * The server answers with a {@link TextExportedAction} once the file has been written.
+ */
+export interface ExportTextAction extends Action {
+    kind: typeof ExportTextAction.KIND;
+    format: TextExportFormat;
+    destination: string;
+}
+
+export namespace ExportTextAction {
+    export const KIND = 'exportText';
+
+    export function is(object: any): object is ExportTextAction {
+        return Action.hasKind(object, KIND) && hasStringProp(object, 'destination');
+    }
+
+    export function create(options: { format: TextExportFormat; destination: string }): ExportTextAction {
+        return {
+            kind: KIND,
+            ...options
+        };
+    }
+}
+
+export interface TextExportedAction extends Action {
+    kind: typeof TextExportedAction.KIND;
+    destination: string;
+    error?: string;
+}
+
+export namespace TextExportedAction {
+    export const KIND = 'textExported';
+
+    export function is(object: any): object is TextExportedAction {
+        return Action.hasKind(object, KIND) && hasStringProp(object, 'destination');
+    }
+}
@@ -0,0 +1,50 @@
+/*********************************************************************************
+ * Copyright (c) 2023 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the MIT License which is available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: MIT
+ *********************************************************************************/
+import { Action, hasStringProp } from '@eclipse-glsp/protocol';
+
+/**
+ * Asks the server to generate Java sources for the classifiers of the class diagram into the destination folder.
+ * Only classifiers that changed since the last generation into the same folder are written again.
+ */
+export interface GenerateJavaAction extends Action {
+    kind: typeof GenerateJavaAction.KIND;
+    destination: string;
+}
+
+export namespace GenerateJavaAction {
+    export const KIND = 'generateJava';
+
+    export function is(object: any): object is GenerateJavaAction {
+        return Action.hasKind(object, KIND) && hasStringProp(object, 'destination');
+    }
+
+    export function create(options: { destination: string }): GenerateJavaAction {
+        return {
+            kind: KIND,
+            ...options
+        };
+    }
+}
+
+export interface JavaGeneratedAction extends Action {
+    kind: typeof JavaGeneratedAction.KIND;
+    destination: string;
+    written: number;
+    unchanged: number;
+    deleted: number;
+    error?: string;
+}
+
+export namespace JavaGeneratedAction {
+    export const KIND = 'javaGenerated';
+
+    export function is(object: any): object is JavaGeneratedAction {
+        return Action.hasKind(object, KIND) && hasStringProp(object, 'destination');
+    }
+}
@@ -0,0 +1,33 @@
+/*********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the MIT License which is available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: MIT
+ *********************************************************************************/
+
+import { Action } from '@eclipse-glsp/protocol';
+
+/**
+ * Lays out the elements created since the last request without moving the rest of the diagram.
+ * With `discard` the created elements are forgotten without being moved, e.g. if the user placed them explicitly.
+ */
+export interface LayoutCreatedElementsAction extends Action {
+    kind: typeof LayoutCreatedElementsAction.KIND;
+    discard?: boolean;
+}
+export namespace LayoutCreatedElementsAction {
+    export const KIND = 'layoutCreatedElements';
+
+    export function is(action: unknown): action is LayoutCreatedElementsAction {
+        return Action.hasKind(action, KIND);
+    }
+
+    export function create(options: { discard?: boolean } = {}): LayoutCreatedElementsAction {
+        return {
+            kind: KIND,
+            ...options
+        };
+    }
+}
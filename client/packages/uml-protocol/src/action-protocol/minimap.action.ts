@@ -61,3 +61,73 @@ export namespace MinimapExportSvgAction {
         };
     }
 }
+
+export interface MinimapTile {
+    zoom: number;
+    x: number;
+    y: number;
+    size: number;
+    /** SVG in model coordinates, covering the square starting at (x * size, y * size) */
+    svg: string;
+}
+
+/**
+ * A `RequestMinimapTilesAction` is sent to the server to render the minimap as tiles of the given zoom level.
+ * The whole model is rendered into a few tiles if neither zoom nor area are given.
+ */
+export interface RequestMinimapTilesAction extends RequestAction<SetMinimapTilesAction> {
+    kind: typeof RequestMinimapTilesAction.KIND;
+    zoom?: number;
+    x?: number;
+    y?: number;
+    width?: number;
+    height?: number;
+}
+export namespace RequestMinimapTilesAction {
+    export const KIND = 'requestMinimapTiles';
+
+    export function is(object: unknown): object is RequestMinimapTilesAction {
+        return RequestAction.hasKind(object, KIND);
+    }
+
+    export function create(options: { zoom?: number; area?: Bounds; requestId?: string } = {}): RequestMinimapTilesAction {
+        const { area, ...rest } = options;
+        return {
+            kind: KIND,
+            requestId: '',
+            ...area,
+            ...rest
+        };
+    }
+}
+
+export interface SetMinimapTilesAction extends ResponseAction {
+    kind: typeof SetMinimapTilesAction.KIND;
+    zoom: number;
+    tileSize: number;
+    modelBounds?: Bounds;
+    tiles: MinimapTile[];
+}
+export namespace SetMinimapTilesAction {
+    export const KIND = 'setMinimapTiles';
+
+    export function is(object: unknown): object is SetMinimapTilesAction {
+        return Action.hasKind(object, KIND);
+    }
+
+    /**
+     * Combines the tiles into a single SVG covering the model bounds.
+     */
+    export function toSvg(action: SetMinimapTilesAction): string | undefined {
+        const bounds = action.modelBounds;
+        if (!bounds) {
+            return undefined;
+        }
+        const tiles = action.tiles.map(tile => tile.svg).join('');
+        return (
+            '<svg xmlns="http://www.w3.org/2000/svg" ' +
+            `viewBox="${bounds.x} ${bounds.y} ${bounds.width} ${bounds.height}" ` +
+            `style="width: ${bounds.width}px; height: ${bounds.height}px; border: none;">${tiles}</svg>`
+        );
+    }
+}
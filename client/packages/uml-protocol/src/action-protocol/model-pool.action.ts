@@ -0,0 +1,46 @@
+/*********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the MIT License which is available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: MIT
+ *********************************************************************************/
+
+import { Action, RequestAction, ResponseAction } from '@eclipse-glsp/protocol';
+
+export interface ModelPoolMetrics {
+    hits: number;
+    misses: number;
+    evictions: number;
+    entries: number;
+    size: number;
+    budget: number;
+}
+
+export interface RequestModelPoolMetricsAction extends RequestAction<ModelPoolMetricsResponseAction> {
+    kind: typeof RequestModelPoolMetricsAction.KIND;
+}
+export namespace RequestModelPoolMetricsAction {
+    export const KIND = 'requestModelPoolMetrics';
+
+    export function create(): RequestModelPoolMetricsAction {
+        return {
+            kind: KIND,
+            requestId: RequestAction.generateRequestId()
+        };
+    }
+}
+
+export interface ModelPoolMetricsResponseAction extends ResponseAction {
+    kind: typeof ModelPoolMetricsResponseAction.KIND;
+    metrics: ModelPoolMetrics;
+}
+
+export namespace ModelPoolMetricsResponseAction {
+    export const KIND = 'modelPoolMetricsResponse';
+
+    export function is(action: unknown): action is ModelPoolMetricsResponseAction {
+        return Action.hasKind(action, KIND);
+    }
+}
@@ -0,0 +1,52 @@
+/*********************************************************************************
+ * Copyright (c) 2023 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the MIT License which is available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: MIT
+ *********************************************************************************/
+import { Action, hasStringProp, RequestAction, ResponseAction } from '@eclipse-glsp/protocol';
+
+/**
+ * Asks the server to execute a command with its built-in intent parser.
+ * Commands the server does not understand are answered with `handled: false`.
+ * Handled commands are answered after they have been executed, `error` is set if the execution failed.
+ */
+export interface RequestLocalIntentAction extends RequestAction<LocalIntentResponseAction> {
+    kind: typeof RequestLocalIntentAction.KIND;
+    text: string;
+    contextId?: string;
+}
+
+export namespace RequestLocalIntentAction {
+    export const KIND = 'requestLocalIntent';
+
+    export function is(object: any): object is RequestLocalIntentAction {
+        return Action.hasKind(object, KIND) && hasStringProp(object, 'text');
+    }
+
+    export function create(options: { text: string; contextId?: string; requestId?: string }): RequestLocalIntentAction {
+        return {
+            kind: KIND,
+            requestId: '',
+            ...options
+        };
+    }
+}
+
+export interface LocalIntentResponseAction extends ResponseAction {
+    kind: typeof LocalIntentResponseAction.KIND;
+    handled: boolean;
+    intent?: string;
+    message?: string;
+    error?: string;
+}
+
+export namespace LocalIntentResponseAction {
+    export const KIND = 'localIntentResponse';
+
+    export function is(object: any): object is LocalIntentResponseAction {
+        return Action.hasKind(object, KIND);
+    }
+}
@@ -9,7 +9,7 @@
 import { Action } from '@eclipse-glsp/client';
 import { hasObjectProp, RequestAction, ResponseAction } from '@eclipse-glsp/protocol';
 
-import { OutlineTreeNode } from './outline.model';
+import { OutlineChange, OutlineTreeNode } from './outline.model';
 
 export interface RequestOutlineAction extends RequestAction<SetOutlineAction> {
     kind: typeof RequestOutlineAction.KIND;
@@ -51,3 +51,65 @@ export namespace SetOutlineAction {
         };
     }
 }
+
+export interface RequestOutlineChildrenAction extends RequestAction<SetOutlineChildrenAction> {
+    kind: typeof RequestOutlineChildrenAction.KIND;
+    parentId?: string;
+    offset: number;
+    limit: number;
+    depth: number;
+}
+
+export namespace RequestOutlineChildrenAction {
+    export const KIND = 'requestOutlineChildren';
+
+    export function is(object: any): object is RequestOutlineChildrenAction {
+        return Action.hasKind(object, KIND);
+    }
+
+    export function create(options: {
+        parentId?: string;
+        offset?: number;
+        limit?: number;
+        depth?: number;
+        requestId?: string;
+    }): RequestOutlineChildrenAction {
+        return {
+            kind: KIND,
+            requestId: RequestAction.generateRequestId(),
+            offset: 0,
+            limit: 100,
+            depth: 1,
+            ...options
+        };
+    }
+}
+
+export interface SetOutlineChildrenAction extends ResponseAction {
+    kind: typeof SetOutlineChildrenAction.KIND;
+    parentId?: string;
+    offset: number;
+    total: number;
+    nodes: OutlineTreeNode[];
+}
+
+export namespace SetOutlineChildrenAction {
+    export const KIND = 'setOutlineChildren';
+
+    export function is(object: any): object is SetOutlineChildrenAction {
+        return Action.hasKind(object, KIND) && hasObjectProp(object, 'nodes');
+    }
+}
+
+export interface UpdateOutlineAction extends Action {
+    kind: typeof UpdateOutlineAction.KIND;
+    changes: OutlineChange[];
+}
+
+export namespace UpdateOutlineAction {
+    export const KIND = 'updateOutline';
+
+    export function is(object: any): object is UpdateOutlineAction {
+        return Action.hasKind(object, KIND) && hasObjectProp(object, 'changes');
+    }
+}
@@ -10,7 +10,18 @@
 export interface OutlineTreeNode {
     label: string;
     semanticUri: string;
-    children: OutlineTreeNode[];
+    /** Loaded children, undefined if the children have not been requested yet */
+    children?: OutlineTreeNode[];
     iconClass: string;
     isRoot: boolean;
+    /** Number of all children, the children array may only contain the loaded ones */
+    childCount?: number;
+}
+
+export interface OutlineChange {
+    kind: 'add' | 'remove' | 'update';
+    parentId?: string;
+    id: string;
+    index: number;
+    node?: OutlineTreeNode;
 }
@@ -7,8 +7,8 @@
  * SPDX-License-Identifier: MIT
  *********************************************************************************/
 
-import { Action, hasStringProp, RequestAction, ResponseAction } from '@eclipse-glsp/protocol';
-import { ElementProperties } from './property-palette.model';
+import { Action, hasArrayProp, hasStringProp, RequestAction, ResponseAction } from '@eclipse-glsp/protocol';
+import { ElementProperties, ElementReferenceProperty } from './property-palette.model';
 
 export interface RequestPropertyPaletteAction extends RequestAction<SetPropertyPaletteAction> {
     kind: typeof RequestPropertyPaletteAction.KIND;
@@ -31,6 +31,27 @@ export namespace RequestPropertyPaletteAction {
     }
 }
 
+export interface RequestMultiPropertyPaletteAction extends RequestAction<SetPropertyPaletteAction> {
+    kind: typeof RequestMultiPropertyPaletteAction.KIND;
+    elementIds: string[];
+}
+
+export namespace RequestMultiPropertyPaletteAction {
+    export const KIND = 'requestMultiPropertyPalette';
+
+    export function is(object: any): object is RequestMultiPropertyPaletteAction {
+        return Action.hasKind(object, KIND) && hasArrayProp(object, 'elementIds');
+    }
+
+    export function create(options: { elementIds: string[]; requestId?: string }): RequestMultiPropertyPaletteAction {
+        return {
+            kind: KIND,
+            requestId: '',
+            ...options
+        };
+    }
+}
+
 export interface RefreshPropertyPaletteAction extends Action {
     kind: typeof RefreshPropertyPaletteAction.KIND;
     elementId?: string;
@@ -99,3 +120,82 @@ export namespace UpdateElementPropertyAction {
         };
     }
 }
+
+export interface UpdateMultiElementPropertyAction extends Action {
+    kind: typeof UpdateMultiElementPropertyAction.KIND;
+    elementIds: string[];
+    propertyId: string;
+    value: string;
+}
+
+export namespace UpdateMultiElementPropertyAction {
+    export const KIND = 'updateMultiElementProperty';
+
+    export function is(object: any): object is UpdateMultiElementPropertyAction {
+        return (
+            Action.hasKind(object, KIND) &&
+            hasArrayProp(object, 'elementIds') &&
+            hasStringProp(object, 'propertyId') &&
+            hasStringProp(object, 'value')
+        );
+    }
+
+    export function create(options: { elementIds: string[]; propertyId: string; value: string }): UpdateMultiElementPropertyAction {
+        return {
+            kind: KIND,
+            ...options
+        };
+    }
+}
+
+export interface RequestReferencePageAction extends RequestAction<SetReferencePageAction> {
+    kind: typeof RequestReferencePageAction.KIND;
+    elementId: string;
+    propertyId: string;
+    offset: number;
+    limit?: number;
+    filter?: string;
+}
+
+export namespace RequestReferencePageAction {
+    export const KIND = 'requestReferencePage';
+    /** Number of references the server sends with the palette and per page */
+    export const PAGE_SIZE = 50;
+
+    export function is(object: any): object is RequestReferencePageAction {
+        return Action.hasKind(object, KIND) && hasStringProp(object, 'elementId') && hasStringProp(object, 'propertyId');
+    }
+
+    export function create(options: {
+        elementId: string;
+        propertyId: string;
+        offset: number;
+        limit?: number;
+        filter?: string;
+        requestId?: string;
+    }): RequestReferencePageAction {
+        return {
+            kind: KIND,
+            requestId: '',
+            ...options
+        };
+    }
+}
+
+export interface SetReferencePageAction extends ResponseAction {
+    kind: typeof SetReferencePageAction.KIND;
+    elementId: string;
+    propertyId: string;
+    filter?: string;
+    offset: number;
+    total: number;
+    references: ElementReferenceProperty.Reference[];
+}
+
+export namespace SetReferencePageAction {
+    export const KIND = 'setReferencePage';
+
+    export function is(object: any): object is SetReferencePageAction {
+        return Action.hasKind(object, KIND) && hasStringProp(object, 'propertyId') && hasArrayProp(object, 'references');
+    }
+}
@@ -11,6 +11,8 @@ import { Action } from '@eclipse-glsp/protocol';
 
 export interface ElementProperties {
     elementId: string;
+    /** Set if the palette shows the shared properties of several elements */
+    elementIds?: string[];
     label?: string;
     items: ElementProperty[];
 }
@@ -20,6 +22,8 @@ export interface ElementProperty {
     propertyId: string;
     type: 'TEXT' | 'BOOL' | 'CHOICE' | 'REFERENCE';
     disabled: boolean;
+    /** Set if the value differs between the elements of a multi selection */
+    mixed?: boolean;
 }
 
 export interface ElementTextProperty extends ElementProperty {
@@ -0,0 +1,113 @@
+/*********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the MIT License which is available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: MIT
+ *********************************************************************************/
+
+import { Action, RequestAction, ResponseAction } from '@eclipse-glsp/protocol';
+
+export interface ResourceHash {
+    uri: string;
+    hash: string;
+    size: number;
+}
+
+/**
+ * Describes how the chunks of a resource are assembled. The joined chunks are base64 encoded gzip data if compressed.
+ * A delta replaces the content of the base between `start` and `base.length - suffix` with the payload.
+ */
+export interface ResourceTransfer {
+    key: string;
+    uri: string;
+    hash: string;
+    encoding: 'full' | 'delta';
+    compressed: boolean;
+    chunkCount: number;
+    baseHash?: string;
+    start: number;
+    suffix: number;
+}
+
+export interface RequestResourceHashesAction extends RequestAction<SetResourceHashesAction> {
+    kind: typeof RequestResourceHashesAction.KIND;
+}
+export namespace RequestResourceHashesAction {
+    export const KIND = 'requestResourceHashes';
+
+    export function create(): RequestResourceHashesAction {
+        return {
+            kind: KIND,
+            requestId: ''
+        };
+    }
+}
+
+export interface SetResourceHashesAction extends ResponseAction {
+    kind: typeof SetResourceHashesAction.KIND;
+    resources: Record<string, ResourceHash>;
+}
+export namespace SetResourceHashesAction {
+    export const KIND = 'setResourceHashes';
+
+    export function is(action: unknown): action is SetResourceHashesAction {
+        return Action.hasKind(action, KIND);
+    }
+}
+
+export interface RequestResourceContentAction extends RequestAction<ResourceContentResponseAction> {
+    kind: typeof RequestResourceContentAction.KIND;
+    keys: string[];
+    baseHashes: Record<string, string>;
+    chunkSize: number;
+    compress: boolean;
+}
+export namespace RequestResourceContentAction {
+    export const KIND = 'requestResourceContent';
+
+    export function create(options: {
+        keys: string[];
+        baseHashes?: Record<string, string>;
+        chunkSize?: number;
+        compress?: boolean;
+    }): RequestResourceContentAction {
+        return {
+            kind: KIND,
+            requestId: '',
+            baseHashes: {},
+            chunkSize: 256 * 1024,
+            compress: false,
+            ...options
+        };
+    }
+}
+
+export interface ResourceChunkAction extends Action {
+    kind: typeof ResourceChunkAction.KIND;
+    transferId: string;
+    key: string;
+    index: number;
+    data: string;
+}
+export namespace ResourceChunkAction {
+    export const KIND = 'resourceChunk';
+
+    export function is(action: unknown): action is ResourceChunkAction {
+        return Action.hasKind(action, KIND);
+    }
+}
+
+export interface ResourceContentResponseAction extends ResponseAction {
+    kind: typeof ResourceContentResponseAction.KIND;
+    transferId: string;
+    transfers: ResourceTransfer[];
+}
+export namespace ResourceContentResponseAction {
+    export const KIND = 'resourceContentResponse';
+
+    export function is(action: unknown): action is ResourceContentResponseAction {
+        return Action.hasKind(action, KIND);
+    }
+}
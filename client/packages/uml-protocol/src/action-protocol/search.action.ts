@@ -0,0 +1,55 @@
+/*********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the MIT License which is available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: MIT
+ *********************************************************************************/
+
+import { Action, RequestAction, ResponseAction } from '@eclipse-glsp/protocol';
+
+export interface SearchResult {
+    id: string;
+    name?: string;
+    qualifiedName?: string;
+    type: string;
+    representation?: string;
+    score: number;
+}
+
+export interface RequestSearchModelAction extends RequestAction<SearchModelResponseAction> {
+    kind: typeof RequestSearchModelAction.KIND;
+    query: string;
+    page: number;
+    pageSize: number;
+}
+export namespace RequestSearchModelAction {
+    export const KIND = 'requestSearchModel';
+
+    export function create(options: { query: string; page?: number; pageSize?: number }): RequestSearchModelAction {
+        return {
+            kind: KIND,
+            requestId: RequestAction.generateRequestId(),
+            page: 0,
+            pageSize: 50,
+            ...options
+        };
+    }
+}
+
+export interface SearchModelResponseAction extends ResponseAction {
+    kind: typeof SearchModelResponseAction.KIND;
+    results: SearchResult[];
+    total: number;
+    page: number;
+    pageSize: number;
+}
+
+export namespace SearchModelResponseAction {
+    export const KIND = 'searchModelResponse';
+
+    export function is(action: unknown): action is SearchModelResponseAction {
+        return Action.hasKind(action, KIND);
+    }
+}
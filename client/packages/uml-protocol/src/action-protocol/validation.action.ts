@@ -0,0 +1,30 @@
+/*********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the MIT License which is available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: MIT
+ *********************************************************************************/
+
+import { Action } from '@eclipse-glsp/protocol';
+
+/**
+ * Validates the whole model again, the markers are sent with a SetMarkersAction.
+ */
+export interface ValidateModelAction extends Action {
+    kind: typeof ValidateModelAction.KIND;
+}
+export namespace ValidateModelAction {
+    export const KIND = 'validateModel';
+
+    export function is(action: unknown): action is ValidateModelAction {
+        return Action.hasKind(action, KIND);
+    }
+
+    export function create(): ValidateModelAction {
+        return {
+            kind: KIND
+        };
+    }
+}
@@ -7,17 +7,26 @@
  * SPDX-License-Identifier: MIT
  *********************************************************************************/
 export * from './action-protocol/autocomplete.action';
+export * from './action-protocol/batch.action';
 export * from './action-protocol/editor.actions';
+export * from './action-protocol/layout.action';
 export * from './action-protocol/minimap.action';
+export * from './action-protocol/model-pool.action';
 export * from './action-protocol/model.action';
 export * from './action-protocol/new-file.action';
 export * from './action-protocol/outline.action';
 export * from './action-protocol/audio.action';
 export * from './action-protocol/export-history.action';
+export * from './action-protocol/export-text.action';
+export * from './action-protocol/generate-java.action';
 export * from './action-protocol/nli-error.action';
+export * from './action-protocol/nli-intent.action';
 export * from './action-protocol/outline.model';
 export * from './action-protocol/property-palette.action';
 export * from './action-protocol/property-palette.model';
+export * from './action-protocol/resource-sync.action';
+export * from './action-protocol/search.action';
+export * from './action-protocol/validation.action';
 export * from './environment/configuration';
 export * from './language/language';
 export * from './typescript.utils';
@@ -7,7 +7,7 @@
  * SPDX-License-Identifier: MIT
  *********************************************************************************/
 
-import { MinimapExportSvgAction, RequestMinimapExportSvgAction } from '@borkdominik-biguml/uml-protocol';
+import { MinimapExportSvgAction, RequestMinimapTilesAction, SetMinimapTilesAction } from '@borkdominik-biguml/uml-protocol';
 import { InitializeCanvasBoundsAction, SetModelAction, SetViewportAction, UpdateModelAction } from '@eclipse-glsp/client';
 import { injectable, postConstruct } from 'inversify';
 import { VSCodeSettings } from '../../language';
@@ -26,7 +26,7 @@ export class MinimapProvider extends UMLWebviewProvider {
     protected override init(): void {
         super.init();
 
-        this.extensionHostConnection.cacheActions([InitializeCanvasBoundsAction.KIND, SetViewportAction.KIND, MinimapExportSvgAction.KIND]);
+        this.extensionHostConnection.cacheActions([InitializeCanvasBoundsAction.KIND, SetViewportAction.KIND]);
     }
 
     protected resolveHTML(providerContext: ProviderWebviewContext): void {
@@ -57,7 +57,12 @@ export class MinimapProvider extends UMLWebviewProvider {
         // ==== Webview Extension Host ====
         this.extensionHostConnection.onActionMessage(message => {
             if (UpdateModelAction.is(message.action) || SetModelAction.is(message.action)) {
-                this.extensionHostConnection.send(RequestMinimapExportSvgAction.create());
+                this.extensionHostConnection.send(RequestMinimapTilesAction.create());
+            } else if (SetMinimapTilesAction.is(message.action)) {
+                const action = message.action;
+                this.webviewViewConnection.send(
+                    MinimapExportSvgAction.create(SetMinimapTilesAction.toSvg(action), undefined, action.modelBounds)
+                );
             }
         });
         this.extensionHostConnection.onNoActiveClient(() => {
@@ -67,7 +72,7 @@ export class MinimapProvider extends UMLWebviewProvider {
         // ==== Webview View Connection ====
         this.webviewViewConnection.onActionMessage(message => {
             if (message.action.kind === 'minimapIsReady') {
-                this.extensionHostConnection.send(RequestMinimapExportSvgAction.create());
+                this.extensionHostConnection.send(RequestMinimapTilesAction.create());
                 this.extensionHostConnection.forwardCachedActionsToWebview();
             } else {
                 this.extensionHostConnection.send(message.action);
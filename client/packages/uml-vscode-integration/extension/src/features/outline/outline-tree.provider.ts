@@ -13,7 +13,14 @@
  *
  * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
  ********************************************************************************/
-import { OutlineTreeNode, RequestOutlineAction, SetOutlineAction } from '@borkdominik-biguml/uml-protocol';
+import {
+    OutlineChange,
+    OutlineTreeNode,
+    RequestOutlineChildrenAction,
+    SetOutlineAction,
+    SetOutlineChildrenAction,
+    UpdateOutlineAction
+} from '@borkdominik-biguml/uml-protocol';
 import { SelectAllAction } from '@eclipse-glsp/client';
 import { SelectAction } from '@eclipse-glsp/vscode-integration';
 import { inject, injectable, postConstruct } from 'inversify';
@@ -22,25 +29,33 @@ import { TYPES } from '../../di.types';
 import { UMLGLSPConnector } from '../../glsp/uml-glsp-connector';
 import { VSCodeSettings } from '../../language';
 
+/**
+ * Shows the outline of the active diagram. Only the root and its direct children are requested initially, the
+ * children of a node are requested page by page when it is expanded. The server keeps the loaded nodes up to date
+ * with {@link UpdateOutlineAction}s.
+ */
 @injectable()
 export class OutlineTreeProvider implements vscode.TreeDataProvider<OutlineTreeNode>, vscode.Disposable {
+    static readonly PAGE_SIZE = 100;
+    static readonly MORE_ICON = 'more';
+
     @inject(TYPES.Connector)
     protected readonly connector: UMLGLSPConnector;
 
     protected readonly iconMap = new Map<string, vscode.ThemeIcon>([
         ['model', vscode.ThemeIcon.Folder],
         ['edge', new vscode.ThemeIcon('arrow-both')],
-        ['element', new vscode.ThemeIcon('symbol-class')]
+        ['element', new vscode.ThemeIcon('symbol-class')],
+        [OutlineTreeProvider.MORE_ICON, new vscode.ThemeIcon('ellipsis')]
     ]);
 
     protected onDidChangeTreeDataEmitter = new vscode.EventEmitter<OutlineTreeNode | undefined | null | void>();
     readonly onDidChangeTreeData = this.onDidChangeTreeDataEmitter.event;
 
     protected readonly disposables: vscode.Disposable[] = [];
-    protected storage: OutlineTreeProvider.Storage = {
-        data: [],
-        flattened: []
-    };
+    protected storage: OutlineTreeProvider.Storage = OutlineTreeProvider.emptyStorage();
+    /** Pending children requests by parent id and offset */
+    protected readonly pendingChildren = new Map<string, (nodes: OutlineTreeNode[]) => void>();
 
     protected selectionToUpdateContext: OutlineTreeProvider.SelectionUpdateContext = {};
 
@@ -65,7 +80,7 @@ export class OutlineTreeProvider implements vscode.TreeDataProvider<OutlineTreeN
                     if (this.connector.clients.every(c => !c.webviewEndpoint.webviewPanel.active)) {
                         this.onNodesChanged([]);
                     } else {
-                        this.connector.sendActionToActiveClient(RequestOutlineAction.create());
+                        this.requestRoot();
                     }
                 }, 100);
             }),
@@ -78,6 +93,10 @@ export class OutlineTreeProvider implements vscode.TreeDataProvider<OutlineTreeN
                 const { action } = message;
                 if (SetOutlineAction.is(action)) {
                     this.onNodesChanged(action.outlineTreeNodes);
+                } else if (SetOutlineChildrenAction.is(action)) {
+                    this.onChildrenReceived(action);
+                } else if (UpdateOutlineAction.is(action)) {
+                    this.onChanges(action.changes);
                 }
             })
         );
@@ -99,33 +118,165 @@ export class OutlineTreeProvider implements vscode.TreeDataProvider<OutlineTreeN
             // root elements are requested
             return this.storage.data;
         }
-        return element.children;
+        if (element.children !== undefined || !this.hasChildren(element)) {
+            return this.withMoreNode(element);
+        }
+        return this.requestChildren(element, 0).then(nodes => {
+            element.children = nodes;
+            return this.withMoreNode(element);
+        });
     }
 
     getParent(element: OutlineTreeNode): vscode.ProviderResult<OutlineTreeNode> {
-        return this.storage.flattened.find(node => node.children.includes(element));
+        return this.storage.parents.get(element);
     }
 
-    protected onNodesChanged(nodes: OutlineTreeNode[]): void {
-        function recFlatMap(node: OutlineTreeNode): OutlineTreeNode[] {
-            return [node, ...node.children.flatMap(c => recFlatMap(c))];
+    protected requestRoot(): void {
+        this.requestChildren(undefined, 0, 2).then(nodes => this.onNodesChanged(nodes));
+    }
+
+    protected requestChildren(
+        parent: OutlineTreeNode | undefined,
+        offset: number,
+        depth = 1,
+        limit = OutlineTreeProvider.PAGE_SIZE
+    ): Promise<OutlineTreeNode[]> {
+        const parentId = parent?.semanticUri;
+        return new Promise(resolve => {
+            this.pendingChildren.set(this.pendingKey(parentId, offset), resolve);
+            this.connector.sendActionToActiveClient(RequestOutlineChildrenAction.create({ parentId, offset, limit, depth }));
+        });
+    }
+
+    protected onChildrenReceived(action: SetOutlineChildrenAction): void {
+        const key = this.pendingKey(action.parentId, action.offset);
+        const resolve = this.pendingChildren.get(key);
+        if (resolve !== undefined) {
+            this.pendingChildren.delete(key);
+            resolve(action.nodes);
+        } else if (action.parentId === undefined) {
+            // The diagram requests the root once its model has been loaded
+            this.onNodesChanged(action.nodes);
         }
+    }
 
-        // The outline has changed. Update the tree view.
-        this.storage = {
-            data: nodes,
-            flattened: nodes.flatMap(node => recFlatMap(node))
+    protected pendingKey(parentId: string | undefined, offset: number): string {
+        return `${parentId ?? ''}#${offset}`;
+    }
+
+    /**
+     * Appends a placeholder node that loads the next page of children when it is selected.
+     */
+    protected withMoreNode(element: OutlineTreeNode): OutlineTreeNode[] {
+        const children = element.children ?? [];
+        children.forEach(child => this.register(child, element));
+        const remaining = (element.childCount ?? children.length) - children.length;
+        if (remaining <= 0) {
+            return children;
+        }
+        const more: OutlineTreeNode = {
+            label: `Load more (${remaining})`,
+            semanticUri: `${element.semanticUri}#more`,
+            iconClass: OutlineTreeProvider.MORE_ICON,
+            isRoot: false,
+            childCount: 0
         };
+        this.storage.parents.set(more, element);
+        return [...children, more];
+    }
+
+    protected async loadMore(more: OutlineTreeNode): Promise<void> {
+        const parent = this.storage.parents.get(more);
+        if (parent === undefined) {
+            return;
+        }
+        const loaded = parent.children ?? [];
+        const nodes = await this.requestChildren(parent, loaded.length);
+        parent.children = [...loaded, ...nodes];
+        this.onDidChangeTreeDataEmitter.fire(parent);
+    }
+
+    /**
+     * Requests the loaded children of the parent again. Added and removed children shift the entries of a partially
+     * loaded parent, the next page would otherwise start at the wrong offset.
+     */
+    protected async reloadChildren(parent: OutlineTreeNode): Promise<void> {
+        const loaded = parent.children ?? [];
+        const nodes = await this.requestChildren(parent, 0, 1, Math.max(loaded.length, OutlineTreeProvider.PAGE_SIZE));
+        loaded.forEach(child => this.storage.byId.delete(child.semanticUri));
+        // Expanded children keep their loaded subtree
+        const previous = new Map(loaded.map(child => [child.semanticUri, child]));
+        nodes.forEach(node => (node.children = previous.get(node.semanticUri)?.children));
+        parent.children = nodes;
+        this.onDidChangeTreeDataEmitter.fire(parent);
+    }
+
+    protected isPartiallyLoaded(node: OutlineTreeNode): boolean {
+        return node.children !== undefined && node.childCount !== undefined && node.children.length < node.childCount;
+    }
+
+    protected register(node: OutlineTreeNode, parent?: OutlineTreeNode): void {
+        this.storage.byId.set(node.semanticUri, node);
+        if (parent !== undefined) {
+            this.storage.parents.set(node, parent);
+        }
+        node.children?.forEach(child => this.register(child, node));
+    }
+
+    protected onNodesChanged(nodes: OutlineTreeNode[]): void {
+        // The outline has changed. Update the tree view.
+        this.storage = OutlineTreeProvider.emptyStorage();
+        this.storage.data = nodes;
+        nodes.forEach(node => this.register(node));
         this.selectionToUpdateContext = {};
         // Update root
         this.onDidChangeTreeDataEmitter.fire(undefined);
     }
 
+    protected onChanges(changes: OutlineChange[]): void {
+        const changed = new Set<OutlineTreeNode | undefined>();
+        const stale = new Set<OutlineTreeNode>();
+        for (const change of changes) {
+            const parent = change.parentId !== undefined ? this.storage.byId.get(change.parentId) : undefined;
+            if (change.kind !== 'update' && parent !== undefined && (stale.has(parent) || this.isPartiallyLoaded(parent))) {
+                // The child count is only updated after the structural changes, it is still the one of the loaded page
+                stale.add(parent);
+            } else if (change.kind === 'remove' && parent?.children !== undefined) {
+                parent.children = parent.children.filter(child => child.semanticUri !== change.id);
+                this.storage.byId.delete(change.id);
+                changed.add(parent);
+            } else if (change.kind === 'add' && parent?.children !== undefined && change.node !== undefined) {
+                const index = change.index < 0 ? parent.children.length : Math.min(change.index, parent.children.length);
+                parent.children.splice(index, 0, change.node);
+                this.register(change.node, parent);
+                changed.add(parent);
+            } else if (change.kind === 'update' && change.node !== undefined) {
+                const node = this.storage.byId.get(change.id);
+                if (node !== undefined) {
+                    // Loaded children are kept, they are changed by their own add and remove changes
+                    node.label = change.node.label;
+                    node.iconClass = change.node.iconClass;
+                    node.childCount = change.node.childCount;
+                    changed.add(node);
+                }
+            }
+        }
+        if (changed.size > 0) {
+            // A parent and its children may both have changed, refreshing the whole tree is cheaper than ordering them
+            this.onDidChangeTreeDataEmitter.fire(changed.size === 1 ? [...changed][0] : undefined);
+        }
+        stale.forEach(parent => this.reloadChildren(parent));
+    }
+
+    protected hasChildren(element: OutlineTreeNode): boolean {
+        return (element.childCount ?? element.children?.length ?? 0) > 0;
+    }
+
     protected getCollapsibleState(element: OutlineTreeNode): vscode.TreeItemCollapsibleState {
-        if (element.children && element.children.length > 0) {
-            return vscode.TreeItemCollapsibleState.Expanded;
+        if (!this.hasChildren(element)) {
+            return vscode.TreeItemCollapsibleState.None;
         }
-        return vscode.TreeItemCollapsibleState.None;
+        return element.isRoot ? vscode.TreeItemCollapsibleState.Expanded : vscode.TreeItemCollapsibleState.Collapsed;
     }
 
     protected requestSelection(selection?: OutlineTreeNode): void {
@@ -133,6 +284,11 @@ export class OutlineTreeProvider implements vscode.TreeDataProvider<OutlineTreeN
             return;
         }
 
+        if (selection.iconClass === OutlineTreeProvider.MORE_ICON) {
+            this.loadMore(selection);
+            return;
+        }
+
         const selectedId = selection.semanticUri;
 
         if (selection.isRoot || this.selectionToUpdateContext.selectedId === selectedId) {
@@ -172,8 +328,9 @@ export class OutlineTreeProvider implements vscode.TreeDataProvider<OutlineTreeN
             return;
         }
 
-        let selectedNode = this.storage.flattened.find(node => node.semanticUri === selectedId && !node.isRoot);
-        selectedNode = selectedNode ?? this.storage.data[0];
+        // Nodes that have not been loaded yet can not be revealed, the root is selected instead
+        let selectedNode = selectedId !== undefined ? this.storage.byId.get(selectedId) : undefined;
+        selectedNode = selectedNode !== undefined && !selectedNode.isRoot ? selectedNode : this.storage.data[0];
 
         this.selectionToUpdateContext = {
             selectedId: selectedNode.semanticUri
@@ -192,10 +349,19 @@ export class OutlineTreeProvider implements vscode.TreeDataProvider<OutlineTreeN
 export namespace OutlineTreeProvider {
     export interface Storage {
         data: OutlineTreeNode[];
-        flattened: OutlineTreeNode[];
+        byId: Map<string, OutlineTreeNode>;
+        parents: Map<OutlineTreeNode, OutlineTreeNode>;
     }
 
     export interface SelectionUpdateContext {
         selectedId?: string;
     }
+
+    export function emptyStorage(): Storage {
+        return {
+            data: [],
+            byId: new Map(),
+            parents: new Map()
+        };
+    }
 }
@@ -7,7 +7,7 @@
  * SPDX-License-Identifier: MIT
  *********************************************************************************/
 
-import { RefreshPropertyPaletteAction, SetPropertyPaletteAction } from '@borkdominik-biguml/uml-protocol';
+import { RefreshPropertyPaletteAction, SetPropertyPaletteAction, SetReferencePageAction } from '@borkdominik-biguml/uml-protocol';
 import { injectable, postConstruct } from 'inversify';
 import { VSCodeSettings } from '../../language';
 import { getBundleUri, getUri } from '../../utilities/webview';
@@ -58,6 +58,11 @@ export class PropertyPaletteProvider extends UMLWebviewProvider {
         this.extensionHostConnection.onDidActiveClientChange(client => {
             this.extensionHostConnection.sendTo(client.clientId, RefreshPropertyPaletteAction.create());
         });
+        this.extensionHostConnection.onActionMessage(message => {
+            if (SetReferencePageAction.is(message.action)) {
+                this.webviewViewConnection.send(message.action);
+            }
+        });
         this.extensionHostConnection.onNoActiveClient(() => {
             if (this.connector.documents.length === 0) {
                 this.webviewViewConnection.send(SetPropertyPaletteAction.create());
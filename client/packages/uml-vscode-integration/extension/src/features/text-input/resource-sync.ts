@@ -0,0 +1,107 @@
+/*********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the MIT License which is available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: MIT
+ *********************************************************************************/
+
+import {
+    BGModelResource,
+    ModelResourcesResponseAction,
+    RequestResourceContentAction,
+    ResourceChunkAction,
+    ResourceContentResponseAction,
+    ResourceTransfer,
+    SetResourceHashesAction
+} from '@borkdominik-biguml/uml-protocol';
+import { gunzipSync } from 'zlib';
+
+interface CachedResource extends BGModelResource {
+    hash: string;
+}
+
+/**
+ * Keeps the model resources of the active client in sync by requesting only the resources whose hash changed.
+ */
+export class ResourceSyncClient {
+    protected resources: Record<string, CachedResource> = {};
+    protected chunks: Record<string, Record<string, string[]>> = {};
+
+    /**
+     * Returns the request for the changed resources, or the cached resources if nothing changed.
+     */
+    handleHashes(action: SetResourceHashesAction): RequestResourceContentAction | ModelResourcesResponseAction {
+        for (const key of Object.keys(this.resources)) {
+            if (!action.resources[key]) {
+                delete this.resources[key];
+            }
+        }
+
+        const changed = Object.entries(action.resources)
+            .filter(([key, resource]) => this.resources[key]?.hash !== resource.hash)
+            .map(([key]) => key);
+        if (changed.length === 0) {
+            return this.createResponse();
+        }
+
+        const baseHashes: Record<string, string> = {};
+        changed.filter(key => this.resources[key]).forEach(key => (baseHashes[key] = this.resources[key].hash));
+        return RequestResourceContentAction.create({ keys: changed, baseHashes, compress: true });
+    }
+
+    handleChunk(action: ResourceChunkAction): void {
+        const transfer = (this.chunks[action.transferId] ??= {});
+        (transfer[action.key] ??= [])[action.index] = action.data;
+    }
+
+    handleContent(action: ResourceContentResponseAction): ModelResourcesResponseAction {
+        const chunks = this.chunks[action.transferId] ?? {};
+        delete this.chunks[action.transferId];
+
+        for (const transfer of action.transfers) {
+            const content = this.assemble(transfer, chunks[transfer.key] ?? []);
+            if (content !== undefined) {
+                this.resources[transfer.key] = { uri: transfer.uri, hash: transfer.hash, content };
+            } else {
+                // Incomplete transfer, the resource is requested in full next time
+                delete this.resources[transfer.key];
+            }
+        }
+        return this.createResponse();
+    }
+
+    clear(): void {
+        this.resources = {};
+        this.chunks = {};
+    }
+
+    protected assemble(transfer: ResourceTransfer, chunks: string[]): string | undefined {
+        if (chunks.length !== transfer.chunkCount || chunks.some(chunk => chunk === undefined)) {
+            return undefined;
+        }
+
+        const data = chunks.join('');
+        const payload = transfer.compressed ? gunzipSync(Buffer.from(data, 'base64')).toString('utf8') : data;
+        if (transfer.encoding === 'full') {
+            return payload;
+        }
+
+        const base = this.resources[transfer.key];
+        if (!base || base.hash !== transfer.baseHash) {
+            return undefined;
+        }
+        return base.content.slice(0, transfer.start) + payload + base.content.slice(base.content.length - transfer.suffix);
+    }
+
+    protected createResponse(): ModelResourcesResponseAction {
+        const resources: Record<string, BGModelResource> = {};
+        Object.entries(this.resources).forEach(([key, { uri, content }]) => (resources[key] = { uri, content }));
+        return {
+            kind: ModelResourcesResponseAction.KIND,
+            responseId: '',
+            resources
+        };
+    }
+}
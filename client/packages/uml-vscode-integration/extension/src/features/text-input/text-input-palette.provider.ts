@@ -13,11 +13,24 @@ import { VSCodeSettings } from '../../language';
 import { getBundleUri, getUri } from '../../utilities/webview';
 import { ProviderWebviewContext, UMLWebviewProvider } from '../../vscode/webview/webview-provider';
 import { InitializeCanvasBoundsAction, SetViewportAction } from '@eclipse-glsp/client';
-import { AudioRecordingCompleteAction, ExportHistoryAction, NliErrorAction, ModelResourcesResponseAction, RequestModelResourcesAction, SetPropertyPaletteAction } from '@borkdominik-biguml/uml-protocol';
+import {
+    AudioRecordingCompleteAction,
+    ExportHistoryAction,
+    LocalIntentResponseAction,
+    NliErrorAction,
+    ModelResourcesResponseAction,
+    RequestModelResourcesAction,
+    RequestResourceHashesAction,
+    ResourceChunkAction,
+    ResourceContentResponseAction,
+    SetPropertyPaletteAction,
+    SetResourceHashesAction
+} from '@borkdominik-biguml/uml-protocol';
 import { exec, ChildProcess } from 'child_process';
 import * as path from 'path';
 import * as vscode from 'vscode';
 import * as fs from 'fs';
+import { ResourceSyncClient } from './resource-sync';
 
 @injectable()
 export class TextInputPaletteProvider extends UMLWebviewProvider {
@@ -25,6 +38,7 @@ export class TextInputPaletteProvider extends UMLWebviewProvider {
     private logFolderName = Date.now().toString();
     private tempDir: string = vscode.workspace.workspaceFolders?.[0]?.uri.fsPath + '/logs/' + this.logFolderName || '/logs' + this.logFolderName;
     private fileName: string = 'recording';
+    protected resourceSync = new ResourceSyncClient();
 
     get id(): string {
         return VSCodeSettings.textInputPalette.viewId;
@@ -65,18 +79,33 @@ export class TextInputPaletteProvider extends UMLWebviewProvider {
     protected override handleConnection(): void {
         // ==== Webview Extension Host ====
         this.extensionHostConnection.onActionMessage(message => {
-            if (ModelResourcesResponseAction.is(message.action)) {
+            if (ModelResourcesResponseAction.is(message.action) || LocalIntentResponseAction.is(message.action)) {
                 // =============== FORWARD DATA TO WEBVIEW ===============
                 this.webviewViewConnection.send(message.action);
+            } else if (SetResourceHashesAction.is(message.action)) {
+                const next = this.resourceSync.handleHashes(message.action);
+                if (ModelResourcesResponseAction.is(next)) {
+                    this.webviewViewConnection.send(next);
+                } else {
+                    this.extensionHostConnection.send(next);
+                }
+            } else if (ResourceChunkAction.is(message.action)) {
+                this.resourceSync.handleChunk(message.action);
+            } else if (ResourceContentResponseAction.is(message.action)) {
+                this.webviewViewConnection.send(this.resourceSync.handleContent(message.action));
             }
         });
+        this.extensionHostConnection.onDidActiveClientChange(() => this.resourceSync.clear());
 
         // ==== Webview View Connection ====
         this.webviewViewConnection.onActionMessage(message => {
             if (message.action.kind === 'textInputReady') {
                 // =============== REQUEST MODEL RESOURCES ===============
-                this.extensionHostConnection.send(RequestModelResourcesAction.create());
+                this.extensionHostConnection.send(RequestResourceHashesAction.create());
                 this.extensionHostConnection.forwardCachedActionsToWebview();
+            } else if (message.action.kind === RequestModelResourcesAction.KIND) {
+                // Only the changed resources are transferred
+                this.extensionHostConnection.send(RequestResourceHashesAction.create());
             } else if (message.action.kind === 'startRecording') {
                 this.startRecording();
             } else if (ExportHistoryAction.is(message.action)) {
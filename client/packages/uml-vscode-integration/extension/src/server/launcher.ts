@@ -91,13 +91,33 @@ export abstract class ServerLauncher {
         }
 
         // TODO: Workaround https://github.com/eclipse-glsp/glsp/issues/727
-        const args = ['--add-opens', 'java.base/java.util=ALL-UNNAMED', '-jar', this.options.executable, ...this.options.additionalArgs];
+        const args = [
+            '--add-opens',
+            'java.base/java.util=ALL-UNNAMED',
+            ...this.classDataSharingArgs(),
+            '-jar',
+            this.options.executable,
+            ...this.options.additionalArgs
+        ];
 
         return childProcess.spawn('java', args, {
             detached: false
         });
     }
 
+    /**
+     * Uses the class data sharing archive created by the server build (`cdsArchive` task) if it was shipped next to the JAR.
+     * `-Xshare:auto` makes the JVM silently fall back if the archive does not match the JAR or the JVM.
+     */
+    protected classDataSharingArgs(): string[] {
+        const archive = this.options.executable.replace(/\.jar$/, '.jsa');
+        if (!fs.existsSync(archive)) {
+            return [];
+        }
+
+        return ['-Xshare:auto', `-XX:SharedArchiveFile=${archive}`];
+    }
+
     protected onReady(): void {
         // Nothing to do
     }
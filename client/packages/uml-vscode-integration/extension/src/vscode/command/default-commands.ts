@@ -6,9 +6,20 @@
  *
  * SPDX-License-Identifier: MIT
  *********************************************************************************/
+import {
+    ExportTextAction,
+    GenerateJavaAction,
+    JavaGeneratedAction,
+    RequestSearchModelAction,
+    SearchModelResponseAction,
+    SearchResult,
+    TextExportFormat,
+    TextExportedAction
+} from '@borkdominik-biguml/uml-protocol';
 import { EnableToolsAction, SetUIExtensionVisibilityAction, ToolPalette } from '@eclipse-glsp/client';
 import { FocusDomAction } from '@eclipse-glsp/client/lib/features/accessibility/actions';
 import { CenterAction, FitToScreenAction, RequestExportSvgAction, SelectAllAction } from '@eclipse-glsp/protocol';
+import { SelectAction } from '@eclipse-glsp/vscode-integration';
 import * as vscode from 'vscode';
 import { UMLGLSPConnector } from '../../glsp/uml-glsp-connector';
 
@@ -27,6 +38,95 @@ export function configureDefaultCommands(context: CommandContext): void {
         connector.onSelectionUpdate(_selectedElements => (selectedElements = _selectedElements.selectedElementsIDs))
     );
 
+    extensionContext.subscriptions.push(
+        connector.onActionMessage(message => {
+            if (TextExportedAction.is(message.action)) {
+                if (message.action.error) {
+                    vscode.window.showErrorMessage(`Export failed: ${message.action.error}`);
+                } else {
+                    vscode.window.showInformationMessage(`Exported to ${message.action.destination}`);
+                }
+            } else if (JavaGeneratedAction.is(message.action)) {
+                const { destination, written, unchanged, deleted, error } = message.action;
+                if (error) {
+                    vscode.window.showErrorMessage(`Java generation failed: ${error}`);
+                } else {
+                    vscode.window.showInformationMessage(
+                        `Generated Java sources in ${destination} (${written} written, ${unchanged} unchanged, ${deleted} deleted)`
+                    );
+                }
+            }
+        })
+    );
+
+    const exportAsText = async (format: TextExportFormat, extension: string): Promise<void> => {
+        const destination = await vscode.window.showSaveDialog({
+            filters: { [format === 'plantuml' ? 'PlantUML' : 'Mermaid']: [extension] }
+        });
+        if (destination !== undefined) {
+            connector.sendActionToActiveClient(ExportTextAction.create({ format, destination: destination.fsPath }));
+        }
+    };
+
+    const generateJava = async (): Promise<void> => {
+        const folders = await vscode.window.showOpenDialog({
+            canSelectFiles: false,
+            canSelectFolders: true,
+            canSelectMany: false,
+            openLabel: 'Generate'
+        });
+        if (folders !== undefined && folders.length > 0) {
+            connector.sendActionToActiveClient(GenerateJavaAction.create({ destination: folders[0].fsPath }));
+        }
+    };
+
+    const searchModel = (): void => {
+        // The server ranks the results, the quick pick must not filter them again
+        const toItem = (result: SearchResult): vscode.QuickPickItem & { id: string } => ({
+            id: result.id,
+            label: result.name ?? result.id,
+            description: result.type,
+            detail: [result.qualifiedName, result.representation && `${result.representation} diagram`]
+                .filter(part => part)
+                .join(' · '),
+            alwaysShow: true
+        });
+
+        const quickPick = vscode.window.createQuickPick<vscode.QuickPickItem & { id: string }>();
+        quickPick.placeholder = 'Search by name, qualified name or comment';
+        let requestId: string | undefined;
+        const disposables: vscode.Disposable[] = [
+            quickPick,
+            connector.onActionMessage(message => {
+                const { action } = message;
+                // Only the answer to the latest query is shown
+                if (SearchModelResponseAction.is(action) && action.responseId === requestId) {
+                    quickPick.busy = false;
+                    quickPick.items = action.results.map(toItem);
+                }
+            }),
+            quickPick.onDidChangeValue(query => {
+                const action = RequestSearchModelAction.create({ query });
+                requestId = action.requestId;
+                quickPick.busy = true;
+                connector.sendActionToActiveClient(action);
+            }),
+            quickPick.onDidAccept(() => {
+                const [selected] = quickPick.selectedItems;
+                if (selected !== undefined) {
+                    connector.sendActionToActiveClient([
+                        SelectAllAction.create(false),
+                        SelectAction.create({ selectedElementsIDs: [selected.id] }),
+                        CenterAction.create([selected.id])
+                    ]);
+                }
+                quickPick.hide();
+            }),
+            quickPick.onDidHide(() => disposables.forEach(disposable => disposable.dispose()))
+        ];
+        quickPick.show();
+    };
+
     extensionContext.subscriptions.push(
         vscode.commands.registerCommand(`${diagramPrefix}.fit`, () => {
             connector.sendActionToActiveClient(FitToScreenAction.create(selectedElements));
@@ -43,6 +143,10 @@ export function configureDefaultCommands(context: CommandContext): void {
         vscode.commands.registerCommand(`${diagramPrefix}.exportAsSVG`, () => {
             connector.sendActionToActiveClient(RequestExportSvgAction.create());
         }),
+        vscode.commands.registerCommand(`${diagramPrefix}.exportAsPlantUML`, () => exportAsText('plantuml', 'puml')),
+        vscode.commands.registerCommand(`${diagramPrefix}.exportAsMermaid`, () => exportAsText('mermaid', 'mmd')),
+        vscode.commands.registerCommand(`${diagramPrefix}.generateJava`, () => generateJava()),
+        vscode.commands.registerCommand(`${diagramPrefix}.searchModel`, () => searchModel()),
         vscode.commands.registerCommand(`${diagramPrefix}.editor.activateResizeMode`, () => {
             connector.sendActionToActiveClient(EnableToolsAction.create(['glsp.resize-tool']));
         }),
@@ -10,7 +10,7 @@ import { createUMLDiagramContainer } from '@borkdominik-biguml/uml-glsp/lib';
 
 import '@eclipse-glsp/vscode-integration-webview/css/glsp-vscode.css';
 
-import { AudioRecordingCompleteAction, ExportHistoryAction, GLSPIsReadyAction, MinimapExportSvgAction, ModelResourcesResponseAction } from '@borkdominik-biguml/uml-protocol';
+import { AudioRecordingCompleteAction, ExportHistoryAction, GLSPIsReadyAction, JavaGeneratedAction, LocalIntentResponseAction, MinimapExportSvgAction, ModelResourcesResponseAction, ResourceChunkAction, ResourceContentResponseAction, SetMinimapTilesAction, SetReferencePageAction, SetResourceHashesAction, TextExportedAction } from '@borkdominik-biguml/uml-protocol';
 import { IActionDispatcher, IDiagramStartup, InitializeCanvasBoundsAction, TYPES } from '@eclipse-glsp/client';
 import { ContainerConfiguration, MaybePromise, SetViewportAction, bindAsService, bindOrRebind } from '@eclipse-glsp/protocol';
 import { GLSPStarter } from '@eclipse-glsp/vscode-integration-webview';
@@ -32,11 +32,19 @@ class UMLStarter extends GLSPStarter {
         bindOrRebind(container, GLSPDiagramWidget).toService(UMLDiagramWidget);
         container.bind(ExtensionActionKind).toConstantValue(GLSPIsReadyAction.KIND);
         container.bind(ExtensionActionKind).toConstantValue(MinimapExportSvgAction.KIND);
+        container.bind(ExtensionActionKind).toConstantValue(SetMinimapTilesAction.KIND);
         container.bind(ExtensionActionKind).toConstantValue(ModelResourcesResponseAction.KIND);
+        container.bind(ExtensionActionKind).toConstantValue(SetResourceHashesAction.KIND);
+        container.bind(ExtensionActionKind).toConstantValue(ResourceChunkAction.KIND);
+        container.bind(ExtensionActionKind).toConstantValue(ResourceContentResponseAction.KIND);
         container.bind(ExtensionActionKind).toConstantValue(SetViewportAction.KIND); // necessary to have it in the provider loop
         container.bind(ExtensionActionKind).toConstantValue(InitializeCanvasBoundsAction.KIND); // necessary to have it in the provider loop
         container.bind(ExtensionActionKind).toConstantValue(AudioRecordingCompleteAction.KIND);
         container.bind(ExtensionActionKind).toConstantValue(ExportHistoryAction.KIND);
+        container.bind(ExtensionActionKind).toConstantValue(SetReferencePageAction.KIND);
+        container.bind(ExtensionActionKind).toConstantValue(LocalIntentResponseAction.KIND);
+        container.bind(ExtensionActionKind).toConstantValue(TextExportedAction.KIND);
+        container.bind(ExtensionActionKind).toConstantValue(JavaGeneratedAction.KIND);
 
         bindAsService(container, TYPES.IDiagramStartup, GLSPReadyStartup);
     }
@@ -6,6 +6,7 @@
  *
  * SPDX-License-Identifier: MIT
  *********************************************************************************/
+import { existsSync } from 'fs';
 import { join } from 'path';
 import { copyBackendFile, log } from './copy-utils';
 
@@ -18,10 +19,16 @@ const targetDirs = [join(__dirname, '..', 'packages', 'uml-vscode-integration',
 const path = join(__dirname, '..', '..', 'server', 'app', 'build', 'libs');
 const executable = `bigUML-${BACKEND_VERSION}-all.jar`;
 const jarPath = join(path, executable);
+// Class data sharing archive, only available if the server was built with the cdsArchive task
+const archive = executable.replace(/\.jar$/, '.jsa');
+const archivePath = join(path, archive);
 
 log('### Start copying server JAR.. ###');
 targetDirs.forEach(targetDir => {
     copyBackendFile(jarPath, `${targetDir}`, executable);
+    if (existsSync(archivePath)) {
+        copyBackendFile(archivePath, `${targetDir}`, archive);
+    }
 });
 
 console.log();
@@ -0,0 +1,98 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.model.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.glsp.server.types.GLSPServerException;
+import org.eclipse.uml2.uml.AggregationKind;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.UMLFactory;
+
+/**
+ * Compares deleting classes one by one with {@link EcoreUtil#delete(org.eclipse.emf.ecore.EObject, boolean)} and
+ * with the {@link UMLInverseReferenceIndex} on a generated model (see the <code>deleteBenchmark</code> Gradle task).
+ * Both runs must leave equal models behind, otherwise the benchmark fails.
+ * <p>
+ * Arguments: number of classes (default 5000), number of deleted classes (default 1000).
+ * </p>
+ */
+public final class UMLDeleteBenchmark {
+
+   private UMLDeleteBenchmark() {}
+
+   public static void main(final String[] args) {
+      var classes = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+      var deletes = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+
+      var expected = run("EcoreUtil.delete", classes, deletes,
+         selection -> selection.forEach(element -> EcoreUtil.delete(element, true)));
+      var actual = run("UMLInverseReferenceIndex", classes, deletes, selection -> {
+         var index = new UMLInverseReferenceIndex();
+         selection.get(0).eResource().getResourceSet().eAdapters().add(index);
+         selection.forEach(element -> index.delete(List.of(element)));
+      });
+
+      if (!EcoreUtil.equals(expected, actual)) {
+         throw new GLSPServerException("UMLInverseReferenceIndex left a different model than EcoreUtil.delete");
+      }
+      System.out.println("Both models are equal");
+   }
+
+   private static Model run(final String name, final int classes, final int deletes,
+      final Consumer<List<Class>> delete) {
+      var model = createModel(classes);
+      var selection = new ArrayList<Class>();
+      for (var i = 0; i < deletes; i++) {
+         selection.add((Class) model.getPackagedElements().get(i * classes / deletes));
+      }
+
+      var start = System.nanoTime();
+      delete.accept(selection);
+      var duration = (System.nanoTime() - start) / 1_000_000;
+
+      System.out.printf("%-26s %d of %d classes deleted in %d ms%n", name, deletes, classes, duration);
+      return model;
+   }
+
+   private static Model createModel(final int classes) {
+      var resourceSet = new ResourceSetImpl();
+      var resource = new ResourceImpl(URI.createURI("benchmark.uml"));
+      resourceSet.getResources().add(resource);
+
+      var model = UMLFactory.eINSTANCE.createModel();
+      resource.getContents().add(model);
+
+      var created = new ArrayList<Class>();
+      for (var i = 0; i < classes; i++) {
+         created.add(model.createOwnedClass("Class" + i, false));
+      }
+
+      // Every class has typed attributes, an association and a generalization to its neighbours
+      for (var i = 0; i < classes; i++) {
+         var source = created.get(i);
+         var target = created.get((i + 1) % classes);
+         source.createGeneralization(created.get((i + classes - 1) % classes));
+         source.createOwnedAttribute("next", target);
+         source.createOwnedAttribute("other", created.get((i * 31 + 7) % classes));
+         source.createAssociation(true, AggregationKind.NONE_LITERAL, "source", 1, 1, target, true,
+            AggregationKind.NONE_LITERAL, "target", 1, 1);
+      }
+      return model;
+   }
+}
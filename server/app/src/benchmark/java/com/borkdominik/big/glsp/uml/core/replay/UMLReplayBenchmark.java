@@ -0,0 +1,242 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.replay;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.glsp.server.operations.Operation;
+import org.eclipse.glsp.server.protocol.DisposeClientSessionParameters;
+import org.eclipse.glsp.server.protocol.GLSPServer;
+import org.eclipse.glsp.server.protocol.InitializeClientSessionParameters;
+import org.eclipse.glsp.server.protocol.InitializeParameters;
+import org.eclipse.glsp.server.types.GLSPServerException;
+
+import com.borkdominik.big.glsp.uml.core.UMLDiagramModule;
+import com.borkdominik.big.glsp.uml.core.UMLMixinModule;
+import com.borkdominik.big.glsp.uml.core.launch.UMLServerModule;
+import com.borkdominik.big.glsp.uml.core.launch.UMLServerWarmup;
+import com.google.gson.JsonObject;
+import com.google.inject.Guice;
+
+/**
+ * Replays recorded sessions against an in-process server (see the <code>replayBenchmark</code> Gradle task). Every
+ * log is replayed in a new client session on a copy of the model and the latency of each action, the size of the
+ * semantic model and the bytes allocated by all threads are measured per step.
+ * <p>
+ * Arguments: <code>&lt;model.uml&gt; &lt;log&gt;... [--warmup &lt;runs&gt;] [--report &lt;file.csv&gt;]
+ * [--max-p95 &lt;ms&gt;]</code>. A log is either an input history exported by the text input palette or a file
+ * with one recorded GLSP action per line. The replay fails if a step failed or the p95 latency of an action kind
+ * exceeds the given limit. A step fails if its action failed, the server reported an error or an operation did not
+ * execute a command.
+ * </p>
+ */
+public final class UMLReplayBenchmark {
+   private static final String DIAGRAM_TYPE = new UMLDiagramModule().getDiagramType();
+
+   private final UMLReplaySessions sessions = new UMLReplaySessions();
+   private final UMLReplayClient client = new UMLReplayClient(sessions);
+   private final GLSPServer server;
+   private int sessionCount = 0;
+
+   private UMLReplayBenchmark() {
+      var serverModule = new UMLServerModule()
+         .configureDiagramModule(new UMLDiagramModule(), new UMLMixinModule(), new UMLReplayModule(sessions));
+      server = Guice.createInjector(serverModule).getInstance(GLSPServer.class);
+   }
+
+   public static void main(final String[] args) throws IOException {
+      var logs = new ArrayList<Path>();
+      Path model = null;
+      Path reportFile = null;
+      var warmup = 0;
+      var maxP95 = Double.MAX_VALUE;
+
+      for (var i = 0; i < args.length; i++) {
+         switch (args[i]) {
+            case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+            case "--report" -> reportFile = Path.of(args[++i]);
+            case "--max-p95" -> maxP95 = Double.parseDouble(args[++i]);
+            default -> {
+               if (model == null) {
+                  model = Path.of(args[i]);
+               } else {
+                  logs.add(Path.of(args[i]));
+               }
+            }
+         }
+      }
+
+      if (model == null || logs.isEmpty()) {
+         throw new IllegalArgumentException(
+            "Usage: <model.uml> <log>... [--warmup <runs>] [--report <file.csv>] [--max-p95 <ms>]");
+      }
+
+      UMLServerWarmup.run(List.of());
+
+      var benchmark = new UMLReplayBenchmark();
+      var report = new UMLReplayReport();
+      try {
+         benchmark.initialize();
+
+         for (var i = 0; i < warmup; i++) {
+            benchmark.replay(model, logs.get(0), new UMLReplayReport());
+         }
+
+         for (var log : logs) {
+            benchmark.replay(model, log, report);
+         }
+      } finally {
+         benchmark.shutdown();
+      }
+
+      report.print(System.out);
+      if (reportFile != null) {
+         report.write(reportFile);
+      }
+
+      // Thrown instead of exiting, the failure is reported by the Gradle task that runs the replay
+      if (report.getFailures() > 0) {
+         throw new GLSPServerException(report.getFailures() + " replayed steps failed");
+      }
+      var p95 = report.getMaxPercentile(95);
+      if (p95 > maxP95) {
+         throw new GLSPServerException(
+            String.format(Locale.ROOT, "The p95 latency of %.2f ms exceeds the limit of %.2f ms", p95, maxP95));
+      }
+   }
+
+   private void initialize() {
+      server.connect(client);
+
+      var parameters = new InitializeParameters();
+      parameters.setApplicationId("bigUML-replay");
+      parameters.setProtocolVersion("1.0.0");
+      await(server.initialize(parameters));
+   }
+
+   private void shutdown() {
+      server.shutdown();
+   }
+
+   private void replay(final Path model, final Path log, final UMLReplayReport report) throws IOException {
+      var steps = UMLReplayLog.read(log);
+      var source = copyModel(model);
+      var clientId = "replay-" + sessionCount++;
+
+      var sessionParameters = new InitializeClientSessionParameters();
+      sessionParameters.setClientSessionId(clientId);
+      sessionParameters.setDiagramType(DIAGRAM_TYPE);
+      sessionParameters.setClientActionKinds(UMLReplayClient.ACTION_KINDS);
+      await(server.initializeClientSession(sessionParameters));
+
+      var probe = sessions.get(clientId)
+         .orElseThrow(() -> new GLSPServerException("Replay session " + clientId + " was not created"));
+      try {
+         var loadStep = new UMLReplayStep(0, requestModel(source));
+         run(log, loadStep, probe, report);
+
+         for (var step : steps) {
+            run(log, step, probe, report);
+         }
+      } finally {
+         var disposeParameters = new DisposeClientSessionParameters();
+         disposeParameters.setClientSessionId(clientId);
+         await(server.disposeClientSession(disposeParameters));
+         sessions.unregister(clientId);
+      }
+   }
+
+   private void run(final Path log, final UMLReplayStep step, final UMLReplayProbe probe,
+      final UMLReplayReport report) {
+      var action = probe.toAction(step.getAction());
+      if (action.isEmpty()) {
+         // Client bound actions of a recorded message log
+         report.skip();
+         return;
+      }
+
+      var failed = false;
+      var errorsBefore = client.getErrors(probe.getClientId());
+      var executedBefore = probe.getExecutedCommands();
+      var allocatedBefore = allocatedBytes();
+      var start = System.nanoTime();
+      try {
+         probe.dispatch(action.get()).join();
+         client.awaitIdle(probe);
+      } catch (RuntimeException e) {
+         failed = true;
+      }
+      var nanos = System.nanoTime() - start;
+      var allocated = allocatedBytes() - allocatedBefore;
+
+      // Errors that were handled by the server, e.g. a command that could not be executed, are only reported
+      if (client.getErrors(probe.getClientId()) != errorsBefore
+         || action.get() instanceof Operation && probe.getExecutedCommands() == executedBefore) {
+         failed = true;
+      }
+
+      report.record(log.getFileName().toString(), step, nanos, probe.getModelSize(), allocated, failed);
+   }
+
+   private static JsonObject requestModel(final Path source) {
+      var options = new JsonObject();
+      options.addProperty("sourceUri", source.toAbsolutePath().toString());
+      options.addProperty("diagramType", DIAGRAM_TYPE);
+
+      var action = new JsonObject();
+      action.addProperty("kind", "requestModel");
+      action.addProperty("requestId", "");
+      action.add("options", options);
+      return action;
+   }
+
+   private static Path copyModel(final Path model) throws IOException {
+      // Replays must not change the recorded model, the notation model is copied along if it exists
+      var directory = Files.createTempDirectory("biguml-replay");
+      var fileName = model.getFileName().toString();
+      var notation = model.resolveSibling(fileName.replaceFirst("\\.uml$", ".unotation"));
+
+      var copy = Files.copy(model, directory.resolve(fileName), StandardCopyOption.REPLACE_EXISTING);
+      if (Files.exists(notation)) {
+         Files.copy(notation, directory.resolve(notation.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+      }
+      return copy;
+   }
+
+   private static long allocatedBytes() {
+      var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+      var total = 0L;
+      for (var bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+         total += Math.max(bytes, 0);
+      }
+      return total;
+   }
+
+   private static <T> T await(final CompletableFuture<T> future) {
+      try {
+         return future.get();
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new GLSPServerException("Interrupted during the replay", e);
+      } catch (ExecutionException e) {
+         throw new GLSPServerException("Replay failed", e.getCause());
+      }
+   }
+}
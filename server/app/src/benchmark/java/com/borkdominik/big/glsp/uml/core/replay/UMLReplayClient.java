@@ -0,0 +1,120 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.replay;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.glsp.server.actions.ActionMessage;
+import org.eclipse.glsp.server.actions.ServerMessageAction;
+import org.eclipse.glsp.server.features.core.model.RequestBoundsAction;
+import org.eclipse.glsp.server.protocol.GLSPClient;
+
+import com.borkdominik.big.glsp.uml.core.nli.LocalIntentResponseAction;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Headless client of the replay. Received actions are only counted, bounds requests are answered without changes so
+ * that the server continues with the model update. Errors reported by the server are counted per client session.
+ */
+public class UMLReplayClient implements GLSPClient {
+   public static final List<String> ACTION_KINDS = List.of(
+      UMLReplayBarrierAction.KIND,
+      "requestBounds",
+      "setModel",
+      "updateModel",
+      "setDirtyState",
+      "setEditMode",
+      "setTypeHints",
+      "setMarkers",
+      "deleteMarkers",
+      "selectAll",
+      "elementSelected",
+      "centerToElement",
+      "fitToScreen",
+      "status",
+      "message",
+      "startProgress",
+      "updateProgress",
+      "endProgress",
+      "setContextActions",
+      "setPropertyPalette",
+      "setReferencePage",
+      "localIntentResponse");
+
+   protected static final int MAX_ROUNDS = 16;
+
+   protected final UMLReplaySessions sessions;
+   protected final AtomicLong received = new AtomicLong();
+   protected final Map<String, AtomicLong> errors = new ConcurrentHashMap<>();
+
+   public UMLReplayClient(final UMLReplaySessions sessions) {
+      this.sessions = sessions;
+   }
+
+   @Override
+   public void process(final ActionMessage message) {
+      var action = message.getAction();
+      if (action instanceof UMLReplayBarrierAction) {
+         return;
+      }
+
+      received.incrementAndGet();
+      if (isError(action)) {
+         errors.computeIfAbsent(message.getClientId(), clientId -> new AtomicLong()).incrementAndGet();
+      }
+      if (action instanceof RequestBoundsAction request) {
+         sessions.get(message.getClientId()).ifPresent(probe -> respond(probe, request));
+      }
+   }
+
+   /**
+    * Blocks until the session has handled every action that was dispatched so far, including the actions that were
+    * dispatched by their handlers.
+    */
+   public void awaitIdle(final UMLReplayProbe probe) {
+      for (var round = 0; round < MAX_ROUNDS; round++) {
+         var before = received.get();
+         probe.dispatch(new UMLReplayBarrierAction()).join();
+         if (received.get() == before) {
+            return;
+         }
+      }
+   }
+
+   public long getReceived() { return received.get(); }
+
+   public long getErrors(final String clientId) {
+      var count = errors.get(clientId);
+      return count == null ? 0 : count.get();
+   }
+
+   protected boolean isError(final Object action) {
+      if (action instanceof LocalIntentResponseAction response) {
+         return response.getError() != null;
+      }
+      return action instanceof ServerMessageAction serverMessage
+         && ("ERROR".equals(serverMessage.getSeverity()) || "FATAL".equals(serverMessage.getSeverity()));
+   }
+
+   protected void respond(final UMLReplayProbe probe, final RequestBoundsAction request) {
+      var json = new JsonObject();
+      json.addProperty("kind", "computedBounds");
+      json.addProperty("responseId", request.getRequestId());
+      json.addProperty("revision", request.getNewRoot().getRevision());
+      json.add("bounds", new JsonArray());
+      json.add("alignments", new JsonArray());
+      probe.toAction(json).ifPresent(probe::dispatch);
+   }
+}
@@ -0,0 +1,89 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.replay;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.glsp.server.types.GLSPServerException;
+
+import com.borkdominik.big.glsp.uml.core.nli.RequestLocalIntentAction;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * Reads the steps of a replay log. Two formats are supported:
+ * <ul>
+ * <li>The input history exported by the text input palette (<code>.csv</code> with a <code>Timestamp,Query</code>
+ * header). Every query is replayed as {@link RequestLocalIntentAction}.</li>
+ * <li>Recorded GLSP actions, one JSON object per line. Either the plain action or an action message with an
+ * <code>action</code> property.</li>
+ * </ul>
+ */
+public final class UMLReplayLog {
+   private static final String HISTORY_HEADER = "Timestamp,Query";
+
+   private UMLReplayLog() {}
+
+   public static List<UMLReplayStep> read(final Path file) {
+      List<String> lines;
+      try {
+         lines = Files.readAllLines(file);
+      } catch (IOException e) {
+         throw new GLSPServerException("Failed to read replay log " + file, e);
+      }
+
+      return file.toString().endsWith(".csv") ? readHistory(lines) : readActions(file, lines);
+   }
+
+   private static List<UMLReplayStep> readHistory(final List<String> lines) {
+      var steps = new ArrayList<UMLReplayStep>();
+      for (var i = 0; i < lines.size(); i++) {
+         var line = lines.get(i);
+         var separator = line.indexOf(',');
+         if (line.isBlank() || separator < 0 || line.startsWith(HISTORY_HEADER)) {
+            continue;
+         }
+
+         // The query itself may contain commas, only the timestamp is split off
+         var action = new JsonObject();
+         action.addProperty("kind", RequestLocalIntentAction.KIND);
+         action.addProperty("requestId", "");
+         action.addProperty("text", line.substring(separator + 1).trim());
+         steps.add(new UMLReplayStep(i + 1, action));
+      }
+      return steps;
+   }
+
+   private static List<UMLReplayStep> readActions(final Path file, final List<String> lines) {
+      var steps = new ArrayList<UMLReplayStep>();
+      for (var i = 0; i < lines.size(); i++) {
+         var line = lines.get(i).trim();
+         if (line.isEmpty() || line.startsWith("#")) {
+            continue;
+         }
+
+         try {
+            var json = JsonParser.parseString(line).getAsJsonObject();
+            var action = json.has("action") && json.get("action").isJsonObject() ? json.getAsJsonObject("action")
+               : json;
+            steps.add(new UMLReplayStep(i + 1, action));
+         } catch (JsonParseException | IllegalStateException e) {
+            throw new GLSPServerException("Invalid action in " + file + " at line " + (i + 1), e);
+         }
+      }
+      return steps;
+   }
+}
@@ -0,0 +1,30 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.replay;
+
+import com.google.inject.AbstractModule;
+
+/**
+ * Mixin for the diagram module that exposes every client session to the replay benchmark.
+ */
+public class UMLReplayModule extends AbstractModule {
+   protected final UMLReplaySessions sessions;
+
+   public UMLReplayModule(final UMLReplaySessions sessions) {
+      this.sessions = sessions;
+   }
+
+   @Override
+   protected void configure() {
+      bind(UMLReplaySessions.class).toInstance(sessions);
+      bind(UMLReplayProbe.class).asEagerSingleton();
+   }
+}
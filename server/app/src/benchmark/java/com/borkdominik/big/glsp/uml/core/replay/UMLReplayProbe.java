@@ -0,0 +1,121 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.replay;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.glsp.server.actions.Action;
+import org.eclipse.glsp.server.actions.ActionDispatcher;
+import org.eclipse.glsp.server.actions.ActionHandlerRegistry;
+import org.eclipse.glsp.server.di.ClientId;
+import org.eclipse.glsp.server.gson.GraphGsonConfigurationFactory;
+
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.borkdominik.big.glsp.uml.core.model.history.UMLCommandStack;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.inject.Inject;
+
+/**
+ * Access to a client session for the replay. Recorded actions are created from their JSON form with the action types
+ * of the registered handlers, client bound actions of a recording are therefore skipped.
+ */
+public class UMLReplayProbe {
+
+   @Inject
+   protected ActionDispatcher actionDispatcher;
+
+   @Inject
+   protected ActionHandlerRegistry actionHandlerRegistry;
+
+   @Inject
+   protected BGEMFModelState modelState;
+
+   @Inject
+   protected UMLCommandStack commandStack;
+
+   @Inject
+   protected GraphGsonConfigurationFactory gsonConfigurationFactory;
+
+   @Inject
+   protected UMLReplaySessions sessions;
+
+   @Inject
+   @ClientId
+   protected String clientId;
+
+   protected final Map<String, Optional<Class<? extends Action>>> actionTypes = new HashMap<>();
+   protected Gson gson;
+
+   @Inject
+   protected void register() {
+      sessions.register(clientId, this);
+   }
+
+   public Optional<Action> toAction(final JsonObject json) {
+      if (!json.has("kind")) {
+         return Optional.empty();
+      }
+
+      var kind = json.get("kind").getAsString();
+      return actionTypes.computeIfAbsent(kind, this::findActionType).map(type -> gson().fromJson(json, type));
+   }
+
+   public CompletableFuture<Void> dispatch(final Action action) {
+      return actionDispatcher.dispatch(action);
+   }
+
+   /**
+    * Number of elements in the semantic model. Only consistent while no action is handled.
+    */
+   public long getModelSize() {
+      var semanticModel = modelState.getSemanticModel();
+      if (semanticModel == null) {
+         return 0;
+      }
+
+      var size = 1L;
+      for (var contents = semanticModel.eAllContents(); contents.hasNext(); contents.next()) {
+         size++;
+      }
+      return size;
+   }
+
+   /** Number of commands the session executed successfully */
+   public long getExecutedCommands() { return commandStack.getExecuted(); }
+
+   public String getClientId() { return clientId; }
+
+   protected Optional<Class<? extends Action>> findActionType(final String kind) {
+      return actionHandlerRegistry.get(kind).stream()
+         .flatMap(handler -> handler.getHandledActionTypes().stream())
+         .filter(type -> kind.equals(newInstanceKind(type)))
+         .findFirst();
+   }
+
+   protected String newInstanceKind(final Class<? extends Action> type) {
+      try {
+         return type.getDeclaredConstructor().newInstance().getKind();
+      } catch (ReflectiveOperationException | RuntimeException e) {
+         return null;
+      }
+   }
+
+   protected Gson gson() {
+      if (gson == null) {
+         gson = gsonConfigurationFactory.configureGson().create();
+      }
+      return gson;
+   }
+}
@@ -0,0 +1,100 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.replay;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.glsp.server.types.GLSPServerException;
+
+/**
+ * Collects the measurements of a replay. Latencies are aggregated per action kind, the model size and the allocated
+ * bytes are kept per step.
+ */
+public class UMLReplayReport {
+   protected static final String CSV_HEADER = "log,line,kind,latencyMs,modelSize,allocatedBytes,failed";
+
+   protected final Map<String, List<Long>> latencies = new TreeMap<>();
+   protected final List<String> rows = new ArrayList<>();
+   protected long allocatedBytes;
+   protected int failures;
+   protected int skipped;
+
+   public void record(final String log, final UMLReplayStep step, final long nanos, final long modelSize,
+      final long allocated, final boolean failed) {
+      latencies.computeIfAbsent(step.getKind(), kind -> new ArrayList<>()).add(nanos);
+      allocatedBytes += allocated;
+      if (failed) {
+         failures++;
+      }
+
+      rows.add(String.join(",", log, String.valueOf(step.getLine()), step.getKind(), millis(nanos),
+         String.valueOf(modelSize), String.valueOf(allocated), String.valueOf(failed)));
+   }
+
+   public void skip() {
+      skipped++;
+   }
+
+   /**
+    * Nearest rank percentile of the latencies of the given kind in milliseconds.
+    */
+   public double percentile(final String kind, final double percentile) {
+      var values = new ArrayList<>(latencies.getOrDefault(kind, List.of()));
+      if (values.isEmpty()) {
+         return 0;
+      }
+
+      Collections.sort(values);
+      var rank = (int) Math.ceil(percentile / 100 * values.size());
+      return values.get(Math.max(rank - 1, 0)) / 1_000_000d;
+   }
+
+   public double getMaxPercentile(final double percentile) {
+      return latencies.keySet().stream().mapToDouble(kind -> percentile(kind, percentile)).max().orElse(0);
+   }
+
+   public int getFailures() { return failures; }
+
+   public void print(final PrintStream out) {
+      out.printf("%-32s %6s %10s %10s %10s%n", "kind", "count", "p50 ms", "p95 ms", "p99 ms");
+      for (var entry : latencies.entrySet()) {
+         var kind = entry.getKey();
+         out.printf("%-32s %6d %10.2f %10.2f %10.2f%n", kind, entry.getValue().size(), percentile(kind, 50),
+            percentile(kind, 95), percentile(kind, 99));
+      }
+      out.printf("%d steps, %d failed, %d skipped, %.1f MB allocated%n", rows.size(), failures, skipped,
+         allocatedBytes / (1024d * 1024d));
+   }
+
+   public void write(final Path file) {
+      var lines = new ArrayList<String>(rows.size() + 1);
+      lines.add(CSV_HEADER);
+      lines.addAll(rows);
+      try {
+         Files.write(file, lines);
+      } catch (IOException e) {
+         throw new GLSPServerException("Failed to write replay report " + file, e);
+      }
+   }
+
+   protected static String millis(final long nanos) {
+      return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000d);
+   }
+}
@@ -0,0 +1,34 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.replay;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Probes of the client sessions created by the replay, shared between the server and the session injectors.
+ */
+public class UMLReplaySessions {
+   protected final Map<String, UMLReplayProbe> probes = new ConcurrentHashMap<>();
+
+   public void register(final String clientId, final UMLReplayProbe probe) {
+      probes.put(clientId, probe);
+   }
+
+   public void unregister(final String clientId) {
+      probes.remove(clientId);
+   }
+
+   public Optional<UMLReplayProbe> get(final String clientId) {
+      return Optional.ofNullable(probes.get(clientId));
+   }
+}
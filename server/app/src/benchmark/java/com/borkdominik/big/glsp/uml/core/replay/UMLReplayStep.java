@@ -0,0 +1,32 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.replay;
+
+import com.google.gson.JsonObject;
+
+/**
+ * One recorded action of a replay log in its JSON form.
+ */
+public class UMLReplayStep {
+   protected final int line;
+   protected final JsonObject action;
+
+   public UMLReplayStep(final int line, final JsonObject action) {
+      this.line = line;
+      this.action = action;
+   }
+
+   public int getLine() { return line; }
+
+   public JsonObject getAction() { return action; }
+
+   public String getKind() { return action.has("kind") ? action.get("kind").getAsString() : "<unknown>"; }
+}
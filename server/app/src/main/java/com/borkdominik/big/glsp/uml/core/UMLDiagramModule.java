@@ -10,15 +10,57 @@
  ********************************************************************************/
 package com.borkdominik.big.glsp.uml.core;
 
+import org.eclipse.glsp.server.actions.ActionDispatcher;
+import org.eclipse.glsp.server.actions.ActionHandler;
+import org.eclipse.glsp.server.di.MultiBinding;
 import org.eclipse.glsp.server.features.core.model.GModelFactory;
+import org.eclipse.glsp.server.layout.LayoutEngine;
+import org.eclipse.glsp.server.operations.OperationHandler;
 
 import com.borkdominik.big.glsp.server.core.BGEMFDiagramModule;
 import com.borkdominik.big.glsp.server.core.model.BGModelRepresentation;
 import com.borkdominik.big.glsp.server.core.model.integrations.BGEMFSourceModelStorage;
+import com.borkdominik.big.glsp.uml.core.actions.UMLActionDispatcher;
+import com.borkdominik.big.glsp.uml.core.actions.UMLRequestCoalescer;
+import com.borkdominik.big.glsp.uml.core.batch.UMLBatchOperationHandler;
+import com.borkdominik.big.glsp.uml.core.codegen.GenerateJavaActionHandler;
+import com.borkdominik.big.glsp.uml.core.codegen.UMLJavaGenerator;
+import com.borkdominik.big.glsp.uml.core.export.ExportTextActionHandler;
 import com.borkdominik.big.glsp.uml.core.gmodel.UMLGModelFactory;
+import com.borkdominik.big.glsp.uml.core.layout.ApplyLayoutActionHandler;
+import com.borkdominik.big.glsp.uml.core.layout.LayoutCreatedElementsActionHandler;
+import com.borkdominik.big.glsp.uml.core.layout.UMLLayoutEngine;
+import com.borkdominik.big.glsp.uml.core.layout.UMLLayoutScheduler;
+import com.borkdominik.big.glsp.uml.core.layout.UMLLayoutTransformer;
+import com.borkdominik.big.glsp.uml.core.minimap.RequestMinimapTilesActionHandler;
+import com.borkdominik.big.glsp.uml.core.minimap.UMLMinimapRenderer;
 import com.borkdominik.big.glsp.uml.core.model.UMLModelMigrator;
 import com.borkdominik.big.glsp.uml.core.model.UMLModelRepresentation;
 import com.borkdominik.big.glsp.uml.core.model.UMLSourceModelStorage;
+import com.borkdominik.big.glsp.uml.core.model.history.UMLCommandStack;
+import com.borkdominik.big.glsp.uml.core.model.index.UMLInheritanceIndex;
+import com.borkdominik.big.glsp.uml.core.model.index.UMLInverseReferenceIndex;
+import com.borkdominik.big.glsp.uml.core.model.index.UMLModelIndex;
+import com.borkdominik.big.glsp.uml.core.model.pool.RequestModelPoolMetricsActionHandler;
+import com.borkdominik.big.glsp.uml.core.model.pool.UMLModelPoolSession;
+import com.borkdominik.big.glsp.uml.core.model.snapshot.UMLModelSnapshots;
+import com.borkdominik.big.glsp.uml.core.outline.RequestOutlineChildrenActionHandler;
+import com.borkdominik.big.glsp.uml.core.outline.UMLOutlineProvider;
+import com.borkdominik.big.glsp.uml.core.nli.RequestLocalIntentActionHandler;
+import com.borkdominik.big.glsp.uml.core.nli.UMLIntentInterpreter;
+import com.borkdominik.big.glsp.uml.core.nli.UMLIntentParser;
+import com.borkdominik.big.glsp.uml.core.palette.RequestMultiPropertyPaletteActionHandler;
+import com.borkdominik.big.glsp.uml.core.palette.RequestReferencePageActionHandler;
+import com.borkdominik.big.glsp.uml.core.palette.UMLPropertyPaletteDelegate;
+import com.borkdominik.big.glsp.uml.core.palette.UMLReferencePages;
+import com.borkdominik.big.glsp.uml.core.palette.UpdateMultiElementPropertyActionHandler;
+import com.borkdominik.big.glsp.uml.core.search.RequestSearchModelActionHandler;
+import com.borkdominik.big.glsp.uml.core.search.UMLSearchIndex;
+import com.borkdominik.big.glsp.uml.core.sync.RequestResourceContentActionHandler;
+import com.borkdominik.big.glsp.uml.core.sync.RequestResourceHashesActionHandler;
+import com.borkdominik.big.glsp.uml.core.sync.UMLResourceSync;
+import com.borkdominik.big.glsp.uml.core.validation.UMLValidationEngine;
+import com.borkdominik.big.glsp.uml.core.validation.ValidateModelActionHandler;
 import com.google.inject.Singleton;
 
 public class UMLDiagramModule extends BGEMFDiagramModule {
@@ -28,6 +70,63 @@ public class UMLDiagramModule extends BGEMFDiagramModule {
       super.configureAdditionals();
 
       bind(UMLModelMigrator.class).in(Singleton.class);
+      bind(UMLModelPoolSession.class).in(Singleton.class);
+      bind(UMLCommandStack.class).in(Singleton.class);
+      bind(UMLModelSnapshots.class).in(Singleton.class);
+      bind(UMLRequestCoalescer.class).in(Singleton.class);
+      bind(UMLLayoutScheduler.class).in(Singleton.class);
+      bind(UMLLayoutTransformer.class).in(Singleton.class);
+      bind(UMLValidationEngine.class).in(Singleton.class);
+      bind(UMLInheritanceIndex.class).in(Singleton.class);
+      bind(UMLInverseReferenceIndex.class).in(Singleton.class);
+      bind(UMLModelIndex.class).in(Singleton.class);
+      bind(UMLSearchIndex.class).in(Singleton.class);
+      bind(UMLOutlineProvider.class).in(Singleton.class);
+      bind(UMLMinimapRenderer.class).in(Singleton.class);
+      bind(UMLResourceSync.class).in(Singleton.class);
+      bind(UMLPropertyPaletteDelegate.class).in(Singleton.class);
+      bind(UMLReferencePages.class).in(Singleton.class);
+      bind(UMLIntentParser.class).in(Singleton.class);
+      bind(UMLIntentInterpreter.class).in(Singleton.class);
+      bind(UMLJavaGenerator.class).in(Singleton.class);
+   }
+
+   @Override
+   protected Class<? extends ActionDispatcher> bindActionDispatcher() {
+      return UMLActionDispatcher.class;
+   }
+
+   @Override
+   protected void configureActionHandlers(final MultiBinding<ActionHandler> binding) {
+      super.configureActionHandlers(binding);
+
+      binding.add(RequestModelPoolMetricsActionHandler.class);
+      binding.add(ApplyLayoutActionHandler.class);
+      binding.add(LayoutCreatedElementsActionHandler.class);
+      binding.add(ValidateModelActionHandler.class);
+      binding.add(RequestSearchModelActionHandler.class);
+      binding.add(RequestOutlineChildrenActionHandler.class);
+      binding.add(RequestMinimapTilesActionHandler.class);
+      binding.add(RequestResourceHashesActionHandler.class);
+      binding.add(RequestResourceContentActionHandler.class);
+      binding.add(RequestMultiPropertyPaletteActionHandler.class);
+      binding.add(UpdateMultiElementPropertyActionHandler.class);
+      binding.add(RequestReferencePageActionHandler.class);
+      binding.add(RequestLocalIntentActionHandler.class);
+      binding.add(ExportTextActionHandler.class);
+      binding.add(GenerateJavaActionHandler.class);
+   }
+
+   @Override
+   protected void configureOperationHandlers(final MultiBinding<OperationHandler<?>> binding) {
+      super.configureOperationHandlers(binding);
+
+      binding.add(UMLBatchOperationHandler.class);
+   }
+
+   @Override
+   protected Class<? extends LayoutEngine> bindLayoutEngine() {
+      return UMLLayoutEngine.class;
    }
 
    @Override
@@ -0,0 +1,29 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.actions;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.glsp.server.actions.Action;
+import org.eclipse.glsp.server.internal.actions.DefaultActionDispatcher;
+
+import com.google.inject.Inject;
+
+public class UMLActionDispatcher extends DefaultActionDispatcher {
+
+   @Inject
+   protected UMLRequestCoalescer coalescer;
+
+   @Override
+   public CompletableFuture<Void> dispatch(final Action action) {
+      return coalescer.dispatch(action, super::dispatch);
+   }
+}
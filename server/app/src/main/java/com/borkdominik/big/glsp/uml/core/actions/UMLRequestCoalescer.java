@@ -0,0 +1,220 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.actions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.eclipse.glsp.server.actions.Action;
+import org.eclipse.glsp.server.actions.RequestAction;
+import org.eclipse.glsp.server.actions.ResponseAction;
+
+import com.google.gson.Gson;
+
+/**
+ * Coalesces bursts of identical requests before they reach the action handlers. Requests with the same kind and
+ * arguments as a pending or running request share its computation and are answered with its response. Requests with
+ * different arguments are never merged, every caller receives the answer to its own request.
+ * <p>
+ * Requests are started immediately by default. A debounce can be configured to collect more identical requests before
+ * a request is started, at the cost of that latency.
+ * </p>
+ * <p>
+ * Once the handler has returned, identical requests no longer join the group. A handler that answers asynchronously
+ * has {@link #RESPONSE_TIMEOUT_MS} to do so, afterwards the waiting requests fail.
+ * </p>
+ */
+public class UMLRequestCoalescer {
+   public static final String DEBOUNCE_PROPERTY = "bigUML.coalesce.debounce";
+   public static final long DEFAULT_DEBOUNCE_MS = 0;
+   public static final long RESPONSE_TIMEOUT_MS = 30_000;
+
+   public static final Set<String> DEFAULT_KINDS = Set.of(
+      "requestPropertyPalette",
+      "requestContextActions",
+      "requestMinimapExportSvg",
+      "requestMinimapTiles",
+      "requestModelResources",
+      "requestOutline",
+      "requestSearchModel");
+
+   private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      var thread = new Thread(runnable, "UMLRequestCoalescer");
+      thread.setDaemon(true);
+      return thread;
+   });
+
+   protected final Gson gson = new Gson();
+   protected final Set<String> kinds;
+   protected final long debounce;
+
+   protected final Map<String, Group> debounced = new HashMap<>();
+   protected final Map<String, Group> runningByKey = new HashMap<>();
+   protected final Map<String, Group> runningByRequestId = new HashMap<>();
+
+   public UMLRequestCoalescer() {
+      this(DEFAULT_KINDS, Long.getLong(DEBOUNCE_PROPERTY, DEFAULT_DEBOUNCE_MS));
+   }
+
+   public UMLRequestCoalescer(final Set<String> kinds, final long debounce) {
+      this.kinds = kinds;
+      this.debounce = debounce;
+   }
+
+   public CompletableFuture<Void> dispatch(final Action action,
+      final Function<Action, CompletableFuture<Void>> delegate) {
+      if (action instanceof ResponseAction response) {
+         return respond(response, delegate);
+      }
+
+      if (action instanceof RequestAction<?> request && kinds.contains(action.getKind())
+         && request.getRequestId() != null && !request.getRequestId().isEmpty()) {
+         return coalesce(request, delegate);
+      }
+
+      return delegate.apply(action);
+   }
+
+   protected CompletableFuture<Void> coalesce(final RequestAction<?> request,
+      final Function<Action, CompletableFuture<Void>> delegate) {
+      var json = gson.toJsonTree(request).getAsJsonObject();
+      json.remove("requestId");
+      var key = json.toString();
+      var member = new Member(request.getRequestId());
+
+      Group group;
+      synchronized (this) {
+         var existing = runningByKey.get(key);
+         if (existing == null) {
+            existing = debounced.get(key);
+         }
+         if (existing != null) {
+            existing.members.add(member);
+            return member.future;
+         }
+
+         group = new Group(request, key);
+         group.members.add(member);
+         debounced.put(key, group);
+         if (debounce > 0) {
+            scheduler.schedule(() -> start(group, delegate), debounce, TimeUnit.MILLISECONDS);
+            return member.future;
+         }
+      }
+
+      start(group, delegate);
+      return member.future;
+   }
+
+   protected void start(final Group group, final Function<Action, CompletableFuture<Void>> delegate) {
+      synchronized (this) {
+         if (debounced.get(group.key) != group) {
+            return;
+         }
+         debounced.remove(group.key);
+
+         var running = runningByKey.get(group.key);
+         if (running != null) {
+            running.members.addAll(group.members);
+            return;
+         }
+
+         runningByKey.put(group.key, group);
+         runningByRequestId.put(group.request.getRequestId(), group);
+      }
+
+      delegate.apply(group.request).whenComplete((result, error) -> {
+         if (error != null) {
+            fail(group, error);
+            return;
+         }
+
+         synchronized (this) {
+            if (!runningByKey.remove(group.key, group)) {
+               // Already answered
+               return;
+            }
+         }
+         scheduler.schedule(() -> fail(group, new TimeoutException("No response to " + group.request.getKind())),
+            RESPONSE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+      });
+   }
+
+   protected void fail(final Group group, final Throwable error) {
+      synchronized (this) {
+         runningByKey.remove(group.key, group);
+         if (!runningByRequestId.remove(group.request.getRequestId(), group)) {
+            return;
+         }
+      }
+      group.members.forEach(member -> member.future.completeExceptionally(error));
+   }
+
+   protected CompletableFuture<Void> respond(final ResponseAction response,
+      final Function<Action, CompletableFuture<Void>> delegate) {
+      Group group;
+      synchronized (this) {
+         group = runningByRequestId.remove(response.getResponseId());
+         if (group != null) {
+            runningByKey.remove(group.key, group);
+         }
+      }
+
+      if (group == null) {
+         return delegate.apply(response);
+      }
+
+      // The response object is reused for every member, therefore they are sent one after another
+      CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+      for (var member : group.members) {
+         chain = chain.thenCompose(ignore -> {
+            response.setResponseId(member.requestId);
+            return delegate.apply(response);
+         }).whenComplete((result, error) -> {
+            if (error != null) {
+               member.future.completeExceptionally(error);
+            } else {
+               member.future.complete(null);
+            }
+         });
+      }
+      return chain;
+   }
+
+   protected static class Group {
+      protected final RequestAction<?> request;
+      protected final String key;
+      protected final List<Member> members = new ArrayList<>();
+
+      Group(final RequestAction<?> request, final String key) {
+         this.request = request;
+         this.key = key;
+      }
+   }
+
+   protected static class Member {
+      protected final String requestId;
+      protected final CompletableFuture<Void> future = new CompletableFuture<>();
+
+      Member(final String requestId) {
+         this.requestId = requestId;
+      }
+   }
+}
@@ -0,0 +1,87 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.command.Command;
+import org.eclipse.emf.common.command.CompoundCommand;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.glsp.server.emf.EMFIdGenerator;
+import org.eclipse.glsp.server.operations.Operation;
+import org.eclipse.glsp.server.operations.OperationHandler;
+import org.eclipse.glsp.server.operations.OperationHandlerRegistry;
+import org.eclipse.glsp.server.types.GLSPServerException;
+
+import com.borkdominik.big.glsp.uml.core.layout.UMLCreatedElementsAdapter;
+
+/**
+ * Creates and executes the commands of the batch steps one after another, so that each step sees the elements created
+ * by the previous ones. Undo and redo apply to all steps at once.
+ */
+public class UMLBatchCommand extends CompoundCommand {
+   protected final List<Operation> operations;
+   protected final OperationHandlerRegistry operationHandlerRegistry;
+   protected final EMFIdGenerator idGenerator;
+   protected final EObject semanticRoot;
+   protected final List<String> createdIds = new ArrayList<>();
+
+   public UMLBatchCommand(final List<Operation> operations, final OperationHandlerRegistry operationHandlerRegistry,
+      final EMFIdGenerator idGenerator, final EObject semanticRoot) {
+      super("Batch");
+      this.operations = operations;
+      this.operationHandlerRegistry = operationHandlerRegistry;
+      this.idGenerator = idGenerator;
+      this.semanticRoot = semanticRoot;
+   }
+
+   @Override
+   protected boolean prepare() {
+      // The step commands can only be created while executing
+      return !operations.isEmpty();
+   }
+
+   @Override
+   public void execute() {
+      var created = UMLCreatedElementsAdapter.of(semanticRoot);
+      try {
+         for (var step = 0; step < operations.size(); step++) {
+            var operation = operations.get(step);
+            UMLBatchReferences.resolve(operation, createdIds);
+
+            var mark = created.mark();
+            var command = createCommand(step, operation);
+            if (command != null && !appendAndExecute(command)) {
+               throw new GLSPServerException(String.format("Step %d (%s) cannot be executed", step,
+                  operation.getKind()));
+            }
+            createdIds.add(created.since(mark).stream().findFirst().map(idGenerator::getOrCreateId).orElse(null));
+         }
+      } catch (RuntimeException e) {
+         // Leave the model as it was, the command is not added to the command stack
+         undo();
+         commandList.clear();
+         createdIds.clear();
+         throw e;
+      }
+   }
+
+   @SuppressWarnings("unchecked")
+   protected Command createCommand(final int step, final Operation operation) {
+      var handler = (OperationHandler<Operation>) operationHandlerRegistry.getOperationHandler(operation)
+         .orElseThrow(() -> new GLSPServerException(String.format("Step %d (%s) has no operation handler", step,
+            operation.getKind())));
+      return handler.execute(operation).orElse(null);
+   }
+
+   public List<String> getCreatedIds() { return createdIds; }
+}
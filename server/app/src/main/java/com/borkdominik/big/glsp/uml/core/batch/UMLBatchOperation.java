@@ -0,0 +1,36 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.batch;
+
+import java.util.List;
+
+import org.eclipse.glsp.server.operations.Operation;
+
+/**
+ * Executes the given operations in order as one command. String arguments of the form <code>$ref:&lt;step&gt;</code>
+ * are replaced with the id of the element created by the operation at that (zero based) step.
+ */
+public class UMLBatchOperation extends Operation {
+   public static final String KIND = "umlBatchOperation";
+
+   protected List<Operation> operations;
+
+   public UMLBatchOperation() {
+      super(KIND);
+   }
+
+   public UMLBatchOperation(final List<Operation> operations) {
+      this();
+      this.operations = operations;
+   }
+
+   public List<Operation> getOperations() { return operations; }
+}
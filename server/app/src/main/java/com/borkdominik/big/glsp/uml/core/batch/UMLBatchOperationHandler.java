@@ -0,0 +1,42 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.batch;
+
+import java.util.Optional;
+
+import org.eclipse.emf.common.command.Command;
+import org.eclipse.glsp.server.emf.EMFIdGenerator;
+import org.eclipse.glsp.server.operations.BasicOperationHandler;
+import org.eclipse.glsp.server.operations.OperationHandlerRegistry;
+
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.google.inject.Inject;
+
+public class UMLBatchOperationHandler extends BasicOperationHandler<UMLBatchOperation> {
+
+   @Inject
+   protected BGEMFModelState modelState;
+
+   @Inject
+   protected OperationHandlerRegistry operationHandlerRegistry;
+
+   @Inject
+   protected EMFIdGenerator idGenerator;
+
+   @Override
+   public Optional<Command> createCommand(final UMLBatchOperation operation) {
+      if (operation.getOperations() == null || operation.getOperations().isEmpty()) {
+         return Optional.empty();
+      }
+      return Optional.of(new UMLBatchCommand(operation.getOperations(), operationHandlerRegistry, idGenerator,
+         modelState.getSemanticModel()));
+   }
+}
@@ -0,0 +1,81 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.batch;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.eclipse.glsp.server.actions.Action;
+import org.eclipse.glsp.server.operations.Operation;
+import org.eclipse.glsp.server.types.GLSPServerException;
+
+/**
+ * Replaces the forward references of a batch step. Operations are plain data objects, therefore their string fields,
+ * string lists and string map values (e.g. the <code>args</code>) are resolved reflectively.
+ */
+public final class UMLBatchReferences {
+   public static final Pattern REFERENCE = Pattern.compile("\\$ref:(\\d+)");
+
+   private UMLBatchReferences() {}
+
+   public static void resolve(final Operation operation, final List<String> createdIds) {
+      for (Class<?> type = operation.getClass(); type != null && type != Action.class; type = type.getSuperclass()) {
+         for (var field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+               resolve(operation, field, createdIds);
+            }
+         }
+      }
+   }
+
+   @SuppressWarnings("unchecked")
+   protected static void resolve(final Operation operation, final Field field, final List<String> createdIds) {
+      try {
+         field.setAccessible(true);
+         var value = field.get(operation);
+         if (value instanceof String string) {
+            field.set(operation, resolve(string, createdIds));
+         } else if (value instanceof List<?> list) {
+            for (ListIterator<Object> iterator = ((List<Object>) list).listIterator(); iterator.hasNext();) {
+               if (iterator.next() instanceof String string) {
+                  iterator.set(resolve(string, createdIds));
+               }
+            }
+         } else if (value instanceof Map<?, ?> map) {
+            for (var entry : ((Map<Object, Object>) map).entrySet()) {
+               if (entry.getValue() instanceof String string) {
+                  entry.setValue(resolve(string, createdIds));
+               }
+            }
+         }
+      } catch (IllegalAccessException | InaccessibleObjectException e) {
+         throw new GLSPServerException("Failed to resolve the references of " + operation.getKind(), e);
+      }
+   }
+
+   protected static String resolve(final String value, final List<String> createdIds) {
+      var matcher = REFERENCE.matcher(value);
+      if (!matcher.matches()) {
+         return value;
+      }
+
+      var step = Integer.parseInt(matcher.group(1));
+      if (step >= createdIds.size() || createdIds.get(step) == null) {
+         throw new GLSPServerException(String.format("Step %d did not create an element to reference", step));
+      }
+      return createdIds.get(step);
+   }
+}
@@ -0,0 +1,25 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.codegen;
+
+import org.eclipse.glsp.server.actions.Action;
+
+public class GenerateJavaAction extends Action {
+   public static final String KIND = "generateJava";
+
+   protected String destination;
+
+   public GenerateJavaAction() {
+      super(KIND);
+   }
+
+   public String getDestination() { return destination; }
+}
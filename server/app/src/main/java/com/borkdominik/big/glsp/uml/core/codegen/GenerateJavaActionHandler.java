@@ -0,0 +1,70 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.codegen;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.glsp.server.actions.AbstractActionHandler;
+import org.eclipse.glsp.server.actions.Action;
+import org.eclipse.glsp.server.actions.ActionDispatcher;
+import org.eclipse.glsp.server.types.GLSPServerException;
+
+import com.borkdominik.big.glsp.server.core.model.BGModelRepresentation;
+import com.borkdominik.big.glsp.uml.unotation.Representation;
+import com.google.inject.Inject;
+
+/**
+ * Runs the {@link UMLJavaGenerator} in the background and notifies the client with a {@link JavaGeneratedAction}.
+ */
+public class GenerateJavaActionHandler extends AbstractActionHandler<GenerateJavaAction> {
+   private static final Logger LOGGER = LogManager.getLogger(GenerateJavaActionHandler.class);
+
+   private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+      var thread = new Thread(runnable, "UMLJavaGeneration");
+      thread.setDaemon(true);
+      return thread;
+   });
+
+   @Inject
+   protected UMLJavaGenerator generator;
+
+   @Inject
+   protected BGModelRepresentation modelRepresentation;
+
+   @Inject
+   protected ActionDispatcher actionDispatcher;
+
+   @Override
+   protected List<Action> executeAction(final GenerateJavaAction action) {
+      modelRepresentation.get()
+         .filter(Representation.CLASS::equals)
+         .orElseThrow(() -> new GLSPServerException("Java generation is only supported for class diagrams"));
+      var destination = Path.of(action.getDestination());
+
+      executor.submit(() -> {
+         try {
+            var result = generator.generate(destination);
+            actionDispatcher.dispatch(new JavaGeneratedAction(destination.toString(), result));
+         } catch (RuntimeException e) {
+            // Anything else would be lost in the discarded future
+            LOGGER.error("Java generation to " + destination + " failed", e);
+            var message = e.getMessage() != null ? e.getMessage() : e.toString();
+            actionDispatcher.dispatch(new JavaGeneratedAction(destination.toString(), message));
+         }
+      });
+      return none();
+   }
+}
@@ -0,0 +1,51 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.codegen;
+
+import org.eclipse.glsp.server.actions.Action;
+
+public class JavaGeneratedAction extends Action {
+   public static final String KIND = "javaGenerated";
+
+   protected String destination;
+   protected int written;
+   protected int unchanged;
+   protected int deleted;
+   protected String error;
+
+   public JavaGeneratedAction() {
+      super(KIND);
+   }
+
+   public JavaGeneratedAction(final String destination, final UMLJavaGenerator.Result result) {
+      this();
+      this.destination = destination;
+      this.written = result.getWritten();
+      this.unchanged = result.getUnchanged();
+      this.deleted = result.getDeleted();
+   }
+
+   public JavaGeneratedAction(final String destination, final String error) {
+      this();
+      this.destination = destination;
+      this.error = error;
+   }
+
+   public String getDestination() { return destination; }
+
+   public int getWritten() { return written; }
+
+   public int getUnchanged() { return unchanged; }
+
+   public int getDeleted() { return deleted; }
+
+   public String getError() { return error; }
+}
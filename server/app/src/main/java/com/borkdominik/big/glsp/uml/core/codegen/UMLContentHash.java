@@ -0,0 +1,94 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.codegen;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.uml2.uml.NamedElement;
+
+/**
+ * Hash of everything the generated source of a classifier depends on: the stored features of the classifier and its
+ * contents, and the names and containers of the elements they reference (e.g. a renamed attribute type).
+ */
+public final class UMLContentHash {
+   /** Changes whenever the generated code changes for the same model */
+   public static final String GENERATOR_VERSION = "1";
+
+   private UMLContentHash() {}
+
+   public static String of(final EObject root, final String path) {
+      var digest = sha256();
+      update(digest, GENERATOR_VERSION);
+      update(digest, path);
+
+      hash(digest, root);
+      for (var contents = root.eAllContents(); contents.hasNext();) {
+         hash(digest, contents.next());
+      }
+      return HexFormat.of().formatHex(digest.digest());
+   }
+
+   private static void hash(final MessageDigest digest, final EObject element) {
+      update(digest, element.eClass().getName());
+      for (var feature : element.eClass().getEAllStructuralFeatures()) {
+         if (!isStored(feature) || !element.eIsSet(feature)) {
+            continue;
+         }
+
+         update(digest, feature.getName());
+         if (feature instanceof EAttribute) {
+            update(digest, String.valueOf(element.eGet(feature)));
+         } else if (feature instanceof EReference reference && !reference.isContainment()) {
+            var value = element.eGet(reference);
+            if (value instanceof List<?> list) {
+               list.forEach(referenced -> update(digest, qualifiedName((EObject) referenced)));
+            } else if (value instanceof EObject referenced) {
+               update(digest, qualifiedName(referenced));
+            }
+         }
+      }
+   }
+
+   private static boolean isStored(final EStructuralFeature feature) {
+      return !feature.isDerived() && !feature.isTransient() && !feature.isVolatile()
+         && !(feature instanceof EReference reference && reference.isContainer());
+   }
+
+   private static String qualifiedName(final EObject element) {
+      var name = new StringBuilder();
+      for (var current = element; current != null; current = current.eContainer()) {
+         var segment = current instanceof NamedElement named ? named.getName() : null;
+         name.insert(0, "::").insert(0, segment == null ? current.eClass().getName() : segment);
+      }
+      return name.toString();
+   }
+
+   private static void update(final MessageDigest digest, final String value) {
+      digest.update(value.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+   }
+
+   private static MessageDigest sha256() {
+      try {
+         return MessageDigest.getInstance("SHA-256");
+      } catch (NoSuchAlgorithmException e) {
+         throw new IllegalStateException(e);
+      }
+   }
+}
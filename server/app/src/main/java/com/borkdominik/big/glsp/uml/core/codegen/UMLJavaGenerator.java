@@ -0,0 +1,178 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.codegen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.glsp.server.types.GLSPServerException;
+import org.eclipse.uml2.uml.Classifier;
+
+import com.borkdominik.big.glsp.uml.core.model.snapshot.UMLModelSnapshot;
+import com.borkdominik.big.glsp.uml.core.model.snapshot.UMLModelSnapshots;
+import com.google.inject.Inject;
+
+/**
+ * Generates one Java source file per classifier of a model snapshot. The classifiers are rendered in parallel and only
+ * classifiers whose {@link UMLContentHash} differs from the {@link UMLJavaManifest} of the previous run are written
+ * again. Files of classifiers that were removed or moved are deleted.
+ */
+public class UMLJavaGenerator {
+   public static final String THREADS_PROPERTY = "bigUML.codegen.threads";
+
+   private static final AtomicInteger threadCount = new AtomicInteger();
+   private static final ExecutorService executor = Executors.newFixedThreadPool(
+      Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()), runnable -> {
+         var thread = new Thread(runnable, "UMLJavaGenerator-" + threadCount.incrementAndGet());
+         thread.setDaemon(true);
+         return thread;
+      });
+
+   @Inject
+   protected UMLModelSnapshots snapshots;
+
+   protected final UMLJavaSourceRenderer renderer = new UMLJavaSourceRenderer();
+
+   public Result generate(final Path directory) {
+      return generate(snapshots.take(), directory);
+   }
+
+   public Result generate(final UMLModelSnapshot snapshot, final Path directory) {
+      synchronized (snapshot) {
+         // Proxies are resolved up front, the parallel tasks must not modify the shared snapshot
+         EcoreUtil.resolveAll(snapshot.getResourceSet());
+      }
+
+      try {
+         Files.createDirectories(directory);
+      } catch (IOException e) {
+         throw new GLSPServerException("Failed to create " + directory, e);
+      }
+
+      var previous = UMLJavaManifest.load(directory);
+      var tasks = new ArrayList<Callable<Generated>>();
+      var paths = new HashMap<String, Classifier>();
+      var collisions = new TreeSet<String>();
+      for (var contents = snapshot.getSemanticModel().eAllContents(); contents.hasNext();) {
+         var element = contents.next();
+         if (UMLJavaSourceRenderer.supports(element)) {
+            var classifier = (Classifier) element;
+            var id = snapshot.getId(classifier).orElseGet(() -> EcoreUtil.getURI(classifier).fragment());
+            var path = renderer.getPath(classifier);
+            // Case-insensitive file systems would merge paths that only differ in case
+            if (paths.putIfAbsent(path.toLowerCase(Locale.ROOT), classifier) != null) {
+               collisions.add(path);
+            }
+            tasks.add(() -> generate(classifier, id, path, previous.get(id), directory));
+         }
+      }
+
+      // Classifiers with the same qualified name would be written to the same file by concurrent tasks
+      if (!collisions.isEmpty()) {
+         throw new GLSPServerException("Several classifiers map to the same source file, rename them first: "
+            + String.join(", ", collisions));
+      }
+
+      var entries = new ArrayList<UMLJavaManifest.Entry>(tasks.size());
+      var written = 0;
+      try {
+         for (var future : executor.invokeAll(tasks)) {
+            var generated = future.get();
+            entries.add(generated.entry);
+            written += generated.written ? 1 : 0;
+         }
+      } catch (ExecutionException e) {
+         throw new GLSPServerException("Java generation failed", e.getCause());
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new GLSPServerException("Java generation was interrupted", e);
+      }
+
+      var deleted = deleteStale(directory, previous.values(), entries);
+      UMLJavaManifest.save(directory, entries);
+      return new Result(written, entries.size() - written, deleted);
+   }
+
+   protected Generated generate(final Classifier classifier, final String id, final String path,
+      final UMLJavaManifest.Entry previous, final Path directory) throws IOException {
+      var hash = UMLContentHash.of(classifier, path);
+      var entry = new UMLJavaManifest.Entry(id, hash, path);
+      var file = directory.resolve(path);
+
+      if (previous != null && previous.getHash().equals(hash) && previous.getPath().equals(path)
+         && Files.exists(file)) {
+         return new Generated(entry, false);
+      }
+
+      Files.createDirectories(file.getParent());
+      Files.writeString(file, renderer.render(classifier));
+      return new Generated(entry, true);
+   }
+
+   protected int deleteStale(final Path directory, final Iterable<UMLJavaManifest.Entry> previous,
+      final List<UMLJavaManifest.Entry> current) {
+      var paths = new HashSet<String>();
+      current.forEach(entry -> paths.add(entry.getPath()));
+
+      var deleted = 0;
+      for (var entry : previous) {
+         if (!paths.contains(entry.getPath())) {
+            try {
+               deleted += Files.deleteIfExists(directory.resolve(entry.getPath())) ? 1 : 0;
+            } catch (IOException e) {
+               throw new GLSPServerException("Failed to delete " + entry.getPath(), e);
+            }
+         }
+      }
+      return deleted;
+   }
+
+   protected static class Generated {
+      protected final UMLJavaManifest.Entry entry;
+      protected final boolean written;
+
+      Generated(final UMLJavaManifest.Entry entry, final boolean written) {
+         this.entry = entry;
+         this.written = written;
+      }
+   }
+
+   public static class Result {
+      protected final int written;
+      protected final int unchanged;
+      protected final int deleted;
+
+      public Result(final int written, final int unchanged, final int deleted) {
+         this.written = written;
+         this.unchanged = unchanged;
+         this.deleted = deleted;
+      }
+
+      public int getWritten() { return written; }
+
+      public int getUnchanged() { return unchanged; }
+
+      public int getDeleted() { return deleted; }
+   }
+}
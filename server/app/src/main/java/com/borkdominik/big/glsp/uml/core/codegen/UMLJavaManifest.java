@@ -0,0 +1,79 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.codegen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.glsp.server.types.GLSPServerException;
+
+/**
+ * Content hashes and paths of the classifiers generated by the last run, stored next to the generated sources.
+ */
+public final class UMLJavaManifest {
+   public static final String FILE_NAME = ".biguml-java";
+
+   private UMLJavaManifest() {}
+
+   public static Map<String, Entry> load(final Path directory) {
+      var entries = new HashMap<String, Entry>();
+      var file = directory.resolve(FILE_NAME);
+      if (!Files.exists(file)) {
+         return entries;
+      }
+
+      try {
+         for (var line : Files.readAllLines(file)) {
+            var columns = line.split("\t");
+            if (columns.length == 3) {
+               entries.put(columns[0], new Entry(columns[0], columns[1], columns[2]));
+            }
+         }
+      } catch (IOException e) {
+         // A missing manifest only means that everything is generated again
+         entries.clear();
+      }
+      return entries;
+   }
+
+   public static void save(final Path directory, final Collection<Entry> entries) {
+      var lines = new ArrayList<String>(entries.size());
+      entries.forEach(entry -> lines.add(entry.getId() + "\t" + entry.getHash() + "\t" + entry.getPath()));
+      try {
+         Files.write(directory.resolve(FILE_NAME), lines);
+      } catch (IOException e) {
+         throw new GLSPServerException("Failed to write " + FILE_NAME + " in " + directory, e);
+      }
+   }
+
+   public static class Entry {
+      protected final String id;
+      protected final String hash;
+      protected final String path;
+
+      public Entry(final String id, final String hash, final String path) {
+         this.id = id;
+         this.hash = hash;
+         this.path = path;
+      }
+
+      public String getId() { return id; }
+
+      public String getHash() { return hash; }
+
+      public String getPath() { return path; }
+   }
+}
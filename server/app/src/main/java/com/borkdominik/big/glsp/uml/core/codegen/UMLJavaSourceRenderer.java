@@ -0,0 +1,363 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.codegen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.uml2.uml.Behavior;
+import org.eclipse.uml2.uml.BehavioredClassifier;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Classifier;
+import org.eclipse.uml2.uml.DataType;
+import org.eclipse.uml2.uml.Enumeration;
+import org.eclipse.uml2.uml.Interface;
+import org.eclipse.uml2.uml.MultiplicityElement;
+import org.eclipse.uml2.uml.Operation;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.Parameter;
+import org.eclipse.uml2.uml.ParameterDirectionKind;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.eclipse.uml2.uml.Property;
+import org.eclipse.uml2.uml.Stereotype;
+import org.eclipse.uml2.uml.Type;
+import org.eclipse.uml2.uml.VisibilityKind;
+
+import com.borkdominik.big.glsp.uml.uml.elements.multiplicity_element.MultiplicityUtil;
+
+/**
+ * Renders the Java source of a single classifier. Classes become classes, interfaces interfaces, enumerations enums
+ * and data types records. Only owned (non derived) features are read, so that classifiers of the same snapshot can be
+ * rendered in parallel.
+ */
+public class UMLJavaSourceRenderer {
+   protected static final String INDENT = "    ";
+
+   protected static final Map<String, String> PRIMITIVES = Map.of(
+      "Boolean", "boolean",
+      "Integer", "int",
+      "Real", "double",
+      "UnlimitedNatural", "long");
+
+   protected static final Map<String, String> BOXED = Map.of(
+      "boolean", "Boolean",
+      "int", "Integer",
+      "double", "Double",
+      "long", "Long");
+
+   protected static final Set<String> KEYWORDS = Set.of("abstract", "assert", "boolean", "break", "byte", "case",
+      "catch", "char", "class", "const", "continue", "default", "do", "double", "else", "enum", "extends", "final",
+      "finally", "float", "for", "goto", "if", "implements", "import", "instanceof", "int", "interface", "long",
+      "native", "new", "package", "private", "protected", "public", "return", "short", "static", "strictfp", "super",
+      "switch", "synchronized", "this", "throw", "throws", "transient", "try", "void", "volatile", "while", "record",
+      "var", "yield", "true", "false", "null");
+
+   public static boolean supports(final EObject element) {
+      return element instanceof Interface || element instanceof Enumeration
+         || element instanceof DataType && !(element instanceof PrimitiveType)
+         || element instanceof Class && !(element instanceof Behavior) && !(element instanceof Stereotype);
+   }
+
+   /**
+    * Relative path of the source file, e.g. <code>shop/order/Order.java</code>.
+    */
+   public String getPath(final Classifier classifier) {
+      var packageName = getPackageName(classifier);
+      var fileName = typeName(classifier) + ".java";
+      return packageName.isEmpty() ? fileName : packageName.replace('.', '/') + "/" + fileName;
+   }
+
+   public String getPackageName(final Classifier classifier) {
+      var segments = new ArrayList<String>();
+      for (var owner = classifier.eContainer(); owner != null; owner = owner.eContainer()) {
+         // The model itself does not contribute a package
+         if (owner instanceof Package pkg && pkg.eContainer() != null) {
+            segments.add(0, identifier(pkg.getName()).toLowerCase());
+         }
+      }
+      return String.join(".", segments);
+   }
+
+   public String render(final Classifier classifier) {
+      var packageName = getPackageName(classifier);
+      var imports = new TreeSet<String>();
+      var body = new StringBuilder();
+
+      if (classifier instanceof Interface iface) {
+         renderInterface(iface, packageName, imports, body);
+      } else if (classifier instanceof Enumeration enumeration) {
+         renderEnumeration(enumeration, packageName, imports, body);
+      } else if (classifier instanceof DataType dataType) {
+         renderRecord(dataType, packageName, imports, body);
+      } else {
+         renderClass((Class) classifier, packageName, imports, body);
+      }
+
+      var source = new StringBuilder(body.length() + 256);
+      source.append("// Generated from the bigUML class diagram, changes are overwritten.\n");
+      if (!packageName.isEmpty()) {
+         source.append("package ").append(packageName).append(";\n\n");
+      }
+      for (var imported : imports) {
+         source.append("import ").append(imported).append(";\n");
+      }
+      if (!imports.isEmpty()) {
+         source.append('\n');
+      }
+      return source.append(body).toString();
+   }
+
+   protected void renderClass(final Class clazz, final String packageName, final Set<String> imports,
+      final StringBuilder out) {
+      out.append("public ").append(clazz.isAbstract() ? "abstract " : "").append("class ").append(typeName(clazz));
+
+      // Java classes have a single super class, further generalizations are kept as comment
+      var generals = generals(clazz, packageName, imports);
+      if (!generals.isEmpty()) {
+         out.append(" extends ").append(generals.get(0));
+         if (generals.size() > 1) {
+            out.append(" /* ").append(String.join(", ", generals.subList(1, generals.size()))).append(" */");
+         }
+      }
+      var contracts = contracts(clazz, packageName, imports);
+      if (!contracts.isEmpty()) {
+         out.append(" implements ").append(String.join(", ", contracts));
+      }
+      out.append(" {\n");
+
+      for (var attribute : clazz.getOwnedAttributes()) {
+         renderField(attribute, packageName, imports, out);
+      }
+      for (var operation : clazz.getOwnedOperations()) {
+         renderOperation(operation, packageName, imports, out);
+      }
+      out.append("}\n");
+   }
+
+   protected void renderInterface(final Interface iface, final String packageName, final Set<String> imports,
+      final StringBuilder out) {
+      out.append("public interface ").append(typeName(iface));
+      var generals = generals(iface, packageName, imports);
+      if (!generals.isEmpty()) {
+         out.append(" extends ").append(String.join(", ", generals));
+      }
+      out.append(" {\n");
+
+      // Interfaces have no state, attributes are exposed as getters
+      for (var attribute : iface.getOwnedAttributes()) {
+         out.append(INDENT).append(typeRef(attribute.getType(), attribute, packageName, imports)).append(' ')
+            .append(getterName(attribute)).append("();\n");
+      }
+      for (var operation : iface.getOwnedOperations()) {
+         renderOperation(operation, packageName, imports, out);
+      }
+      out.append("}\n");
+   }
+
+   protected void renderEnumeration(final Enumeration enumeration, final String packageName,
+      final Set<String> imports, final StringBuilder out) {
+      out.append("public enum ").append(typeName(enumeration));
+      var contracts = contracts(enumeration, packageName, imports);
+      if (!contracts.isEmpty()) {
+         out.append(" implements ").append(String.join(", ", contracts));
+      }
+      out.append(" {\n");
+
+      var literals = enumeration.getOwnedLiterals().stream()
+         .map(literal -> identifier(literal.getName()))
+         .collect(Collectors.joining(",\n" + INDENT));
+      out.append(INDENT).append(literals).append(";\n");
+
+      for (var attribute : enumeration.getOwnedAttributes()) {
+         renderField(attribute, packageName, imports, out);
+      }
+      for (var operation : enumeration.getOwnedOperations()) {
+         renderOperation(operation, packageName, imports, out);
+      }
+      out.append("}\n");
+   }
+
+   protected void renderRecord(final DataType dataType, final String packageName, final Set<String> imports,
+      final StringBuilder out) {
+      var components = dataType.getOwnedAttributes().stream()
+         .filter(attribute -> !attribute.isStatic())
+         .map(attribute -> typeRef(attribute.getType(), attribute, packageName, imports) + " "
+            + identifier(attribute.getName()))
+         .collect(Collectors.joining(", "));
+      out.append("public record ").append(typeName(dataType)).append('(').append(components).append(')');
+
+      var contracts = contracts(dataType, packageName, imports);
+      if (!contracts.isEmpty()) {
+         out.append(" implements ").append(String.join(", ", contracts));
+      }
+      out.append(" {\n");
+
+      for (var attribute : dataType.getOwnedAttributes()) {
+         if (attribute.isStatic()) {
+            renderField(attribute, packageName, imports, out);
+         }
+      }
+      for (var operation : dataType.getOwnedOperations()) {
+         renderOperation(operation, packageName, imports, out);
+      }
+      out.append("}\n");
+   }
+
+   protected void renderField(final Property attribute, final String packageName, final Set<String> imports,
+      final StringBuilder out) {
+      out.append('\n').append(INDENT).append("/** [").append(MultiplicityUtil.getMultiplicity(attribute))
+         .append("] */\n");
+      out.append(INDENT).append(modifiers(attribute.getVisibility()))
+         .append(attribute.isStatic() ? "static " : "")
+         .append(attribute.isReadOnly() ? "final " : "")
+         .append(typeRef(attribute.getType(), attribute, packageName, imports)).append(' ')
+         .append(identifier(attribute.getName()));
+      if (attribute.isMultivalued()) {
+         imports.add("java.util.ArrayList");
+         out.append(" = new ArrayList<>()");
+      }
+      out.append(";\n");
+   }
+
+   /**
+    * Operations that can be implemented get a body that throws an {@link UnsupportedOperationException}.
+    */
+   protected void renderOperation(final Operation operation, final String packageName, final Set<String> imports,
+      final StringBuilder out) {
+      Parameter result = null;
+      var parameters = new ArrayList<String>();
+      for (var parameter : operation.getOwnedParameters()) {
+         if (parameter.getDirection() == ParameterDirectionKind.RETURN_LITERAL) {
+            result = parameter;
+            continue;
+         }
+
+         // Java has no out parameters, the direction is kept as comment
+         var direction = parameter.getDirection() == ParameterDirectionKind.IN_LITERAL ? ""
+            : "/* " + parameter.getDirection().getLiteral() + " */ ";
+         parameters.add(direction + typeRef(parameter.getType(), parameter, packageName, imports) + " "
+            + identifier(parameter.getName()));
+      }
+
+      var returnType = result == null ? "void" : typeRef(result.getType(), result, packageName, imports);
+      var isInterface = operation.eContainer() instanceof Interface;
+      var withBody = isInterface ? operation.isStatic() : !operation.isAbstract();
+
+      out.append('\n').append(INDENT);
+      if (!isInterface) {
+         out.append(modifiers(operation.getVisibility()));
+      }
+      out.append(operation.isStatic() ? "static " : "")
+         .append(!isInterface && operation.isAbstract() ? "abstract " : "")
+         .append(returnType).append(' ').append(identifier(operation.getName()))
+         .append('(').append(String.join(", ", parameters)).append(')');
+
+      if (withBody) {
+         out.append(" {\n").append(INDENT).append(INDENT)
+            .append("throw new UnsupportedOperationException(\"Not implemented\");\n").append(INDENT).append("}\n");
+      } else {
+         out.append(";\n");
+      }
+   }
+
+   protected List<String> generals(final Classifier classifier, final String packageName, final Set<String> imports) {
+      return classifier.getGeneralizations().stream()
+         .filter(generalization -> generalization.getGeneral() != null)
+         .map(generalization -> typeRef(generalization.getGeneral(), packageName, imports))
+         .collect(Collectors.toList());
+   }
+
+   protected List<String> contracts(final BehavioredClassifier classifier, final String packageName,
+      final Set<String> imports) {
+      return classifier.getInterfaceRealizations().stream()
+         .filter(realization -> realization.getContract() != null)
+         .map(realization -> typeRef(realization.getContract(), packageName, imports))
+         .collect(Collectors.toList());
+   }
+
+   protected List<String> contracts(final Classifier classifier, final String packageName,
+      final Set<String> imports) {
+      return classifier instanceof BehavioredClassifier behaviored ? contracts(behaviored, packageName, imports)
+         : List.of();
+   }
+
+   protected String typeRef(final Type type, final MultiplicityElement element, final String packageName,
+      final Set<String> imports) {
+      var name = typeRef(type, packageName, imports);
+      if (element.isMultivalued()) {
+         imports.add("java.util.List");
+         return "List<" + BOXED.getOrDefault(name, name) + ">";
+      }
+      return element.getLower() == 0 ? BOXED.getOrDefault(name, name) : name;
+   }
+
+   protected String typeRef(final Type type, final String packageName, final Set<String> imports) {
+      if (type == null) {
+         return "Object";
+      }
+      if (type instanceof PrimitiveType) {
+         var name = type.getName() == null ? "Object" : type.getName();
+         return PRIMITIVES.getOrDefault(name, name);
+      }
+
+      var name = typeName(type);
+      if (type instanceof Classifier classifier && supports(classifier)) {
+         var typePackage = getPackageName(classifier);
+         if (!typePackage.isEmpty() && !typePackage.equals(packageName)) {
+            imports.add(typePackage + "." + name);
+         }
+      }
+      return name;
+   }
+
+   protected String modifiers(final VisibilityKind visibility) {
+      return switch (visibility) {
+         case PUBLIC_LITERAL -> "public ";
+         case PROTECTED_LITERAL -> "protected ";
+         case PRIVATE_LITERAL -> "private ";
+         default -> "";
+      };
+   }
+
+   protected String getterName(final Property attribute) {
+      var name = identifier(attribute.getName());
+      var prefix = attribute.getType() != null && "Boolean".equals(attribute.getType().getName()) ? "is" : "get";
+      return prefix + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+   }
+
+   protected String typeName(final Type type) {
+      var name = identifier(type.getName());
+      return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+   }
+
+   protected String identifier(final String name) {
+      var result = new StringBuilder();
+      if (name != null) {
+         for (var i = 0; i < name.length(); i++) {
+            var c = name.charAt(i);
+            if (result.length() == 0 ? Character.isJavaIdentifierStart(c) : Character.isJavaIdentifierPart(c)) {
+               result.append(c);
+            } else if (result.length() == 0 && Character.isDigit(c)) {
+               result.append('_').append(c);
+            }
+         }
+      }
+      if (result.length() == 0) {
+         return "unnamed";
+      }
+      return KEYWORDS.contains(result.toString()) ? result + "_" : result.toString();
+   }
+}
@@ -0,0 +1,28 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.export;
+
+import org.eclipse.glsp.server.actions.Action;
+
+public class ExportTextAction extends Action {
+   public static final String KIND = "exportText";
+
+   protected String format;
+   protected String destination;
+
+   public ExportTextAction() {
+      super(KIND);
+   }
+
+   public String getFormat() { return format; }
+
+   public String getDestination() { return destination; }
+}
@@ -0,0 +1,79 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.export;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.glsp.server.actions.AbstractActionHandler;
+import org.eclipse.glsp.server.actions.Action;
+import org.eclipse.glsp.server.actions.ActionDispatcher;
+import org.eclipse.glsp.server.types.GLSPServerException;
+
+import com.borkdominik.big.glsp.server.core.model.BGModelRepresentation;
+import com.borkdominik.big.glsp.uml.core.model.snapshot.UMLModelSnapshots;
+import com.borkdominik.big.glsp.uml.unotation.Representation;
+import com.google.inject.Inject;
+
+/**
+ * Writes the text export on a background thread from a snapshot of the model, so that large models do not block the
+ * session. The client is notified with a {@link TextExportedAction}.
+ */
+public class ExportTextActionHandler extends AbstractActionHandler<ExportTextAction> {
+   private static final Logger LOGGER = LogManager.getLogger(ExportTextActionHandler.class);
+
+   private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+      var thread = new Thread(runnable, "UMLTextExport");
+      thread.setDaemon(true);
+      return thread;
+   });
+
+   @Inject
+   protected UMLModelSnapshots snapshots;
+
+   @Inject
+   protected BGModelRepresentation modelRepresentation;
+
+   @Inject
+   protected ActionDispatcher actionDispatcher;
+
+   protected final UMLTextExporter exporter = new UMLTextExporter();
+
+   @Override
+   protected List<Action> executeAction(final ExportTextAction action) {
+      var format = UMLTextFormat.of(action.getFormat());
+      var representation = modelRepresentation.get()
+         .filter(Representation.class::isInstance)
+         .map(Representation.class::cast)
+         .filter(UMLTextExporter::supports)
+         .orElseThrow(() -> new GLSPServerException("Text export is not supported for this diagram"));
+      var destination = Path.of(action.getDestination());
+
+      executor.submit(() -> {
+         try (var writer = Files.newBufferedWriter(destination)) {
+            exporter.export(snapshots.take().getSemanticModel(), representation, format.createDialect(writer));
+            actionDispatcher.dispatch(new TextExportedAction(destination.toString(), null));
+         } catch (IOException | RuntimeException e) {
+            // Anything else would be lost in the discarded future
+            LOGGER.error("Text export to " + destination + " failed", e);
+            var message = e.getMessage() != null ? e.getMessage() : e.toString();
+            actionDispatcher.dispatch(new TextExportedAction(destination.toString(), message));
+         }
+      });
+      return none();
+   }
+}
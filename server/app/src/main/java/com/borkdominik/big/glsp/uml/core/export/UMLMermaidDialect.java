@@ -0,0 +1,169 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.export;
+
+import java.io.Writer;
+
+import org.eclipse.uml2.uml.PseudostateKind;
+
+import com.borkdominik.big.glsp.uml.unotation.Representation;
+
+/**
+ * Mermaid syntax. Class diagrams are written as <code>classDiagram</code>, state machines as
+ * <code>stateDiagram-v2</code> and activities as <code>flowchart</code> with a subgraph per activity and partition.
+ */
+public class UMLMermaidDialect extends UMLTextDialect {
+   protected boolean classifierBlock;
+
+   public UMLMermaidDialect(final Writer writer) {
+      super(writer);
+   }
+
+   @Override
+   public void begin(final Representation representation) {
+      line(switch (representation) {
+         case STATE_MACHINE -> "stateDiagram-v2";
+         case ACTIVITY -> "flowchart TD";
+         default -> "classDiagram";
+      });
+      indent++;
+   }
+
+   @Override
+   public void end() {
+      indent--;
+   }
+
+   @Override
+   public void beginClassifier(final String id, final String name, final ClassifierKind kind,
+      final boolean isAbstract, final boolean hasMembers) {
+      var annotation = switch (kind) {
+         case INTERFACE -> "<<interface>>";
+         case ENUMERATION -> "<<enumeration>>";
+         case DATA_TYPE -> "<<dataType>>";
+         case PRIMITIVE_TYPE -> "<<primitive>>";
+         default -> isAbstract ? "<<abstract>>" : null;
+      };
+
+      // Empty blocks are not allowed
+      classifierBlock = hasMembers || annotation != null;
+      if (!classifierBlock) {
+         line("class " + id + "[" + quote(name) + "]");
+         return;
+      }
+
+      line("class " + id + "[" + quote(name) + "] {");
+      indent++;
+      if (annotation != null) {
+         line(annotation);
+      }
+   }
+
+   @Override
+   public void attribute(final String visibility, final String name, final String type, final String multiplicity,
+      final boolean isStatic) {
+      line(visibility + escape(name) + (type == null ? "" : " : " + escape(type))
+         + (multiplicity == null ? "" : " [" + multiplicity + "]") + (isStatic ? "$" : ""));
+   }
+
+   @Override
+   public void operation(final String visibility, final String name, final String parameters,
+      final String returnType, final boolean isAbstract, final boolean isStatic) {
+      var modifier = isAbstract ? "*" : isStatic ? "$" : "";
+      line(visibility + escape(name) + "(" + escape(parameters) + ")" + modifier
+         + (returnType == null ? "" : " " + escape(returnType)));
+   }
+
+   @Override
+   public void literal(final String name) {
+      line(escape(name));
+   }
+
+   @Override
+   public void endClassifier() {
+      if (classifierBlock) {
+         indent--;
+         line("}");
+      }
+   }
+
+   @Override
+   public void beginState(final String id, final String name) {
+      state(id, name);
+      line("state " + id + " {");
+      indent++;
+   }
+
+   @Override
+   public void state(final String id, final String name) {
+      line("state " + quote(name) + " as " + id);
+   }
+
+   @Override
+   public void pseudostate(final String id, final String name, final PseudostateKind kind) {
+      switch (kind) {
+         case CHOICE_LITERAL, JUNCTION_LITERAL -> line("state " + id + " <<choice>>");
+         case FORK_LITERAL -> line("state " + id + " <<fork>>");
+         case JOIN_LITERAL -> line("state " + id + " <<join>>");
+         case SHALLOW_HISTORY_LITERAL -> state(id, "H");
+         case DEEP_HISTORY_LITERAL -> state(id, "H*");
+         case INITIAL_LITERAL -> {
+            // Initial pseudostates are written as [*]
+         }
+         default -> state(id, name);
+      }
+   }
+
+   @Override
+   public void beginActivity(final String id, final String name) {
+      line("subgraph " + id + "[" + quote(name) + "]");
+      indent++;
+   }
+
+   @Override
+   public void endActivity() {
+      indent--;
+      line("end");
+   }
+
+   @Override
+   public void beginPartition(final String id, final String name) {
+      beginActivity(id, name);
+   }
+
+   @Override
+   public void endPartition() {
+      endActivity();
+   }
+
+   @Override
+   public void node(final String id, final String name, final NodeKind kind) {
+      line(id + switch (kind) {
+         case INITIAL -> "((\" \"))";
+         case ACTIVITY_FINAL, FLOW_FINAL -> "(((\" \")))";
+         case DECISION, MERGE -> "{" + quote(name == null || name.isEmpty() ? " " : name) + "}";
+         case FORK -> "[[\"fork\"]]";
+         case JOIN -> "[[\"join\"]]";
+         case OBJECT -> "[/" + quote(name) + "/]";
+         default -> "[" + quote(name) + "]";
+      });
+   }
+
+   @Override
+   public void flow(final String sourceId, final String targetId, final String guard) {
+      line(sourceId + (guard == null || guard.isEmpty() ? " --> " : " -->|" + quote(guard) + "| ") + targetId);
+   }
+
+   @Override
+   protected String escape(final String text) {
+      return text.replace("\"", "#quot;").replace('\n', ' ').replace('\r', ' ');
+   }
+}
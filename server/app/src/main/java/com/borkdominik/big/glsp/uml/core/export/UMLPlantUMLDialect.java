@@ -0,0 +1,152 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.export;
+
+import java.io.Writer;
+
+import org.eclipse.uml2.uml.PseudostateKind;
+
+import com.borkdominik.big.glsp.uml.unotation.Representation;
+
+/**
+ * PlantUML syntax. State machines and activities are both written as state diagrams, activity nodes use the
+ * <code>&lt;&lt;start&gt;&gt;</code>, <code>&lt;&lt;choice&gt;&gt;</code>, ... stereotypes.
+ */
+public class UMLPlantUMLDialect extends UMLTextDialect {
+
+   public UMLPlantUMLDialect(final Writer writer) {
+      super(writer);
+   }
+
+   @Override
+   public void begin(final Representation representation) {
+      line("@startuml");
+      if (representation == Representation.CLASS) {
+         line("hide empty members");
+      }
+   }
+
+   @Override
+   public void end() {
+      line("@enduml");
+   }
+
+   @Override
+   public void beginClassifier(final String id, final String name, final ClassifierKind kind,
+      final boolean isAbstract, final boolean hasMembers) {
+      var declaration = switch (kind) {
+         case INTERFACE -> "interface " + quote(name) + " as " + id;
+         case ENUMERATION -> "enum " + quote(name) + " as " + id;
+         case DATA_TYPE -> "class " + quote(name) + " as " + id + " <<dataType>>";
+         case PRIMITIVE_TYPE -> "class " + quote(name) + " as " + id + " <<primitive>>";
+         default -> (isAbstract ? "abstract class " : "class ") + quote(name) + " as " + id;
+      };
+      line(declaration + " {");
+      indent++;
+   }
+
+   @Override
+   public void attribute(final String visibility, final String name, final String type, final String multiplicity,
+      final boolean isStatic) {
+      line((isStatic ? "{static} " : "") + visibility + escape(name) + (type == null ? "" : " : " + escape(type))
+         + (multiplicity == null ? "" : " [" + multiplicity + "]"));
+   }
+
+   @Override
+   public void operation(final String visibility, final String name, final String parameters,
+      final String returnType, final boolean isAbstract, final boolean isStatic) {
+      var modifier = isAbstract ? "{abstract} " : isStatic ? "{static} " : "";
+      line(modifier + visibility + escape(name) + "(" + escape(parameters) + ")"
+         + (returnType == null ? "" : " : " + escape(returnType)));
+   }
+
+   @Override
+   public void literal(final String name) {
+      line(escape(name));
+   }
+
+   @Override
+   public void endClassifier() {
+      indent--;
+      line("}");
+   }
+
+   @Override
+   public void beginState(final String id, final String name) {
+      line("state " + quote(name) + " as " + id + " {");
+      indent++;
+   }
+
+   @Override
+   public void state(final String id, final String name) {
+      line("state " + quote(name) + " as " + id);
+   }
+
+   @Override
+   public void pseudostate(final String id, final String name, final PseudostateKind kind) {
+      switch (kind) {
+         case CHOICE_LITERAL, JUNCTION_LITERAL -> line("state " + id + " <<choice>>");
+         case FORK_LITERAL -> line("state " + id + " <<fork>>");
+         case JOIN_LITERAL -> line("state " + id + " <<join>>");
+         case ENTRY_POINT_LITERAL -> line("state " + quote(name) + " as " + id + " <<entryPoint>>");
+         case EXIT_POINT_LITERAL -> line("state " + quote(name) + " as " + id + " <<exitPoint>>");
+         case TERMINATE_LITERAL -> line("state " + id + " <<end>>");
+         case SHALLOW_HISTORY_LITERAL -> line("state \"H\" as " + id);
+         case DEEP_HISTORY_LITERAL -> line("state \"H*\" as " + id);
+         default -> {
+            // Initial pseudostates are written as [*]
+         }
+      }
+   }
+
+   @Override
+   public void beginActivity(final String id, final String name) {
+      beginState(id, name);
+   }
+
+   @Override
+   public void endActivity() {
+      endState();
+   }
+
+   @Override
+   public void beginPartition(final String id, final String name) {
+      beginState(id, name);
+   }
+
+   @Override
+   public void endPartition() {
+      endState();
+   }
+
+   @Override
+   public void node(final String id, final String name, final NodeKind kind) {
+      switch (kind) {
+         case INITIAL -> line("state " + id + " <<start>>");
+         case ACTIVITY_FINAL, FLOW_FINAL -> line("state " + id + " <<end>>");
+         case DECISION, MERGE -> line("state " + id + " <<choice>>");
+         case FORK -> line("state " + id + " <<fork>>");
+         case JOIN -> line("state " + id + " <<join>>");
+         case OBJECT -> line("state " + quote(name) + " as " + id + " <<object>>");
+         default -> state(id, name);
+      }
+   }
+
+   @Override
+   public void flow(final String sourceId, final String targetId, final String guard) {
+      transition(sourceId, targetId, guard == null || guard.isEmpty() ? "" : "[" + guard + "]");
+   }
+
+   @Override
+   protected String escape(final String text) {
+      return text.replace('"', '\'').replace('\n', ' ').replace('\r', ' ');
+   }
+}
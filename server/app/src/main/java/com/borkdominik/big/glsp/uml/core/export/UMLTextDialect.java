@@ -0,0 +1,160 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+import org.eclipse.uml2.uml.AggregationKind;
+import org.eclipse.uml2.uml.PseudostateKind;
+
+import com.borkdominik.big.glsp.uml.unotation.Representation;
+
+/**
+ * Writes the elements reported by the {@link UMLTextExporter} in the syntax of a text based diagram language. Every
+ * element is written immediately, nothing is buffered except by the underlying writer.
+ */
+public abstract class UMLTextDialect {
+   /** Reference of the initial and final states of the enclosing state */
+   public static final String TERMINAL = "[*]";
+
+   public enum ClassifierKind {
+      CLASS,
+      INTERFACE,
+      ENUMERATION,
+      DATA_TYPE,
+      PRIMITIVE_TYPE
+   }
+
+   public enum NodeKind {
+      ACTION,
+      OBJECT,
+      INITIAL,
+      ACTIVITY_FINAL,
+      FLOW_FINAL,
+      DECISION,
+      MERGE,
+      FORK,
+      JOIN
+   }
+
+   protected final Writer writer;
+   protected int indent;
+
+   protected UMLTextDialect(final Writer writer) {
+      this.writer = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+   }
+
+   public abstract void begin(Representation representation);
+
+   public abstract void end();
+
+   // Class diagrams
+
+   public abstract void beginClassifier(String id, String name, ClassifierKind kind, boolean isAbstract,
+      boolean hasMembers);
+
+   public abstract void attribute(String visibility, String name, String type, String multiplicity,
+      boolean isStatic);
+
+   public abstract void operation(String visibility, String name, String parameters, String returnType,
+      boolean isAbstract, boolean isStatic);
+
+   public abstract void literal(String name);
+
+   public abstract void endClassifier();
+
+   public void generalization(final String specificId, final String generalId) {
+      line(generalId + " <|-- " + specificId);
+   }
+
+   public void realization(final String implementationId, final String interfaceId) {
+      line(interfaceId + " <|.. " + implementationId);
+   }
+
+   /**
+    * @param aggregation aggregation of the target, the source is the whole of a shared or composite aggregation
+    */
+   public void association(final String sourceId, final String sourceMultiplicity, final String targetId,
+      final String targetMultiplicity, final AggregationKind aggregation, final String name) {
+      var arrow = switch (aggregation) {
+         case COMPOSITE_LITERAL -> " *-- ";
+         case SHARED_LITERAL -> " o-- ";
+         default -> " -- ";
+      };
+      var label = name == null || name.isEmpty() ? "" : " : " + escape(name);
+      line(sourceId + " \"" + sourceMultiplicity + "\"" + arrow + "\"" + targetMultiplicity + "\" " + targetId
+         + label);
+   }
+
+   // State machines
+
+   public abstract void beginState(String id, String name);
+
+   public void regionSeparator() {
+      line("--");
+   }
+
+   public void endState() {
+      indent--;
+      line("}");
+   }
+
+   public abstract void state(String id, String name);
+
+   public abstract void pseudostate(String id, String name, PseudostateKind kind);
+
+   public void transition(final String sourceRef, final String targetRef, final String label) {
+      line(sourceRef + " --> " + targetRef + (label.isEmpty() ? "" : " : " + escape(label)));
+   }
+
+   // Activities
+
+   public abstract void beginActivity(String id, String name);
+
+   public abstract void endActivity();
+
+   public abstract void beginPartition(String id, String name);
+
+   public abstract void endPartition();
+
+   public abstract void node(String id, String name, NodeKind kind);
+
+   public abstract void flow(String sourceId, String targetId, String guard);
+
+   public void flush() {
+      try {
+         writer.flush();
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   protected abstract String escape(String text);
+
+   protected String quote(final String text) {
+      return "\"" + escape(text == null ? "" : text) + "\"";
+   }
+
+   protected void line(final String text) {
+      try {
+         for (var i = 0; i < indent; i++) {
+            writer.write("  ");
+         }
+         writer.write(text);
+         writer.write('\n');
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+   }
+}
@@ -0,0 +1,87 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.export;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.eclipse.uml2.uml.resource.UMLResource;
+
+import com.borkdominik.big.glsp.uml.unotation.Representation;
+import com.borkdominik.big.glsp.uml.unotation.UMLDiagram;
+import com.borkdominik.big.glsp.uml.unotation.UnotationPackage;
+import com.borkdominik.big.glsp.uml.unotation.util.UnotationResourceFactoryImpl;
+
+/**
+ * Command line text export for documentation pipelines (see the <code>exportText</code> Gradle task). The
+ * representation is taken from the notation model next to the UML model.
+ * <p>
+ * Arguments: <code>&lt;model.uml&gt; &lt;plantuml|mermaid&gt; [output]</code>, the text is written to the standard
+ * output if no output file is given.
+ * </p>
+ */
+public final class UMLTextExport {
+
+   private UMLTextExport() {}
+
+   public static void main(final String[] args) throws IOException {
+      if (args.length < 2) {
+         System.err.println("Usage: <model.uml> <plantuml|mermaid> [output]");
+         System.exit(2);
+      }
+
+      var model = Path.of(args[0]).toAbsolutePath();
+      var format = UMLTextFormat.of(args[1]);
+
+      var resourceSet = createResourceSet();
+      var semanticResource = resourceSet.getResource(URI.createFileURI(model.toString()), true);
+      var representation = representation(resourceSet, model);
+
+      try (var writer = args.length > 2 ? Files.newBufferedWriter(Path.of(args[2]))
+         : new OutputStreamWriter(System.out, StandardCharsets.UTF_8)) {
+         new UMLTextExporter().export(semanticResource.getContents().get(0), representation,
+            format.createDialect(writer));
+      }
+   }
+
+   private static Representation representation(final ResourceSet resourceSet, final Path model) {
+      var notation = model.resolveSibling(model.getFileName().toString().replaceFirst("\\.uml$", ".unotation"));
+      if (!Files.exists(notation)) {
+         return Representation.CLASS;
+      }
+
+      var resource = resourceSet.getResource(URI.createFileURI(notation.toString()), true);
+      return resource.getContents().stream()
+         .filter(UMLDiagram.class::isInstance)
+         .map(diagram -> Representation.getByName(((UMLDiagram) diagram).getDiagramType()))
+         .filter(representation -> representation != null)
+         .findFirst()
+         .orElse(Representation.CLASS);
+   }
+
+   private static ResourceSet createResourceSet() {
+      var resourceSet = new ResourceSetImpl();
+      resourceSet.getPackageRegistry().put(UMLPackage.eNS_URI, UMLPackage.eINSTANCE);
+      resourceSet.getPackageRegistry().put(UnotationPackage.eNS_URI, UnotationPackage.eINSTANCE);
+      resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap()
+         .put(UMLResource.FILE_EXTENSION, UMLResource.Factory.INSTANCE);
+      resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap()
+         .put(UnotationPackage.eNS_PREFIX, new UnotationResourceFactoryImpl());
+      return resourceSet;
+   }
+}
@@ -0,0 +1,392 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.export;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.glsp.server.types.GLSPServerException;
+import org.eclipse.uml2.uml.Activity;
+import org.eclipse.uml2.uml.ActivityEdge;
+import org.eclipse.uml2.uml.ActivityFinalNode;
+import org.eclipse.uml2.uml.ActivityNode;
+import org.eclipse.uml2.uml.ActivityPartition;
+import org.eclipse.uml2.uml.AggregationKind;
+import org.eclipse.uml2.uml.Association;
+import org.eclipse.uml2.uml.Behavior;
+import org.eclipse.uml2.uml.BehavioredClassifier;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Classifier;
+import org.eclipse.uml2.uml.DataType;
+import org.eclipse.uml2.uml.DecisionNode;
+import org.eclipse.uml2.uml.Enumeration;
+import org.eclipse.uml2.uml.FinalState;
+import org.eclipse.uml2.uml.FlowFinalNode;
+import org.eclipse.uml2.uml.ForkNode;
+import org.eclipse.uml2.uml.InitialNode;
+import org.eclipse.uml2.uml.Interface;
+import org.eclipse.uml2.uml.JoinNode;
+import org.eclipse.uml2.uml.MergeNode;
+import org.eclipse.uml2.uml.MultiplicityElement;
+import org.eclipse.uml2.uml.NamedElement;
+import org.eclipse.uml2.uml.ObjectNode;
+import org.eclipse.uml2.uml.Operation;
+import org.eclipse.uml2.uml.Parameter;
+import org.eclipse.uml2.uml.ParameterDirectionKind;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.eclipse.uml2.uml.Pseudostate;
+import org.eclipse.uml2.uml.PseudostateKind;
+import org.eclipse.uml2.uml.Region;
+import org.eclipse.uml2.uml.State;
+import org.eclipse.uml2.uml.StateMachine;
+import org.eclipse.uml2.uml.Stereotype;
+import org.eclipse.uml2.uml.Transition;
+import org.eclipse.uml2.uml.TypedElement;
+import org.eclipse.uml2.uml.ValueSpecification;
+import org.eclipse.uml2.uml.Vertex;
+import org.eclipse.uml2.uml.VisibilityKind;
+
+import com.borkdominik.big.glsp.uml.core.export.UMLTextDialect.ClassifierKind;
+import com.borkdominik.big.glsp.uml.core.export.UMLTextDialect.NodeKind;
+import com.borkdominik.big.glsp.uml.uml.elements.multiplicity_element.MultiplicityUtil;
+import com.borkdominik.big.glsp.uml.unotation.Representation;
+
+/**
+ * Walks the semantic model of a representation once and reports every element to a {@link UMLTextDialect}. Memory
+ * does not grow with the model size, only with the nesting depth of states and partitions.
+ */
+public class UMLTextExporter {
+
+   public static boolean supports(final Representation representation) {
+      return representation == Representation.CLASS || representation == Representation.STATE_MACHINE
+         || representation == Representation.ACTIVITY;
+   }
+
+   public void export(final EObject semanticModel, final Representation representation,
+      final UMLTextDialect dialect) {
+      if (!supports(representation)) {
+         throw new GLSPServerException("Text export is not supported for " + representation);
+      }
+
+      dialect.begin(representation);
+      for (var contents = semanticModel.eAllContents(); contents.hasNext();) {
+         var element = contents.next();
+         if (representation == Representation.CLASS) {
+            exportClassElement(element, dialect);
+            if (element instanceof Behavior) {
+               contents.prune();
+            }
+         } else if (representation == Representation.STATE_MACHINE && element instanceof StateMachine machine) {
+            exportStateMachine(machine, dialect);
+            contents.prune();
+         } else if (representation == Representation.ACTIVITY && element instanceof Activity activity) {
+            exportActivity(activity, dialect);
+            contents.prune();
+         }
+      }
+      dialect.end();
+      dialect.flush();
+   }
+
+   // Class diagrams
+
+   protected void exportClassElement(final EObject element, final UMLTextDialect dialect) {
+      if (element instanceof Association association) {
+         exportAssociation(association, dialect);
+      } else if (element instanceof Classifier classifier && classifierKind(classifier) != null) {
+         exportClassifier(classifier, dialect);
+      }
+   }
+
+   protected void exportClassifier(final Classifier classifier, final UMLTextDialect dialect) {
+      var id = id(classifier);
+      var attributes = classifier.getAttributes();
+      var operations = operations(classifier);
+      var literals = classifier instanceof Enumeration enumeration ? enumeration.getOwnedLiterals() : List.of();
+      var hasMembers = !operations.isEmpty() || !literals.isEmpty()
+         || attributes.stream().anyMatch(attribute -> attribute.getAssociation() == null);
+
+      dialect.beginClassifier(id, name(classifier), classifierKind(classifier), classifier.isAbstract(), hasMembers);
+      if (classifier instanceof Enumeration enumeration) {
+         enumeration.getOwnedLiterals().forEach(literal -> dialect.literal(name(literal)));
+      }
+      for (var attribute : attributes) {
+         // Association ends are written as associations
+         if (attribute.getAssociation() == null) {
+            dialect.attribute(visibility(attribute.getVisibility()), name(attribute), typeName(attribute),
+               multiplicity(attribute), attribute.isStatic());
+         }
+      }
+      for (var operation : operations) {
+         dialect.operation(visibility(operation.getVisibility()), name(operation), parameters(operation),
+            operation.getType() == null ? null : name(operation.getType()), operation.isAbstract(),
+            operation.isStatic());
+      }
+      dialect.endClassifier();
+
+      for (var generalization : classifier.getGeneralizations()) {
+         if (generalization.getGeneral() != null) {
+            dialect.generalization(id, id(generalization.getGeneral()));
+         }
+      }
+      if (classifier instanceof BehavioredClassifier behaviored) {
+         for (var realization : behaviored.getInterfaceRealizations()) {
+            if (realization.getContract() != null) {
+               dialect.realization(id, id(realization.getContract()));
+            }
+         }
+      }
+   }
+
+   protected void exportAssociation(final Association association, final UMLTextDialect dialect) {
+      var ends = association.getMemberEnds();
+      if (ends.size() != 2 || ends.get(0).getType() == null || ends.get(1).getType() == null) {
+         return;
+      }
+
+      // The end with an aggregation is typed by the part, the opposite end by the whole
+      var part = ends.get(0).getAggregation() != AggregationKind.NONE_LITERAL ? ends.get(0) : ends.get(1);
+      var whole = part == ends.get(0) ? ends.get(1) : ends.get(0);
+      dialect.association(id(whole.getType()), multiplicity(whole), id(part.getType()), multiplicity(part),
+         part.getAggregation(), association.getName());
+   }
+
+   protected ClassifierKind classifierKind(final Classifier classifier) {
+      if (classifier instanceof Interface) {
+         return ClassifierKind.INTERFACE;
+      } else if (classifier instanceof Enumeration) {
+         return ClassifierKind.ENUMERATION;
+      } else if (classifier instanceof PrimitiveType) {
+         return ClassifierKind.PRIMITIVE_TYPE;
+      } else if (classifier instanceof DataType) {
+         return ClassifierKind.DATA_TYPE;
+      } else if (classifier instanceof Class && !(classifier instanceof Behavior)
+         && !(classifier instanceof Stereotype)) {
+         return ClassifierKind.CLASS;
+      }
+      return null;
+   }
+
+   protected List<Operation> operations(final Classifier classifier) {
+      if (classifier instanceof Class clazz) {
+         return clazz.getOwnedOperations();
+      } else if (classifier instanceof Interface iface) {
+         return iface.getOwnedOperations();
+      } else if (classifier instanceof DataType dataType) {
+         return dataType.getOwnedOperations();
+      }
+      return List.of();
+   }
+
+   protected String parameters(final Operation operation) {
+      return operation.getOwnedParameters().stream()
+         .filter(parameter -> parameter.getDirection() != ParameterDirectionKind.RETURN_LITERAL)
+         .map(this::parameter)
+         .collect(Collectors.joining(", "));
+   }
+
+   protected String parameter(final Parameter parameter) {
+      var direction = parameter.getDirection() == ParameterDirectionKind.IN_LITERAL ? ""
+         : parameter.getDirection().getLiteral() + " ";
+      var type = typeName(parameter);
+      return direction + name(parameter) + (type == null ? "" : " : " + type);
+   }
+
+   protected String typeName(final TypedElement element) {
+      return element.getType() == null ? null : name(element.getType());
+   }
+
+   protected String multiplicity(final MultiplicityElement element) {
+      return MultiplicityUtil.getMultiplicity(element);
+   }
+
+   protected String visibility(final VisibilityKind visibility) {
+      return switch (visibility) {
+         case PRIVATE_LITERAL -> "-";
+         case PROTECTED_LITERAL -> "#";
+         case PACKAGE_LITERAL -> "~";
+         default -> "+";
+      };
+   }
+
+   // State machines
+
+   protected void exportStateMachine(final StateMachine machine, final UMLTextDialect dialect) {
+      dialect.beginState(id(machine), name(machine));
+      exportRegions(machine.getRegions(), dialect);
+      dialect.endState();
+   }
+
+   protected void exportRegions(final List<Region> regions, final UMLTextDialect dialect) {
+      for (var i = 0; i < regions.size(); i++) {
+         if (i > 0) {
+            dialect.regionSeparator();
+         }
+         exportRegion(regions.get(i), dialect);
+      }
+   }
+
+   protected void exportRegion(final Region region, final UMLTextDialect dialect) {
+      for (var vertex : region.getSubvertices()) {
+         if (vertex instanceof FinalState) {
+            continue;
+         } else if (vertex instanceof State state && !state.getRegions().isEmpty()) {
+            dialect.beginState(id(state), name(state));
+            exportRegions(state.getRegions(), dialect);
+            dialect.endState();
+         } else if (vertex instanceof State state) {
+            dialect.state(id(state), name(state));
+         } else if (vertex instanceof Pseudostate pseudostate) {
+            dialect.pseudostate(id(pseudostate), name(pseudostate), pseudostate.getKind());
+         }
+      }
+
+      for (var transition : region.getTransitions()) {
+         if (transition.getSource() != null && transition.getTarget() != null) {
+            dialect.transition(vertexRef(transition.getSource()), vertexRef(transition.getTarget()),
+               transitionLabel(transition));
+         }
+      }
+   }
+
+   protected String vertexRef(final Vertex vertex) {
+      if (vertex instanceof FinalState
+         || vertex instanceof Pseudostate pseudostate && pseudostate.getKind() == PseudostateKind.INITIAL_LITERAL) {
+         return UMLTextDialect.TERMINAL;
+      }
+      return id(vertex);
+   }
+
+   protected String transitionLabel(final Transition transition) {
+      var label = new StringBuilder();
+      var triggers = transition.getTriggers().stream()
+         .map(trigger -> trigger.getEvent() != null ? name(trigger.getEvent()) : name(trigger))
+         .filter(name -> !name.isEmpty())
+         .collect(Collectors.joining(", "));
+      label.append(triggers);
+
+      var guard = transition.getGuard() != null ? value(transition.getGuard().getSpecification()) : "";
+      if (!guard.isEmpty()) {
+         label.append(label.length() > 0 ? " " : "").append('[').append(guard).append(']');
+      }
+      if (transition.getEffect() != null) {
+         label.append(label.length() > 0 ? " " : "").append("/ ").append(name(transition.getEffect()));
+      }
+      if (label.length() == 0) {
+         label.append(name(transition));
+      }
+      return label.toString();
+   }
+
+   // Activities
+
+   protected void exportActivity(final Activity activity, final UMLTextDialect dialect) {
+      dialect.beginActivity(id(activity), name(activity));
+
+      for (var partition : activity.getPartitions()) {
+         exportPartition(partition, dialect);
+      }
+      for (var node : activity.getOwnedNodes()) {
+         if (node.getInPartitions().isEmpty()) {
+            dialect.node(id(node), name(node), nodeKind(node));
+         }
+      }
+      for (var edge : activity.getEdges()) {
+         exportEdge(edge, dialect);
+      }
+
+      dialect.endActivity();
+   }
+
+   protected void exportPartition(final ActivityPartition partition, final UMLTextDialect dialect) {
+      dialect.beginPartition(id(partition), name(partition));
+      for (var subpartition : partition.getSubpartitions()) {
+         exportPartition(subpartition, dialect);
+      }
+      for (var node : partition.getNodes()) {
+         // A node in several partitions is written in the first one only
+         if (node.getInPartitions().get(0) == partition) {
+            dialect.node(id(node), name(node), nodeKind(node));
+         }
+      }
+      dialect.endPartition();
+   }
+
+   protected void exportEdge(final ActivityEdge edge, final UMLTextDialect dialect) {
+      if (edge.getSource() == null || edge.getTarget() == null) {
+         return;
+      }
+
+      var guard = value(edge.getGuard());
+      dialect.flow(id(edge.getSource()), id(edge.getTarget()), "true".equals(guard) ? "" : guard);
+   }
+
+   protected NodeKind nodeKind(final ActivityNode node) {
+      if (node instanceof InitialNode) {
+         return NodeKind.INITIAL;
+      } else if (node instanceof ActivityFinalNode) {
+         return NodeKind.ACTIVITY_FINAL;
+      } else if (node instanceof FlowFinalNode) {
+         return NodeKind.FLOW_FINAL;
+      } else if (node instanceof DecisionNode) {
+         return NodeKind.DECISION;
+      } else if (node instanceof MergeNode) {
+         return NodeKind.MERGE;
+      } else if (node instanceof ForkNode) {
+         return NodeKind.FORK;
+      } else if (node instanceof JoinNode) {
+         return NodeKind.JOIN;
+      } else if (node instanceof ObjectNode) {
+         return NodeKind.OBJECT;
+      }
+      return NodeKind.ACTION;
+   }
+
+   // Common
+
+   protected String value(final ValueSpecification specification) {
+      if (specification == null) {
+         return "";
+      }
+      var value = specification.stringValue();
+      return value == null ? "" : value;
+   }
+
+   protected String name(final EObject element) {
+      var name = element instanceof NamedElement named ? named.getName() : null;
+      return name == null ? "" : name;
+   }
+
+   /**
+    * Identifier of the element in the text, derived from its XMI id. Characters other than letters and digits are
+    * replaced with their code, so that different ids remain different.
+    */
+   protected String id(final EObject element) {
+      var id = element.eResource() instanceof XMLResource resource ? resource.getID(element) : null;
+      if (id == null) {
+         id = EcoreUtil.getURI(element).fragment();
+      }
+
+      var result = new StringBuilder(id.length() + 8).append('e');
+      for (var i = 0; i < id.length(); i++) {
+         var c = id.charAt(i);
+         if (c < 128 && Character.isLetterOrDigit(c)) {
+            result.append(c);
+         } else {
+            result.append('_').append(Integer.toHexString(c)).append('_');
+         }
+      }
+      return result.toString();
+   }
+}
@@ -0,0 +1,41 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.export;
+
+import java.io.Writer;
+import java.util.Locale;
+
+import org.eclipse.glsp.server.types.GLSPServerException;
+
+public enum UMLTextFormat {
+   PLANTUML("puml"),
+   MERMAID("mmd");
+
+   private final String extension;
+
+   UMLTextFormat(final String extension) {
+      this.extension = extension;
+   }
+
+   public String getExtension() { return extension; }
+
+   public UMLTextDialect createDialect(final Writer writer) {
+      return this == PLANTUML ? new UMLPlantUMLDialect(writer) : new UMLMermaidDialect(writer);
+   }
+
+   public static UMLTextFormat of(final String name) {
+      try {
+         return valueOf(name.toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException | NullPointerException e) {
+         throw new GLSPServerException("Unknown text format " + name);
+      }
+   }
+}
@@ -13,11 +13,33 @@ package com.borkdominik.big.glsp.uml.core.gmodel;
 import java.util.Collection;
 
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.glsp.server.model.GModelState;
 import org.eclipse.uml2.uml.Model;
 
 import com.borkdominik.big.glsp.server.core.gmodel.BGEMFGModelFactory;
+import com.borkdominik.big.glsp.uml.core.model.pool.UMLModelPoolSession;
+import com.google.inject.Inject;
 
 public class UMLGModelFactory extends BGEMFGModelFactory {
+
+   @Inject
+   protected GModelState modelState;
+
+   @Inject
+   protected UMLModelPoolSession modelPoolSession;
+
+   @Override
+   public void createGModel() {
+      // The first model of a pooled source is the one that was built before it was parked
+      var pooledRoot = modelPoolSession.takePooledRoot();
+      if (pooledRoot.isPresent()) {
+         modelState.updateRoot(pooledRoot.get());
+         return;
+      }
+
+      super.createGModel();
+   }
+
    @Override
    protected Collection<? extends EObject> childrenOf(final EObject semanticModel) {
       var model = (Model) semanticModel;
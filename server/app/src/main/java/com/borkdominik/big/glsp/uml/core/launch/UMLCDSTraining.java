@@ -0,0 +1,41 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.launch;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import com.borkdominik.big.glsp.uml.core.UMLDiagramModule;
+import com.borkdominik.big.glsp.uml.core.UMLMixinModule;
+import com.google.inject.Guice;
+
+/**
+ * Training run for the class-data-sharing archive (see the <code>cdsArchive</code> Gradle task). It executes the
+ * same warm-up as the server on the given sample directories, creates the server injector and exits, so that the JVM
+ * can dump the loaded classes with <code>-XX:ArchiveClassesAtExit</code>.
+ */
+public final class UMLCDSTraining {
+
+   private UMLCDSTraining() {}
+
+   public static void main(final String[] args) {
+      var samples = Arrays.stream(args).map(Path::of).collect(Collectors.toList());
+
+      UMLServerWarmup.run(samples);
+      UMLServerWarmup.awaitLayout();
+      UMLServerWarmup.awaitMetamodel();
+
+      var serverModule = new UMLServerModule()
+         .configureDiagramModule(new UMLDiagramModule(), new UMLMixinModule());
+      Guice.createInjector(serverModule);
+   }
+}
@@ -10,11 +10,14 @@
  ********************************************************************************/
 package com.borkdominik.big.glsp.uml.core.launch;
 
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.apache.commons.cli.ParseException;
-import org.eclipse.elk.alg.layered.options.LayeredMetaDataProvider;
-import org.eclipse.glsp.layout.ElkLayoutEngine;
 import org.eclipse.glsp.server.launch.DefaultCLIParser;
 import org.eclipse.glsp.server.launch.SocketGLSPServerLauncher;
 import org.eclipse.glsp.server.utils.LaunchUtil;
@@ -24,11 +27,18 @@ import com.borkdominik.big.glsp.uml.core.UMLMixinModule;
 
 public class UMLServerLauncher {
    private static final int UML_DEFAULT_PORT = 5007;
+   public static final String WARMUP_SAMPLES_PROPERTY = "bigUML.warmupSamples";
+   public static final String UML_CACHE_THREAD_LOCAL_PROPERTY = "org.eclipse.uml2.common.util.CacheAdapter.ThreadLocal";
 
    public static void main(final String[] args) {
       var processName = "UMLGLSPServer";
       try {
-         ElkLayoutEngine.initialize(new LayeredMetaDataProvider());
+         // Model snapshots are read on background threads, the UML2 cache is not thread-safe
+         if (System.getProperty(UML_CACHE_THREAD_LOCAL_PROPERTY) == null) {
+            System.setProperty(UML_CACHE_THREAD_LOCAL_PROPERTY, "true");
+         }
+         UMLServerWarmup.start(warmupSamples());
+
          var parser = new DefaultCLIParser(args, processName);
          LaunchUtil.configure(parser);
 
@@ -39,10 +49,19 @@ public class UMLServerLauncher {
                .configureDiagramModule(new UMLDiagramModule(), new UMLMixinModule());
 
          var launcher = new SocketGLSPServerLauncher(serverModule);
+         UMLStartupMetrics.markPortOpening();
          launcher.start("localhost", serverPort);
       } catch (ParseException ex) {
          ex.printStackTrace();
          LaunchUtil.printHelp(processName, DefaultCLIParser.getDefaultOptions());
       }
    }
+
+   protected static List<Path> warmupSamples() {
+      var samples = System.getProperty(WARMUP_SAMPLES_PROPERTY, "");
+      return Arrays.stream(samples.split(File.pathSeparator))
+         .filter(sample -> !sample.isBlank())
+         .map(Path::of)
+         .collect(Collectors.toList());
+   }
 }
@@ -17,6 +17,24 @@ package com.borkdominik.big.glsp.uml.core.launch;
 
 import org.eclipse.glsp.server.di.ServerModule;
 
+import com.borkdominik.big.glsp.uml.core.layout.UMLHierarchicalLayout;
+import com.borkdominik.big.glsp.uml.core.layout.UMLLayoutCache;
+import com.borkdominik.big.glsp.uml.core.layout.UMLLayoutExecutor;
+import com.borkdominik.big.glsp.uml.core.model.pool.UMLModelPool;
+import com.borkdominik.big.glsp.uml.core.validation.UMLConstraintRegistry;
+import com.google.inject.Singleton;
+
 public class UMLServerModule extends ServerModule {
 
+   @Override
+   protected void configureBase() {
+      super.configureBase();
+
+      // Shared between all client sessions
+      bind(UMLModelPool.class).in(Singleton.class);
+      bind(UMLLayoutExecutor.class).in(Singleton.class);
+      bind(UMLLayoutCache.class).in(Singleton.class);
+      bind(UMLHierarchicalLayout.class).in(Singleton.class);
+      bind(UMLConstraintRegistry.class).in(Singleton.class);
+   }
 }
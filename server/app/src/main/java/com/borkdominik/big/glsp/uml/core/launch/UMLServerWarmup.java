@@ -0,0 +1,169 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.launch;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.elk.alg.layered.options.LayeredMetaDataProvider;
+import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.glsp.layout.ElkLayoutEngine;
+import org.eclipse.glsp.server.emf.model.notation.NotationPackage;
+import org.eclipse.glsp.server.types.GLSPServerException;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.eclipse.uml2.uml.resource.UMLResource;
+
+import com.borkdominik.big.glsp.uml.unotation.UnotationPackage;
+import com.borkdominik.big.glsp.uml.unotation.util.UnotationResourceFactoryImpl;
+
+/**
+ * Loads the expensive parts of the server (ELK layout meta data, UML2 and notation metamodels) on a background
+ * thread so that the server port can be opened immediately. Every entry point that uses ELK (graph transformation,
+ * scheduled and hierarchical layouts) calls {@link #awaitLayout()} before using it.
+ */
+public final class UMLServerWarmup {
+   private static final Logger LOGGER = LogManager.getLogger(UMLServerWarmup.class);
+
+   private static final CompletableFuture<Void> layout = new CompletableFuture<>();
+   private static final CompletableFuture<Void> metamodel = new CompletableFuture<>();
+   private static boolean started = false;
+
+   private UMLServerWarmup() {}
+
+   public static synchronized void start(final List<Path> sampleDirectories) {
+      if (started) {
+         return;
+      }
+      started = true;
+
+      var thread = new Thread(() -> run(sampleDirectories), "UMLServerWarmup");
+      thread.setDaemon(true);
+      thread.setPriority(Thread.MIN_PRIORITY);
+      thread.start();
+   }
+
+   public static void run(final List<Path> sampleDirectories) {
+      var startTime = System.nanoTime();
+
+      try {
+         ElkLayoutEngine.initialize(new LayeredMetaDataProvider());
+         warmupLayout();
+         layout.complete(null);
+      } catch (RuntimeException | LinkageError e) {
+         layout.completeExceptionally(e);
+      }
+
+      try {
+         warmupMetamodel();
+         sampleDirectories.forEach(UMLServerWarmup::warmupSamples);
+         metamodel.complete(null);
+      } catch (RuntimeException | LinkageError e) {
+         metamodel.completeExceptionally(e);
+      }
+
+      LOGGER.info(String.format("Warm-up finished in %d ms", (System.nanoTime() - startTime) / 1_000_000));
+   }
+
+   public static void awaitLayout() {
+      await(layout);
+   }
+
+   public static void awaitMetamodel() {
+      await(metamodel);
+   }
+
+   private static void await(final CompletableFuture<Void> future) {
+      try {
+         future.get();
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new GLSPServerException("Interrupted while waiting for the server warm-up", e);
+      } catch (ExecutionException e) {
+         throw new GLSPServerException("Server warm-up failed", e.getCause());
+      }
+   }
+
+   private static void warmupLayout() {
+      // Runs a tiny layered layout so that the ELK algorithm classes are loaded and linked
+      var graph = ElkGraphUtil.createGraph();
+      graph.setProperty(CoreOptions.ALGORITHM, "org.eclipse.elk.layered");
+      var source = ElkGraphUtil.createNode(graph);
+      var target = ElkGraphUtil.createNode(graph);
+      source.setDimensions(20, 20);
+      target.setDimensions(20, 20);
+      ElkGraphUtil.createSimpleEdge(source, target);
+
+      new RecursiveGraphLayoutEngine().layout(graph, new BasicProgressMonitor());
+   }
+
+   private static void warmupMetamodel() {
+      UMLPackage.eINSTANCE.eClass();
+      UnotationPackage.eINSTANCE.eClass();
+      NotationPackage.eINSTANCE.eClass();
+
+      var model = UMLFactory.eINSTANCE.createModel();
+      var clazz = model.createOwnedClass("Warmup", false);
+      clazz.createOwnedAttribute("attribute", null);
+      clazz.createOwnedOperation("operation", null, null);
+      model.createOwnedInterface("WarmupInterface");
+      EcoreUtil.getAllContents(model, true).forEachRemaining(EcoreUtil::getURI);
+   }
+
+   private static void warmupSamples(final Path directory) {
+      if (!Files.isDirectory(directory)) {
+         return;
+      }
+
+      List<Path> files;
+      try (var stream = Files.walk(directory)) {
+         files = stream
+            .filter(path -> path.toString().endsWith("." + UMLResource.FILE_EXTENSION)
+               || path.toString().endsWith("." + UnotationPackage.eNS_PREFIX))
+            .collect(Collectors.toList());
+      } catch (IOException e) {
+         LOGGER.warn("Failed to list warm-up samples in " + directory, e);
+         return;
+      }
+
+      var resourceSet = new ResourceSetImpl();
+      resourceSet.getPackageRegistry().put(UMLPackage.eNS_URI, UMLPackage.eINSTANCE);
+      resourceSet.getPackageRegistry().put(UnotationPackage.eNS_URI, UnotationPackage.eINSTANCE);
+      resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap()
+         .put(UMLResource.FILE_EXTENSION, UMLResource.Factory.INSTANCE);
+      resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap()
+         .put(UnotationPackage.eNS_PREFIX, new UnotationResourceFactoryImpl());
+
+      for (var file : files) {
+         try {
+            var resource = resourceSet.getResource(URI.createFileURI(file.toAbsolutePath().toString()), true);
+            resource.getAllContents().forEachRemaining(EcoreUtil::getURI);
+         } catch (RuntimeException e) {
+            LOGGER.warn("Failed to load warm-up sample " + file, e);
+         }
+      }
+
+      resourceSet.getResources().forEach(r -> r.unload());
+   }
+}
@@ -0,0 +1,50 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.launch;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Records the time from the JVM start until the port is open and until the first model has been loaded.
+ */
+public final class UMLStartupMetrics {
+   private static final Logger LOGGER = LogManager.getLogger(UMLStartupMetrics.class);
+   private static final AtomicBoolean firstModelLoaded = new AtomicBoolean(false);
+
+   private static volatile long timeToPort = -1;
+   private static volatile long timeToFirstModel = -1;
+
+   private UMLStartupMetrics() {}
+
+   public static void markPortOpening() {
+      timeToPort = uptime();
+      LOGGER.info(String.format("Time to port: %d ms", timeToPort));
+   }
+
+   public static void markModelLoaded(final String sourceUri) {
+      if (firstModelLoaded.compareAndSet(false, true)) {
+         timeToFirstModel = uptime();
+         LOGGER.info(String.format("Time to first model: %d ms (%s)", timeToFirstModel, sourceUri));
+      }
+   }
+
+   public static long getTimeToPort() { return timeToPort; }
+
+   public static long getTimeToFirstModel() { return timeToFirstModel; }
+
+   private static long uptime() {
+      return ManagementFactory.getRuntimeMXBean().getUptime();
+   }
+}
@@ -0,0 +1,45 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.layout;
+
+import java.util.Set;
+
+import org.eclipse.glsp.server.actions.Action;
+
+/**
+ * Server internal action that is dispatched when a background layout has finished. It carries the laid out graph to
+ * the action dispatcher thread, where the result is merged with the current model.
+ */
+public class ApplyLayoutAction extends Action {
+   public static final String KIND = "umlApplyLayout";
+
+   protected transient UMLLayoutGraph graph;
+   /** Nodes that are laid out again once the graph has been applied */
+   protected transient Set<String> relayout = Set.of();
+
+   public ApplyLayoutAction() {
+      super(KIND);
+   }
+
+   public ApplyLayoutAction(final UMLLayoutGraph graph) {
+      this();
+      this.graph = graph;
+   }
+
+   public ApplyLayoutAction(final UMLLayoutGraph graph, final Set<String> relayout) {
+      this(graph);
+      this.relayout = relayout;
+   }
+
+   public UMLLayoutGraph getGraph() { return graph; }
+
+   public Set<String> getRelayout() { return relayout; }
+}
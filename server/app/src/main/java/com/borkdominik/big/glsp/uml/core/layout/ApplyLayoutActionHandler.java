@@ -0,0 +1,87 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.layout;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.glsp.graph.GBoundsAware;
+import org.eclipse.glsp.graph.GEdge;
+import org.eclipse.glsp.server.actions.AbstractActionHandler;
+import org.eclipse.glsp.server.actions.Action;
+import org.eclipse.glsp.server.model.GModelState;
+import org.eclipse.glsp.server.operations.ChangeBoundsOperation;
+import org.eclipse.glsp.server.operations.ChangeRoutingPointsOperation;
+import org.eclipse.glsp.server.operations.CompoundOperation;
+import org.eclipse.glsp.server.operations.Operation;
+
+import com.google.inject.Inject;
+
+/**
+ * Merges the result of a background layout into the current model. Elements that have been deleted or changed by the
+ * user while the layout was running keep their current state.
+ */
+public class ApplyLayoutActionHandler extends AbstractActionHandler<ApplyLayoutAction> {
+
+   @Inject
+   protected GModelState modelState;
+
+   @Override
+   protected List<Action> executeAction(final ApplyLayoutAction action) {
+      var graph = action.getGraph();
+      var index = modelState.getIndex();
+
+      var unchanged = new HashSet<String>();
+      graph.getNodeSnapshots().forEach((id, snapshot) -> {
+         index.get(id)
+            .filter(GBoundsAware.class::isInstance)
+            .map(element -> UMLLayoutBounds.of((GBoundsAware) element))
+            .filter(snapshot::matches)
+            .ifPresent(current -> unchanged.add(id));
+      });
+
+      var bounds = graph.toBounds().stream()
+         .filter(element -> unchanged.contains(element.getElementId()))
+         .collect(Collectors.toList());
+
+      var routingPoints = graph.toRoutingPoints().stream()
+         .filter(element -> {
+            var ends = graph.getEdgeEnds().get(element.getElementId());
+            var current = index.get(element.getElementId())
+               .filter(GEdge.class::isInstance)
+               .map(edge -> UMLLayoutTransformer.routingOf((GEdge) edge));
+            return unchanged.contains(ends[0]) && unchanged.contains(ends[1])
+               && current.isPresent() && current.get().equals(graph.getEdgeSnapshots().get(element.getElementId()));
+         })
+         .collect(Collectors.toList());
+
+      var operations = new ArrayList<Operation>();
+      if (!bounds.isEmpty()) {
+         operations.add(new ChangeBoundsOperation(bounds));
+      }
+      if (!routingPoints.isEmpty()) {
+         operations.add(new ChangeRoutingPointsOperation(routingPoints));
+      }
+
+      var result = new ArrayList<Action>();
+      if (!operations.isEmpty()) {
+         result.add(new CompoundOperation(operations));
+      }
+      // Dispatched after the operation, the nodes are laid out around the applied positions
+      var relayout = action.getRelayout().stream().filter(unchanged::contains).collect(Collectors.toSet());
+      if (!relayout.isEmpty()) {
+         result.add(new LayoutCreatedElementsAction(relayout));
+      }
+      return result;
+   }
+}
@@ -0,0 +1,37 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.layout;
+
+import java.util.Set;
+
+import org.eclipse.glsp.server.actions.Action;
+
+public class LayoutCreatedElementsAction extends Action {
+   public static final String KIND = "layoutCreatedElements";
+
+   /** The created elements are forgotten without being moved, e.g. if the user placed them explicitly */
+   protected boolean discard;
+   /** Set by the server to lay out the given nodes (e.g., resized ones) instead of the created elements */
+   protected transient Set<String> elementIds;
+
+   public LayoutCreatedElementsAction() {
+      super(KIND);
+   }
+
+   public LayoutCreatedElementsAction(final Set<String> elementIds) {
+      this();
+      this.elementIds = elementIds;
+   }
+
+   public boolean isDiscard() { return discard; }
+
+   public Set<String> getElementIds() { return elementIds; }
+}
@@ -0,0 +1,68 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.layout;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.glsp.server.actions.AbstractActionHandler;
+import org.eclipse.glsp.server.actions.Action;
+import org.eclipse.glsp.server.emf.EMFIdGenerator;
+
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.google.inject.Inject;
+
+/**
+ * Lays out the elements that have been created since the last request (or the elements given by the server), the
+ * rest of the diagram is not moved.
+ */
+public class LayoutCreatedElementsActionHandler extends AbstractActionHandler<LayoutCreatedElementsAction> {
+
+   @Inject
+   protected BGEMFModelState modelState;
+
+   @Inject
+   protected EMFIdGenerator idGenerator;
+
+   @Inject
+   protected UMLLayoutScheduler scheduler;
+
+   @Inject
+   protected UMLLayoutTransformer transformer;
+
+   @Override
+   protected List<Action> executeAction(final LayoutCreatedElementsAction action) {
+      var semanticModel = modelState.getSemanticModel();
+      if (semanticModel == null || modelState.getRoot() == null) {
+         return none();
+      }
+
+      if (action.getElementIds() != null) {
+         return layout(action.getElementIds());
+      }
+
+      var created = UMLCreatedElementsAdapter.of(semanticModel).drain();
+      if (created.isEmpty() || action.isDiscard()) {
+         return none();
+      }
+
+      return layout(created.stream().map(idGenerator::getOrCreateId).collect(Collectors.toSet()));
+   }
+
+   protected List<Action> layout(final Set<String> ids) {
+      var graph = transformer.transformIncremental(modelState.getIndex(), ids);
+      if (!graph.getFree().isEmpty()) {
+         scheduler.schedule(graph);
+      }
+      return none();
+   }
+}
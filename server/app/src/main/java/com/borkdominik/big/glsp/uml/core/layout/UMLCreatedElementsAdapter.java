@@ -0,0 +1,114 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.layout;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Remembers the semantic elements created by the create node and edge commands since the last incremental layout.
+ * The adapter is attached to the semantic root and is drained by the client after create operations. It is reset on
+ * undo and redo and never holds more than {@link #MAX_ELEMENTS} elements, so that it does not keep removed elements
+ * alive.
+ */
+public class UMLCreatedElementsAdapter extends AdapterImpl {
+   public static final int MAX_ELEMENTS = 512;
+
+   /** Elements in creation order with their sequence number */
+   protected final Map<EObject, Long> elements = new LinkedHashMap<>();
+   protected long sequence;
+
+   public static UMLCreatedElementsAdapter of(final EObject semanticRoot) {
+      var adapter = (UMLCreatedElementsAdapter) EcoreUtil.getExistingAdapter(semanticRoot,
+         UMLCreatedElementsAdapter.class);
+      if (adapter == null) {
+         adapter = new UMLCreatedElementsAdapter();
+         semanticRoot.eAdapters().add(adapter);
+      }
+      return adapter;
+   }
+
+   public static void track(final EObject semanticRoot, final EObject element) {
+      if (semanticRoot != null && element != null) {
+         of(semanticRoot).add(element);
+      }
+   }
+
+   public static void reset(final EObject semanticRoot) {
+      if (semanticRoot != null
+         && EcoreUtil.getExistingAdapter(semanticRoot, UMLCreatedElementsAdapter.class) instanceof
+            UMLCreatedElementsAdapter adapter) {
+         adapter.clear();
+      }
+   }
+
+   public static void remove(final EObject semanticRoot) {
+      if (semanticRoot != null) {
+         semanticRoot.eAdapters().removeIf(UMLCreatedElementsAdapter.class::isInstance);
+      }
+   }
+
+   @Override
+   public boolean isAdapterForType(final Object type) {
+      return type == UMLCreatedElementsAdapter.class;
+   }
+
+   public synchronized void add(final EObject element) {
+      elements.remove(element);
+      elements.put(element, sequence++);
+
+      var iterator = elements.keySet().iterator();
+      while (elements.size() > MAX_ELEMENTS) {
+         iterator.next();
+         iterator.remove();
+      }
+   }
+
+   public synchronized boolean isEmpty() { return elements.isEmpty(); }
+
+   /**
+    * Returns a mark for {@link #since(long)}. Marks stay valid when older elements are removed.
+    */
+   public synchronized long mark() {
+      return sequence;
+   }
+
+   /**
+    * Returns the elements tracked after the given mark, without resetting the adapter.
+    */
+   public synchronized List<EObject> since(final long mark) {
+      return elements.entrySet().stream()
+         .filter(entry -> entry.getValue() >= mark)
+         .map(Map.Entry::getKey)
+         .collect(Collectors.toList());
+   }
+
+   /**
+    * Returns the tracked elements that are still part of a resource and resets the adapter.
+    */
+   public synchronized List<EObject> drain() {
+      var result = new ArrayList<EObject>();
+      elements.keySet().stream().filter(element -> element.eResource() != null).forEach(result::add);
+      elements.clear();
+      return result;
+   }
+
+   public synchronized void clear() {
+      elements.clear();
+   }
+}
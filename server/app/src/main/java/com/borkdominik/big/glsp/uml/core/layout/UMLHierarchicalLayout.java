@@ -0,0 +1,143 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.layout;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.RecursiveAction;
+
+import org.eclipse.elk.alg.layered.LayeredLayoutProvider;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.options.HierarchyHandling;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+
+import com.borkdominik.big.glsp.uml.core.launch.UMLServerWarmup;
+import com.google.inject.Inject;
+
+/**
+ * Lays out a graph with nested containers (e.g., package compartments) level by level. The contents of every
+ * container are laid out independently and in parallel, bottom-up, so that each container already has its final size
+ * when its parent level is laid out. Edges between nodes of different containers are routed on the level of their
+ * common container.
+ */
+public class UMLHierarchicalLayout {
+
+   @Inject
+   protected UMLLayoutExecutor executor;
+
+   /**
+    * Only graphs with at least one non-empty container profit from a level by level layout.
+    */
+   public boolean supports(final UMLLayoutGraph graph) {
+      return graph.getNodes().values().stream().anyMatch(node -> !node.getChildren().isEmpty());
+   }
+
+   public void layout(final UMLLayoutGraph graph, final UMLLayoutProgressMonitor monitor) {
+      UMLServerWarmup.awaitLayout();
+      var root = graph.getRoot();
+      root.setProperty(CoreOptions.HIERARCHY_HANDLING, HierarchyHandling.SEPARATE_CHILDREN);
+
+      var proxies = createProxies(graph);
+      executor.invoke(new LevelTask(root, root, monitor));
+      applyProxies(proxies);
+   }
+
+   /**
+    * ELK only lays out edges between siblings. An edge that leaves a container is represented by a proxy between the
+    * ancestors of its ends that are siblings.
+    */
+   protected Map<ElkEdge, ElkEdge> createProxies(final UMLLayoutGraph graph) {
+      var proxies = new LinkedHashMap<ElkEdge, ElkEdge>();
+      graph.getEdges().forEach((id, edge) -> {
+         var container = edge.getContainingNode();
+         var sourceNode = ElkGraphUtil.connectableShapeToNode(edge.getSources().get(0));
+         var targetNode = ElkGraphUtil.connectableShapeToNode(edge.getTargets().get(0));
+         var source = childOf(container, sourceNode);
+         var target = childOf(container, targetNode);
+         if (source == null || target == null || source == target
+            || source == sourceNode && target == targetNode) {
+            return;
+         }
+
+         var proxy = ElkGraphUtil.createSimpleEdge(source, target);
+         proxy.setContainingNode(container);
+         proxies.put(proxy, edge);
+      });
+      return proxies;
+   }
+
+   protected void applyProxies(final Map<ElkEdge, ElkEdge> proxies) {
+      proxies.forEach((proxy, edge) -> {
+         edge.getSections().clear();
+         var section = ElkGraphUtil.createEdgeSection(edge);
+         proxy.getSections().stream()
+            .flatMap(proxySection -> proxySection.getBendPoints().stream())
+            .forEach(point -> ElkGraphUtil.createBendPoint(section, point.getX(), point.getY()));
+
+         proxy.getSources().clear();
+         proxy.getTargets().clear();
+         proxy.setContainingNode(null);
+      });
+   }
+
+   protected ElkNode childOf(final ElkNode container, final ElkNode node) {
+      for (var current = node; current != null; current = current.getParent()) {
+         if (current.getParent() == container) {
+            return current;
+         }
+      }
+      return null;
+   }
+
+   protected void layoutLevel(final ElkNode root, final ElkNode node, final UMLLayoutProgressMonitor monitor) {
+      if (node != root) {
+         // Containers use the same layout options as the top level
+         node.setProperty(CoreOptions.DIRECTION, root.getProperty(CoreOptions.DIRECTION));
+         node.setProperty(CoreOptions.SPACING_NODE_NODE, root.getProperty(CoreOptions.SPACING_NODE_NODE));
+         node.setProperty(LayeredOptions.SPACING_NODE_NODE_BETWEEN_LAYERS,
+            root.getProperty(LayeredOptions.SPACING_NODE_NODE_BETWEEN_LAYERS));
+      }
+      new LayeredLayoutProvider().layout(node, monitor);
+   }
+
+   protected class LevelTask extends RecursiveAction {
+      private static final long serialVersionUID = 1L;
+
+      protected final ElkNode root;
+      protected final ElkNode node;
+      protected final UMLLayoutProgressMonitor monitor;
+
+      protected LevelTask(final ElkNode root, final ElkNode node, final UMLLayoutProgressMonitor monitor) {
+         this.root = root;
+         this.node = node;
+         this.monitor = monitor;
+      }
+
+      @Override
+      protected void compute() {
+         var subtasks = new ArrayList<LevelTask>();
+         for (var child : node.getChildren()) {
+            if (!child.getChildren().isEmpty()) {
+               subtasks.add(new LevelTask(root, child, monitor));
+            }
+         }
+         invokeAll(subtasks);
+
+         if (!monitor.isCanceled()) {
+            layoutLevel(root, node, new UMLLayoutProgressMonitor(monitor::isCanceled));
+         }
+      }
+   }
+}
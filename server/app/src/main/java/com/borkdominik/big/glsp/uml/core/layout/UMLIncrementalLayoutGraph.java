@@ -0,0 +1,108 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.layout;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.eclipse.glsp.graph.util.GraphUtil;
+import org.eclipse.glsp.server.types.ElementAndBounds;
+import org.eclipse.glsp.server.types.ElementAndRoutingPoints;
+
+/**
+ * Layout graph that only contains new elements and their direct neighbours, grouped into one partition per
+ * container. The neighbours are pinned: they keep their current bounds and only the positions of the new nodes are
+ * applied. A new node is placed relative to a neighbour it is connected to, as laid out by ELK, or relative to all
+ * neighbours of its partition if it has no connected neighbour.
+ */
+public class UMLIncrementalLayoutGraph extends UMLLayoutGraph {
+   protected final Map<ElkNode, Set<String>> partitions = new LinkedHashMap<>();
+   protected final Set<String> free = new LinkedHashSet<>();
+
+   public UMLIncrementalLayoutGraph(final ElkNode root) {
+      super(root);
+   }
+
+   public Map<ElkNode, Set<String>> getPartitions() { return partitions; }
+
+   public Set<String> getFree() { return free; }
+
+   @Override
+   public List<ElementAndBounds> toBounds() {
+      var result = new ArrayList<ElementAndBounds>();
+      partitions.forEach((partition, ids) -> {
+         var dx = 0d;
+         var dy = 0d;
+         var anchors = 0;
+         for (var id : ids) {
+            if (!free.contains(id)) {
+               var snapshot = nodeSnapshots.get(id);
+               var node = nodes.get(id);
+               dx += snapshot.getX() - node.getX();
+               dy += snapshot.getY() - node.getY();
+               anchors++;
+            }
+         }
+
+         if (anchors == 0) {
+            // Nothing to align with, the new nodes keep the position they were created at
+            return;
+         }
+
+         for (var id : ids) {
+            if (free.contains(id)) {
+               var node = nodes.get(id);
+               var anchor = anchorOf(node);
+               var offsetX = dx / anchors;
+               var offsetY = dy / anchors;
+               if (anchor.isPresent()) {
+                  var snapshot = nodeSnapshots.get(anchor.get().getIdentifier());
+                  offsetX = snapshot.getX() - anchor.get().getX();
+                  offsetY = snapshot.getY() - anchor.get().getY();
+               }
+
+               var bounds = new ElementAndBounds();
+               bounds.setElementId(id);
+               bounds.setNewPosition(GraphUtil.point(node.getX() + offsetX, node.getY() + offsetY));
+               bounds.setNewSize(GraphUtil.dimension(node.getWidth(), node.getHeight()));
+               result.add(bounds);
+            }
+         }
+      });
+      return result;
+   }
+
+   /**
+    * Returns the first pinned node the given node is connected to.
+    */
+   protected Optional<ElkNode> anchorOf(final ElkNode node) {
+      return Stream.concat(
+         node.getOutgoingEdges().stream().flatMap(edge -> edge.getTargets().stream()),
+         node.getIncomingEdges().stream().flatMap(edge -> edge.getSources().stream()))
+         .map(ElkGraphUtil::connectableShapeToNode)
+         .filter(neighbour -> neighbour != node && !free.contains(neighbour.getIdentifier()))
+         .findFirst();
+   }
+
+   @Override
+   public List<ElementAndRoutingPoints> toRoutingPoints() {
+      // New edges are routed by the client between the placed nodes
+      return List.of();
+   }
+}
@@ -0,0 +1,64 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.layout;
+
+import org.eclipse.glsp.graph.GBoundsAware;
+
+public class UMLLayoutBounds {
+   protected static final double EPSILON = 0.5;
+
+   protected final double x;
+   protected final double y;
+   protected final double width;
+   protected final double height;
+
+   public UMLLayoutBounds(final double x, final double y, final double width, final double height) {
+      this.x = x;
+      this.y = y;
+      this.width = width;
+      this.height = height;
+   }
+
+   public static UMLLayoutBounds of(final GBoundsAware element) {
+      var position = element.getPosition();
+      var size = element.getSize();
+      return new UMLLayoutBounds(
+         position == null ? 0 : position.getX(),
+         position == null ? 0 : position.getY(),
+         size == null ? -1 : size.getWidth(),
+         size == null ? -1 : size.getHeight());
+   }
+
+   public double getX() { return x; }
+
+   public double getY() { return y; }
+
+   public double getWidth() { return width; }
+
+   public double getHeight() { return height; }
+
+   public boolean hasSize() {
+      return width > 0 && height > 0;
+   }
+
+   public boolean matches(final UMLLayoutBounds other) {
+      return other != null
+         && Math.abs(x - other.x) < EPSILON
+         && Math.abs(y - other.y) < EPSILON
+         && Math.abs(width - other.width) < EPSILON
+         && Math.abs(height - other.height) < EPSILON;
+   }
+
+   @Override
+   public String toString() {
+      return String.format("UMLLayoutBounds(x=%.1f, y=%.1f, width=%.1f, height=%.1f)", x, y, width, height);
+   }
+}
@@ -0,0 +1,108 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.layout;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Server wide cache of finished layouts keyed by their {@link UMLLayoutFingerprint}. The most recently used layouts
+ * are kept in memory. If persistence is enabled, the layouts of a diagram are additionally stored in a file next to
+ * its notation model, so that they survive a restart.
+ */
+public class UMLLayoutCache {
+   private static final Logger LOGGER = LogManager.getLogger(UMLLayoutCache.class);
+
+   public static final String SIZE_PROPERTY = "bigUML.layout.cache.size";
+   public static final String PERSIST_PROPERTY = "bigUML.layout.cache.persist";
+   public static final int DEFAULT_SIZE = 64;
+   public static final int PERSISTED_ENTRIES = 4;
+
+   protected final Gson gson = new Gson();
+   protected final Map<String, UMLLayoutCacheEntry> entries;
+   protected final Set<Path> loadedFiles = new HashSet<>();
+   protected final boolean persist;
+
+   public UMLLayoutCache() {
+      this(Integer.getInteger(SIZE_PROPERTY, DEFAULT_SIZE), Boolean.getBoolean(PERSIST_PROPERTY));
+   }
+
+   public UMLLayoutCache(final int size, final boolean persist) {
+      this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+         @Override
+         protected boolean removeEldestEntry(final Map.Entry<String, UMLLayoutCacheEntry> eldest) {
+            return size() > size;
+         }
+      };
+      this.persist = persist;
+   }
+
+   public synchronized Optional<UMLLayoutCacheEntry> get(final String fingerprint, final Optional<Path> file) {
+      if (persist && file.isPresent() && loadedFiles.add(file.get())) {
+         read(file.get()).forEach(entries::putIfAbsent);
+      }
+      return Optional.ofNullable(entries.get(fingerprint));
+   }
+
+   public synchronized void put(final String fingerprint, final UMLLayoutCacheEntry entry, final Optional<Path> file) {
+      entries.put(fingerprint, entry);
+      if (persist && file.isPresent()) {
+         write(file.get(), fingerprint, entry);
+      }
+   }
+
+   protected Map<String, UMLLayoutCacheEntry> read(final Path file) {
+      if (!Files.isRegularFile(file)) {
+         return new LinkedHashMap<>();
+      }
+
+      try {
+         var type = new TypeToken<LinkedHashMap<String, UMLLayoutCacheEntry>>() {}.getType();
+         Map<String, UMLLayoutCacheEntry> persisted = gson.fromJson(Files.readString(file, StandardCharsets.UTF_8),
+            type);
+         return persisted == null ? new LinkedHashMap<>() : persisted;
+      } catch (IOException | JsonParseException e) {
+         LOGGER.warn("Could not read layout cache " + file, e);
+         return new LinkedHashMap<>();
+      }
+   }
+
+   protected void write(final Path file, final String fingerprint, final UMLLayoutCacheEntry entry) {
+      var persisted = read(file);
+      persisted.remove(fingerprint);
+      persisted.put(fingerprint, entry);
+      var iterator = persisted.keySet().iterator();
+      while (persisted.size() > PERSISTED_ENTRIES && iterator.hasNext()) {
+         iterator.next();
+         iterator.remove();
+      }
+
+      try {
+         Files.writeString(file, gson.toJson(persisted), StandardCharsets.UTF_8);
+      } catch (IOException e) {
+         LOGGER.warn("Could not write layout cache " + file, e);
+      }
+   }
+}
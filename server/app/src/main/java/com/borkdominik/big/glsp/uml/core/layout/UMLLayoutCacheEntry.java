@@ -0,0 +1,88 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.layout;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.DoubleStream;
+
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+
+/**
+ * Raw ELK coordinates of a finished layout. Nodes are stored as <code>[x, y, width, height]</code>, edges as the
+ * flattened bend points relative to their containing node.
+ */
+public class UMLLayoutCacheEntry {
+   protected static final double EPSILON = 0.5;
+
+   protected Map<String, double[]> nodes = new LinkedHashMap<>();
+   protected Map<String, double[]> edges = new LinkedHashMap<>();
+
+   public static UMLLayoutCacheEntry of(final UMLLayoutGraph graph) {
+      var entry = new UMLLayoutCacheEntry();
+      graph.getNodes().forEach((id, node) -> entry.nodes.put(id,
+         new double[] { node.getX(), node.getY(), node.getWidth(), node.getHeight() }));
+      graph.getEdges().forEach((id, edge) -> {
+         var points = edge.getSections().stream()
+            .flatMap(section -> section.getBendPoints().stream())
+            .flatMapToDouble(point -> DoubleStream.of(point.getX(), point.getY()))
+            .toArray();
+         entry.edges.put(id, points);
+      });
+      return entry;
+   }
+
+   public Map<String, double[]> getNodes() { return nodes; }
+
+   public Map<String, double[]> getEdges() { return edges; }
+
+   /**
+    * Writes the cached coordinates into the graph. Nodes whose size changed keep their current size at the cached
+    * position, edges connected to them are not restored and therefore routed by the client.
+    *
+    * @return the nodes that could not be restored because they are resized or not cached
+    */
+   public Set<String> restore(final UMLLayoutGraph graph) {
+      var resized = new HashSet<String>();
+      graph.getNodes().forEach((id, node) -> {
+         var cached = nodes.get(id);
+         if (cached == null) {
+            resized.add(id);
+            return;
+         }
+
+         node.setLocation(cached[0], cached[1]);
+         if (Math.abs(node.getWidth() - cached[2]) < EPSILON && Math.abs(node.getHeight() - cached[3]) < EPSILON) {
+            node.setDimensions(cached[2], cached[3]);
+         } else {
+            resized.add(id);
+         }
+      });
+
+      graph.getEdges().forEach((id, edge) -> {
+         var ends = graph.getEdgeEnds().get(id);
+         var cached = edges.get(id);
+         edge.getSections().clear();
+         if (cached == null || resized.contains(ends[0]) || resized.contains(ends[1])) {
+            return;
+         }
+
+         var section = ElkGraphUtil.createEdgeSection(edge);
+         for (int i = 0; i + 1 < cached.length; i += 2) {
+            ElkGraphUtil.createBendPoint(section, cached[i], cached[i + 1]);
+         }
+      });
+
+      return resized;
+   }
+}
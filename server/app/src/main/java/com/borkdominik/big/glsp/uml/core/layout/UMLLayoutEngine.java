@@ -0,0 +1,84 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.layout;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.eclipse.glsp.server.actions.ActionDispatcher;
+import org.eclipse.glsp.server.layout.LayoutEngine;
+
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.google.inject.Inject;
+
+/**
+ * Layout engine that only snapshots the current GModel into an ELK graph on the request thread. The layout itself
+ * runs in the background and is merged into the model when it has finished. Layouts of structurally unchanged
+ * diagrams are taken from the {@link UMLLayoutCache}. Nodes that have been resized since then are laid out again
+ * incrementally around the restored nodes, the whole diagram only if most of its nodes have been resized.
+ */
+public class UMLLayoutEngine implements LayoutEngine {
+   public static final String CACHE_FILE_EXTENSION = "ulayout";
+
+   @Inject
+   protected BGEMFModelState modelState;
+
+   @Inject
+   protected UMLLayoutScheduler scheduler;
+
+   @Inject
+   protected UMLLayoutTransformer transformer;
+
+   @Inject
+   protected UMLLayoutCache cache;
+
+   @Inject
+   protected ActionDispatcher actionDispatcher;
+
+   @Override
+   public void layout() {
+      var root = modelState.getRoot();
+      if (root == null) {
+         return;
+      }
+
+      var graph = transformer.transform(root);
+      var fingerprint = UMLLayoutFingerprint.of(graph);
+      var file = cacheFile();
+
+      var cached = cache.get(fingerprint, file);
+      if (cached.isPresent()) {
+         var resized = cached.get().restore(graph);
+         if (resized.size() * 2 <= graph.getNodes().size()) {
+            scheduler.cancel();
+            actionDispatcher.dispatch(new ApplyLayoutAction(graph, resized));
+            return;
+         }
+      }
+
+      // Not cached or most nodes were resized since then, the layout overwrites any partially restored positions
+      scheduler.schedule(graph, () -> cache.put(fingerprint, UMLLayoutCacheEntry.of(graph), file));
+   }
+
+   protected Optional<Path> cacheFile() {
+      // Stored next to the .uml and .unotation files of the diagram
+      var semanticModel = modelState.getSemanticModel();
+      if (semanticModel == null || semanticModel.eResource() == null) {
+         return Optional.empty();
+      }
+
+      var uri = semanticModel.eResource().getURI();
+      if (!uri.isFile()) {
+         return Optional.empty();
+      }
+      return Optional.of(Path.of(uri.trimFileExtension().appendFileExtension(CACHE_FILE_EXTENSION).toFileString()));
+   }
+}
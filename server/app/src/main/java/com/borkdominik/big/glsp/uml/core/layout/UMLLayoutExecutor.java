@@ -0,0 +1,59 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.layout;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded thread pools shared by all client sessions for running layouts in the background. The containers of a
+ * hierarchical layout are laid out in parallel on a separate fork join pool.
+ */
+public class UMLLayoutExecutor {
+   public static final String THREADS_PROPERTY = "bigUML.layout.threads";
+   public static final String PARALLELISM_PROPERTY = "bigUML.layout.parallelism";
+
+   protected final ExecutorService executor;
+   protected final ForkJoinPool levelPool;
+
+   public UMLLayoutExecutor() {
+      this(Integer.getInteger(THREADS_PROPERTY, Math.max(1, Runtime.getRuntime().availableProcessors() / 2)),
+         Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors()));
+   }
+
+   public UMLLayoutExecutor(final int threads, final int parallelism) {
+      var counter = new AtomicInteger();
+      var pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+         runnable -> {
+            var thread = new Thread(runnable, "UMLLayout-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+         });
+      pool.allowCoreThreadTimeOut(true);
+      this.executor = pool;
+      // Worker threads of a fork join pool are daemon threads and terminate when idle
+      this.levelPool = new ForkJoinPool(parallelism);
+   }
+
+   public Future<?> submit(final Runnable task) {
+      return executor.submit(task);
+   }
+
+   public <T> T invoke(final ForkJoinTask<T> task) {
+      return levelPool.invoke(task);
+   }
+}
@@ -0,0 +1,60 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.layout;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+
+import org.eclipse.elk.graph.properties.IPropertyHolder;
+import org.eclipse.glsp.server.types.GLSPServerException;
+
+/**
+ * Canonical hash of the structure of a layout graph: the nodes with their parents, the edges with their ends and the
+ * ELK options. Sizes are not part of the fingerprint, so that a layout can still be partially reused if only labels
+ * (and therefore the node sizes) changed.
+ */
+public final class UMLLayoutFingerprint {
+
+   private UMLLayoutFingerprint() {}
+
+   public static String of(final UMLLayoutGraph graph) {
+      var lines = new ArrayList<String>();
+      lines.add("root|" + options(graph.getRoot()));
+      graph.getNodes().forEach((id, node) -> {
+         var parent = node.getParent() == null ? "" : node.getParent().getIdentifier();
+         lines.add("node|" + id + "|" + parent + "|" + options(node));
+      });
+      graph.getEdgeEnds().forEach((id, ends) -> lines.add("edge|" + id + "|" + ends[0] + "|" + ends[1]));
+      Collections.sort(lines);
+
+      try {
+         var digest = MessageDigest.getInstance("SHA-256");
+         lines.forEach(line -> {
+            digest.update(line.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+         });
+         return HexFormat.of().formatHex(digest.digest());
+      } catch (NoSuchAlgorithmException e) {
+         throw new GLSPServerException("Could not create layout fingerprint", e);
+      }
+   }
+
+   protected static String options(final IPropertyHolder holder) {
+      var options = new ArrayList<String>();
+      holder.getAllProperties().forEach((property, value) -> options.add(property.getId() + "=" + value));
+      Collections.sort(options);
+      return String.join(",", options);
+   }
+}
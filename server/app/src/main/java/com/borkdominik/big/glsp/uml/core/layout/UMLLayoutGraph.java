@@ -0,0 +1,96 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.layout;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.elk.core.math.ElkPadding;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.glsp.graph.GPoint;
+import org.eclipse.glsp.graph.util.GraphUtil;
+import org.eclipse.glsp.server.types.ElementAndBounds;
+import org.eclipse.glsp.server.types.ElementAndRoutingPoints;
+
+/**
+ * ELK graph created from a GModel together with the GModel state at the time it was created. The graph is detached
+ * from the GModel and can therefore be laid out on any thread.
+ */
+public class UMLLayoutGraph {
+   protected final ElkNode root;
+   protected final Map<String, ElkNode> nodes = new LinkedHashMap<>();
+   protected final Map<String, ElkEdge> edges = new LinkedHashMap<>();
+   protected final Map<String, UMLLayoutBounds> nodeSnapshots = new LinkedHashMap<>();
+   protected final Map<String, String> edgeSnapshots = new LinkedHashMap<>();
+   protected final Map<String, String[]> edgeEnds = new LinkedHashMap<>();
+
+   public UMLLayoutGraph(final ElkNode root) {
+      this.root = root;
+   }
+
+   public ElkNode getRoot() { return root; }
+
+   public Map<String, ElkNode> getNodes() { return nodes; }
+
+   public Map<String, ElkEdge> getEdges() { return edges; }
+
+   public Map<String, UMLLayoutBounds> getNodeSnapshots() { return nodeSnapshots; }
+
+   public Map<String, String> getEdgeSnapshots() { return edgeSnapshots; }
+
+   public Map<String, String[]> getEdgeEnds() { return edgeEnds; }
+
+   public List<ElementAndBounds> toBounds() {
+      var result = new ArrayList<ElementAndBounds>();
+      nodes.forEach((id, node) -> {
+         var padding = node.getParent() == null || node.getParent() == root
+            ? new ElkPadding()
+            : node.getParent().getProperty(CoreOptions.PADDING);
+
+         var bounds = new ElementAndBounds();
+         bounds.setElementId(id);
+         bounds.setNewPosition(GraphUtil.point(node.getX() - padding.left, node.getY() - padding.top));
+         bounds.setNewSize(GraphUtil.dimension(node.getWidth(), node.getHeight()));
+         result.add(bounds);
+      });
+      return result;
+   }
+
+   public List<ElementAndRoutingPoints> toRoutingPoints() {
+      var result = new ArrayList<ElementAndRoutingPoints>();
+      edges.forEach((id, edge) -> {
+         var offsetX = 0d;
+         var offsetY = 0d;
+         for (var container = edge.getContainingNode(); container != null && container != root; container = container
+            .getParent()) {
+            offsetX += container.getX();
+            offsetY += container.getY();
+         }
+
+         var points = new ArrayList<GPoint>();
+         for (var section : edge.getSections()) {
+            for (var bendPoint : section.getBendPoints()) {
+               points.add(GraphUtil.point(bendPoint.getX() + offsetX, bendPoint.getY() + offsetY));
+            }
+         }
+
+         var routing = new ElementAndRoutingPoints();
+         routing.setElementId(id);
+         routing.setNewRoutingPoints(points);
+         result.add(routing);
+      });
+      return result;
+   }
+}
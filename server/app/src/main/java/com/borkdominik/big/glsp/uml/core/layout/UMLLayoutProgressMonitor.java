@@ -0,0 +1,29 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.layout;
+
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+
+/**
+ * Progress monitor that allows ELK to stop a layout as soon as it has been superseded.
+ */
+public class UMLLayoutProgressMonitor extends BasicProgressMonitor {
+   protected final BooleanSupplier canceled;
+
+   public UMLLayoutProgressMonitor(final BooleanSupplier canceled) {
+      this.canceled = canceled;
+   }
+
+   @Override
+   public boolean isCanceled() { return canceled.getAsBoolean() || Thread.currentThread().isInterrupted(); }
+}
@@ -0,0 +1,88 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.layout;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
+import org.eclipse.glsp.server.actions.ActionDispatcher;
+
+import com.borkdominik.big.glsp.uml.core.launch.UMLServerWarmup;
+import com.google.inject.Inject;
+
+/**
+ * Runs the layouts of a client session on the {@link UMLLayoutExecutor}. Only the most recent layout request is
+ * completed, older ones are canceled.
+ */
+public class UMLLayoutScheduler {
+   private static final Logger LOGGER = LogManager.getLogger(UMLLayoutScheduler.class);
+
+   @Inject
+   protected UMLLayoutExecutor executor;
+
+   @Inject
+   protected ActionDispatcher actionDispatcher;
+
+   @Inject
+   protected UMLHierarchicalLayout hierarchicalLayout;
+
+   protected final AtomicLong generation = new AtomicLong();
+   protected Future<?> current;
+
+   public void schedule(final UMLLayoutGraph graph) {
+      schedule(graph, () -> {});
+   }
+
+   /**
+    * @param onLayouted called on the layout thread after the layout has finished and before it is applied
+    */
+   public synchronized void schedule(final UMLLayoutGraph graph, final Runnable onLayouted) {
+      var scheduled = generation.incrementAndGet();
+      if (current != null) {
+         current.cancel(true);
+      }
+
+      current = executor.submit(() -> {
+         var monitor = new UMLLayoutProgressMonitor(() -> generation.get() != scheduled);
+         try {
+            UMLServerWarmup.awaitLayout();
+            layout(graph, monitor);
+         } catch (RuntimeException e) {
+            LOGGER.error("Layout failed", e);
+            return;
+         }
+
+         if (!monitor.isCanceled()) {
+            onLayouted.run();
+            actionDispatcher.dispatch(new ApplyLayoutAction(graph));
+         }
+      });
+   }
+
+   public synchronized void cancel() {
+      generation.incrementAndGet();
+      if (current != null) {
+         current.cancel(true);
+         current = null;
+      }
+   }
+
+   protected void layout(final UMLLayoutGraph graph, final UMLLayoutProgressMonitor monitor) {
+      if (!(graph instanceof UMLIncrementalLayoutGraph) && hierarchicalLayout.supports(graph)) {
+         hierarchicalLayout.layout(graph, monitor);
+         return;
+      }
+      new RecursiveGraphLayoutEngine().layout(graph.getRoot(), monitor);
+   }
+}
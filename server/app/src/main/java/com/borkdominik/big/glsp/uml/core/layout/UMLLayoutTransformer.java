@@ -0,0 +1,294 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.layout;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.eclipse.elk.alg.layered.options.CrossingMinimizationStrategy;
+import org.eclipse.elk.alg.layered.options.CycleBreakingStrategy;
+import org.eclipse.elk.alg.layered.options.InteractiveReferencePoint;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.layered.options.LayeringStrategy;
+import org.eclipse.elk.alg.layered.options.NodePlacementStrategy;
+import org.eclipse.elk.core.math.ElkPadding;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.options.FixedLayouterOptions;
+import org.eclipse.elk.core.options.Direction;
+import org.eclipse.elk.core.options.HierarchyHandling;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.eclipse.glsp.graph.GCompartment;
+import org.eclipse.glsp.graph.GEdge;
+import org.eclipse.glsp.graph.GLayouting;
+import org.eclipse.glsp.graph.GModelElement;
+import org.eclipse.glsp.graph.GModelRoot;
+import org.eclipse.glsp.graph.GNode;
+import org.eclipse.glsp.graph.GPoint;
+import org.eclipse.glsp.graph.util.GConstants;
+import org.eclipse.glsp.graph.util.GraphUtil;
+import org.eclipse.glsp.server.model.GModelIndex;
+
+import com.borkdominik.big.glsp.uml.core.launch.UMLServerWarmup;
+
+/**
+ * Transforms the nodes and edges of a GModel that are freely positioned (children of the graph or of freeform
+ * compartments) into an ELK graph. Both transformations wait until ELK has been initialized by the
+ * {@link UMLServerWarmup}.
+ */
+public class UMLLayoutTransformer {
+   public static final double DEFAULT_WIDTH = 120;
+   public static final double DEFAULT_HEIGHT = 60;
+
+   public UMLLayoutGraph transform(final GModelRoot root) {
+      UMLServerWarmup.awaitLayout();
+      var elkRoot = ElkGraphUtil.createGraph();
+      elkRoot.setIdentifier(root.getId());
+      configureRoot(elkRoot);
+
+      var graph = new UMLLayoutGraph(elkRoot);
+      var elements = new HashMap<String, GModelElement>();
+      root.eAllContents().forEachRemaining(content -> {
+         if (content instanceof GModelElement element && element.getId() != null) {
+            elements.put(element.getId(), element);
+         }
+      });
+
+      var edges = new ArrayList<GEdge>();
+      transformChildren(root, elkRoot, graph, edges);
+      edges.forEach(edge -> transformEdge(edge, graph, elements));
+
+      return graph;
+   }
+
+   /**
+    * Creates a graph that only contains the given (new) nodes and edges and the nodes directly connected to them. Each
+    * container (graph or freeform compartment) becomes a separate partition that is laid out interactively, i.e., the
+    * current positions are used as hints and the neighbours anchor the partition in the existing diagram.
+    */
+   public UMLIncrementalLayoutGraph transformIncremental(final GModelIndex index, final Collection<String> ids) {
+      UMLServerWarmup.awaitLayout();
+      var elkRoot = ElkGraphUtil.createGraph();
+      elkRoot.setIdentifier("incremental");
+      elkRoot.setProperty(CoreOptions.ALGORITHM, FixedLayouterOptions.ALGORITHM_ID);
+      elkRoot.setProperty(CoreOptions.HIERARCHY_HANDLING, HierarchyHandling.SEPARATE_CHILDREN);
+
+      var graph = new UMLIncrementalLayoutGraph(elkRoot);
+      var containers = new HashMap<GModelElement, ElkNode>();
+      var edges = new LinkedHashMap<String, GEdge>();
+
+      for (var id : ids) {
+         var element = index.get(id).orElse(null);
+         if (element instanceof GNode node && isLayoutContainer(node.getParent())) {
+            addToPartition(node, true, graph, containers);
+            collectEdges(node, index, edges);
+         } else if (element instanceof GEdge edge) {
+            edges.put(edge.getId(), edge);
+         }
+      }
+
+      for (var edge : edges.values()) {
+         var source = index.get(edge.getSourceId()).flatMap(this::layoutNodeOf);
+         var target = index.get(edge.getTargetId()).flatMap(this::layoutNodeOf);
+         if (source.isEmpty() || target.isEmpty() || source.get() == target.get()
+            || source.get().getParent() != target.get().getParent()) {
+            continue;
+         }
+
+         var elkSource = addToPartition(source.get(), ids.contains(source.get().getId()), graph, containers);
+         var elkTarget = addToPartition(target.get(), ids.contains(target.get().getId()), graph, containers);
+         var elkEdge = ElkGraphUtil.createSimpleEdge(elkSource, elkTarget);
+         ElkGraphUtil.updateContainment(elkEdge);
+         elkEdge.setIdentifier(edge.getId());
+      }
+
+      return graph;
+   }
+
+   protected ElkNode addToPartition(final GNode node, final boolean free, final UMLIncrementalLayoutGraph graph,
+      final Map<GModelElement, ElkNode> containers) {
+      var existing = graph.getNodes().get(node.getId());
+      if (existing != null) {
+         return existing;
+      }
+
+      var partition = containers.computeIfAbsent(node.getParent(), container -> {
+         var elkPartition = ElkGraphUtil.createNode(graph.getRoot());
+         elkPartition.setIdentifier(container.getId());
+         configurePartition(elkPartition);
+         graph.getPartitions().put(elkPartition, new LinkedHashSet<>());
+         return elkPartition;
+      });
+
+      var elkNode = transformNode(node, partition, graph);
+      graph.getPartitions().get(partition).add(node.getId());
+      if (free) {
+         graph.getFree().add(node.getId());
+      }
+      return elkNode;
+   }
+
+   protected void configurePartition(final ElkNode partition) {
+      partition.setProperty(CoreOptions.ALGORITHM, LayeredOptions.ALGORITHM_ID);
+      partition.setProperty(CoreOptions.DIRECTION, Direction.DOWN);
+      partition.setProperty(CoreOptions.SPACING_NODE_NODE, 40d);
+      partition.setProperty(LayeredOptions.SPACING_NODE_NODE_BETWEEN_LAYERS, 60d);
+      partition.setProperty(LayeredOptions.CYCLE_BREAKING_STRATEGY, CycleBreakingStrategy.INTERACTIVE);
+      partition.setProperty(LayeredOptions.LAYERING_STRATEGY, LayeringStrategy.INTERACTIVE);
+      partition.setProperty(LayeredOptions.CROSSING_MINIMIZATION_STRATEGY, CrossingMinimizationStrategy.INTERACTIVE);
+      // The existing nodes keep their layer, order and coordinate within the layer as far as possible
+      partition.setProperty(LayeredOptions.NODE_PLACEMENT_STRATEGY, NodePlacementStrategy.INTERACTIVE);
+      partition.setProperty(LayeredOptions.INTERACTIVE_REFERENCE_POINT, InteractiveReferencePoint.TOP_LEFT);
+   }
+
+   protected void collectEdges(final GNode node, final GModelIndex index, final Map<String, GEdge> edges) {
+      var connectables = new ArrayList<GModelElement>();
+      connectables.add(node);
+      node.eAllContents().forEachRemaining(content -> {
+         if (content instanceof GModelElement element && !(content instanceof GEdge)) {
+            connectables.add(element);
+         }
+      });
+
+      for (var connectable : connectables) {
+         index.getIncomingEdges(connectable).forEach(edge -> edges.put(edge.getId(), edge));
+         index.getOutgoingEdges(connectable).forEach(edge -> edges.put(edge.getId(), edge));
+      }
+   }
+
+   protected Optional<GNode> layoutNodeOf(final GModelElement element) {
+      for (var current = element; current != null; current = current.getParent()) {
+         if (current instanceof GNode node && isLayoutContainer(node.getParent())) {
+            return Optional.of(node);
+         }
+      }
+      return Optional.empty();
+   }
+
+   protected boolean isLayoutContainer(final GModelElement element) {
+      return element instanceof GModelRoot || element instanceof GCompartment && isFreeform(element);
+   }
+
+   protected void configureRoot(final ElkNode elkRoot) {
+      elkRoot.setProperty(CoreOptions.ALGORITHM, LayeredOptions.ALGORITHM_ID);
+      elkRoot.setProperty(CoreOptions.HIERARCHY_HANDLING, HierarchyHandling.INCLUDE_CHILDREN);
+      elkRoot.setProperty(CoreOptions.DIRECTION, Direction.DOWN);
+      elkRoot.setProperty(CoreOptions.SPACING_NODE_NODE, 40d);
+      elkRoot.setProperty(LayeredOptions.SPACING_NODE_NODE_BETWEEN_LAYERS, 60d);
+   }
+
+   protected void transformChildren(final GModelElement parent, final ElkNode elkParent, final UMLLayoutGraph graph,
+      final List<GEdge> edges) {
+      for (var child : parent.getChildren()) {
+         if (child instanceof GNode node) {
+            var elkNode = transformNode(node, elkParent, graph);
+            findFreeformCompartment(node).ifPresent(compartment -> {
+               var offset = offsetOf(compartment, node);
+               elkNode.setProperty(CoreOptions.PADDING, new ElkPadding(offset.getY(), 0, 0, offset.getX()));
+               transformChildren(compartment, elkNode, graph, edges);
+            });
+         } else if (child instanceof GEdge edge) {
+            edges.add(edge);
+         }
+      }
+   }
+
+   protected ElkNode transformNode(final GNode node, final ElkNode elkParent, final UMLLayoutGraph graph) {
+      var bounds = UMLLayoutBounds.of(node);
+      var elkNode = ElkGraphUtil.createNode(elkParent);
+      elkNode.setIdentifier(node.getId());
+      elkNode.setLocation(bounds.getX(), bounds.getY());
+      elkNode.setDimensions(bounds.hasSize() ? bounds.getWidth() : DEFAULT_WIDTH,
+         bounds.hasSize() ? bounds.getHeight() : DEFAULT_HEIGHT);
+
+      graph.getNodes().put(node.getId(), elkNode);
+      graph.getNodeSnapshots().put(node.getId(), bounds);
+      return elkNode;
+   }
+
+   protected void transformEdge(final GEdge edge, final UMLLayoutGraph graph,
+      final Map<String, GModelElement> elements) {
+      var source = layoutNodeOf(edge.getSourceId(), graph, elements);
+      var target = layoutNodeOf(edge.getTargetId(), graph, elements);
+      if (source.isEmpty() || target.isEmpty()) {
+         return;
+      }
+
+      var elkEdge = ElkGraphUtil.createSimpleEdge(graph.getNodes().get(source.get()),
+         graph.getNodes().get(target.get()));
+      ElkGraphUtil.updateContainment(elkEdge);
+      elkEdge.setIdentifier(edge.getId());
+
+      graph.getEdges().put(edge.getId(), elkEdge);
+      graph.getEdgeEnds().put(edge.getId(), new String[] { source.get(), target.get() });
+      graph.getEdgeSnapshots().put(edge.getId(), routingOf(edge));
+   }
+
+   /**
+    * Edges may be connected to elements within a node (e.g., properties), the nearest laid out ancestor is used.
+    */
+   protected Optional<String> layoutNodeOf(final String id, final UMLLayoutGraph graph,
+      final Map<String, GModelElement> elements) {
+      var element = elements.get(id);
+      while (element != null) {
+         if (graph.getNodes().containsKey(element.getId())) {
+            return Optional.of(element.getId());
+         }
+         element = element.getParent();
+      }
+      return Optional.empty();
+   }
+
+   protected Optional<GModelElement> findFreeformCompartment(final GModelElement element) {
+      for (var child : element.getChildren()) {
+         if (child instanceof GNode) {
+            continue;
+         }
+         if (child instanceof GCompartment && isFreeform(child)) {
+            return Optional.of(child);
+         }
+         var nested = findFreeformCompartment(child);
+         if (nested.isPresent()) {
+            return nested;
+         }
+      }
+      return Optional.empty();
+   }
+
+   protected boolean isFreeform(final GModelElement element) {
+      return element instanceof GLayouting layouting && GConstants.Layout.FREEFORM.equals(layouting.getLayout());
+   }
+
+   protected GPoint offsetOf(final GModelElement compartment, final GNode node) {
+      var x = 0d;
+      var y = 0d;
+      for (var current = compartment; current != null && current != node; current = current.getParent()) {
+         if (current instanceof GCompartment c && c.getPosition() != null) {
+            x += c.getPosition().getX();
+            y += c.getPosition().getY();
+         }
+      }
+      return GraphUtil.point(x, y);
+   }
+
+   public static String routingOf(final GEdge edge) {
+      return edge.getRoutingPoints().stream()
+         .map(point -> String.format("%.1f,%.1f", point.getX(), point.getY()))
+         .collect(Collectors.joining(";", edge.getSourceId() + "->" + edge.getTargetId() + ":", ""));
+   }
+}
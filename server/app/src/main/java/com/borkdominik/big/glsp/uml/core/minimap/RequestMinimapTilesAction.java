@@ -0,0 +1,43 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.minimap;
+
+import org.eclipse.glsp.server.actions.RequestAction;
+
+public class RequestMinimapTilesAction extends RequestAction<SetMinimapTilesAction> {
+   public static final String KIND = "requestMinimapTiles";
+
+   /** Zoom level of the tiles, the scale is 2^zoom. The whole model fits into a few tiles if no zoom is given. */
+   protected Integer zoom;
+   /** Area of the model to render, the whole model is rendered if no area is given */
+   protected Double x;
+   protected Double y;
+   protected Double width;
+   protected Double height;
+
+   public RequestMinimapTilesAction() {
+      super(KIND);
+   }
+
+   public Integer getZoom() { return zoom; }
+
+   public Double getX() { return x; }
+
+   public Double getY() { return y; }
+
+   public Double getWidth() { return width; }
+
+   public Double getHeight() { return height; }
+
+   public boolean hasArea() {
+      return x != null && y != null && width != null && height != null;
+   }
+}
@@ -0,0 +1,45 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.minimap;
+
+import java.util.List;
+
+import org.eclipse.glsp.server.actions.ResponseAction;
+
+public class SetMinimapTilesAction extends ResponseAction {
+   public static final String KIND = "setMinimapTiles";
+
+   protected int zoom;
+   protected double tileSize;
+   protected UMLMinimapBounds modelBounds;
+   protected List<UMLMinimapTile> tiles;
+
+   public SetMinimapTilesAction() {
+      super(KIND);
+   }
+
+   public SetMinimapTilesAction(final int zoom, final double tileSize, final UMLMinimapBounds modelBounds,
+      final List<UMLMinimapTile> tiles) {
+      this();
+      this.zoom = zoom;
+      this.tileSize = tileSize;
+      this.modelBounds = modelBounds;
+      this.tiles = tiles;
+   }
+
+   public int getZoom() { return zoom; }
+
+   public double getTileSize() { return tileSize; }
+
+   public UMLMinimapBounds getModelBounds() { return modelBounds; }
+
+   public List<UMLMinimapTile> getTiles() { return tiles; }
+}
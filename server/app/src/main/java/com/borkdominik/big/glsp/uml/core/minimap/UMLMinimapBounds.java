@@ -0,0 +1,46 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.minimap;
+
+public class UMLMinimapBounds {
+   protected final double x;
+   protected final double y;
+   protected final double width;
+   protected final double height;
+
+   public UMLMinimapBounds(final double x, final double y, final double width, final double height) {
+      this.x = x;
+      this.y = y;
+      this.width = width;
+      this.height = height;
+   }
+
+   public double getX() { return x; }
+
+   public double getY() { return y; }
+
+   public double getWidth() { return width; }
+
+   public double getHeight() { return height; }
+
+   public boolean intersects(final UMLMinimapBounds other) {
+      return x <= other.x + other.width && other.x <= x + width
+         && y <= other.y + other.height && other.y <= y + height;
+   }
+
+   public UMLMinimapBounds union(final UMLMinimapBounds other) {
+      var minX = Math.min(x, other.x);
+      var minY = Math.min(y, other.y);
+      return new UMLMinimapBounds(minX, minY,
+         Math.max(x + width, other.x + other.width) - minX,
+         Math.max(y + height, other.y + other.height) - minY);
+   }
+}
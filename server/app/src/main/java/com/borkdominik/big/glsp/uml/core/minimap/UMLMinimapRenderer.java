@@ -0,0 +1,297 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.minimap;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.glsp.graph.GBoundsAware;
+import org.eclipse.glsp.graph.GEdge;
+import org.eclipse.glsp.graph.GModelElement;
+import org.eclipse.glsp.graph.GModelRoot;
+import org.eclipse.glsp.graph.GNode;
+import org.eclipse.glsp.graph.GPoint;
+
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.google.inject.Inject;
+
+/**
+ * Renders a simplified minimap of the GModel (rectangles for nodes, polylines for edges) into square SVG tiles.
+ * Rendered tiles are cached per zoom level. When the GModel has been rebuilt, the shapes are compared with the
+ * previous ones and only the tiles intersecting changed shapes are dropped.
+ */
+public class UMLMinimapRenderer {
+   public static final String CACHE_SIZE_PROPERTY = "bigUML.minimap.cache.size";
+   public static final int DEFAULT_CACHE_SIZE = 512;
+   /** Size of a tile in pixels, a tile covers TILE_SIZE / 2^zoom model units */
+   public static final double TILE_SIZE = 256;
+   public static final int MIN_ZOOM = -8;
+   public static final int MAX_ZOOM = 2;
+   public static final int MAX_TILES = 256;
+   protected static final double CELL_SIZE = 256;
+   protected static final String STYLE = "<style>"
+      + ".node{fill:#e8e8e8;stroke:#707070;vector-effect:non-scaling-stroke}"
+      + ".edge{fill:none;stroke:#909090;vector-effect:non-scaling-stroke}"
+      + "</style>";
+
+   @Inject
+   protected BGEMFModelState modelState;
+
+   protected final int cacheSize = Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE);
+   protected final Map<TileKey, UMLMinimapTile> tiles = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<TileKey, UMLMinimapTile> eldest) {
+         return size() > cacheSize;
+      }
+   };
+
+   protected GModelRoot renderedRoot;
+   protected Map<String, Shape> shapes = Map.of();
+   protected Map<Long, List<Shape>> cells = Map.of();
+   protected UMLMinimapBounds modelBounds;
+
+   public synchronized SetMinimapTilesAction render(final Integer requestedZoom, final UMLMinimapBounds area) {
+      update();
+
+      if (modelBounds == null) {
+         var zoom = requestedZoom == null ? 0 : clampZoom(requestedZoom);
+         return new SetMinimapTilesAction(zoom, TILE_SIZE / Math.pow(2, zoom), null, List.of());
+      }
+
+      var zoom = requestedZoom == null ? fitZoom(modelBounds) : clampZoom(requestedZoom);
+      var size = TILE_SIZE / Math.pow(2, zoom);
+      var bounds = area == null ? modelBounds : area;
+
+      var minX = (int) Math.floor(bounds.getX() / size);
+      var minY = (int) Math.floor(bounds.getY() / size);
+      var maxX = (int) Math.floor((bounds.getX() + bounds.getWidth()) / size);
+      var maxY = (int) Math.floor((bounds.getY() + bounds.getHeight()) / size);
+
+      var result = new ArrayList<UMLMinimapTile>();
+      for (var y = minY; y <= maxY && result.size() < MAX_TILES; y++) {
+         for (var x = minX; x <= maxX && result.size() < MAX_TILES; x++) {
+            var key = new TileKey(zoom, x, y);
+            var tile = tiles.get(key);
+            if (tile == null) {
+               tile = renderTile(zoom, x, y, size);
+               tiles.put(key, tile);
+            }
+            result.add(tile);
+         }
+      }
+      return new SetMinimapTilesAction(zoom, size, modelBounds, result);
+   }
+
+   protected int fitZoom(final UMLMinimapBounds bounds) {
+      // Fit the model into roughly 2x2 tiles
+      var extent = Math.max(1, Math.max(bounds.getWidth(), bounds.getHeight()));
+      return clampZoom((int) Math.floor(Math.log(2 * TILE_SIZE / extent) / Math.log(2)));
+   }
+
+   protected int clampZoom(final int zoom) {
+      return Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+   }
+
+   protected UMLMinimapTile renderTile(final int zoom, final int x, final int y, final double size) {
+      var bounds = new UMLMinimapBounds(x * size, y * size, size, size);
+      var svg = new StringBuilder(String.format(Locale.ROOT,
+         "<svg xmlns=\"http://www.w3.org/2000/svg\" x=\"%1$.1f\" y=\"%2$.1f\" width=\"%3$.1f\" height=\"%3$.1f\" "
+            + "viewBox=\"%1$.1f %2$.1f %3$.1f %3$.1f\">",
+         bounds.getX(), bounds.getY(), size));
+      svg.append(STYLE);
+      query(bounds).forEach(shape -> svg.append(shape.svg));
+      svg.append("</svg>");
+      return new UMLMinimapTile(zoom, x, y, size, svg.toString());
+   }
+
+   protected List<Shape> query(final UMLMinimapBounds bounds) {
+      var minX = cell(bounds.getX());
+      var minY = cell(bounds.getY());
+      var maxX = cell(bounds.getX() + bounds.getWidth());
+      var maxY = cell(bounds.getY() + bounds.getHeight());
+
+      Set<Shape> result = new LinkedHashSet<>();
+      if ((long) (maxX - minX + 1) * (maxY - minY + 1) > cells.size()) {
+         shapes.values().stream().filter(shape -> shape.bounds.intersects(bounds)).forEach(result::add);
+      } else {
+         for (var x = minX; x <= maxX; x++) {
+            for (var y = minY; y <= maxY; y++) {
+               cells.getOrDefault(cellKey(x, y), List.of()).stream()
+                  .filter(shape -> shape.bounds.intersects(bounds))
+                  .forEach(result::add);
+            }
+         }
+      }
+
+      var sorted = new ArrayList<>(result);
+      sorted.sort(Comparator.comparingInt(shape -> shape.order));
+      return sorted;
+   }
+
+   /**
+    * Collects the shapes of the current GModel and drops the cached tiles that intersect added, removed or changed
+    * shapes.
+    */
+   protected void update() {
+      var root = modelState.getRoot();
+      if (root == renderedRoot) {
+         return;
+      }
+      renderedRoot = root;
+
+      var current = collectShapes(root);
+      var touched = new ArrayList<UMLMinimapBounds>();
+      shapes.forEach((id, previous) -> {
+         var shape = current.get(id);
+         if (shape == null || !shape.svg.equals(previous.svg)) {
+            touched.add(previous.bounds);
+         }
+      });
+      current.forEach((id, shape) -> {
+         var previous = shapes.get(id);
+         if (previous == null || !previous.svg.equals(shape.svg)) {
+            touched.add(shape.bounds);
+         }
+      });
+
+      if (!touched.isEmpty()) {
+         tiles.values().removeIf(tile -> {
+            var bounds = tile.getBounds();
+            return touched.stream().anyMatch(bounds::intersects);
+         });
+      }
+
+      shapes = current;
+      cells = new HashMap<>();
+      modelBounds = null;
+      for (var shape : current.values()) {
+         modelBounds = modelBounds == null ? shape.bounds : modelBounds.union(shape.bounds);
+         var b = shape.bounds;
+         for (var x = cell(b.getX()); x <= cell(b.getX() + b.getWidth()); x++) {
+            for (var y = cell(b.getY()); y <= cell(b.getY() + b.getHeight()); y++) {
+               cells.computeIfAbsent(cellKey(x, y), key -> new ArrayList<>()).add(shape);
+            }
+         }
+      }
+   }
+
+   protected Map<String, Shape> collectShapes(final GModelRoot root) {
+      var result = new LinkedHashMap<String, Shape>();
+      if (root == null) {
+         return result;
+      }
+
+      var nodes = new HashMap<String, UMLMinimapBounds>();
+      var edges = new ArrayList<Map.Entry<GEdge, double[]>>();
+      collectNodes(root, 0, 0, nodes, edges, result);
+      for (var entry : edges) {
+         var edge = entry.getKey();
+         var offset = entry.getValue();
+         var points = new ArrayList<double[]>();
+         center(nodes.get(edge.getSourceId())).ifPresent(points::add);
+         for (GPoint point : edge.getRoutingPoints()) {
+            points.add(new double[] { offset[0] + point.getX(), offset[1] + point.getY() });
+         }
+         center(nodes.get(edge.getTargetId())).ifPresent(points::add);
+         if (points.size() >= 2) {
+            result.put(edge.getId(), polyline(edge, points, result.size()));
+         }
+      }
+      return result;
+   }
+
+   protected void collectNodes(final GModelElement parent, final double offsetX, final double offsetY,
+      final Map<String, UMLMinimapBounds> nodes, final List<Map.Entry<GEdge, double[]>> edges,
+      final Map<String, Shape> result) {
+      for (var child : parent.getChildren()) {
+         if (child instanceof GEdge edge) {
+            edges.add(Map.entry(edge, new double[] { offsetX, offsetY }));
+         } else if (child instanceof GBoundsAware element && element.getPosition() != null) {
+            // Children without a position are placed by the client layouter and cannot be rendered
+            var x = offsetX + element.getPosition().getX();
+            var y = offsetY + element.getPosition().getY();
+            var size = element.getSize();
+            if (child instanceof GNode && size != null && size.getWidth() > 0 && size.getHeight() > 0) {
+               var bounds = new UMLMinimapBounds(x, y, size.getWidth(), size.getHeight());
+               nodes.put(child.getId(), bounds);
+               result.put(child.getId(), rect(child, bounds, result.size()));
+            }
+            collectNodes(child, x, y, nodes, edges, result);
+         }
+      }
+   }
+
+   protected Shape rect(final GModelElement element, final UMLMinimapBounds bounds, final int order) {
+      var svg = String.format(Locale.ROOT,
+         "<rect class=\"node %s\" x=\"%.1f\" y=\"%.1f\" width=\"%.1f\" height=\"%.1f\"/>",
+         cssClass(element), bounds.getX(), bounds.getY(), bounds.getWidth(), bounds.getHeight());
+      return new Shape(bounds, svg, order);
+   }
+
+   protected Shape polyline(final GEdge edge, final List<double[]> points, final int order) {
+      var minX = Double.MAX_VALUE;
+      var minY = Double.MAX_VALUE;
+      var maxX = -Double.MAX_VALUE;
+      var maxY = -Double.MAX_VALUE;
+      var svg = new StringBuilder("<polyline class=\"edge ").append(cssClass(edge)).append("\" points=\"");
+      for (var point : points) {
+         minX = Math.min(minX, point[0]);
+         minY = Math.min(minY, point[1]);
+         maxX = Math.max(maxX, point[0]);
+         maxY = Math.max(maxY, point[1]);
+         svg.append(String.format(Locale.ROOT, "%.1f,%.1f ", point[0], point[1]));
+      }
+      svg.append("\"/>");
+      // Edges are drawn above all nodes
+      return new Shape(new UMLMinimapBounds(minX, minY, maxX - minX, maxY - minY), svg.toString(),
+         Integer.MAX_VALUE / 2 + order);
+   }
+
+   protected Optional<double[]> center(final UMLMinimapBounds bounds) {
+      return Optional.ofNullable(bounds)
+         .map(b -> new double[] { b.getX() + b.getWidth() / 2, b.getY() + b.getHeight() / 2 });
+   }
+
+   protected String cssClass(final GModelElement element) {
+      return Objects.toString(element.getType(), "").replaceAll("[^\\w-]", "-");
+   }
+
+   protected int cell(final double coordinate) {
+      return (int) Math.floor(coordinate / CELL_SIZE);
+   }
+
+   protected long cellKey(final int x, final int y) {
+      return ((long) x << 32) | (y & 0xffffffffL);
+   }
+
+   protected static class Shape {
+      protected final UMLMinimapBounds bounds;
+      protected final String svg;
+      protected final int order;
+
+      Shape(final UMLMinimapBounds bounds, final String svg, final int order) {
+         this.bounds = bounds;
+         this.svg = svg;
+         this.order = order;
+      }
+   }
+
+   protected record TileKey(int zoom, int x, int y) {}
+}
@@ -0,0 +1,43 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.minimap;
+
+/**
+ * Rendered tile of the minimap. The SVG uses model coordinates, the tile covers the square starting at
+ * <code>(x * size, y * size)</code>.
+ */
+public class UMLMinimapTile {
+   protected final int zoom;
+   protected final int x;
+   protected final int y;
+   protected final double size;
+   protected final String svg;
+
+   public UMLMinimapTile(final int zoom, final int x, final int y, final double size, final String svg) {
+      this.zoom = zoom;
+      this.x = x;
+      this.y = y;
+      this.size = size;
+      this.svg = svg;
+   }
+
+   public int getZoom() { return zoom; }
+
+   public int getX() { return x; }
+
+   public int getY() { return y; }
+
+   public double getSize() { return size; }
+
+   public String getSvg() { return svg; }
+
+   public UMLMinimapBounds getBounds() { return new UMLMinimapBounds(x * size, y * size, size, size); }
+}
@@ -19,6 +19,9 @@ import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.domain.EditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
 import org.eclipse.glsp.server.emf.EMFIdGenerator;
 import org.eclipse.glsp.server.emf.model.notation.NotationFactory;
 import org.eclipse.glsp.server.features.core.model.RequestModelAction;
@@ -29,6 +32,16 @@ import org.eclipse.uml2.uml.UMLPackage;
 
 import com.borkdominik.big.glsp.server.core.handler.action.new_file.BGRequestNewFileAction;
 import com.borkdominik.big.glsp.server.core.model.integrations.BGEMFSourceModelStorage;
+import com.borkdominik.big.glsp.uml.core.launch.UMLStartupMetrics;
+import com.borkdominik.big.glsp.uml.core.model.history.UMLCommandStack;
+import com.borkdominik.big.glsp.uml.core.model.index.UMLInheritanceIndex;
+import com.borkdominik.big.glsp.uml.core.model.index.UMLInverseReferenceIndex;
+import com.borkdominik.big.glsp.uml.core.model.index.UMLModelIndex;
+import com.borkdominik.big.glsp.uml.core.model.pool.UMLModelPoolSession;
+import com.borkdominik.big.glsp.uml.core.outline.UMLOutlineProvider;
+import com.borkdominik.big.glsp.uml.core.search.UMLSearchIndex;
+import com.borkdominik.big.glsp.uml.core.sync.UMLResourceSync;
+import com.borkdominik.big.glsp.uml.core.validation.UMLValidationEngine;
 import com.borkdominik.big.glsp.uml.unotation.UMLDiagram;
 import com.borkdominik.big.glsp.uml.unotation.UnotationFactory;
 import com.borkdominik.big.glsp.uml.unotation.UnotationPackage;
@@ -42,6 +55,33 @@ public class UMLSourceModelStorage extends BGEMFSourceModelStorage {
    @Inject
    protected UMLModelMigrator migrator;
 
+   @Inject
+   protected UMLModelPoolSession modelPoolSession;
+
+   @Inject
+   protected UMLCommandStack commandStack;
+
+   @Inject
+   protected UMLValidationEngine validationEngine;
+
+   @Inject
+   protected UMLInheritanceIndex inheritanceIndex;
+
+   @Inject
+   protected UMLInverseReferenceIndex inverseReferenceIndex;
+
+   @Inject
+   protected UMLModelIndex modelIndex;
+
+   @Inject
+   protected UMLSearchIndex searchIndex;
+
+   @Inject
+   protected UMLOutlineProvider outlineProvider;
+
+   @Inject
+   protected UMLResourceSync resourceSync;
+
    @Override
    protected ResourceSet setupResourceSet(final ResourceSet resourceSet) {
       super.setupResourceSet(resourceSet);
@@ -50,6 +90,37 @@ public class UMLSourceModelStorage extends BGEMFSourceModelStorage {
       return resourceSet;
    }
 
+   @Override
+   protected EditingDomain createEditingDomain(final ResourceSet resourceSet) {
+      // The editing domain is created with the bounded command stack, it is not replaced afterwards
+      var adapterFactory = new ComposedAdapterFactory(ComposedAdapterFactory.Descriptor.Registry.INSTANCE);
+      return new AdapterFactoryEditingDomain(adapterFactory, commandStack, resourceSet);
+   }
+
+   @Override
+   public void loadSourceModel(final RequestModelAction action) {
+      super.loadSourceModel(action);
+      commandStack.install();
+      inheritanceIndex.install();
+      inverseReferenceIndex.install();
+      modelIndex.install();
+      searchIndex.install();
+      outlineProvider.install();
+      resourceSync.install();
+      validationEngine.install();
+
+      UMLStartupMetrics.markModelLoaded(String.valueOf(action.getOptions().get("sourceUri")));
+   }
+
+   @Override
+   protected void doLoadSourceModel(final ResourceSet resourceSet, final URI sourceURI,
+      final RequestModelAction action) {
+      // Reuse the resources of a recently closed model if they are still in the pool
+      modelPoolSession.adopt(resourceSet, sourceURI);
+
+      super.doLoadSourceModel(resourceSet, sourceURI, action);
+   }
+
    @Override
    protected void loadNotationModel(ResourceSet resourceSet, URI sourceURI, RequestModelAction action) {
       // Migrate the notation model file if necessary
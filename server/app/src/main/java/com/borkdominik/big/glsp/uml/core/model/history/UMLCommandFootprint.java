@@ -0,0 +1,87 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.model.history;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Records the changes made while a command is executed: their number and, if all changes concern the same feature of
+ * the same element, that feature.
+ */
+public class UMLCommandFootprint extends EContentAdapter {
+   protected boolean recording;
+   protected int changes;
+   protected Touch touch;
+   protected boolean multiple;
+
+   public synchronized void start() {
+      recording = true;
+      changes = 0;
+      touch = null;
+      multiple = false;
+   }
+
+   public synchronized void stop() {
+      recording = false;
+   }
+
+   public synchronized int getChanges() { return changes; }
+
+   /**
+    * Returns the single element feature touched by the last command, or <code>null</code> if it touched several or
+    * changed the containment.
+    */
+   public synchronized Touch getTouch() { return multiple ? null : touch; }
+
+   @Override
+   public void notifyChanged(final Notification notification) {
+      super.notifyChanged(notification);
+
+      synchronized (this) {
+         if (!recording || notification.isTouch()) {
+            return;
+         }
+
+         changes++;
+         if (multiple) {
+            return;
+         }
+
+         var eventType = notification.getEventType();
+         if (!(notification.getNotifier() instanceof EObject notifier) || notification.getFeature() == null
+            || (eventType != Notification.SET && eventType != Notification.UNSET)) {
+            multiple = true;
+            return;
+         }
+
+         var current = new Touch(notifier, notification.getFeature());
+         if (touch == null) {
+            touch = current;
+         } else if (!touch.equals(current)) {
+            multiple = true;
+         }
+      }
+   }
+
+   public record Touch(EObject element, Object feature) {
+      @Override
+      public boolean equals(final Object other) {
+         return other instanceof Touch touch && touch.element == element && touch.feature == feature;
+      }
+
+      @Override
+      public int hashCode() {
+         return System.identityHashCode(element) * 31 + System.identityHashCode(feature);
+      }
+   }
+}
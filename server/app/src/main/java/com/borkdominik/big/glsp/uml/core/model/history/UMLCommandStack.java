@@ -0,0 +1,348 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.model.history;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.command.Command;
+import org.eclipse.emf.common.command.CompoundCommand;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.glsp.server.types.GLSPServerException;
+
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.borkdominik.big.glsp.uml.core.layout.UMLCreatedElementsAdapter;
+import com.google.inject.Inject;
+
+/**
+ * Command stack with a bounded undo history.
+ * <ul>
+ * <li>The retained memory of every command is estimated from the number of model changes (notifications) it made,
+ * the actual heap usage is not measured. The oldest commands are dropped when the estimated size exceeds the
+ * budget.</li>
+ * <li>Consecutive commands that change the same feature of the same element within the coalescing window are merged
+ * into one undo entry.</li>
+ * </ul>
+ */
+public class UMLCommandStack extends BasicCommandStack {
+   private static final Logger LOGGER = LogManager.getLogger(UMLCommandStack.class);
+
+   public static final String BUDGET_PROPERTY = "bigUML.undo.budget";
+   public static final long DEFAULT_BUDGET_MB = 64;
+   public static final String COALESCE_PROPERTY = "bigUML.undo.coalesce";
+   public static final long DEFAULT_COALESCE_MS = 1500;
+   protected static final long BYTES_PER_COMMAND = 512;
+   protected static final long BYTES_PER_CHANGE = 256;
+
+   @Inject
+   protected BGEMFModelState modelState;
+
+   protected final long budget = Long.getLong(BUDGET_PROPERTY, DEFAULT_BUDGET_MB) * 1024 * 1024;
+   protected final long coalesceWindow = Long.getLong(COALESCE_PROPERTY, DEFAULT_COALESCE_MS);
+   protected final UMLCommandFootprint recorder = new UMLCommandFootprint();
+   protected final Map<Command, Long> sizes = new IdentityHashMap<>();
+   /** Commands are executed under the write lock, so that readers on other threads see a consistent model */
+   protected final ReadWriteLock lock = new ReentrantReadWriteLock();
+   protected long size;
+   protected volatile long revision;
+   protected volatile long executed;
+
+   protected Command lastExecuted;
+   protected UMLCommandFootprint.Touch lastTouch;
+   protected long lastExecutedAt;
+   protected List<Command> group;
+   protected ResourceSet resourceSet;
+   /** Error of the command that is being executed, {@link BasicCommandStack} only logs it */
+   protected Exception failure;
+
+   /**
+    * Starts recording the changes of the loaded model. The editing domain is created with this stack by the source
+    * model storage. On a reload the history of the previous model is discarded, its commands reference unloaded
+    * elements.
+    */
+   public void install() {
+      var editingDomain = modelState.getEditingDomain();
+      if (editingDomain.getCommandStack() != this) {
+         LOGGER.warn("The editing domain " + editingDomain.getClass().getName()
+            + " uses another command stack, the undo history is not bounded");
+         return;
+      }
+
+      if (resourceSet == editingDomain.getResourceSet()) {
+         return;
+      }
+
+      uninstall();
+      resourceSet = editingDomain.getResourceSet();
+      resourceSet.eAdapters().add(recorder);
+   }
+
+   /**
+    * Detaches the stack from the model of a disposed session and discards the history.
+    */
+   public void uninstall() {
+      if (resourceSet != null) {
+         resourceSet.eAdapters().remove(recorder);
+         resourceSet = null;
+      }
+      flush();
+   }
+
+   /**
+    * Executes the command. A command that fails is rethrown after the lock is released, so that the failure reaches
+    * the action that executed it instead of only being logged.
+    */
+   @Override
+   public void execute(final Command command) {
+      Exception error;
+      lock.writeLock().lock();
+      try {
+         failure = null;
+         doExecute(command);
+         error = failure;
+         failure = null;
+      } finally {
+         // A failed command may have changed the model before it failed
+         revision++;
+         lock.writeLock().unlock();
+      }
+
+      if (error != null) {
+         var label = command.getLabel() != null ? command.getLabel() : command.getClass().getSimpleName();
+         throw new GLSPServerException("Command '" + label + "' failed: " + error.getMessage(), error);
+      }
+   }
+
+   protected void doExecute(final Command command) {
+      if (group != null) {
+         // Executed without notifying the listeners, the group is added as one command
+         if (command != null && command.canExecute()) {
+            command.execute();
+            group.add(command);
+            executed++;
+         }
+         return;
+      }
+
+      recorder.start();
+      try {
+         super.execute(command);
+      } finally {
+         recorder.stop();
+      }
+
+      if (mostRecentCommand != command) {
+         // The command could not be executed
+         return;
+      }
+      executed++;
+
+      var touch = recorder.getTouch();
+      var now = System.currentTimeMillis();
+      sizes.put(command, BYTES_PER_COMMAND + recorder.getChanges() * BYTES_PER_CHANGE);
+
+      if (canCoalesce(touch, now)) {
+         coalesce();
+      }
+
+      lastExecuted = mostRecentCommand;
+      lastTouch = touch;
+      lastExecutedAt = now;
+      trim();
+   }
+
+   @Override
+   protected void handleError(final Exception exception) {
+      // Reported by execute instead of only being logged
+      failure = exception;
+   }
+
+   @Override
+   public void undo() {
+      lock.writeLock().lock();
+      try {
+         lastExecuted = null;
+         super.undo();
+         revision++;
+         // Undone and redone elements are not laid out incrementally
+         UMLCreatedElementsAdapter.reset(modelState.getSemanticModel());
+      } finally {
+         lock.writeLock().unlock();
+      }
+   }
+
+   @Override
+   public void redo() {
+      lock.writeLock().lock();
+      try {
+         lastExecuted = null;
+         super.redo();
+         revision++;
+         UMLCreatedElementsAdapter.reset(modelState.getSemanticModel());
+      } finally {
+         lock.writeLock().unlock();
+      }
+   }
+
+   @Override
+   public void flush() {
+      lock.writeLock().lock();
+      try {
+         super.flush();
+         sizes.clear();
+         size = 0;
+         lastExecuted = null;
+         lastTouch = null;
+         revision++;
+      } finally {
+         lock.writeLock().unlock();
+      }
+   }
+
+   /**
+    * Adds all commands executed by the runnable as a single entry to the history. The listeners are notified once
+    * after the runnable has finished. If the runnable fails, the commands it executed are undone, like a failed batch
+    * operation.
+    */
+   public void group(final String label, final Runnable runnable) {
+      lock.writeLock().lock();
+      try {
+         if (group != null) {
+            runnable.run();
+            return;
+         }
+
+         var executed = new ArrayList<Command>();
+         group = executed;
+         recorder.start();
+         try {
+            runnable.run();
+         } catch (RuntimeException e) {
+            // Leave the model as it was
+            for (var index = executed.size() - 1; index >= 0; index--) {
+               executed.get(index).undo();
+            }
+            executed.forEach(Command::dispose);
+            executed.clear();
+            throw e;
+         } finally {
+            recorder.stop();
+            group = null;
+            if (!executed.isEmpty()) {
+               var compound = new CompoundCommand(label, executed);
+               push(compound);
+               sizes.put(compound, BYTES_PER_COMMAND * executed.size() + recorder.getChanges() * BYTES_PER_CHANGE);
+               lastExecuted = null;
+               trim();
+               revision++;
+            }
+         }
+      } finally {
+         lock.writeLock().unlock();
+      }
+   }
+
+   /**
+    * Adds an already executed command, like {@link BasicCommandStack#execute(Command)} does after execution.
+    */
+   protected void push(final Command command) {
+      for (var iterator = commandList.listIterator(top + 1); iterator.hasNext();) {
+         iterator.next().dispose();
+         iterator.remove();
+      }
+      commandList.add(command);
+      top++;
+      mostRecentCommand = command;
+      if (saveIndex >= top) {
+         saveIndex = -2;
+      }
+      notifyListeners();
+   }
+
+   /**
+    * Runs the reader while no command is executed.
+    */
+   public <T> T read(final Supplier<T> reader) {
+      lock.readLock().lock();
+      try {
+         return reader.get();
+      } finally {
+         lock.readLock().unlock();
+      }
+   }
+
+   /** Number of executed, undone and redone commands, including the ones that failed */
+   public long getRevision() { return revision; }
+
+   /** Number of commands that were executed successfully */
+   public long getExecuted() { return executed; }
+
+   public long getEstimatedSize() { return size; }
+
+   protected boolean canCoalesce(final UMLCommandFootprint.Touch touch, final long now) {
+      return touch != null && touch.equals(lastTouch)
+         && now - lastExecutedAt <= coalesceWindow
+         && top >= 1 && commandList.get(top - 1) == lastExecuted
+         // The saved state must stay reachable
+         && saveIndex != top - 1;
+   }
+
+   protected void coalesce() {
+      var previous = commandList.get(top - 1);
+      var current = commandList.get(top);
+      var merged = new CompoundCommand(current.getLabel(), current.getDescription(), List.of(previous, current));
+
+      commandList.remove(top);
+      commandList.set(top - 1, merged);
+      top--;
+      mostRecentCommand = merged;
+
+      var previousSize = sizes.remove(previous);
+      var currentSize = sizes.remove(current);
+      sizes.put(merged, (previousSize == null ? 0 : previousSize) + (currentSize == null ? 0 : currentSize));
+   }
+
+   /**
+    * Forgets the sizes of disposed commands and drops the oldest commands until the history fits into the budget.
+    */
+   protected void trim() {
+      Set<Command> retained = Collections.newSetFromMap(new IdentityHashMap<>());
+      retained.addAll(commandList);
+      sizes.keySet().retainAll(retained);
+      size = sizes.values().stream().mapToLong(Long::longValue).sum();
+
+      var dropped = 0;
+      while (size > budget && top > 0) {
+         var oldest = commandList.remove(0);
+         top--;
+         // A saved state that was dropped can not be reached by undo anymore
+         saveIndex = saveIndex >= 0 ? saveIndex - 1 : -2;
+         var oldestSize = sizes.remove(oldest);
+         size -= oldestSize == null ? 0 : oldestSize;
+         oldest.dispose();
+         dropped++;
+      }
+      if (dropped > 0) {
+         LOGGER.debug(String.format("Dropped %d undo entries, the history retains about %d KB", dropped,
+            size / 1024));
+      }
+   }
+}
@@ -0,0 +1,236 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.model.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.uml2.uml.Classifier;
+import org.eclipse.uml2.uml.Generalization;
+import org.eclipse.uml2.uml.InterfaceRealization;
+import org.eclipse.uml2.uml.Property;
+import org.eclipse.uml2.uml.UMLPackage;
+
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.google.inject.Inject;
+
+/**
+ * Transitive closure of the generalizations and interface realizations of a model. The closure is updated
+ * incrementally whenever such a relationship is added, removed or reconnected, therefore subtype queries do not have
+ * to walk the generalization graph.
+ */
+public class UMLInheritanceIndex extends EContentAdapter {
+   protected final Map<EObject, Edge> relations = new HashMap<>();
+   protected final Map<Classifier, List<Classifier>> generals = new HashMap<>();
+   protected final Map<Classifier, Set<Classifier>> ancestors = new HashMap<>();
+   protected final Map<Classifier, Set<Classifier>> descendants = new HashMap<>();
+   @Inject
+   protected BGEMFModelState modelState;
+
+   protected ResourceSet resourceSet;
+
+   public synchronized void install() {
+      uninstall();
+      resourceSet = modelState.getResourceSet();
+      resourceSet.eAdapters().add(this);
+   }
+
+   public synchronized void uninstall() {
+      if (resourceSet != null) {
+         resourceSet.eAdapters().remove(this);
+         resourceSet = null;
+      }
+      relations.clear();
+      generals.clear();
+      ancestors.clear();
+      descendants.clear();
+   }
+
+   /**
+    * Returns the index of the session the element belongs to, the index observes every element of the model.
+    */
+   public static Optional<UMLInheritanceIndex> of(final EObject element) {
+      return element.eAdapters().stream()
+         .filter(UMLInheritanceIndex.class::isInstance)
+         .map(UMLInheritanceIndex.class::cast)
+         .findFirst();
+   }
+
+   public synchronized boolean isSubtypeOf(final Classifier specific, final Classifier general) {
+      return ancestors.getOrDefault(specific, Set.of()).contains(general);
+   }
+
+   public synchronized Set<Classifier> getAncestors(final Classifier classifier) {
+      return Set.copyOf(ancestors.getOrDefault(classifier, Set.of()));
+   }
+
+   public synchronized Set<Classifier> getDescendants(final Classifier classifier) {
+      return Set.copyOf(descendants.getOrDefault(classifier, Set.of()));
+   }
+
+   /**
+    * Returns <code>true</code> if a generalization from specific to general would close a cycle.
+    */
+   public synchronized boolean wouldCreateCycle(final Classifier specific, final Classifier general) {
+      return specific == general || isSubtypeOf(general, specific);
+   }
+
+   public synchronized List<Property> getInheritedAttributes(final Classifier classifier) {
+      var result = new ArrayList<Property>();
+      ancestors.getOrDefault(classifier, Set.of()).stream()
+         .filter(ancestor -> ancestor != classifier)
+         .forEach(ancestor -> result.addAll(ancestor.getAttributes()));
+      return result;
+   }
+
+   @Override
+   protected void setTarget(final EObject target) {
+      super.setTarget(target);
+      update(target);
+   }
+
+   @Override
+   protected void unsetTarget(final EObject target) {
+      super.unsetTarget(target);
+      remove(target);
+   }
+
+   @Override
+   public void notifyChanged(final Notification notification) {
+      super.notifyChanged(notification);
+
+      if (notification.isTouch() || !(notification.getFeature() instanceof EReference reference)) {
+         return;
+      }
+
+      if (reference == UMLPackage.Literals.GENERALIZATION__GENERAL
+         || reference == UMLPackage.Literals.INTERFACE_REALIZATION__CONTRACT
+         || reference == UMLPackage.Literals.INTERFACE_REALIZATION__IMPLEMENTING_CLASSIFIER) {
+         update((EObject) notification.getNotifier());
+      }
+   }
+
+   protected synchronized void update(final EObject relation) {
+      if (!(relation instanceof Generalization) && !(relation instanceof InterfaceRealization)) {
+         return;
+      }
+
+      var current = edgeOf(relation);
+      var previous = Optional.ofNullable(relations.get(relation));
+      if (previous.equals(current)) {
+         return;
+      }
+
+      previous.ifPresent(edge -> {
+         relations.remove(relation);
+         removeEdge(edge);
+      });
+      current.ifPresent(edge -> {
+         relations.put(relation, edge);
+         addEdge(edge);
+      });
+   }
+
+   protected synchronized void remove(final EObject relation) {
+      var previous = relations.remove(relation);
+      if (previous != null) {
+         removeEdge(previous);
+      }
+   }
+
+   protected Optional<Edge> edgeOf(final EObject relation) {
+      if (relation instanceof Generalization generalization && generalization.getSpecific() != null
+         && generalization.getGeneral() != null) {
+         return Optional.of(new Edge(generalization.getSpecific(), generalization.getGeneral()));
+      }
+      if (relation instanceof InterfaceRealization realization && realization.getImplementingClassifier() != null
+         && realization.getContract() != null) {
+         return Optional.of(new Edge(realization.getImplementingClassifier(), realization.getContract()));
+      }
+      return Optional.empty();
+   }
+
+   protected void addEdge(final Edge edge) {
+      generals.computeIfAbsent(edge.specific(), key -> new ArrayList<>()).add(edge.general());
+
+      var added = new LinkedHashSet<Classifier>();
+      added.add(edge.general());
+      added.addAll(ancestors.getOrDefault(edge.general(), Set.of()));
+
+      var affected = new LinkedHashSet<Classifier>();
+      affected.add(edge.specific());
+      affected.addAll(descendants.getOrDefault(edge.specific(), Set.of()));
+
+      affected.forEach(classifier -> ancestors.computeIfAbsent(classifier, key -> new LinkedHashSet<>()).addAll(added));
+      added.forEach(classifier -> descendants.computeIfAbsent(classifier, key -> new LinkedHashSet<>())
+         .addAll(affected));
+   }
+
+   protected void removeEdge(final Edge edge) {
+      var direct = generals.get(edge.specific());
+      if (direct == null || !direct.remove(edge.general())) {
+         return;
+      }
+
+      var affected = new LinkedHashSet<Classifier>();
+      affected.add(edge.specific());
+      affected.addAll(descendants.getOrDefault(edge.specific(), Set.of()));
+
+      // Only the closures of the specific classifier and its descendants can shrink
+      for (var classifier : affected) {
+         var previous = ancestors.remove(classifier);
+         if (previous != null) {
+            previous.forEach(ancestor -> {
+               var ancestorDescendants = descendants.get(ancestor);
+               if (ancestorDescendants != null) {
+                  ancestorDescendants.remove(classifier);
+               }
+            });
+         }
+      }
+
+      for (var classifier : affected) {
+         var closure = closureOf(classifier);
+         if (!closure.isEmpty()) {
+            ancestors.put(classifier, closure);
+            closure.forEach(ancestor -> descendants.computeIfAbsent(ancestor, key -> new LinkedHashSet<>())
+               .add(classifier));
+         }
+      }
+   }
+
+   protected Set<Classifier> closureOf(final Classifier classifier) {
+      var result = new LinkedHashSet<Classifier>();
+      var queue = new ArrayDeque<Classifier>();
+      queue.add(classifier);
+      while (!queue.isEmpty()) {
+         for (var general : generals.getOrDefault(queue.poll(), List.of())) {
+            if (result.add(general)) {
+               queue.add(general);
+            }
+         }
+      }
+      return result;
+   }
+
+   protected record Edge(Classifier specific, Classifier general) {}
+}
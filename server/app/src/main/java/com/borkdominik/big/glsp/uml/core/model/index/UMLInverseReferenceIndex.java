@@ -0,0 +1,199 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.model.index;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.glsp.server.emf.EMFIdGenerator;
+import org.eclipse.glsp.server.emf.model.notation.NotationElement;
+import org.eclipse.glsp.server.emf.model.notation.NotationPackage;
+import org.eclipse.glsp.server.emf.model.notation.SemanticElementReference;
+
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.google.inject.Inject;
+
+/**
+ * Inverse reference index for the semantic and notation resources of a client session.
+ * <ul>
+ * <li>Semantic references are maintained by the cross reference adapter. Proxies are never resolved and read-only
+ * library resources (e.g., the UML primitive types) are not indexed.</li>
+ * <li>Notation elements reference their semantic element by id, they are indexed by that id.</li>
+ * </ul>
+ * As the index is attached to the resource set, it is also used by EMF commands that look up an
+ * {@link ECrossReferenceAdapter} (e.g., the delete command of EMF.Edit).
+ */
+public class UMLInverseReferenceIndex extends ECrossReferenceAdapter {
+
+   @Inject
+   protected BGEMFModelState modelState;
+
+   @Inject
+   protected EMFIdGenerator idGenerator;
+
+   protected final Map<String, Set<NotationElement>> notationElements = new HashMap<>();
+   protected final Map<NotationElement, String> notationIds = new HashMap<>();
+   protected ResourceSet resourceSet;
+
+   public synchronized void install() {
+      uninstall();
+      resourceSet = modelState.getResourceSet();
+      resourceSet.eAdapters().add(this);
+   }
+
+   public synchronized void uninstall() {
+      if (resourceSet != null) {
+         resourceSet.eAdapters().remove(this);
+         resourceSet = null;
+      }
+      notationElements.clear();
+      notationIds.clear();
+   }
+
+   /**
+    * Returns the elements that reference the given element with one of the references (or any reference if none is
+    * given).
+    */
+   public Set<EObject> getReferencingElements(final EObject element, final EReference... references) {
+      var filter = Set.of(references);
+      return getNonNavigableInverseReferences(element, false).stream()
+         .filter(setting -> filter.isEmpty() || filter.contains(setting.getEStructuralFeature()))
+         .map(Setting::getEObject)
+         .collect(Collectors.toCollection(LinkedHashSet::new));
+   }
+
+   public Set<NotationElement> getNotationElements(final EObject semanticElement) {
+      return getNotationElements(idGenerator.getOrCreateId(semanticElement));
+   }
+
+   public synchronized Set<NotationElement> getNotationElements(final String semanticElementId) {
+      return Set.copyOf(notationElements.getOrDefault(semanticElementId, Set.of()));
+   }
+
+   /**
+    * Deletes the semantic elements and their contents and removes every reference to a deleted element, including
+    * bidirectional references (e.g., <code>Association.memberEnd</code>). Same result as
+    * {@link EcoreUtil#delete(EObject, boolean)}, but the references are taken from the index instead of scanning the
+    * resource set for every element. Notation elements are not changed, see {@link #getNotationElements(EObject)}.
+    */
+   public void delete(final Collection<? extends EObject> elements) {
+      var deleted = new LinkedHashSet<EObject>();
+      for (var element : elements) {
+         deleted.add(element);
+         element.eAllContents().forEachRemaining(deleted::add);
+      }
+
+      for (var element : deleted) {
+         // Inverse references also contain the eOpposites and the containment, which is removed below
+         for (var setting : List.copyOf(getInverseReferences(element, false))) {
+            var reference = (EReference) setting.getEStructuralFeature();
+            if (isRemovable(reference) && !deleted.contains(setting.getEObject())) {
+               EcoreUtil.remove(setting, element);
+            }
+         }
+      }
+
+      elements.forEach(EcoreUtil::remove);
+   }
+
+   protected boolean isRemovable(final EReference reference) {
+      return reference.isChangeable() && !reference.isDerived() && !reference.isContainment();
+   }
+
+   @Override
+   protected boolean resolve() {
+      return false;
+   }
+
+   @Override
+   protected void addAdapter(final Notifier notifier) {
+      if (notifier instanceof Resource resource && isLibrary(resource)) {
+         return;
+      }
+      super.addAdapter(notifier);
+   }
+
+   protected boolean isLibrary(final Resource resource) {
+      var uri = resource.getURI();
+      return uri != null && ("pathmap".equals(uri.scheme()) || uri.isPlatformPlugin());
+   }
+
+   @Override
+   protected void setTarget(final EObject target) {
+      super.setTarget(target);
+      if (target instanceof NotationElement notation) {
+         indexNotation(notation, idOf(notation));
+      }
+   }
+
+   @Override
+   protected void unsetTarget(final EObject target) {
+      super.unsetTarget(target);
+      if (target instanceof NotationElement notation) {
+         unindexNotation(notation);
+      }
+   }
+
+   @Override
+   public void notifyChanged(final Notification notification) {
+      super.notifyChanged(notification);
+
+      if (notification.isTouch()) {
+         return;
+      }
+
+      var feature = notification.getFeature();
+      if (feature == NotationPackage.Literals.NOTATION_ELEMENT__SEMANTIC_ELEMENT
+         && notification.getNotifier() instanceof NotationElement notation) {
+         unindexNotation(notation);
+         indexNotation(notation, idOf(notation));
+      } else if (feature == NotationPackage.Literals.SEMANTIC_ELEMENT_REFERENCE__ELEMENT_ID
+         && notification.getNotifier() instanceof SemanticElementReference reference
+         && reference.eContainer() instanceof NotationElement notation) {
+         unindexNotation(notation);
+         indexNotation(notation, notification.getNewStringValue());
+      }
+   }
+
+   protected String idOf(final NotationElement notation) {
+      var reference = notation.getSemanticElement();
+      return reference == null ? null : reference.getElementId();
+   }
+
+   protected synchronized void indexNotation(final NotationElement notation, final String id) {
+      if (id != null) {
+         notationElements.computeIfAbsent(id, key -> new LinkedHashSet<>()).add(notation);
+         notationIds.put(notation, id);
+      }
+   }
+
+   protected synchronized void unindexNotation(final NotationElement notation) {
+      var id = notationIds.remove(notation);
+      var notations = id == null ? null : notationElements.get(id);
+      if (notations != null && notations.remove(notation) && notations.isEmpty()) {
+         notationElements.remove(id);
+      }
+   }
+}
@@ -0,0 +1,217 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.model.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.uml2.uml.NamedElement;
+import org.eclipse.uml2.uml.UMLPackage;
+
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.google.inject.Inject;
+
+/**
+ * Extent and name index of all elements of the model of a session, updated incrementally on every change. Use
+ * {@link #query(Class)} to search it.
+ */
+public class UMLModelIndex extends EContentAdapter {
+   protected final Map<EClass, Set<EObject>> extents = new HashMap<>();
+   protected final Map<String, Set<NamedElement>> names = new HashMap<>();
+   protected final Map<EObject, Map<String, Set<NamedElement>>> namesByOwner = new HashMap<>();
+   protected final Map<NamedElement, EObject> owners = new HashMap<>();
+   protected final Map<Class<?>, List<EClass>> eClasses = new ConcurrentHashMap<>();
+   /** Not the index itself, so that other code can not block the index by synchronizing on the adapter */
+   private final Object lock = new Object();
+
+   @Inject
+   protected BGEMFModelState modelState;
+
+   protected ResourceSet resourceSet;
+
+   public void install() {
+      synchronized (lock) {
+         uninstall();
+         resourceSet = modelState.getResourceSet();
+         resourceSet.eAdapters().add(this);
+      }
+   }
+
+   public void uninstall() {
+      synchronized (lock) {
+         if (resourceSet != null) {
+            resourceSet.eAdapters().remove(this);
+            resourceSet = null;
+         }
+         extents.clear();
+         names.clear();
+         namesByOwner.clear();
+         owners.clear();
+         eClasses.clear();
+      }
+   }
+
+   /**
+    * Returns the index installed on the resource set, if the resource set belongs to a session.
+    */
+   public static Optional<UMLModelIndex> of(final ResourceSet resourceSet) {
+      return Optional.ofNullable((UMLModelIndex) EcoreUtil.getExistingAdapter(resourceSet, UMLModelIndex.class));
+   }
+
+   public <T extends EObject> UMLModelQuery<T> query(final Class<T> type) {
+      return new UMLModelQuery<>(this, type);
+   }
+
+   @Override
+   public boolean isAdapterForType(final Object type) {
+      return type == UMLModelIndex.class;
+   }
+
+   public <T extends EObject> List<T> getInstances(final Class<T> type) {
+      synchronized (lock) {
+         var result = new ArrayList<T>();
+         eClassesOf(type).forEach(eClass -> extents.getOrDefault(eClass, Set.of()).forEach(
+            element -> result.add(type.cast(element))));
+         return result;
+      }
+   }
+
+   public List<NamedElement> getNamed(final String name) {
+      synchronized (lock) {
+         return List.copyOf(names.getOrDefault(name, Set.of()));
+      }
+   }
+
+   public List<NamedElement> getNamed(final EObject owner, final String name) {
+      synchronized (lock) {
+         return List.copyOf(namesByOwner.getOrDefault(owner, Map.of()).getOrDefault(name, Set.of()));
+      }
+   }
+
+   public List<NamedElement> getOwned(final EObject owner) {
+      synchronized (lock) {
+         var result = new ArrayList<NamedElement>();
+         namesByOwner.getOrDefault(owner, Map.of()).values().forEach(result::addAll);
+         return result;
+      }
+   }
+
+   protected List<EClass> eClassesOf(final Class<?> type) {
+      return eClasses.computeIfAbsent(type, key -> extents.keySet().stream()
+         .filter(eClass -> eClass.getInstanceClass() != null && key.isAssignableFrom(eClass.getInstanceClass()))
+         .toList());
+   }
+
+   @Override
+   protected void setTarget(final EObject target) {
+      super.setTarget(target);
+      add(target);
+   }
+
+   @Override
+   protected void unsetTarget(final EObject target) {
+      super.unsetTarget(target);
+      remove(target);
+   }
+
+   @Override
+   public void notifyChanged(final Notification notification) {
+      super.notifyChanged(notification);
+
+      if (!notification.isTouch() && notification.getFeature() == UMLPackage.Literals.NAMED_ELEMENT__NAME
+         && notification.getNotifier() instanceof NamedElement element) {
+         synchronized (lock) {
+            unindexName(element, notification.getOldStringValue());
+            indexName(element, notification.getNewStringValue());
+         }
+      }
+   }
+
+   protected void add(final EObject element) {
+      synchronized (lock) {
+         var extent = extents.get(element.eClass());
+         if (extent == null) {
+            extent = new LinkedHashSet<>();
+            extents.put(element.eClass(), extent);
+            // A new EClass may be part of the extent of already queried types
+            eClasses.clear();
+         }
+         extent.add(element);
+
+         if (element instanceof NamedElement named) {
+            indexName(named, named.getName());
+         }
+      }
+   }
+
+   protected void remove(final EObject element) {
+      synchronized (lock) {
+         var extent = extents.get(element.eClass());
+         if (extent != null) {
+            extent.remove(element);
+         }
+
+         if (element instanceof NamedElement named) {
+            unindexName(named, named.getName());
+         }
+      }
+   }
+
+   protected void indexName(final NamedElement element, final String name) {
+      if (name == null) {
+         return;
+      }
+      names.computeIfAbsent(name, key -> new LinkedHashSet<>()).add(element);
+      if (element.eContainer() != null) {
+         owners.put(element, element.eContainer());
+         namesByOwner.computeIfAbsent(element.eContainer(), key -> new HashMap<>())
+            .computeIfAbsent(name, key -> new LinkedHashSet<>()).add(element);
+      }
+   }
+
+   protected void unindexName(final NamedElement element, final String name) {
+      if (name == null) {
+         return;
+      }
+      removeFrom(names, name, element);
+
+      // The element may already have been removed from its container, the indexed owner is used instead
+      var owner = owners.remove(element);
+      var byName = owner == null ? null : namesByOwner.get(owner);
+      if (byName != null && removeFrom(byName, name, element) && byName.isEmpty()) {
+         namesByOwner.remove(owner);
+      }
+   }
+
+   protected boolean removeFrom(final Map<String, Set<NamedElement>> byName, final String name,
+      final NamedElement element) {
+      var elements = byName.get(name);
+      if (elements == null || !elements.remove(element)) {
+         return false;
+      }
+      if (elements.isEmpty()) {
+         byName.remove(name);
+      }
+      return true;
+   }
+}
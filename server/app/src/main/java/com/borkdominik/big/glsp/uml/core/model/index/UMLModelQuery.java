@@ -0,0 +1,98 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.model.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.uml2.uml.Element;
+
+/**
+ * Fluent query over a {@link UMLModelIndex}. The most selective index (owner and name, name or extent) is used to find
+ * the candidates, the remaining conditions are checked on the candidates only.
+ *
+ * <pre>
+ * modelIndex.query(DataType.class).named("String").first();
+ * </pre>
+ */
+public class UMLModelQuery<T extends EObject> {
+   protected final UMLModelIndex index;
+   protected final Class<T> type;
+   protected final List<Predicate<T>> filters = new ArrayList<>();
+   protected String name;
+   protected EObject owner;
+
+   public UMLModelQuery(final UMLModelIndex index, final Class<T> type) {
+      this.index = index;
+      this.type = type;
+   }
+
+   public UMLModelQuery<T> named(final String name) {
+      this.name = name;
+      return this;
+   }
+
+   public UMLModelQuery<T> ownedBy(final EObject owner) {
+      this.owner = owner;
+      return this;
+   }
+
+   public UMLModelQuery<T> inResource(final Resource resource) {
+      return where(element -> element.eResource() == resource);
+   }
+
+   public UMLModelQuery<T> withStereotype(final String stereotypeName) {
+      return where(element -> element instanceof Element umlElement && umlElement.getAppliedStereotypes().stream()
+         .anyMatch(stereotype -> stereotypeName.equals(stereotype.getName())
+            || stereotypeName.equals(stereotype.getQualifiedName())));
+   }
+
+   public UMLModelQuery<T> where(final Predicate<T> filter) {
+      filters.add(filter);
+      return this;
+   }
+
+   public Stream<T> stream() {
+      return candidates().stream()
+         .filter(type::isInstance)
+         .map(type::cast)
+         .filter(element -> owner == null || element.eContainer() == owner)
+         .filter(element -> filters.stream().allMatch(filter -> filter.test(element)));
+   }
+
+   public List<T> list() {
+      return stream().collect(Collectors.toList());
+   }
+
+   public Optional<T> first() {
+      return stream().findFirst();
+   }
+
+   protected Collection<? extends EObject> candidates() {
+      if (name != null && owner != null) {
+         return index.getNamed(owner, name);
+      }
+      if (name != null) {
+         return index.getNamed(name);
+      }
+      if (owner != null) {
+         return owner.eContents();
+      }
+      return index.getInstances(type);
+   }
+}
@@ -0,0 +1,171 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.model.pool;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.glsp.graph.GModelRoot;
+
+/**
+ * Server wide pool that keeps the resources and the last built GModel of recently closed models loaded. A model that
+ * is opened again is taken from the pool instead of being parsed from disk. The pool is bounded by an estimated memory
+ * budget, the least recently used models are unloaded first.
+ */
+public class UMLModelPool {
+   public static final String BUDGET_PROPERTY = "bigUML.modelPool.budget";
+   public static final long DEFAULT_BUDGET_MB = 256;
+   protected static final long BYTES_PER_ELEMENT = 512;
+
+   protected final Map<URI, UMLModelPoolEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+   protected final long budget;
+   protected long size;
+   protected long hits;
+   protected long misses;
+   protected long evictions;
+
+   public UMLModelPool() {
+      this(Long.getLong(BUDGET_PROPERTY, DEFAULT_BUDGET_MB) * 1024 * 1024);
+   }
+
+   public UMLModelPool(final long budget) {
+      this.budget = budget;
+   }
+
+   /**
+    * Removes the model of the given source from the pool. The entry is only returned if none of its resources has been
+    * changed on disk since it was parked.
+    */
+   public synchronized Optional<UMLModelPoolEntry> checkout(final URI sourceURI) {
+      var entry = entries.remove(sourceURI);
+      if (entry == null) {
+         misses++;
+         return Optional.empty();
+      }
+
+      size -= entry.getEstimatedSize();
+
+      if (!isUpToDate(entry)) {
+         misses++;
+         unload(entry);
+         return Optional.empty();
+      }
+
+      hits++;
+      return Optional.of(entry);
+   }
+
+   /**
+    * Moves the resources into the pool. The resources are detached from their current resource set.
+    */
+   public synchronized void park(final URI sourceURI, final List<Resource> resources, final GModelRoot root) {
+      if (budget <= 0 || resources.isEmpty()) {
+         resources.forEach(Resource::unload);
+         return;
+      }
+
+      var previous = entries.remove(sourceURI);
+      if (previous != null) {
+         size -= previous.getEstimatedSize();
+         unload(previous);
+      }
+
+      var parked = new ArrayList<Resource>(resources);
+      var timestamps = new HashMap<URI, Long>();
+      var estimatedSize = 0L;
+      for (var resource : parked) {
+         var resourceSet = resource.getResourceSet();
+         if (resourceSet != null) {
+            resourceSet.getResources().remove(resource);
+         }
+         lastModified(resource.getURI()).ifPresent(timestamp -> timestamps.put(resource.getURI(), timestamp));
+         estimatedSize += estimateSize(resource);
+      }
+
+      var entry = new UMLModelPoolEntry(sourceURI, parked, root, timestamps, estimatedSize);
+      entries.put(sourceURI, entry);
+      size += estimatedSize;
+
+      evict();
+   }
+
+   public synchronized void invalidate(final URI sourceURI) {
+      var entry = entries.remove(sourceURI);
+      if (entry != null) {
+         size -= entry.getEstimatedSize();
+         unload(entry);
+      }
+   }
+
+   public synchronized UMLModelPoolMetrics getMetrics() {
+      return new UMLModelPoolMetrics(hits, misses, evictions, entries.size(), size, budget);
+   }
+
+   protected void evict() {
+      var iterator = entries.values().iterator();
+      while (size > budget && iterator.hasNext()) {
+         var eldest = iterator.next();
+         iterator.remove();
+         size -= eldest.getEstimatedSize();
+         evictions++;
+         unload(eldest);
+      }
+   }
+
+   /**
+    * Discards the resources without saving. Only clean models are parked and a stale entry must never overwrite the
+    * newer file on disk.
+    */
+   protected void unload(final UMLModelPoolEntry entry) {
+      entry.getResources().forEach(Resource::unload);
+   }
+
+   protected boolean isUpToDate(final UMLModelPoolEntry entry) {
+      for (var timestamp : entry.getTimestamps().entrySet()) {
+         var current = lastModified(timestamp.getKey());
+         if (current.isEmpty() || !current.get().equals(timestamp.getValue())) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   protected long estimateSize(final Resource resource) {
+      var elements = 0L;
+      var contents = resource.getAllContents();
+      while (contents.hasNext()) {
+         contents.next();
+         elements++;
+      }
+      return elements * BYTES_PER_ELEMENT;
+   }
+
+   protected Optional<Long> lastModified(final URI uri) {
+      if (!uri.isFile()) {
+         return Optional.empty();
+      }
+
+      try {
+         return Optional.of(Files.getLastModifiedTime(Path.of(uri.toFileString())).toMillis());
+      } catch (IOException e) {
+         return Optional.empty();
+      }
+   }
+}
@@ -0,0 +1,46 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.model.pool;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.glsp.graph.GModelRoot;
+
+public class UMLModelPoolEntry {
+   protected final URI sourceURI;
+   protected final List<Resource> resources;
+   protected final GModelRoot root;
+   protected final Map<URI, Long> timestamps;
+   protected final long estimatedSize;
+
+   public UMLModelPoolEntry(final URI sourceURI, final List<Resource> resources, final GModelRoot root,
+      final Map<URI, Long> timestamps, final long estimatedSize) {
+      this.sourceURI = sourceURI;
+      this.resources = resources;
+      this.root = root;
+      this.timestamps = timestamps;
+      this.estimatedSize = estimatedSize;
+   }
+
+   public URI getSourceURI() { return sourceURI; }
+
+   public List<Resource> getResources() { return resources; }
+
+   public Optional<GModelRoot> getRoot() { return Optional.ofNullable(root); }
+
+   public Map<URI, Long> getTimestamps() { return timestamps; }
+
+   public long getEstimatedSize() { return estimatedSize; }
+}
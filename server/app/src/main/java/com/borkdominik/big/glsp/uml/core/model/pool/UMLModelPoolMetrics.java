@@ -0,0 +1,55 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.model.pool;
+
+public class UMLModelPoolMetrics {
+   protected long hits;
+   protected long misses;
+   protected long evictions;
+   protected int entries;
+   protected long size;
+   protected long budget;
+
+   public UMLModelPoolMetrics() {}
+
+   public UMLModelPoolMetrics(final long hits, final long misses, final long evictions, final int entries,
+      final long size, final long budget) {
+      this.hits = hits;
+      this.misses = misses;
+      this.evictions = evictions;
+      this.entries = entries;
+      this.size = size;
+      this.budget = budget;
+   }
+
+   public long getHits() { return hits; }
+
+   public long getMisses() { return misses; }
+
+   public long getEvictions() { return evictions; }
+
+   public int getEntries() { return entries; }
+
+   public long getSize() { return size; }
+
+   public long getBudget() { return budget; }
+
+   public double getHitRatio() {
+      var total = hits + misses;
+      return total == 0 ? 0 : (double) hits / total;
+   }
+
+   @Override
+   public String toString() {
+      return String.format("UMLModelPoolMetrics(hits=%d, misses=%d, evictions=%d, entries=%d, size=%d, budget=%d)",
+         hits, misses, evictions, entries, size, budget);
+   }
+}
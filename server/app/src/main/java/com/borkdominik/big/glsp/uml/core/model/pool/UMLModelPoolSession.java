@@ -0,0 +1,151 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.model.pool;
+
+import java.util.ArrayList;
+import java.util.Optional;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.glsp.graph.GModelRoot;
+import org.eclipse.glsp.server.di.ClientId;
+import org.eclipse.glsp.server.session.ClientSession;
+import org.eclipse.glsp.server.session.ClientSessionListener;
+import org.eclipse.glsp.server.session.ClientSessionManager;
+
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.borkdominik.big.glsp.uml.core.layout.UMLCreatedElementsAdapter;
+import com.borkdominik.big.glsp.uml.core.model.history.UMLCommandStack;
+import com.borkdominik.big.glsp.uml.core.model.index.UMLInheritanceIndex;
+import com.borkdominik.big.glsp.uml.core.model.index.UMLInverseReferenceIndex;
+import com.borkdominik.big.glsp.uml.core.model.index.UMLModelIndex;
+import com.borkdominik.big.glsp.uml.core.outline.UMLOutlineProvider;
+import com.borkdominik.big.glsp.uml.core.search.UMLSearchIndex;
+import com.borkdominik.big.glsp.uml.core.sync.UMLResourceSync;
+import com.borkdominik.big.glsp.uml.core.validation.UMLValidationEngine;
+import com.borkdominik.big.glsp.uml.uml.elements.type.TypeChoiceCache;
+import com.google.inject.Inject;
+
+/**
+ * Connects a client session with the {@link UMLModelPool}. Pooled resources are adopted when the model is loaded and
+ * the clean model is parked again when the session is disposed. The adapters of the session are removed before, a
+ * parked model must not reference the disposed session.
+ */
+public class UMLModelPoolSession implements ClientSessionListener {
+
+   @Inject
+   protected UMLModelPool modelPool;
+
+   @Inject
+   protected BGEMFModelState modelState;
+
+   @Inject
+   protected ClientSessionManager sessionManager;
+
+   @Inject
+   @ClientId
+   protected String clientId;
+
+   @Inject
+   protected UMLCommandStack commandStack;
+
+   @Inject
+   protected UMLInheritanceIndex inheritanceIndex;
+
+   @Inject
+   protected UMLInverseReferenceIndex inverseReferenceIndex;
+
+   @Inject
+   protected UMLModelIndex modelIndex;
+
+   @Inject
+   protected UMLSearchIndex searchIndex;
+
+   @Inject
+   protected UMLOutlineProvider outlineProvider;
+
+   @Inject
+   protected UMLResourceSync resourceSync;
+
+   @Inject
+   protected UMLValidationEngine validationEngine;
+
+   @Inject
+   protected TypeChoiceCache typeChoices;
+
+   protected URI sourceURI;
+   protected GModelRoot pooledRoot;
+   protected boolean listening;
+
+   public void adopt(final ResourceSet resourceSet, final URI sourceURI) {
+      this.sourceURI = sourceURI;
+
+      modelPool.checkout(sourceURI).ifPresent(entry -> {
+         resourceSet.getResources().addAll(entry.getResources());
+         pooledRoot = entry.getRoot().orElse(null);
+      });
+
+      if (!listening) {
+         sessionManager.addListener(this, clientId);
+         listening = true;
+      }
+   }
+
+   public Optional<GModelRoot> takePooledRoot() {
+      var root = Optional.ofNullable(pooledRoot);
+      pooledRoot = null;
+      return root;
+   }
+
+   @Override
+   public void sessionDisposed(final ClientSession clientSession) {
+      sessionManager.removeListener(this);
+      listening = false;
+
+      if (sourceURI == null) {
+         return;
+      }
+
+      var resourceSet = modelState.getResourceSet();
+      var dirty = isDirty();
+      uninstall();
+      if (dirty) {
+         // Unsaved changes have been discarded by the user, only clean models are reused
+         modelPool.invalidate(sourceURI);
+         return;
+      }
+
+      modelPool.park(sourceURI, new ArrayList<>(resourceSet.getResources()), modelState.getRoot());
+   }
+
+   /**
+    * Removes the adapters and listeners of the session, in the reverse order of
+    * {@link com.borkdominik.big.glsp.uml.core.model.UMLSourceModelStorage#loadSourceModel}.
+    */
+   protected void uninstall() {
+      typeChoices.uninstall();
+      validationEngine.uninstall();
+      resourceSync.uninstall();
+      outlineProvider.uninstall();
+      searchIndex.uninstall();
+      modelIndex.uninstall();
+      inverseReferenceIndex.uninstall();
+      inheritanceIndex.uninstall();
+      commandStack.uninstall();
+      UMLCreatedElementsAdapter.remove(modelState.getSemanticModel());
+   }
+
+   protected boolean isDirty() {
+      var commandStack = modelState.getEditingDomain().getCommandStack();
+      return commandStack instanceof BasicCommandStack basic && basic.isSaveNeeded();
+   }
+}
@@ -0,0 +1,64 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.model.snapshot;
+
+import java.util.Optional;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+
+/**
+ * Copy of the semantic and notation models at a command stack revision. The copy is detached from the editing domain
+ * and may be read from any thread. It is owned by the job that took it and shared with no other job.
+ */
+public class UMLModelSnapshot {
+   protected final long revision;
+   protected final ResourceSet resourceSet;
+   protected final EObject semanticModel;
+   protected final EObject notationModel;
+
+   public UMLModelSnapshot(final long revision, final ResourceSet resourceSet, final EObject semanticModel,
+      final EObject notationModel) {
+      this.revision = revision;
+      this.resourceSet = resourceSet;
+      this.semanticModel = semanticModel;
+      this.notationModel = notationModel;
+   }
+
+   public long getRevision() { return revision; }
+
+   public ResourceSet getResourceSet() { return resourceSet; }
+
+   public EObject getSemanticModel() { return semanticModel; }
+
+   public Optional<EObject> getNotationModel() { return Optional.ofNullable(notationModel); }
+
+   /**
+    * Returns the copy of the element with the given id. The copies keep the ids of the live model.
+    */
+   public Optional<EObject> getElement(final String id) {
+      for (Resource resource : resourceSet.getResources()) {
+         var element = resource.getEObject(id);
+         if (element != null) {
+            return Optional.of(element);
+         }
+      }
+      return Optional.empty();
+   }
+
+   public Optional<String> getId(final EObject element) {
+      return element.eResource() instanceof XMLResource resource
+         ? Optional.ofNullable(resource.getID(element))
+         : Optional.empty();
+   }
+}
@@ -0,0 +1,90 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.model.snapshot;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.borkdominik.big.glsp.uml.core.model.history.UMLCommandStack;
+import com.borkdominik.big.glsp.uml.unotation.UMLDiagram;
+import com.google.inject.Inject;
+
+/**
+ * Provides copies of the loaded model for explicit, long running background jobs (text export, code generation) that
+ * should neither block commands nor see them half way. A copy costs as much memory as the model and is taken under the
+ * read lock of the command stack, therefore frequent jobs read the live model under
+ * {@link UMLCommandStack#read(java.util.function.Supplier)} instead.
+ */
+public class UMLModelSnapshots {
+
+   @Inject
+   protected BGEMFModelState modelState;
+
+   @Inject
+   protected UMLCommandStack commandStack;
+
+   /**
+    * Copies the model of the current command stack revision. The copy belongs to the caller and is not retained. Can be
+    * called from any thread.
+    */
+   public UMLModelSnapshot take() {
+      if (modelState.getEditingDomain().getCommandStack() != commandStack) {
+         // Without the bounded command stack there is no revision
+         return copy(-1);
+      }
+      return commandStack.read(() -> copy(commandStack.getRevision()));
+   }
+
+   protected UMLModelSnapshot copy(final long revision) {
+      var source = modelState.getResourceSet();
+      var target = new ResourceSetImpl();
+      target.setPackageRegistry(source.getPackageRegistry());
+      target.setResourceFactoryRegistry(source.getResourceFactoryRegistry());
+      target.setURIConverter(source.getURIConverter());
+
+      // Library resources (e.g. the primitive types) are not copied, the copies reference the originals
+      var resources = new ArrayList<Resource>();
+      for (var resource : source.getResources()) {
+         var uri = resource.getURI();
+         if (uri != null && !"pathmap".equals(uri.scheme()) && !uri.isPlatformPlugin()) {
+            resources.add(resource);
+         }
+      }
+
+      var copies = new HashMap<Resource, Resource>();
+      var copier = new EcoreUtil.Copier();
+      for (var resource : resources) {
+         var copy = target.createResource(resource.getURI());
+         copy.getContents().addAll(copier.copyAll(resource.getContents()));
+         copies.put(resource, copy);
+      }
+      copier.copyReferences();
+
+      // Keep the ids, so that the copies can be matched with the live elements
+      copier.forEach((element, copy) -> {
+         if (element.eResource() instanceof XMLResource original
+            && copies.get(original) instanceof XMLResource resource) {
+            resource.setID(copy, original.getID(element));
+         }
+      });
+
+      var semanticModel = copier.get(modelState.getSemanticModel());
+      EObject notationModel = modelState.getNotationModel(UMLDiagram.class).map(copier::get).orElse(null);
+      return new UMLModelSnapshot(revision, target, semanticModel, notationModel);
+   }
+}
@@ -0,0 +1,51 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.nli;
+
+import org.eclipse.glsp.server.actions.ResponseAction;
+
+/**
+ * Answers a {@link RequestLocalIntentAction}. If the command was not handled, the client falls back to the external
+ * intent service. A handled command that failed during execution carries the error.
+ */
+public class LocalIntentResponseAction extends ResponseAction {
+   public static final String KIND = "localIntentResponse";
+
+   protected boolean handled;
+   protected String intent;
+   protected String message;
+   protected String error;
+
+   public LocalIntentResponseAction() {
+      super(KIND);
+   }
+
+   public LocalIntentResponseAction(final boolean handled, final String intent, final String message) {
+      this();
+      this.handled = handled;
+      this.intent = intent;
+      this.message = message;
+   }
+
+   public LocalIntentResponseAction(final boolean handled, final String intent, final String message,
+      final String error) {
+      this(handled, intent, message);
+      this.error = error;
+   }
+
+   public boolean isHandled() { return handled; }
+
+   public String getIntent() { return intent; }
+
+   public String getMessage() { return message; }
+
+   public String getError() { return error; }
+}
@@ -0,0 +1,28 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.nli;
+
+import org.eclipse.glsp.server.actions.RequestAction;
+
+public class RequestLocalIntentAction extends RequestAction<LocalIntentResponseAction> {
+   public static final String KIND = "requestLocalIntent";
+
+   protected String text;
+   protected String contextId;
+
+   public RequestLocalIntentAction() {
+      super(KIND);
+   }
+
+   public String getText() { return text; }
+
+   public String getContextId() { return contextId; }
+}
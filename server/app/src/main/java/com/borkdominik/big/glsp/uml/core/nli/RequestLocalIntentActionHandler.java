@@ -0,0 +1,89 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.nli;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.glsp.server.actions.AbstractActionHandler;
+import org.eclipse.glsp.server.actions.Action;
+import org.eclipse.glsp.server.actions.ActionDispatcher;
+import org.eclipse.glsp.server.types.GLSPServerException;
+
+import com.borkdominik.big.glsp.uml.core.layout.LayoutCreatedElementsAction;
+import com.borkdominik.big.glsp.uml.core.model.history.UMLCommandStack;
+import com.google.inject.Inject;
+
+/**
+ * Executes a locally parsed intent. The response is sent once the resulting operations have been executed, so that
+ * the client learns whether the command succeeded and never asks the external intent service for the same command.
+ * The command succeeded only if it reached the command stack without an error.
+ */
+public class RequestLocalIntentActionHandler extends AbstractActionHandler<RequestLocalIntentAction> {
+   private static final Logger LOGGER = LogManager.getLogger(RequestLocalIntentActionHandler.class);
+
+   @Inject
+   protected UMLIntentParser parser;
+
+   @Inject
+   protected UMLIntentInterpreter interpreter;
+
+   @Inject
+   protected ActionDispatcher actionDispatcher;
+
+   @Inject
+   protected UMLCommandStack commandStack;
+
+   @Override
+   protected List<Action> executeAction(final RequestLocalIntentAction action) {
+      if (!interpreter.supportsRepresentation()) {
+         return listOf(new LocalIntentResponseAction(false, null, "Unsupported representation"));
+      }
+
+      var intent = parser.parse(action.getText());
+      if (intent.isEmpty()) {
+         return listOf(new LocalIntentResponseAction(false, null, "Unknown command"));
+      }
+
+      var kind = intent.get().getKind().name();
+      List<Action> actions;
+      try {
+         actions = interpreter.interpret(intent.get(), action.getContextId());
+      } catch (GLSPServerException e) {
+         LOGGER.debug("Local intent " + intent.get() + " not applicable: " + e.getMessage());
+         return listOf(new LocalIntentResponseAction(false, kind, e.getMessage()));
+      }
+
+      // The operations are queued behind this request, the response follows once they have been executed
+      var before = commandStack.getExecuted();
+      var executed = actionDispatcher.dispatchAll(actions);
+      CompletableFuture.allOf(executed.toArray(CompletableFuture[]::new)).whenComplete((result, error) -> {
+         String message = null;
+         if (error != null) {
+            var cause = error.getCause() != null ? error.getCause() : error;
+            LOGGER.warn("Local intent " + intent.get() + " failed", cause);
+            message = cause.getMessage() != null ? cause.getMessage() : cause.toString();
+         } else if (commandStack.getExecuted() == before) {
+            // The operations were rejected without reaching the command stack
+            message = "The command could not be executed";
+         } else {
+            // Created elements have no position chosen by the user
+            actionDispatcher.dispatch(new LayoutCreatedElementsAction());
+         }
+         var response = new LocalIntentResponseAction(true, kind, null, message);
+         response.setResponseId(action.getRequestId());
+         actionDispatcher.dispatch(response);
+      });
+      return none();
+   }
+}
@@ -0,0 +1,66 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.nli;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Result of parsing a natural language command. The slots hold the names mentioned in the command, the parts the
+ * members that are created together with a class.
+ */
+public class UMLIntent {
+   public static final String NAME = "name";
+   public static final String NEW_NAME = "newName";
+   public static final String OWNER = "owner";
+   public static final String TYPE = "type";
+   public static final String VISIBILITY = "visibility";
+   public static final String ABSTRACT = "abstract";
+   public static final String SOURCE = "source";
+   public static final String TARGET = "target";
+
+   public enum Kind {
+      CREATE_CLASS,
+      RENAME_CLASS,
+      DELETE_CLASS,
+      ADD_PROPERTY,
+      ADD_OPERATION,
+      CREATE_ASSOCIATION
+   }
+
+   protected final Kind kind;
+   protected final Map<String, String> slots;
+   protected final List<UMLIntent> parts;
+
+   public UMLIntent(final Kind kind, final Map<String, String> slots) {
+      this(kind, slots, List.of());
+   }
+
+   public UMLIntent(final Kind kind, final Map<String, String> slots, final List<UMLIntent> parts) {
+      this.kind = kind;
+      this.slots = slots;
+      this.parts = parts;
+   }
+
+   public Kind getKind() { return kind; }
+
+   public Optional<String> get(final String slot) {
+      return Optional.ofNullable(slots.get(slot));
+   }
+
+   public List<UMLIntent> getParts() { return parts; }
+
+   @Override
+   public String toString() {
+      return kind + slots.toString() + (parts.isEmpty() ? "" : parts.toString());
+   }
+}
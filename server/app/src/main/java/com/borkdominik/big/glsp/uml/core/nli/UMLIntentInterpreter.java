@@ -0,0 +1,167 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.nli;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.glsp.graph.util.GraphUtil;
+import org.eclipse.glsp.server.actions.Action;
+import org.eclipse.glsp.server.emf.EMFIdGenerator;
+import org.eclipse.glsp.server.operations.CreateEdgeOperation;
+import org.eclipse.glsp.server.operations.CreateNodeOperation;
+import org.eclipse.glsp.server.operations.DeleteOperation;
+import org.eclipse.glsp.server.operations.Operation;
+import org.eclipse.glsp.server.types.GLSPServerException;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Type;
+
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.borkdominik.big.glsp.server.core.model.BGModelRepresentation;
+import com.borkdominik.big.glsp.uml.core.batch.UMLBatchOperation;
+import com.borkdominik.big.glsp.uml.core.model.index.UMLModelIndex;
+import com.borkdominik.big.glsp.uml.core.palette.UMLPropertyPaletteDelegate;
+import com.borkdominik.big.glsp.uml.uml.UMLTypes;
+import com.borkdominik.big.glsp.uml.unotation.Representation;
+import com.google.inject.Inject;
+
+/**
+ * Translates a parsed {@link UMLIntent} into the operations of the class diagram handlers. All operations of an
+ * intent are executed as one {@link UMLBatchOperation}, so a command is undone as a whole.
+ */
+public class UMLIntentInterpreter {
+
+   @Inject
+   protected BGEMFModelState modelState;
+
+   @Inject
+   protected BGModelRepresentation modelRepresentation;
+
+   @Inject
+   protected EMFIdGenerator idGenerator;
+
+   @Inject
+   protected UMLPropertyPaletteDelegate propertyPalette;
+
+   @Inject
+   protected UMLModelIndex modelIndex;
+
+   public boolean supportsRepresentation() {
+      return modelRepresentation.get().map(representation -> representation == Representation.CLASS).orElse(false);
+   }
+
+   /**
+    * Returns the actions that perform the intent. The context element is used as owner of new members if the
+    * command does not name one.
+    */
+   public List<Action> interpret(final UMLIntent intent, final String contextId) {
+      switch (intent.getKind()) {
+         case CREATE_CLASS:
+            return batch(createClass(intent));
+         case RENAME_CLASS:
+            var renamed = findClass(slot(intent, UMLIntent.NAME));
+            return propertyPalette.updateProperty(idGenerator.getOrCreateId(renamed), "name",
+               slot(intent, UMLIntent.NEW_NAME));
+         case DELETE_CLASS:
+            var deleted = findClass(slot(intent, UMLIntent.NAME));
+            return batch(List.of(new DeleteOperation(List.of(idGenerator.getOrCreateId(deleted)))));
+         case ADD_PROPERTY:
+         case ADD_OPERATION:
+            return batch(List.of(createMember(intent, ownerId(intent, contextId))));
+         case CREATE_ASSOCIATION:
+            return batch(List.of(createAssociation(intent)));
+         default:
+            throw new GLSPServerException("Unsupported intent " + intent.getKind());
+      }
+   }
+
+   protected List<Operation> createClass(final UMLIntent intent) {
+      var operations = new ArrayList<Operation>();
+
+      var args = new HashMap<String, String>();
+      args.put("name", slot(intent, UMLIntent.NAME));
+      intent.get(UMLIntent.ABSTRACT).ifPresent(value -> args.put("is_abstract", value));
+      operations.add(createNode(UMLTypes.CLASS, idGenerator.getOrCreateId(modelState.getSemanticModel()), args));
+
+      // Members reference the class created by the first step of the batch
+      for (var part : intent.getParts()) {
+         operations.add(createMember(part, "$ref:0"));
+      }
+      return operations;
+   }
+
+   protected Operation createMember(final UMLIntent intent, final String ownerId) {
+      var args = new HashMap<String, String>();
+      args.put("name", slot(intent, UMLIntent.NAME));
+      intent.get(UMLIntent.VISIBILITY).ifPresent(visibility -> args.put("visibility", visibility));
+
+      if (intent.getKind() == UMLIntent.Kind.ADD_OPERATION) {
+         return createNode(UMLTypes.OPERATION, ownerId, args);
+      }
+
+      intent.get(UMLIntent.TYPE).ifPresent(typeName -> index().query(Type.class).named(typeName).first()
+         .ifPresent(type -> args.put("type_id", idGenerator.getOrCreateId(type))));
+      return createNode(UMLTypes.PROPERTY, ownerId, args);
+   }
+
+   protected Operation createAssociation(final UMLIntent intent) {
+      var source = findClass(slot(intent, UMLIntent.SOURCE));
+      var target = findClass(slot(intent, UMLIntent.TARGET));
+
+      var operation = new CreateEdgeOperation(UMLTypes.ASSOCIATION.prefix(Representation.CLASS),
+         idGenerator.getOrCreateId(source), idGenerator.getOrCreateId(target));
+      var args = new HashMap<String, String>();
+      intent.get(UMLIntent.NAME).ifPresent(name -> args.put("name", name));
+      operation.setArgs(args);
+      return operation;
+   }
+
+   protected CreateNodeOperation createNode(final UMLTypes type, final String containerId,
+      final Map<String, String> args) {
+      var operation = new CreateNodeOperation(type.prefix(Representation.CLASS), containerId);
+      operation.setLocation(GraphUtil.point(0, 0));
+      operation.setArgs(args);
+      return operation;
+   }
+
+   protected String ownerId(final UMLIntent intent, final String contextId) {
+      var owner = intent.get(UMLIntent.OWNER);
+      if (owner.isPresent()) {
+         return idGenerator.getOrCreateId(findClass(owner.get()));
+      }
+      if (contextId == null || modelState.getIndex().getEObject(contextId).isEmpty()) {
+         throw new GLSPServerException("No class given or selected");
+      }
+      return contextId;
+   }
+
+   protected Class findClass(final String name) {
+      return index().query(Class.class)
+         .named(name)
+         .inResource(modelState.getSemanticModel().eResource())
+         .first()
+         .orElseThrow(() -> new GLSPServerException("Class " + name + " not found"));
+   }
+
+   protected String slot(final UMLIntent intent, final String slot) {
+      return intent.get(slot).orElseThrow(() -> new GLSPServerException("Missing " + slot + " in " + intent));
+   }
+
+   protected List<Action> batch(final List<Operation> operations) {
+      return List.of(new UMLBatchOperation(operations));
+   }
+
+   protected UMLModelIndex index() {
+      return modelIndex;
+   }
+}
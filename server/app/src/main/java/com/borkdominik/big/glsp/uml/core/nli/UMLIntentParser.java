@@ -0,0 +1,150 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.nli;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.borkdominik.big.glsp.uml.core.nli.UMLIntent.Kind;
+
+/**
+ * Rule based parser for the common class diagram commands, e.g. <i>add class Customer with attribute name of type
+ * String</i> or <i>connect Customer and Order</i>. Commands that match none of the rules are left to the external
+ * language service.
+ */
+public class UMLIntentParser {
+   protected static final String ID = "[\"']?([\\p{L}_][\\p{L}\\p{N}_]*)[\"']?";
+   protected static final String VISIBILITY = "(?:(public|private|protected|package)\\s+)?";
+   protected static final String ARTICLE = "(?:(?:an?|the|new)\\s+)*";
+   protected static final String CLASS = ARTICLE + "(?:class\\s+)?";
+   protected static final String TYPE = "(?:(?:\\s*:\\s*|\\s+(?:of\\s+type|with\\s+type|typed|of|as)\\s+)" + ID + ")?";
+   protected static final String IN_CLASS = "(?:\\s+(?:to|in|into|for)\\s+" + CLASS + ID + ")?";
+   protected static final String NAMED = "(?:\\s+(?:called|named)\\s+" + ID + ")?";
+
+   protected static final Pattern MEMBER = Pattern.compile(
+      "^" + ARTICLE + VISIBILITY + "(?:(attributes?|propert(?:y|ies)|operations?|methods?)\\s+)?" + VISIBILITY + ID
+         + "(?:\\(\\))?" + TYPE + "$",
+      Pattern.CASE_INSENSITIVE);
+   protected static final Pattern SEPARATOR = Pattern.compile("\\s*(?:,|\\band\\b)\\s*", Pattern.CASE_INSENSITIVE);
+
+   protected final List<Rule> rules = new ArrayList<>();
+
+   public UMLIntentParser() {
+      rule("^(?:create|add|make|new)\\s+" + ARTICLE + "(abstract\\s+)?class\\s+" + ID + "(?:\\s+with\\s+(.+))?$",
+         this::createClass);
+      rule("^rename\\s+" + CLASS + ID + "\\s+(?:to|into|as)\\s+" + ID + "$",
+         m -> intent(Kind.RENAME_CLASS, UMLIntent.NAME, m.group(1), UMLIntent.NEW_NAME, m.group(2)));
+      rule("^(?:change|set)\\s+(?:the\\s+)?name\\s+of\\s+" + CLASS + ID + "\\s+to\\s+" + ID + "$",
+         m -> intent(Kind.RENAME_CLASS, UMLIntent.NAME, m.group(1), UMLIntent.NEW_NAME, m.group(2)));
+      rule("^(?:delete|remove)\\s+" + CLASS + ID + "$",
+         m -> intent(Kind.DELETE_CLASS, UMLIntent.NAME, m.group(1)));
+      rule("^(?:add|create)\\s+" + ARTICLE + VISIBILITY + "(?:attribute|property)\\s+" + ID + TYPE + IN_CLASS + "$",
+         m -> intent(Kind.ADD_PROPERTY, UMLIntent.VISIBILITY, lower(m.group(1)), UMLIntent.NAME, m.group(2),
+            UMLIntent.TYPE, m.group(3), UMLIntent.OWNER, m.group(4)));
+      rule("^(?:add|create)\\s+" + ARTICLE + VISIBILITY + "(?:operation|method)\\s+" + ID + "(?:\\(\\))?" + IN_CLASS
+         + "$",
+         m -> intent(Kind.ADD_OPERATION, UMLIntent.VISIBILITY, lower(m.group(1)), UMLIntent.NAME, m.group(2),
+            UMLIntent.OWNER, m.group(3)));
+      rule("^(?:connect|associate|link)\\s+" + CLASS + ID + "\\s+(?:and|with|to)\\s+" + CLASS + ID
+         + "(?:\\s+(?:with|using|via|by)\\s+(?:an?\\s+)?association)?" + NAMED + "$",
+         m -> intent(Kind.CREATE_ASSOCIATION, UMLIntent.SOURCE, m.group(1), UMLIntent.TARGET, m.group(2),
+            UMLIntent.NAME, m.group(3)));
+      rule("^(?:create|add)\\s+" + ARTICLE + "association" + NAMED + "\\s+(?:between|from)\\s+" + CLASS + ID
+         + "\\s+(?:and|to)\\s+" + CLASS + ID + NAMED + "$",
+         m -> intent(Kind.CREATE_ASSOCIATION, UMLIntent.SOURCE, m.group(2), UMLIntent.TARGET, m.group(3),
+            UMLIntent.NAME, m.group(1) != null ? m.group(1) : m.group(4)));
+   }
+
+   public Optional<UMLIntent> parse(final String text) {
+      if (text == null) {
+         return Optional.empty();
+      }
+
+      var command = text.trim().replaceAll("\\s+", " ").replaceAll("[.!]+$", "");
+      for (var rule : rules) {
+         var matcher = rule.pattern.matcher(command);
+         if (matcher.matches()) {
+            var intent = rule.factory.apply(matcher);
+            if (intent != null) {
+               return Optional.of(intent);
+            }
+         }
+      }
+      return Optional.empty();
+   }
+
+   protected void rule(final String regex, final Function<Matcher, UMLIntent> factory) {
+      rules.add(new Rule(Pattern.compile(regex, Pattern.CASE_INSENSITIVE), factory));
+   }
+
+   protected UMLIntent createClass(final Matcher matcher) {
+      var slots = slots(UMLIntent.NAME, matcher.group(2), UMLIntent.ABSTRACT,
+         matcher.group(1) == null ? null : "true");
+      if (matcher.group(3) == null) {
+         return new UMLIntent(Kind.CREATE_CLASS, slots);
+      }
+
+      // "with attribute name of type String and operation save", the member kind carries over to the next entries
+      var parts = new ArrayList<UMLIntent>();
+      var kind = Kind.ADD_PROPERTY;
+      for (var entry : SEPARATOR.split(matcher.group(3).trim())) {
+         var member = MEMBER.matcher(entry);
+         if (!member.matches()) {
+            return null;
+         }
+
+         if (member.group(2) != null) {
+            var keyword = member.group(2).toLowerCase(Locale.ROOT);
+            kind = keyword.startsWith("operation") || keyword.startsWith("method") ? Kind.ADD_OPERATION
+               : Kind.ADD_PROPERTY;
+         }
+         var visibility = member.group(1) != null ? member.group(1) : member.group(3);
+         parts.add(intent(kind, UMLIntent.VISIBILITY, lower(visibility), UMLIntent.NAME, member.group(4),
+            UMLIntent.TYPE, kind == Kind.ADD_PROPERTY ? member.group(5) : null));
+      }
+      return new UMLIntent(Kind.CREATE_CLASS, slots, parts);
+   }
+
+   protected UMLIntent intent(final Kind kind, final String... keyValues) {
+      return new UMLIntent(kind, slots(keyValues));
+   }
+
+   protected Map<String, String> slots(final String... keyValues) {
+      var slots = new HashMap<String, String>();
+      for (var i = 0; i + 1 < keyValues.length; i += 2) {
+         if (keyValues[i + 1] != null) {
+            slots.put(keyValues[i], keyValues[i + 1]);
+         }
+      }
+      return slots;
+   }
+
+   protected String lower(final String value) {
+      return value == null ? null : value.toLowerCase(Locale.ROOT);
+   }
+
+   protected static class Rule {
+      protected final Pattern pattern;
+      protected final Function<Matcher, UMLIntent> factory;
+
+      Rule(final Pattern pattern, final Function<Matcher, UMLIntent> factory) {
+         this.pattern = pattern;
+         this.factory = factory;
+      }
+   }
+}
@@ -0,0 +1,37 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.outline;
+
+import org.eclipse.glsp.server.actions.RequestAction;
+
+public class RequestOutlineChildrenAction extends RequestAction<SetOutlineChildrenAction> {
+   public static final String KIND = "requestOutlineChildren";
+   public static final int DEFAULT_LIMIT = 100;
+
+   /** Id of the parent, the root node is returned if no parent is given */
+   protected String parentId;
+   protected int offset;
+   protected int limit = DEFAULT_LIMIT;
+   /** Number of levels that are included, 1 returns the nodes without children */
+   protected int depth = 1;
+
+   public RequestOutlineChildrenAction() {
+      super(KIND);
+   }
+
+   public String getParentId() { return parentId; }
+
+   public int getOffset() { return offset; }
+
+   public int getLimit() { return limit; }
+
+   public int getDepth() { return depth; }
+}
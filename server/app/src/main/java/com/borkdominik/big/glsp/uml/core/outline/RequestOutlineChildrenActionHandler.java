@@ -0,0 +1,33 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.outline;
+
+import java.util.List;
+
+import org.eclipse.glsp.server.actions.AbstractActionHandler;
+import org.eclipse.glsp.server.actions.Action;
+
+import com.google.inject.Inject;
+
+public class RequestOutlineChildrenActionHandler extends AbstractActionHandler<RequestOutlineChildrenAction> {
+
+   @Inject
+   protected UMLOutlineProvider outlineProvider;
+
+   @Override
+   protected List<Action> executeAction(final RequestOutlineChildrenAction action) {
+      var offset = Math.max(0, action.getOffset());
+      var limit = action.getLimit() > 0 ? action.getLimit() : RequestOutlineChildrenAction.DEFAULT_LIMIT;
+      var depth = Math.max(1, action.getDepth());
+
+      return listOf(outlineProvider.getChildren(action.getParentId(), offset, limit, depth));
+   }
+}
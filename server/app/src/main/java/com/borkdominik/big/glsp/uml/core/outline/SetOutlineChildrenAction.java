@@ -0,0 +1,45 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.outline;
+
+import java.util.List;
+
+import org.eclipse.glsp.server.actions.ResponseAction;
+
+public class SetOutlineChildrenAction extends ResponseAction {
+   public static final String KIND = "setOutlineChildren";
+
+   protected String parentId;
+   protected int offset;
+   protected int total;
+   protected List<UMLOutlineNode> nodes;
+
+   public SetOutlineChildrenAction() {
+      super(KIND);
+   }
+
+   public SetOutlineChildrenAction(final String parentId, final int offset, final int total,
+      final List<UMLOutlineNode> nodes) {
+      this();
+      this.parentId = parentId;
+      this.offset = offset;
+      this.total = total;
+      this.nodes = nodes;
+   }
+
+   public String getParentId() { return parentId; }
+
+   public int getOffset() { return offset; }
+
+   public int getTotal() { return total; }
+
+   public List<UMLOutlineNode> getNodes() { return nodes; }
+}
@@ -0,0 +1,44 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.outline;
+
+public class UMLOutlineChange {
+   public static final String ADD = "add";
+   public static final String REMOVE = "remove";
+   public static final String UPDATE = "update";
+
+   protected String kind;
+   protected String parentId;
+   protected String id;
+   protected int index;
+   protected UMLOutlineNode node;
+
+   public UMLOutlineChange() {}
+
+   public UMLOutlineChange(final String kind, final String parentId, final String id, final int index,
+      final UMLOutlineNode node) {
+      this.kind = kind;
+      this.parentId = parentId;
+      this.id = id;
+      this.index = index;
+      this.node = node;
+   }
+
+   public String getKind() { return kind; }
+
+   public String getParentId() { return parentId; }
+
+   public String getId() { return id; }
+
+   public int getIndex() { return index; }
+
+   public UMLOutlineNode getNode() { return node; }
+}
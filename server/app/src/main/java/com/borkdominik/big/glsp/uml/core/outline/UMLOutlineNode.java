@@ -0,0 +1,51 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.outline;
+
+import java.util.List;
+
+/**
+ * Outline node that only contains the children that have been requested. The number of all children is always sent,
+ * so that the client can show the node as expandable and request the children on demand.
+ */
+public class UMLOutlineNode {
+   protected String semanticUri;
+   protected String label;
+   protected String iconClass;
+   protected int childCount;
+   protected List<UMLOutlineNode> children;
+   protected boolean isRoot;
+
+   public UMLOutlineNode() {}
+
+   public UMLOutlineNode(final String semanticUri, final String label, final String iconClass, final int childCount,
+      final boolean isRoot) {
+      this.semanticUri = semanticUri;
+      this.label = label;
+      this.iconClass = iconClass;
+      this.childCount = childCount;
+      this.isRoot = isRoot;
+   }
+
+   public String getSemanticUri() { return semanticUri; }
+
+   public String getLabel() { return label; }
+
+   public String getIconClass() { return iconClass; }
+
+   public int getChildCount() { return childCount; }
+
+   public List<UMLOutlineNode> getChildren() { return children; }
+
+   public void setChildren(final List<UMLOutlineNode> children) { this.children = children; }
+
+   public boolean isRoot() { return isRoot; }
+}
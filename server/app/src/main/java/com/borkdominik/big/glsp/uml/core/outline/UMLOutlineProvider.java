@@ -0,0 +1,315 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.outline;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.common.command.CommandStackListener;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.glsp.server.actions.ActionDispatcher;
+import org.eclipse.glsp.server.emf.EMFIdGenerator;
+import org.eclipse.uml2.uml.DirectedRelationship;
+import org.eclipse.uml2.uml.NamedElement;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.Relationship;
+import org.eclipse.uml2.uml.UMLPackage;
+
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.google.inject.Inject;
+
+/**
+ * Builds the outline on demand. Only the nodes the client has requested are observed, changes to them are collected
+ * while a command is executed and sent as {@link UpdateOutlineAction} after it has finished.
+ */
+public class UMLOutlineProvider extends AdapterImpl {
+
+   @Inject
+   protected BGEMFModelState modelState;
+
+   @Inject
+   protected EMFIdGenerator idGenerator;
+
+   @Inject
+   protected ActionDispatcher actionDispatcher;
+
+   /**
+    * Elements whose node has been sent, with the id they were sent with. Removed elements are detached when the
+    * change is observed, their id is taken from here.
+    */
+   protected final Map<EObject, String> observed = new HashMap<>();
+   /** Elements whose children have been requested */
+   protected final Set<EObject> expanded = new HashSet<>();
+   protected final List<UMLOutlineChange> changes = new ArrayList<>();
+   protected final CommandStackListener commandStackListener = event -> flush();
+   protected boolean installed;
+
+   public synchronized void install() {
+      uninstall();
+      modelState.getEditingDomain().getCommandStack().addCommandStackListener(commandStackListener);
+      installed = true;
+   }
+
+   public synchronized void uninstall() {
+      if (installed) {
+         modelState.getEditingDomain().getCommandStack().removeCommandStackListener(commandStackListener);
+         installed = false;
+      }
+      observed.keySet().forEach(element -> element.eAdapters().remove(this));
+      observed.clear();
+      expanded.clear();
+      changes.clear();
+   }
+
+   /**
+    * Returns a page of the children of the given parent, or the root node if no parent is given. Nodes contain their
+    * children down to the given depth.
+    */
+   public synchronized SetOutlineChildrenAction getChildren(final String parentId, final int offset, final int limit,
+      final int depth) {
+      if (parentId == null) {
+         var root = modelState.getSemanticModel();
+         return new SetOutlineChildrenAction(null, 0, 1, List.of(createNode(root, true, depth)));
+      }
+
+      var parent = find(parentId).orElse(null);
+      if (parent == null) {
+         return new SetOutlineChildrenAction(parentId, offset, 0, List.of());
+      }
+
+      var children = childrenOf(parent);
+      var nodes = children.stream()
+         .skip(offset)
+         .limit(limit)
+         .map(child -> createNode(child, false, depth))
+         .collect(Collectors.toList());
+      expand(parent);
+      return new SetOutlineChildrenAction(parentId, offset, children.size(), nodes);
+   }
+
+   protected UMLOutlineNode createNode(final EObject element, final boolean isRoot, final int depth) {
+      var children = childrenOf(element);
+      var node = new UMLOutlineNode(observe(element), labelOf(element), iconClassOf(element), children.size(),
+         isRoot);
+
+      if (depth > 1 && !children.isEmpty()) {
+         node.setChildren(children.stream()
+            .limit(RequestOutlineChildrenAction.DEFAULT_LIMIT)
+            .map(child -> createNode(child, false, depth - 1))
+            .collect(Collectors.toList()));
+         expand(element);
+      }
+      return node;
+   }
+
+   protected List<EObject> childrenOf(final EObject element) {
+      return element.eContents().stream()
+         .filter(this::isVisible)
+         .collect(Collectors.toList());
+   }
+
+   protected boolean isVisible(final EObject element) {
+      return element instanceof NamedElement;
+   }
+
+   protected String labelOf(final EObject element) {
+      if (element instanceof NamedElement named && named.getName() != null && !named.getName().isBlank()) {
+         return named.getName();
+      }
+      return element.eClass().getName();
+   }
+
+   protected String iconClassOf(final EObject element) {
+      if (element instanceof Package) {
+         return "model";
+      }
+      if (element instanceof Relationship || element instanceof DirectedRelationship) {
+         return "edge";
+      }
+      return "element";
+   }
+
+   protected Optional<EObject> find(final String id) {
+      return modelState.getIndex().getEObject(id);
+   }
+
+   /**
+    * Observes the element and returns the id it is sent with.
+    */
+   protected String observe(final EObject element) {
+      var id = observed.get(element);
+      if (id == null) {
+         id = idGenerator.getOrCreateId(element);
+         observed.put(element, id);
+         element.eAdapters().add(this);
+      }
+      return id;
+   }
+
+   protected void expand(final EObject element) {
+      observe(element);
+      expanded.add(element);
+   }
+
+   protected void forget(final EObject element) {
+      if (observed.remove(element) != null) {
+         element.eAdapters().remove(this);
+      }
+      expanded.remove(element);
+      element.eContents().forEach(child -> {
+         if (observed.containsKey(child)) {
+            forget(child);
+         }
+      });
+   }
+
+   @Override
+   public synchronized void notifyChanged(final Notification notification) {
+      if (notification.isTouch() || !(notification.getNotifier() instanceof EObject notifier)) {
+         return;
+      }
+
+      var feature = notification.getFeature();
+      if (feature == UMLPackage.Literals.NAMED_ELEMENT__NAME) {
+         changes.add(update(notifier));
+         return;
+      }
+
+      if (!(feature instanceof EReference reference) || !reference.isContainment()) {
+         return;
+      }
+
+      var added = new ArrayList<EObject>();
+      var removed = new ArrayList<EObject>();
+      switch (notification.getEventType()) {
+         case Notification.ADD, Notification.SET -> {
+            collect(notification.getNewValue(), added);
+            collect(notification.getOldValue(), removed);
+         }
+         case Notification.ADD_MANY -> collect(notification.getNewValue(), added);
+         case Notification.REMOVE, Notification.REMOVE_MANY, Notification.UNSET -> collect(
+            notification.getOldValue(), removed);
+         case Notification.MOVE -> {
+            collect(notification.getNewValue(), removed);
+            collect(notification.getNewValue(), added);
+         }
+         default -> {
+            return;
+         }
+      }
+      added.removeIf(element -> !isVisible(element));
+      removed.removeIf(element -> !isVisible(element));
+      if (added.isEmpty() && removed.isEmpty()) {
+         return;
+      }
+
+      if (!expanded.contains(notifier)) {
+         // Only the number of children is known to the client
+         changes.add(update(notifier));
+         return;
+      }
+
+      var parentId = observe(notifier);
+      removed.forEach(element -> {
+         // Elements that have not been sent are only part of the number of children
+         var id = observed.get(element);
+         if (id != null) {
+            changes.add(new UMLOutlineChange(UMLOutlineChange.REMOVE, parentId, id, -1, null));
+            forget(element);
+         }
+      });
+      // The node and index are computed on flush, the element may be changed by the rest of the command
+      added.forEach(element -> changes.add(new PendingAdd(parentId, notifier, element)));
+      changes.add(update(notifier));
+   }
+
+   protected void collect(final Object value, final List<EObject> elements) {
+      if (value instanceof EObject element) {
+         elements.add(element);
+      } else if (value instanceof List<?> values) {
+         values.stream().filter(EObject.class::isInstance).map(EObject.class::cast).forEach(elements::add);
+      }
+   }
+
+   protected UMLOutlineChange update(final EObject element) {
+      return new PendingUpdate(element);
+   }
+
+   protected void flush() {
+      List<UMLOutlineChange> flushed;
+      synchronized (this) {
+         if (changes.isEmpty()) {
+            return;
+         }
+
+         flushed = new ArrayList<>();
+         var updated = new HashSet<EObject>();
+         // Updates are sent once per element after all structural changes
+         var updates = new ArrayList<UMLOutlineChange>();
+         for (var change : changes) {
+            if (change instanceof PendingAdd add) {
+               if (add.element.eContainer() == add.parent) {
+                  var node = createNode(add.element, false, 1);
+                  flushed.add(new UMLOutlineChange(UMLOutlineChange.ADD, add.getParentId(), node.getSemanticUri(),
+                     childrenOf(add.parent).indexOf(add.element), node));
+               }
+            } else if (change instanceof PendingUpdate update) {
+               if (observed.containsKey(update.element) && updated.add(update.element)) {
+                  updates.add(update);
+               }
+            } else {
+               flushed.add(change);
+            }
+         }
+         for (var change : updates) {
+            var element = ((PendingUpdate) change).element;
+            var id = observed.get(element);
+            var node = new UMLOutlineNode(id, labelOf(element), iconClassOf(element), childrenOf(element).size(),
+               element == modelState.getSemanticModel());
+            flushed.add(new UMLOutlineChange(UMLOutlineChange.UPDATE, null, id, -1, node));
+         }
+         changes.clear();
+      }
+
+      if (!flushed.isEmpty()) {
+         actionDispatcher.dispatch(new UpdateOutlineAction(flushed));
+      }
+   }
+
+   protected static class PendingAdd extends UMLOutlineChange {
+      protected final EObject parent;
+      protected final EObject element;
+
+      PendingAdd(final String parentId, final EObject parent, final EObject element) {
+         super(ADD, parentId, null, -1, null);
+         this.parent = parent;
+         this.element = element;
+      }
+   }
+
+   protected static class PendingUpdate extends UMLOutlineChange {
+      protected final EObject element;
+
+      PendingUpdate(final EObject element) {
+         super(UPDATE, null, null, -1, null);
+         this.element = element;
+      }
+   }
+}
@@ -0,0 +1,35 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.outline;
+
+import java.util.List;
+
+import org.eclipse.glsp.server.actions.Action;
+
+/**
+ * Sent after a command with the changes of the outline nodes the client has loaded.
+ */
+public class UpdateOutlineAction extends Action {
+   public static final String KIND = "updateOutline";
+
+   protected List<UMLOutlineChange> changes;
+
+   public UpdateOutlineAction() {
+      super(KIND);
+   }
+
+   public UpdateOutlineAction(final List<UMLOutlineChange> changes) {
+      this();
+      this.changes = changes;
+   }
+
+   public List<UMLOutlineChange> getChanges() { return changes; }
+}
@@ -0,0 +1,27 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.palette;
+
+import java.util.List;
+
+import org.eclipse.glsp.server.actions.RequestAction;
+
+public class RequestMultiPropertyPaletteAction extends RequestAction<SetMultiPropertyPaletteAction> {
+   public static final String KIND = "requestMultiPropertyPalette";
+
+   protected List<String> elementIds;
+
+   public RequestMultiPropertyPaletteAction() {
+      super(KIND);
+   }
+
+   public List<String> getElementIds() { return elementIds; }
+}
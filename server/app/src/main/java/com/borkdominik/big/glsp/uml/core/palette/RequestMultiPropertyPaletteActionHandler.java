@@ -0,0 +1,171 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.palette;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.emf.ecore.EObject;
+
+import org.eclipse.glsp.server.actions.AbstractActionHandler;
+import org.eclipse.glsp.server.actions.Action;
+import org.eclipse.glsp.server.types.GLSPServerException;
+
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.inject.Inject;
+
+/**
+ * Builds the palette of a multi selection. Only the properties that all selected elements share (same id and type)
+ * are shown. Reference lists are left out, as they can not be edited for several owners at once.
+ * <p>
+ * The shared items are computed from one palette per element type. The other elements of a type only contribute
+ * their values, and their palettes are no longer built once every shared item has mixed values.
+ * </p>
+ */
+public class RequestMultiPropertyPaletteActionHandler
+   extends AbstractActionHandler<RequestMultiPropertyPaletteAction> {
+   protected static final String REFERENCE_TYPE = "REFERENCE";
+   protected static final List<String> VALUE_FIELDS = List.of("text", "value", "choice");
+
+   @Inject
+   protected UMLPropertyPaletteDelegate delegate;
+
+   @Inject
+   protected BGEMFModelState modelState;
+
+   @Override
+   protected List<Action> executeAction(final RequestMultiPropertyPaletteAction action) {
+      var elementIds = action.getElementIds();
+      if (elementIds == null || elementIds.isEmpty()) {
+         throw new GLSPServerException("No elements selected");
+      }
+
+      var byType = new LinkedHashMap<Object, List<String>>();
+      elementIds.forEach(id -> byType.computeIfAbsent(typeOf(id), key -> new ArrayList<>()).add(id));
+
+      // The palettes are merged one by one, so that no more palettes are built once nothing is shared anymore
+      var common = new LinkedHashMap<String, JsonObject>();
+      var first = true;
+      for (var ids : byType.values()) {
+         var palette = delegate.requestPalette(ids.get(0));
+         if (palette == null) {
+            return listOf(new SetMultiPropertyPaletteAction(elementIds.get(0), null));
+         }
+
+         if (first) {
+            items(palette).stream()
+               .filter(item -> !REFERENCE_TYPE.equals(string(item, "type")))
+               .forEach(item -> common.put(key(item), item.deepCopy()));
+            first = false;
+         } else {
+            intersect(common, palette);
+         }
+         if (common.isEmpty()) {
+            break;
+         }
+
+         for (var index = 1; index < ids.size() && !isMixed(common); index++) {
+            var other = delegate.requestPalette(ids.get(index));
+            if (other != null) {
+               mergeValues(common, other);
+            }
+         }
+      }
+
+      var palette = new JsonObject();
+      palette.addProperty("elementId", elementIds.get(0));
+      palette.addProperty("label", elementIds.size() + " elements");
+      var ids = new JsonArray();
+      elementIds.forEach(ids::add);
+      palette.add("elementIds", ids);
+      var items = new JsonArray();
+      common.values().forEach(items::add);
+      palette.add("items", items);
+
+      return listOf(new SetMultiPropertyPaletteAction(elementIds.get(0), palette));
+   }
+
+   protected void intersect(final Map<String, JsonObject> common, final JsonObject palette) {
+      var present = new LinkedHashMap<String, JsonObject>();
+      items(palette).forEach(item -> present.put(key(item), item));
+      common.keySet().retainAll(present.keySet());
+
+      common.forEach((key, item) -> merge(item, present.get(key)));
+   }
+
+   /**
+    * Merges the values of an element of a type whose items are already known.
+    */
+   protected void mergeValues(final Map<String, JsonObject> common, final JsonObject palette) {
+      items(palette).forEach(item -> {
+         var existing = common.get(key(item));
+         if (existing != null) {
+            merge(existing, item);
+         }
+      });
+   }
+
+   protected boolean isMixed(final Map<String, JsonObject> common) {
+      return common.values().stream().allMatch(item -> bool(item, "mixed"));
+   }
+
+   protected Object typeOf(final String elementId) {
+      return modelState.getIndex().getEObject(elementId).<Object> map(EObject::eClass).orElse(elementId);
+   }
+
+   protected void merge(final JsonObject item, final JsonObject other) {
+      for (var field : VALUE_FIELDS) {
+         if (!Objects.equals(item.get(field), other.get(field))) {
+            item.addProperty("mixed", true);
+            item.remove(field);
+         }
+      }
+      if (bool(item, "mixed") && "TEXT".equals(string(item, "type"))) {
+         item.addProperty("text", "");
+      }
+      if (bool(other, "disabled")) {
+         item.addProperty("disabled", true);
+      }
+   }
+
+   protected List<JsonObject> items(final JsonObject palette) {
+      var items = new ArrayList<JsonObject>();
+      var array = palette.getAsJsonArray("items");
+      if (array != null) {
+         for (JsonElement element : array) {
+            if (element.isJsonObject() && element.getAsJsonObject().has("propertyId")) {
+               items.add(element.getAsJsonObject());
+            }
+         }
+      }
+      return items;
+   }
+
+   protected String key(final JsonObject item) {
+      return string(item, "propertyId") + ":" + string(item, "type");
+   }
+
+   protected String string(final JsonObject item, final String property) {
+      var value = item.get(property);
+      return value == null || !value.isJsonPrimitive() ? null : value.getAsString();
+   }
+
+   protected boolean bool(final JsonObject item, final String property) {
+      var value = item.get(property);
+      return value != null && value.isJsonPrimitive() && value.getAsBoolean();
+   }
+}
@@ -0,0 +1,37 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.palette;
+
+import org.eclipse.glsp.server.actions.RequestAction;
+
+public class RequestReferencePageAction extends RequestAction<SetReferencePageAction> {
+   public static final String KIND = "requestReferencePage";
+
+   protected String elementId;
+   protected String propertyId;
+   protected int offset;
+   protected int limit = UMLReferencePages.PAGE_SIZE;
+   protected String filter;
+
+   public RequestReferencePageAction() {
+      super(KIND);
+   }
+
+   public String getElementId() { return elementId; }
+
+   public String getPropertyId() { return propertyId; }
+
+   public int getOffset() { return offset; }
+
+   public int getLimit() { return limit; }
+
+   public String getFilter() { return filter; }
+}
@@ -0,0 +1,41 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.palette;
+
+import org.eclipse.glsp.server.actions.ResponseAction;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Answers a {@link RequestMultiPropertyPaletteAction} with a regular property palette. The palette additionally
+ * contains the <code>elementIds</code> of the selection and items whose values differ are marked as
+ * <code>mixed</code>.
+ */
+public class SetMultiPropertyPaletteAction extends ResponseAction {
+   public static final String KIND = "setPropertyPalette";
+
+   protected String elementId;
+   protected JsonObject palette;
+
+   public SetMultiPropertyPaletteAction() {
+      super(KIND);
+   }
+
+   public SetMultiPropertyPaletteAction(final String elementId, final JsonObject palette) {
+      this();
+      this.elementId = elementId;
+      this.palette = palette;
+   }
+
+   public String getElementId() { return elementId; }
+
+   public JsonObject getPalette() { return palette; }
+}
@@ -0,0 +1,55 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.palette;
+
+import java.util.List;
+
+import org.eclipse.glsp.server.actions.ResponseAction;
+
+import com.borkdominik.big.glsp.server.features.property_palette.model.ElementReferencePropertyItem;
+
+public class SetReferencePageAction extends ResponseAction {
+   public static final String KIND = "setReferencePage";
+
+   protected String elementId;
+   protected String propertyId;
+   protected String filter;
+   protected int offset;
+   protected int total;
+   protected List<ElementReferencePropertyItem.Reference> references;
+
+   public SetReferencePageAction() {
+      super(KIND);
+   }
+
+   public SetReferencePageAction(final String elementId, final String propertyId, final String filter,
+      final int offset, final int total, final List<ElementReferencePropertyItem.Reference> references) {
+      this();
+      this.elementId = elementId;
+      this.propertyId = propertyId;
+      this.filter = filter;
+      this.offset = offset;
+      this.total = total;
+      this.references = references;
+   }
+
+   public String getElementId() { return elementId; }
+
+   public String getPropertyId() { return propertyId; }
+
+   public String getFilter() { return filter; }
+
+   public int getOffset() { return offset; }
+
+   public int getTotal() { return total; }
+
+   public List<ElementReferencePropertyItem.Reference> getReferences() { return references; }
+}
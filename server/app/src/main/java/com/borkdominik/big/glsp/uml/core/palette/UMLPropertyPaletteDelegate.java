@@ -0,0 +1,79 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.palette;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.glsp.server.actions.Action;
+import org.eclipse.glsp.server.actions.ActionHandlerRegistry;
+import org.eclipse.glsp.server.types.GLSPServerException;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.inject.Inject;
+
+/**
+ * Executes the single element property palette actions of the element manifests. The property providers are only
+ * reachable through their action handlers, therefore the actions are created from their JSON form.
+ */
+public class UMLPropertyPaletteDelegate {
+   public static final String REQUEST_KIND = "requestPropertyPalette";
+   public static final String UPDATE_KIND = "updateElementProperty";
+
+   @Inject
+   protected ActionHandlerRegistry actionHandlerRegistry;
+
+   protected final Gson gson = new Gson();
+   /** Action type of every executed kind, it is resolved once instead of for every executed action */
+   protected final Map<String, Class<? extends Action>> actionTypes = new ConcurrentHashMap<>();
+
+   public JsonObject requestPalette(final String elementId) {
+      var json = new JsonObject();
+      json.addProperty("kind", REQUEST_KIND);
+      json.addProperty("requestId", "");
+      json.addProperty("elementId", elementId);
+
+      return execute(REQUEST_KIND, json).stream()
+         .map(gson::toJsonTree)
+         .filter(JsonObject.class::isInstance)
+         .map(JsonObject.class::cast)
+         .filter(response -> response.has("palette") && response.get("palette").isJsonObject())
+         .map(response -> response.getAsJsonObject("palette"))
+         .findFirst()
+         .orElse(null);
+   }
+
+   public List<Action> updateProperty(final String elementId, final String propertyId, final String value) {
+      var json = new JsonObject();
+      json.addProperty("kind", UPDATE_KIND);
+      json.addProperty("elementId", elementId);
+      json.addProperty("propertyId", propertyId);
+      json.addProperty("value", value);
+
+      return execute(UPDATE_KIND, json);
+   }
+
+   protected List<Action> execute(final String kind, final JsonObject json) {
+      var handlers = actionHandlerRegistry.get(kind);
+      if (handlers.isEmpty()) {
+         throw new GLSPServerException("No action handler for " + kind);
+      }
+
+      var handler = handlers.get(0);
+      var type = actionTypes.computeIfAbsent(kind, key -> handler.getHandledActionTypes().stream()
+         .filter(actionType -> key.equals(gson.fromJson(json, actionType).getKind()))
+         .findFirst()
+         .orElseThrow(() -> new GLSPServerException("No action type for " + key)));
+      return handler.execute(gson.fromJson(json, type));
+   }
+}
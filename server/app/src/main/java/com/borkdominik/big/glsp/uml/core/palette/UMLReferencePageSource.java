@@ -0,0 +1,58 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.palette;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.glsp.server.emf.EMFIdGenerator;
+
+import com.borkdominik.big.glsp.server.features.property_palette.model.ElementReferencePropertyItem;
+
+/**
+ * Describes a reference list of the property palette that is sent in pages.
+ *
+ * @param <T> type of the element owning the list
+ * @param <E> type of the listed elements
+ */
+public class UMLReferencePageSource<T extends EObject, E> {
+   protected final Class<T> ownerType;
+   protected final String propertyId;
+   protected final Function<T, List<E>> elements;
+   protected final Function<E, String> name;
+   protected final BiFunction<E, EMFIdGenerator, ElementReferencePropertyItem.Reference> mapper;
+
+   public UMLReferencePageSource(final Class<T> ownerType, final String propertyId,
+      final Function<T, List<E>> elements, final Function<E, String> name,
+      final BiFunction<E, EMFIdGenerator, ElementReferencePropertyItem.Reference> mapper) {
+      this.ownerType = ownerType;
+      this.propertyId = propertyId;
+      this.elements = elements;
+      this.name = name;
+      this.mapper = mapper;
+   }
+
+   public boolean handles(final EObject owner, final String propertyId) {
+      return this.propertyId.equals(propertyId) && ownerType.isInstance(owner);
+   }
+
+   public List<E> getElements(final EObject owner) { return elements.apply(ownerType.cast(owner)); }
+
+   public String getName(final E element) {
+      return name.apply(element);
+   }
+
+   public ElementReferencePropertyItem.Reference toReference(final E element, final EMFIdGenerator idGenerator) {
+      return mapper.apply(element, idGenerator);
+   }
+}
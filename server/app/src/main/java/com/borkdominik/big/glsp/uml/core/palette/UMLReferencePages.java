@@ -0,0 +1,82 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.palette;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.glsp.server.emf.EMFIdGenerator;
+import org.eclipse.glsp.server.types.GLSPServerException;
+
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.borkdominik.big.glsp.server.features.property_palette.model.ElementReferencePropertyItem;
+import com.google.inject.Inject;
+
+/**
+ * Serves the reference lists of the property palette in pages. The palette itself only contains the first
+ * {@link #PAGE_SIZE} references of a list, further pages are requested by the client on demand.
+ */
+public class UMLReferencePages {
+   public static final int PAGE_SIZE = 50;
+
+   @Inject
+   protected BGEMFModelState modelState;
+
+   @Inject
+   protected EMFIdGenerator idGenerator;
+
+   /** Contributed through a Guice multibinding by the modules that define the reference lists */
+   @Inject
+   protected Set<UMLReferencePageSource<?, ?>> sources;
+
+   public static <E> List<ElementReferencePropertyItem.Reference> firstPage(final List<E> elements,
+      final Function<E, ElementReferencePropertyItem.Reference> mapper) {
+      return elements.stream().limit(PAGE_SIZE).map(mapper).collect(Collectors.toList());
+   }
+
+   public SetReferencePageAction page(final String elementId, final String propertyId, final int offset,
+      final int limit, final String filter) {
+      var owner = modelState.getIndex().getEObject(elementId)
+         .orElseThrow(() -> new GLSPServerException("Element " + elementId + " not found"));
+      var source = sources.stream()
+         .filter(candidate -> candidate.handles(owner, propertyId))
+         .findFirst()
+         .orElseThrow(() -> new GLSPServerException("Reference list " + propertyId + " can not be paged"));
+
+      return page(source, owner, elementId, propertyId, offset, limit, filter);
+   }
+
+   protected <E> SetReferencePageAction page(final UMLReferencePageSource<?, E> source, final EObject owner,
+      final String elementId, final String propertyId, final int offset, final int limit, final String filter) {
+      var elements = source.getElements(owner);
+      if (filter != null && !filter.isBlank()) {
+         var needle = filter.toLowerCase(Locale.ROOT);
+         elements = elements.stream()
+            .filter(element -> {
+               var name = source.getName(element);
+               return name != null && name.toLowerCase(Locale.ROOT).contains(needle);
+            })
+            .collect(Collectors.toList());
+      }
+
+      var from = Math.min(Math.max(0, offset), elements.size());
+      var to = Math.min(from + Math.max(0, limit), elements.size());
+      var references = elements.subList(from, to).stream()
+         .map(element -> source.toReference(element, idGenerator))
+         .collect(Collectors.toList());
+
+      return new SetReferencePageAction(elementId, propertyId, filter, from, elements.size(), references);
+   }
+}
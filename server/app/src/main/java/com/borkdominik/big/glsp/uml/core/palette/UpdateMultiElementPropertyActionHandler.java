@@ -0,0 +1,50 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.palette;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.glsp.server.actions.AbstractActionHandler;
+import org.eclipse.glsp.server.actions.Action;
+
+import com.borkdominik.big.glsp.uml.core.model.history.UMLCommandStack;
+import com.google.inject.Inject;
+
+/**
+ * Applies a property change to all selected elements as one undoable command. Only the actions of the last update
+ * are returned, so the client refreshes once.
+ */
+public class UpdateMultiElementPropertyActionHandler extends AbstractActionHandler<UpdateMultiElementPropertyAction> {
+
+   @Inject
+   protected UMLPropertyPaletteDelegate delegate;
+
+   @Inject
+   protected UMLCommandStack commandStack;
+
+   @Override
+   protected List<Action> executeAction(final UpdateMultiElementPropertyAction action) {
+      var elementIds = action.getElementIds();
+      if (elementIds == null || elementIds.isEmpty()) {
+         return none();
+      }
+
+      var result = new ArrayList<Action>();
+      commandStack.group("Update " + action.getPropertyId(), () -> {
+         for (var elementId : elementIds) {
+            result.clear();
+            result.addAll(delegate.updateProperty(elementId, action.getPropertyId(), action.getValue()));
+         }
+      });
+      return result;
+   }
+}
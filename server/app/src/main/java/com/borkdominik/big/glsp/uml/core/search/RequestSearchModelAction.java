@@ -0,0 +1,32 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.search;
+
+import org.eclipse.glsp.server.actions.RequestAction;
+
+public class RequestSearchModelAction extends RequestAction<SearchModelResponseAction> {
+   public static final String KIND = "requestSearchModel";
+   public static final int DEFAULT_PAGE_SIZE = 50;
+
+   protected String query;
+   protected int page;
+   protected int pageSize = DEFAULT_PAGE_SIZE;
+
+   public RequestSearchModelAction() {
+      super(KIND);
+   }
+
+   public String getQuery() { return query; }
+
+   public int getPage() { return page; }
+
+   public int getPageSize() { return pageSize; }
+}
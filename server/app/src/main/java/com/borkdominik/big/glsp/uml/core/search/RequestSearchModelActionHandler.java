@@ -0,0 +1,73 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.search;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.glsp.server.actions.AbstractActionHandler;
+import org.eclipse.glsp.server.actions.Action;
+import org.eclipse.glsp.server.actions.ActionDispatcher;
+
+import com.google.inject.Inject;
+
+/**
+ * Searches the {@link UMLSearchIndex} on a background thread, the index reads the changed elements under the read lock
+ * of the command stack. The response is dispatched once the search has finished. Each hit names the representation of
+ * a diagram that shows it, elements not shown in any diagram have none.
+ */
+public class RequestSearchModelActionHandler extends AbstractActionHandler<RequestSearchModelAction> {
+   private static final Logger LOGGER = LogManager.getLogger(RequestSearchModelActionHandler.class);
+
+   private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+      var thread = new Thread(runnable, "UMLSearch");
+      thread.setDaemon(true);
+      return thread;
+   });
+
+   @Inject
+   protected UMLSearchIndex searchIndex;
+
+   @Inject
+   protected ActionDispatcher actionDispatcher;
+
+   @Override
+   protected List<Action> executeAction(final RequestSearchModelAction action) {
+      var query = action.getQuery() == null ? "" : action.getQuery();
+      var page = Math.max(0, action.getPage());
+      var pageSize = action.getPageSize() > 0 ? action.getPageSize() : RequestSearchModelAction.DEFAULT_PAGE_SIZE;
+
+      executor.submit(() -> {
+         SearchModelResponseAction response;
+         try {
+            var hits = searchIndex.search(query);
+            var results = hits.stream()
+               .skip((long) page * pageSize)
+               .limit(pageSize)
+               .map(hit -> new UMLSearchResult(hit.id(), hit.element().name(), hit.element().qualifiedName(),
+                  hit.element().type(), searchIndex.getRepresentation(hit.id()).orElse(null), hit.score()))
+               .collect(Collectors.toList());
+            response = new SearchModelResponseAction(results, hits.size(), page, pageSize);
+         } catch (RuntimeException e) {
+            // The client awaits an answer, an empty page is better than a request that never resolves
+            LOGGER.error("Search for '" + query + "' failed", e);
+            response = new SearchModelResponseAction(List.of(), 0, page, pageSize);
+         }
+         response.setResponseId(action.getRequestId());
+         actionDispatcher.dispatch(response);
+      });
+      return none();
+   }
+}
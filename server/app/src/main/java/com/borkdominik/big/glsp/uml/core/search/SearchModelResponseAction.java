@@ -0,0 +1,45 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.search;
+
+import java.util.List;
+
+import org.eclipse.glsp.server.actions.ResponseAction;
+
+public class SearchModelResponseAction extends ResponseAction {
+   public static final String KIND = "searchModelResponse";
+
+   protected List<UMLSearchResult> results;
+   protected int total;
+   protected int page;
+   protected int pageSize;
+
+   public SearchModelResponseAction() {
+      super(KIND);
+   }
+
+   public SearchModelResponseAction(final List<UMLSearchResult> results, final int total, final int page,
+      final int pageSize) {
+      this();
+      this.results = results;
+      this.total = total;
+      this.page = page;
+      this.pageSize = pageSize;
+   }
+
+   public List<UMLSearchResult> getResults() { return results; }
+
+   public int getTotal() { return total; }
+
+   public int getPage() { return page; }
+
+   public int getPageSize() { return pageSize; }
+}
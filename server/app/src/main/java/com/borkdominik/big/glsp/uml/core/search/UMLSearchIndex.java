@@ -0,0 +1,342 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.eclipse.emf.common.command.CommandStackListener;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.glsp.server.emf.EMFIdGenerator;
+import org.eclipse.uml2.uml.Comment;
+import org.eclipse.uml2.uml.NamedElement;
+import org.eclipse.uml2.uml.Namespace;
+import org.eclipse.uml2.uml.OpaqueBehavior;
+import org.eclipse.uml2.uml.UMLPackage;
+
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.borkdominik.big.glsp.uml.core.model.history.UMLCommandStack;
+import com.borkdominik.big.glsp.uml.core.model.index.UMLInverseReferenceIndex;
+import com.borkdominik.big.glsp.uml.unotation.Representation;
+import com.borkdominik.big.glsp.uml.unotation.UMLDiagram;
+import com.google.inject.Inject;
+
+/**
+ * Inverted index over the names, qualified names, comments and opaque behavior bodies of the semantic model. The
+ * elements changed by a command are collected after the command, the next search re-indexes them under the read lock
+ * of the command stack. Searching may therefore run on any thread.
+ */
+public class UMLSearchIndex extends EContentAdapter {
+   protected static final int NAME_WEIGHT = 10;
+   protected static final int QUALIFIED_NAME_WEIGHT = 3;
+   protected static final int TEXT_WEIGHT = 1;
+   protected static final Pattern SEPARATOR = Pattern.compile("[^\\p{Alnum}]+");
+   protected static final Pattern CAMEL_CASE = Pattern.compile("(?<=\\p{Ll})(?=\\p{Lu})");
+
+   @Inject
+   protected BGEMFModelState modelState;
+
+   @Inject
+   protected EMFIdGenerator idGenerator;
+
+   @Inject
+   protected UMLCommandStack commandStack;
+
+   @Inject
+   protected UMLInverseReferenceIndex inverseReferenceIndex;
+
+   /** term -> element id -> summed weight */
+   protected final TreeMap<String, Map<String, Integer>> postings = new TreeMap<>();
+   /** indexed element id -> the postings it contributed */
+   protected final Map<String, List<Posting>> contributions = new HashMap<>();
+   /** indexed element id -> the named element as it was indexed */
+   protected final Map<String, Indexed> elements = new HashMap<>();
+
+   /**
+    * Live side, guarded by {@link #dirty}: changed elements, the ids of the indexed elements and the elements still to
+    * be re-indexed by id (<code>null</code> if removed)
+    */
+   protected final Set<EObject> dirty = new LinkedHashSet<>();
+   protected final Map<EObject, String> ids = new HashMap<>();
+   protected final Map<String, EObject> pending = new LinkedHashMap<>();
+
+   protected final CommandStackListener commandStackListener = event -> commit();
+   protected ResourceSet resourceSet;
+
+   public synchronized void install() {
+      uninstall();
+      resourceSet = modelState.getResourceSet();
+      resourceSet.eAdapters().add(this);
+      modelState.getEditingDomain().getCommandStack().addCommandStackListener(commandStackListener);
+      // Adding the adapter marked every element as dirty, they are indexed by the first search
+      commit();
+   }
+
+   public synchronized void uninstall() {
+      if (resourceSet != null) {
+         resourceSet.eAdapters().remove(this);
+         modelState.getEditingDomain().getCommandStack().removeCommandStackListener(commandStackListener);
+         resourceSet = null;
+      }
+      postings.clear();
+      contributions.clear();
+      elements.clear();
+      synchronized (dirty) {
+         dirty.clear();
+         ids.clear();
+         pending.clear();
+      }
+   }
+
+   /**
+    * Returns the elements matching all terms of the query, ordered by descending score. Terms match as prefixes,
+    * exact matches score twice as high.
+    */
+   public synchronized List<Hit> search(final String query) {
+      flush();
+
+      var terms = tokenize(query);
+      if (terms.isEmpty()) {
+         return List.of();
+      }
+
+      Map<String, Integer> scores = null;
+      for (var term : terms) {
+         var termScores = new HashMap<String, Integer>();
+         postings.subMap(term, true, term + Character.MAX_VALUE, false).forEach((indexed, elementIds) -> {
+            var factor = indexed.equals(term) ? 2 : 1;
+            elementIds.forEach((id, weight) -> termScores.merge(id, weight * factor, Math::max));
+         });
+
+         if (scores == null) {
+            scores = termScores;
+         } else {
+            scores.keySet().retainAll(termScores.keySet());
+            scores.replaceAll((id, score) -> score + termScores.get(id));
+         }
+         if (scores.isEmpty()) {
+            return List.of();
+         }
+      }
+
+      var result = new ArrayList<Hit>();
+      scores.forEach((id, score) -> {
+         var element = elements.get(id);
+         if (element != null) {
+            result.add(new Hit(id, element, score));
+         }
+      });
+      result.sort((left, right) -> left.score() != right.score()
+         ? Integer.compare(right.score(), left.score())
+         : String.valueOf(left.element().name()).compareTo(String.valueOf(right.element().name())));
+      return result;
+   }
+
+   @Override
+   protected void setTarget(final EObject target) {
+      super.setTarget(target);
+      markDirty(target);
+   }
+
+   @Override
+   protected void unsetTarget(final EObject target) {
+      super.unsetTarget(target);
+      markDirty(target);
+   }
+
+   @Override
+   public void notifyChanged(final Notification notification) {
+      super.notifyChanged(notification);
+
+      if (notification.isTouch() || !(notification.getNotifier() instanceof EObject notifier)) {
+         return;
+      }
+
+      var feature = notification.getFeature();
+      if (feature == UMLPackage.Literals.NAMED_ELEMENT__NAME) {
+         markDirty(notifier);
+         if (notifier instanceof Namespace) {
+            // The qualified names of all contained elements changed as well
+            notifier.eAllContents().forEachRemaining(this::markDirty);
+         }
+      } else if (feature == UMLPackage.Literals.COMMENT__BODY
+         || feature == UMLPackage.Literals.COMMENT__ANNOTATED_ELEMENT
+         || feature == UMLPackage.Literals.OPAQUE_BEHAVIOR__BODY) {
+         markDirty(notifier);
+      }
+   }
+
+   protected void markDirty(final EObject element) {
+      if (element instanceof NamedElement || element instanceof Comment) {
+         synchronized (dirty) {
+            dirty.add(element);
+         }
+      }
+   }
+
+   /**
+    * Records the ids of the elements changed by the last command. Removed elements are no longer contained in a
+    * resource, their id is remembered from the time they were added.
+    */
+   protected void commit() {
+      synchronized (dirty) {
+         for (var element : dirty) {
+            if (element.eResource() != null) {
+               var id = idGenerator.getOrCreateId(element);
+               ids.put(element, id);
+               pending.put(id, element);
+            } else {
+               var id = ids.remove(element);
+               if (id != null) {
+                  pending.put(id, null);
+               }
+            }
+         }
+         dirty.clear();
+      }
+   }
+
+   protected void flush() {
+      Map<String, EObject> changed;
+      synchronized (dirty) {
+         if (pending.isEmpty()) {
+            return;
+         }
+         changed = new LinkedHashMap<>(pending);
+         pending.clear();
+      }
+
+      commandStack.read(() -> {
+         changed.forEach((id, element) -> {
+            unindex(id);
+            // Removed by a command that was executed after the element had been marked
+            if (element != null && element.eResource() != null) {
+               index(id, element);
+            }
+         });
+         return null;
+      });
+   }
+
+   /**
+    * Returns the representation of a diagram that shows the element, if any.
+    */
+   public Optional<String> getRepresentation(final String id) {
+      return commandStack.read(() -> inverseReferenceIndex.getNotationElements(id).stream()
+         .map(EcoreUtil::getRootContainer)
+         .filter(UMLDiagram.class::isInstance)
+         .map(diagram -> Representation.getByName(((UMLDiagram) diagram).getDiagramType()))
+         .filter(Objects::nonNull)
+         .map(Representation::getLiteral)
+         .findFirst());
+   }
+
+   protected void index(final String id, final EObject element) {
+      var contributed = new ArrayList<Posting>();
+      if (element instanceof NamedElement named) {
+         elements.put(id, new Indexed(named.getName(), named.getQualifiedName(), named.eClass().getName()));
+         tokenize(named.getName()).forEach(term -> contributed.add(new Posting(term, id, NAME_WEIGHT)));
+         tokenize(named.getQualifiedName())
+            .forEach(term -> contributed.add(new Posting(term, id, QUALIFIED_NAME_WEIGHT)));
+      }
+      if (element instanceof OpaqueBehavior behavior) {
+         behavior.getBodies()
+            .forEach(body -> tokenize(body).forEach(term -> contributed.add(new Posting(term, id, TEXT_WEIGHT))));
+      }
+      if (element instanceof Comment comment) {
+         // Comments are found through the elements they annotate (or their owner)
+         var targets = new ArrayList<NamedElement>();
+         comment.getAnnotatedElements().stream()
+            .filter(NamedElement.class::isInstance)
+            .map(NamedElement.class::cast)
+            .forEach(targets::add);
+         if (targets.isEmpty() && comment.getOwner() instanceof NamedElement owner) {
+            targets.add(owner);
+         }
+         var terms = tokenize(comment.getBody());
+         targets.forEach(target -> idOf(target).ifPresent(
+            targetId -> terms.forEach(term -> contributed.add(new Posting(term, targetId, TEXT_WEIGHT)))));
+      }
+
+      if (!contributed.isEmpty()) {
+         contributed.forEach(posting -> postings.computeIfAbsent(posting.term(), key -> new HashMap<>())
+            .merge(posting.elementId(), posting.weight(), Integer::sum));
+         contributions.put(id, contributed);
+      }
+   }
+
+   protected Optional<String> idOf(final EObject element) {
+      synchronized (dirty) {
+         return Optional.ofNullable(ids.get(element));
+      }
+   }
+
+   protected void unindex(final String id) {
+      elements.remove(id);
+      var contributed = contributions.remove(id);
+      if (contributed == null) {
+         return;
+      }
+
+      for (var posting : contributed) {
+         var elementIds = postings.get(posting.term());
+         if (elementIds == null) {
+            continue;
+         }
+         elementIds.computeIfPresent(posting.elementId(), (key, weight) -> weight - posting.weight() > 0
+            ? weight - posting.weight()
+            : null);
+         if (elementIds.isEmpty()) {
+            postings.remove(posting.term());
+         }
+      }
+   }
+
+   /**
+    * Splits the text into lower case terms. Camel case words are indexed as a whole and as their parts.
+    */
+   protected Set<String> tokenize(final String text) {
+      var terms = new LinkedHashSet<String>();
+      if (text == null) {
+         return terms;
+      }
+
+      for (var word : SEPARATOR.split(text)) {
+         if (word.isEmpty()) {
+            continue;
+         }
+         terms.add(word.toLowerCase());
+         for (var part : CAMEL_CASE.split(word)) {
+            terms.add(part.toLowerCase());
+         }
+      }
+      return terms;
+   }
+
+   protected record Posting(String term, String elementId, int weight) {}
+
+   public record Indexed(String name, String qualifiedName, String type) {}
+
+   public record Hit(String id, Indexed element, int score) {}
+}
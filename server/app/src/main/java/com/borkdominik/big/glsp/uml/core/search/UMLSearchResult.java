@@ -0,0 +1,44 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.search;
+
+public class UMLSearchResult {
+   protected String id;
+   protected String name;
+   protected String qualifiedName;
+   protected String type;
+   protected String representation;
+   protected int score;
+
+   public UMLSearchResult() {}
+
+   public UMLSearchResult(final String id, final String name, final String qualifiedName, final String type,
+      final String representation, final int score) {
+      this.id = id;
+      this.name = name;
+      this.qualifiedName = qualifiedName;
+      this.type = type;
+      this.representation = representation;
+      this.score = score;
+   }
+
+   public String getId() { return id; }
+
+   public String getName() { return name; }
+
+   public String getQualifiedName() { return qualifiedName; }
+
+   public String getType() { return type; }
+
+   public String getRepresentation() { return representation; }
+
+   public int getScore() { return score; }
+}
@@ -0,0 +1,43 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.sync;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.glsp.server.actions.RequestAction;
+
+/**
+ * Requests the content of the given resources. The content is sent as {@link ResourceChunkAction}s followed by a
+ * {@link ResourceContentResponseAction}.
+ */
+public class RequestResourceContentAction extends RequestAction<ResourceContentResponseAction> {
+   public static final String KIND = "requestResourceContent";
+   public static final int DEFAULT_CHUNK_SIZE = 256 * 1024;
+
+   protected List<String> keys;
+   /** Hashes of the content the client already has, a delta is sent if the server still knows that content */
+   protected Map<String, String> baseHashes;
+   protected int chunkSize = DEFAULT_CHUNK_SIZE;
+   protected boolean compress;
+
+   public RequestResourceContentAction() {
+      super(KIND);
+   }
+
+   public List<String> getKeys() { return keys; }
+
+   public Map<String, String> getBaseHashes() { return baseHashes; }
+
+   public int getChunkSize() { return chunkSize; }
+
+   public boolean isCompress() { return compress; }
+}
@@ -0,0 +1,29 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.sync;
+
+import java.util.List;
+
+import org.eclipse.glsp.server.actions.AbstractActionHandler;
+import org.eclipse.glsp.server.actions.Action;
+
+import com.google.inject.Inject;
+
+public class RequestResourceHashesActionHandler extends AbstractActionHandler<RequestResourceHashesAction> {
+
+   @Inject
+   protected UMLResourceSync resourceSync;
+
+   @Override
+   protected List<Action> executeAction(final RequestResourceHashesAction action) {
+      return listOf(new SetResourceHashesAction(resourceSync.getHashes()));
+   }
+}
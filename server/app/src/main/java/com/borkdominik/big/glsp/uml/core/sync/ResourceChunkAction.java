@@ -0,0 +1,42 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.sync;
+
+import org.eclipse.glsp.server.actions.Action;
+
+public class ResourceChunkAction extends Action {
+   public static final String KIND = "resourceChunk";
+
+   protected String transferId;
+   protected String key;
+   protected int index;
+   protected String data;
+
+   public ResourceChunkAction() {
+      super(KIND);
+   }
+
+   public ResourceChunkAction(final String transferId, final String key, final int index, final String data) {
+      this();
+      this.transferId = transferId;
+      this.key = key;
+      this.index = index;
+      this.data = data;
+   }
+
+   public String getTransferId() { return transferId; }
+
+   public String getKey() { return key; }
+
+   public int getIndex() { return index; }
+
+   public String getData() { return data; }
+}
@@ -0,0 +1,36 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.sync;
+
+import java.util.List;
+
+import org.eclipse.glsp.server.actions.ResponseAction;
+
+public class ResourceContentResponseAction extends ResponseAction {
+   public static final String KIND = "resourceContentResponse";
+
+   protected String transferId;
+   protected List<UMLResourceTransfer> transfers;
+
+   public ResourceContentResponseAction() {
+      super(KIND);
+   }
+
+   public ResourceContentResponseAction(final String transferId, final List<UMLResourceTransfer> transfers) {
+      this();
+      this.transferId = transferId;
+      this.transfers = transfers;
+   }
+
+   public String getTransferId() { return transferId; }
+
+   public List<UMLResourceTransfer> getTransfers() { return transfers; }
+}
@@ -0,0 +1,33 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.sync;
+
+import java.util.Map;
+
+import org.eclipse.glsp.server.actions.ResponseAction;
+
+public class SetResourceHashesAction extends ResponseAction {
+   public static final String KIND = "setResourceHashes";
+
+   /** Keyed by the file extension of the resource, like the resources of the model resources response */
+   protected Map<String, UMLResourceHash> resources;
+
+   public SetResourceHashesAction() {
+      super(KIND);
+   }
+
+   public SetResourceHashesAction(final Map<String, UMLResourceHash> resources) {
+      this();
+      this.resources = resources;
+   }
+
+   public Map<String, UMLResourceHash> getResources() { return resources; }
+}
@@ -0,0 +1,29 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.sync;
+
+public class UMLResourceHash {
+   protected final String uri;
+   protected final String hash;
+   protected final long size;
+
+   public UMLResourceHash(final String uri, final String hash, final long size) {
+      this.uri = uri;
+      this.hash = hash;
+      this.size = size;
+   }
+
+   public String getUri() { return uri; }
+
+   public String getHash() { return hash; }
+
+   public long getSize() { return size; }
+}
@@ -0,0 +1,210 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.sync;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.emf.common.command.CommandStackListener;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.glsp.server.actions.ActionDispatcher;
+import org.eclipse.glsp.server.types.GLSPServerException;
+
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.google.inject.Inject;
+
+/**
+ * Serves the serialized model resources by content hash. The serialization of a resource is cached until the next
+ * command, the last few serialized versions are kept to answer requests with a delta against the client's version.
+ */
+public class UMLResourceSync {
+   protected static final int HISTORY_SIZE = 4;
+
+   @Inject
+   protected BGEMFModelState modelState;
+
+   @Inject
+   protected ActionDispatcher actionDispatcher;
+
+   protected final Map<String, Snapshot> snapshots = new HashMap<>();
+   /** key -> hash -> content */
+   protected final Map<String, Map<String, String>> history = new HashMap<>();
+   protected final CommandStackListener commandStackListener = event -> invalidate();
+   protected boolean installed;
+
+   public synchronized void install() {
+      uninstall();
+      modelState.getEditingDomain().getCommandStack().addCommandStackListener(commandStackListener);
+      installed = true;
+   }
+
+   public synchronized void uninstall() {
+      if (installed) {
+         modelState.getEditingDomain().getCommandStack().removeCommandStackListener(commandStackListener);
+         installed = false;
+      }
+      snapshots.clear();
+      history.clear();
+   }
+
+   public synchronized void invalidate() {
+      snapshots.clear();
+   }
+
+   public synchronized Map<String, UMLResourceHash> getHashes() {
+      var result = new LinkedHashMap<String, UMLResourceHash>();
+      getResources().forEach((key, resource) -> result.put(key, snapshot(key, resource).hash));
+      return result;
+   }
+
+   /**
+    * Dispatches the chunks of the requested resources and returns the description of the transfer, which is sent
+    * after the chunks.
+    */
+   public synchronized ResourceContentResponseAction transfer(final List<String> keys,
+      final Map<String, String> baseHashes, final int chunkSize, final boolean compress) {
+      var transferId = UUID.randomUUID().toString();
+      var resources = getResources();
+      var transfers = new ArrayList<UMLResourceTransfer>();
+
+      for (var key : keys) {
+         var resource = resources.get(key);
+         if (resource == null) {
+            continue;
+         }
+
+         var snapshot = snapshot(key, resource);
+         var baseHash = baseHashes == null ? null : baseHashes.get(key);
+         var base = baseHash == null ? null : history.getOrDefault(key, Map.of()).get(baseHash);
+
+         UMLResourceTransfer transfer;
+         if (base != null) {
+            var content = snapshot.content();
+            var start = 0;
+            var max = Math.min(base.length(), content.length());
+            while (start < max && base.charAt(start) == content.charAt(start)) {
+               start++;
+            }
+            var suffix = 0;
+            while (suffix < max - start
+               && base.charAt(base.length() - 1 - suffix) == content.charAt(content.length() - 1 - suffix)) {
+               suffix++;
+            }
+            // The payload is encoded as UTF-8, it must not start or end in the middle of a surrogate pair
+            if (start > 0 && Character.isHighSurrogate(content.charAt(start - 1))) {
+               start--;
+            }
+            if (suffix > 0 && Character.isLowSurrogate(content.charAt(content.length() - suffix))) {
+               suffix--;
+            }
+            var payload = content.substring(start, content.length() - suffix);
+            var chunks = chunk(transferId, key, encode(payload, compress), chunkSize);
+            transfer = UMLResourceTransfer.delta(key, snapshot.hash(), compress, chunks, baseHash, start, suffix);
+         } else {
+            var chunks = chunk(transferId, key, encode(snapshot.content(), compress), chunkSize);
+            transfer = UMLResourceTransfer.full(key, snapshot.hash(), compress, chunks);
+         }
+         transfers.add(transfer);
+      }
+
+      return new ResourceContentResponseAction(transferId, transfers);
+   }
+
+   protected Map<String, Resource> getResources() {
+      var result = new LinkedHashMap<String, Resource>();
+      for (var resource : modelState.getResourceSet().getResources()) {
+         var uri = resource.getURI();
+         if (uri == null || "pathmap".equals(uri.scheme()) || uri.isPlatformPlugin()) {
+            continue;
+         }
+         result.putIfAbsent(uri.fileExtension(), resource);
+      }
+      return result;
+   }
+
+   protected Snapshot snapshot(final String key, final Resource resource) {
+      var snapshot = snapshots.get(key);
+      if (snapshot != null) {
+         return snapshot;
+      }
+
+      var out = new ByteArrayOutputStream();
+      try {
+         resource.save(out, null);
+      } catch (IOException e) {
+         throw new GLSPServerException("Failed to serialize resource " + resource.getURI(), e);
+      }
+      var bytes = out.toByteArray();
+      var hash = new UMLResourceHash(resource.getURI().toString(), hash(bytes), bytes.length);
+      snapshot = new Snapshot(hash, new String(bytes, StandardCharsets.UTF_8));
+      snapshots.put(key, snapshot);
+
+      var versions = history.computeIfAbsent(key, k -> new LinkedHashMap<>(HISTORY_SIZE, 0.75f, true) {
+         @Override
+         protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+            return size() > HISTORY_SIZE;
+         }
+      });
+      versions.put(hash.getHash(), snapshot.content());
+      return snapshot;
+   }
+
+   protected String encode(final String payload, final boolean compress) {
+      if (!compress) {
+         return payload;
+      }
+
+      var out = new ByteArrayOutputStream();
+      try (var gzip = new GZIPOutputStream(out)) {
+         gzip.write(payload.getBytes(StandardCharsets.UTF_8));
+      } catch (IOException e) {
+         throw new GLSPServerException("Failed to compress resource content", e);
+      }
+      return Base64.getEncoder().encodeToString(out.toByteArray());
+   }
+
+   protected int chunk(final String transferId, final String key, final String data, final int chunkSize) {
+      var count = 0;
+      var offset = 0;
+      do {
+         var end = Math.min(data.length(), offset + chunkSize);
+         if (end < data.length() && end - 1 > offset && Character.isHighSurrogate(data.charAt(end - 1))) {
+            // Never split a surrogate pair
+            end--;
+         }
+         actionDispatcher.dispatch(new ResourceChunkAction(transferId, key, count++, data.substring(offset, end)));
+         offset = end;
+      } while (offset < data.length());
+      return count;
+   }
+
+   protected String hash(final byte[] bytes) {
+      try {
+         return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+      } catch (NoSuchAlgorithmException e) {
+         throw new GLSPServerException("SHA-256 is not available", e);
+      }
+   }
+
+   protected record Snapshot(UMLResourceHash hash, String content) {}
+}
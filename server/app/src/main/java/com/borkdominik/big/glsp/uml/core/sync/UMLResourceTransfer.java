@@ -0,0 +1,73 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.sync;
+
+/**
+ * Describes how the chunks of a resource have to be assembled. The joined chunks are base64 encoded gzip data if
+ * compressed. A delta replaces the content of the base between <code>start</code> and
+ * <code>base.length - suffix</code> with the payload.
+ */
+public class UMLResourceTransfer {
+   public static final String FULL = "full";
+   public static final String DELTA = "delta";
+
+   protected String key;
+   protected String uri;
+   protected String hash;
+   protected String encoding;
+   protected boolean compressed;
+   protected int chunkCount;
+   protected String baseHash;
+   protected int start;
+   protected int suffix;
+
+   public UMLResourceTransfer() {}
+
+   public static UMLResourceTransfer full(final String key, final UMLResourceHash hash, final boolean compressed,
+      final int chunkCount) {
+      var transfer = new UMLResourceTransfer();
+      transfer.key = key;
+      transfer.uri = hash.getUri();
+      transfer.hash = hash.getHash();
+      transfer.encoding = FULL;
+      transfer.compressed = compressed;
+      transfer.chunkCount = chunkCount;
+      return transfer;
+   }
+
+   public static UMLResourceTransfer delta(final String key, final UMLResourceHash hash, final boolean compressed,
+      final int chunkCount, final String baseHash, final int start, final int suffix) {
+      var transfer = full(key, hash, compressed, chunkCount);
+      transfer.encoding = DELTA;
+      transfer.baseHash = baseHash;
+      transfer.start = start;
+      transfer.suffix = suffix;
+      return transfer;
+   }
+
+   public String getKey() { return key; }
+
+   public String getUri() { return uri; }
+
+   public String getHash() { return hash; }
+
+   public String getEncoding() { return encoding; }
+
+   public boolean isCompressed() { return compressed; }
+
+   public int getChunkCount() { return chunkCount; }
+
+   public String getBaseHash() { return baseHash; }
+
+   public int getStart() { return start; }
+
+   public int getSuffix() { return suffix; }
+}
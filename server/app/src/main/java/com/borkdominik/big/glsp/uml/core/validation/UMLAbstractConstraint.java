@@ -0,0 +1,55 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.validation;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+public abstract class UMLAbstractConstraint<T extends EObject> implements UMLConstraint {
+   protected final String id;
+   protected final EClass target;
+   protected final Set<EStructuralFeature> features;
+
+   public UMLAbstractConstraint(final String id, final EClass target, final EStructuralFeature... features) {
+      this.id = id;
+      this.target = target;
+      this.features = Set.of(features);
+   }
+
+   @Override
+   public String getId() { return id; }
+
+   @Override
+   public EClass getTarget() { return target; }
+
+   @Override
+   public Set<EStructuralFeature> getFeatures() { return features; }
+
+   @SuppressWarnings("unchecked")
+   @Override
+   public List<UMLValidationIssue> validate(final EObject element) {
+      return doValidate((T) element);
+   }
+
+   protected abstract List<UMLValidationIssue> doValidate(T element);
+
+   protected UMLValidationIssue error(final EObject element, final String label, final String description) {
+      return new UMLValidationIssue(element, UMLValidationIssue.ERROR, label, description);
+   }
+
+   protected UMLValidationIssue warning(final EObject element, final String label, final String description) {
+      return new UMLValidationIssue(element, UMLValidationIssue.WARNING, label, description);
+   }
+}
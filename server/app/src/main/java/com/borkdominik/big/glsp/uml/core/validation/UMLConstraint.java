@@ -0,0 +1,41 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.validation;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+/**
+ * A validation rule for instances of one EClass. The features declare which changes can invalidate a previous result,
+ * only the constraints depending on a changed feature are executed again after a command.
+ */
+public interface UMLConstraint {
+
+   String getId();
+
+   EClass getTarget();
+
+   Set<EStructuralFeature> getFeatures();
+
+   /**
+    * Returns the elements that have to be validated again after the given feature of the notifier changed.
+    */
+   default Collection<? extends EObject> getAffected(final EObject notifier, final EStructuralFeature feature) {
+      return getTarget().isInstance(notifier) ? List.of(notifier) : List.of();
+   }
+
+   List<UMLValidationIssue> validate(EObject element);
+}
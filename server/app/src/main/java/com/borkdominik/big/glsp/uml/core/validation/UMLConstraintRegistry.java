@@ -0,0 +1,63 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.validation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+import com.borkdominik.big.glsp.uml.core.validation.constraints.ActivityEdgeActivityConstraint;
+import com.borkdominik.big.glsp.uml.core.validation.constraints.AssociationMemberEndTypeConstraint;
+import com.borkdominik.big.glsp.uml.core.validation.constraints.CyclicGeneralizationConstraint;
+import com.borkdominik.big.glsp.uml.core.validation.constraints.MultiplicityConstraint;
+import com.borkdominik.big.glsp.uml.core.validation.constraints.TransitionRegionConstraint;
+
+/**
+ * Indexes the available constraints by the EClass they validate and by the features they depend on.
+ */
+public class UMLConstraintRegistry {
+   protected final List<UMLConstraint> constraints;
+   protected final Map<EStructuralFeature, List<UMLConstraint>> byFeature = new HashMap<>();
+   protected final Map<EClass, List<UMLConstraint>> byClass = new ConcurrentHashMap<>();
+
+   public UMLConstraintRegistry() {
+      this.constraints = createConstraints();
+      constraints.forEach(constraint -> constraint.getFeatures()
+         .forEach(feature -> byFeature.computeIfAbsent(feature, key -> new ArrayList<>()).add(constraint)));
+   }
+
+   protected List<UMLConstraint> createConstraints() {
+      return List.of(
+         new CyclicGeneralizationConstraint(),
+         new AssociationMemberEndTypeConstraint(),
+         new MultiplicityConstraint(),
+         new TransitionRegionConstraint(),
+         new ActivityEdgeActivityConstraint());
+   }
+
+   public List<UMLConstraint> getConstraints() { return constraints; }
+
+   public List<UMLConstraint> getConstraints(final EClass eClass) {
+      return byClass.computeIfAbsent(eClass, key -> constraints.stream()
+         .filter(constraint -> constraint.getTarget().isSuperTypeOf(key))
+         .collect(Collectors.toList()));
+   }
+
+   public List<UMLConstraint> getDependentConstraints(final EStructuralFeature feature) {
+      return byFeature.getOrDefault(feature, List.of());
+   }
+}
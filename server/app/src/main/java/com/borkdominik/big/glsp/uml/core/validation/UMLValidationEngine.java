@@ -0,0 +1,286 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.validation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.emf.common.command.CommandStackListener;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.glsp.server.actions.ActionDispatcher;
+import org.eclipse.glsp.server.emf.EMFIdGenerator;
+import org.eclipse.glsp.server.features.validation.Marker;
+import org.eclipse.glsp.server.features.validation.MarkersReason;
+import org.eclipse.glsp.server.features.validation.SetMarkersAction;
+
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.borkdominik.big.glsp.uml.core.model.history.UMLCommandStack;
+import com.google.inject.Inject;
+
+/**
+ * Validates the semantic model of a client session. The initial validation runs in the background after the model has
+ * been sent to the client, afterwards only the constraints that depend on the features changed by a command are
+ * executed again. The current markers are pushed to the client whenever they change.
+ */
+public class UMLValidationEngine {
+   private static final Logger LOGGER = LogManager.getLogger(UMLValidationEngine.class);
+   protected static final int CHUNK_SIZE = 500;
+
+   private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+      var thread = new Thread(runnable, "UMLValidation");
+      thread.setDaemon(true);
+      return thread;
+   });
+
+   @Inject
+   protected BGEMFModelState modelState;
+
+   @Inject
+   protected EMFIdGenerator idGenerator;
+
+   @Inject
+   protected ActionDispatcher actionDispatcher;
+
+   @Inject
+   protected UMLConstraintRegistry registry;
+
+   @Inject
+   protected UMLCommandStack commandStack;
+
+   protected final UMLValidationRecorder recorder = new UMLValidationRecorder();
+   protected final CommandStackListener commandStackListener = event -> revalidate();
+   protected final Map<EObject, Map<String, List<UMLValidationIssue>>> issues = new LinkedHashMap<>();
+   protected Set<String> published = Set.of();
+   protected ResourceSet resourceSet;
+   protected long generation;
+   /** Constraint ids per element that were revalidated while a full validation is running */
+   protected Map<EObject, Set<String>> revalidated;
+
+   public synchronized void install() {
+      uninstall();
+
+      resourceSet = modelState.getResourceSet();
+      resourceSet.eAdapters().add(recorder);
+      modelState.getEditingDomain().getCommandStack().addCommandStackListener(commandStackListener);
+
+      // Does not delay the first model, the markers are sent once the client has it
+      actionDispatcher.dispatchAfterNextUpdate(new ValidateModelAction());
+   }
+
+   public synchronized void uninstall() {
+      if (resourceSet != null) {
+         resourceSet.eAdapters().remove(recorder);
+         modelState.getEditingDomain().getCommandStack().removeCommandStackListener(commandStackListener);
+         resourceSet = null;
+      }
+      issues.clear();
+      published = Set.of();
+      revalidated = null;
+      generation++;
+   }
+
+   /**
+    * Validates every element of the semantic model in the background. The elements are validated one after another,
+    * constraints read derived features through the UML2 cache, which is not thread-safe. Every {@link #CHUNK_SIZE}
+    * elements are validated under the read lock of the command stack, so that a command waits for one chunk at most.
+    * The result replaces the current issues, except for the constraints revalidated in the meantime.
+    */
+   public void validateAll() {
+      long scheduled;
+      synchronized (this) {
+         if (resourceSet == null) {
+            return;
+         }
+         scheduled = ++generation;
+         revalidated = new HashMap<>();
+      }
+
+      executor.submit(() -> {
+         try {
+            validateAll(scheduled);
+         } catch (RuntimeException e) {
+            LOGGER.error("Validation failed", e);
+         }
+      });
+   }
+
+   protected void validateAll(final long scheduled) {
+      var start = System.currentTimeMillis();
+      var elements = commandStack.read(() -> {
+         var result = new ArrayList<EObject>();
+         var semanticModel = modelState.getSemanticModel();
+         if (semanticModel != null) {
+            semanticModel.eAllContents().forEachRemaining(result::add);
+            result.add(semanticModel);
+         }
+         return result;
+      });
+
+      var result = new LinkedHashMap<EObject, Map<String, List<UMLValidationIssue>>>();
+      for (var from = 0; from < elements.size(); from += CHUNK_SIZE) {
+         var chunk = elements.subList(from, Math.min(from + CHUNK_SIZE, elements.size()));
+         var current = commandStack.read(() -> {
+            if (!isCurrent(scheduled)) {
+               return false;
+            }
+            // Elements deleted in the meantime are skipped by validate
+            for (var element : chunk) {
+               var elementIssues = validate(element, registry.getConstraints(element.eClass()));
+               if (!elementIssues.isEmpty()) {
+                  result.put(element, elementIssues);
+               }
+            }
+            return true;
+         });
+         if (!current) {
+            return;
+         }
+      }
+
+      commandStack.read(() -> {
+         merge(scheduled, result);
+         return null;
+      });
+      LOGGER.debug("Validated " + elements.size() + " elements in " + (System.currentTimeMillis() - start) + "ms");
+   }
+
+   protected synchronized boolean isCurrent(final long scheduled) {
+      return scheduled == generation && revalidated != null;
+   }
+
+   /**
+    * Replaces the issues with the result of a full validation. Must be called while no command is executed.
+    */
+   protected synchronized void merge(final long scheduled,
+      final Map<EObject, Map<String, List<UMLValidationIssue>>> result) {
+      if (!isCurrent(scheduled)) {
+         return;
+      }
+
+      var merged = new LinkedHashMap<EObject, Map<String, List<UMLValidationIssue>>>();
+      result.forEach((element, byConstraint) -> merged.put(element, new HashMap<>(byConstraint)));
+
+      // Constraints that were revalidated after a command in the meantime have the newer result
+      revalidated.forEach((element, constraintIds) -> {
+         var current = issues.getOrDefault(element, Map.of());
+         var elementIssues = merged.computeIfAbsent(element, key -> new HashMap<>());
+         for (var constraintId : constraintIds) {
+            elementIssues.remove(constraintId);
+            if (current.containsKey(constraintId)) {
+               elementIssues.put(constraintId, current.get(constraintId));
+            }
+         }
+      });
+      revalidated = null;
+
+      // Elements validated before they were deleted are no longer contained
+      merged.entrySet().removeIf(entry -> entry.getKey().eResource() == null || entry.getValue().isEmpty());
+      issues.clear();
+      issues.putAll(merged);
+      publish();
+   }
+
+   protected synchronized void revalidate() {
+      var changes = recorder.drainChanges();
+      var added = recorder.drainAdded();
+      if (changes.isEmpty() && added.isEmpty()) {
+         return;
+      }
+
+      var pending = new LinkedHashMap<EObject, Set<UMLConstraint>>();
+      for (var change : changes) {
+         for (var constraint : registry.getDependentConstraints(change.feature())) {
+            constraint.getAffected(change.notifier(), change.feature())
+               .forEach(element -> pending.computeIfAbsent(element, key -> new LinkedHashSet<>()).add(constraint));
+         }
+      }
+      for (var element : added) {
+         collect(element, pending);
+         element.eAllContents().forEachRemaining(content -> collect(content, pending));
+      }
+
+      pending.forEach((element, constraints) -> {
+         var elementIssues = issues.computeIfAbsent(element, key -> new HashMap<>());
+         constraints.forEach(constraint -> elementIssues.remove(constraint.getId()));
+         elementIssues.putAll(validate(element, constraints));
+         if (revalidated != null) {
+            var constraintIds = revalidated.computeIfAbsent(element, key -> new HashSet<>());
+            constraints.forEach(constraint -> constraintIds.add(constraint.getId()));
+         }
+      });
+
+      // Deleted elements are no longer validated
+      issues.entrySet().removeIf(entry -> entry.getKey().eResource() == null || entry.getValue().isEmpty());
+      publish();
+   }
+
+   protected void collect(final EObject element, final Map<EObject, Set<UMLConstraint>> pending) {
+      var constraints = registry.getConstraints(element.eClass());
+      if (!constraints.isEmpty()) {
+         pending.computeIfAbsent(element, key -> new LinkedHashSet<>()).addAll(constraints);
+      }
+   }
+
+   protected Map<String, List<UMLValidationIssue>> validate(final EObject element,
+      final Iterable<UMLConstraint> constraints) {
+      var result = new HashMap<String, List<UMLValidationIssue>>();
+      if (element.eResource() == null) {
+         return result;
+      }
+
+      for (var constraint : constraints) {
+         try {
+            var constraintIssues = constraint.validate(element);
+            if (!constraintIssues.isEmpty()) {
+               result.put(constraint.getId(), constraintIssues);
+            }
+         } catch (RuntimeException e) {
+            LOGGER.warn("Constraint " + constraint.getId() + " failed", e);
+         }
+      }
+      return result;
+   }
+
+   public synchronized List<Marker> getMarkers() {
+      return issues.values().stream()
+         .flatMap(byConstraint -> byConstraint.values().stream())
+         .flatMap(List::stream)
+         .map(issue -> new Marker(issue.getLabel(), issue.getDescription(),
+            idGenerator.getOrCreateId(issue.getElement()), issue.getKind()))
+         .collect(Collectors.toList());
+   }
+
+   protected void publish() {
+      var markers = getMarkers();
+      var keys = markers.stream()
+         .map(marker -> String.join("\n", marker.getKind(), marker.getElementId(), marker.getLabel(),
+            marker.getDescription()))
+         .collect(Collectors.toSet());
+      if (keys.equals(published)) {
+         return;
+      }
+
+      published = keys;
+      actionDispatcher.dispatch(new SetMarkersAction(markers, MarkersReason.LIVE));
+   }
+}
@@ -0,0 +1,39 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.validation;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.glsp.server.features.validation.MarkerKind;
+
+public class UMLValidationIssue {
+   public static final String ERROR = MarkerKind.ERROR;
+   public static final String WARNING = MarkerKind.WARNING;
+
+   protected final EObject element;
+   protected final String kind;
+   protected final String label;
+   protected final String description;
+
+   public UMLValidationIssue(final EObject element, final String kind, final String label, final String description) {
+      this.element = element;
+      this.kind = kind;
+      this.label = label;
+      this.description = description;
+   }
+
+   public EObject getElement() { return element; }
+
+   public String getKind() { return kind; }
+
+   public String getLabel() { return label; }
+
+   public String getDescription() { return description; }
+}
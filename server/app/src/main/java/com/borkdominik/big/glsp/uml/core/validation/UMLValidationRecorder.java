@@ -0,0 +1,80 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.validation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Records the changed features and the added elements of a resource set until they are drained by the
+ * {@link UMLValidationEngine}.
+ */
+public class UMLValidationRecorder extends EContentAdapter {
+   protected final Set<Change> changes = new LinkedHashSet<>();
+   protected final Set<EObject> added = new LinkedHashSet<>();
+
+   @Override
+   public void notifyChanged(final Notification notification) {
+      super.notifyChanged(notification);
+
+      if (notification.isTouch() || !(notification.getNotifier() instanceof EObject notifier)
+         || !(notification.getFeature() instanceof EStructuralFeature feature)) {
+         return;
+      }
+
+      changes.add(new Change(notifier, feature));
+      if (feature instanceof EReference reference && reference.isContainment()) {
+         newValues(notification).forEach(added::add);
+      }
+   }
+
+   protected List<EObject> newValues(final Notification notification) {
+      var result = new ArrayList<EObject>();
+      switch (notification.getEventType()) {
+         case Notification.ADD:
+         case Notification.SET:
+            if (notification.getNewValue() instanceof EObject value) {
+               result.add(value);
+            }
+            break;
+         case Notification.ADD_MANY:
+            if (notification.getNewValue() instanceof List<?> values) {
+               values.stream().filter(EObject.class::isInstance).map(EObject.class::cast).forEach(result::add);
+            }
+            break;
+         default:
+            break;
+      }
+      return result;
+   }
+
+   public Set<Change> drainChanges() {
+      var result = new LinkedHashSet<>(changes);
+      changes.clear();
+      return result;
+   }
+
+   public Set<EObject> drainAdded() {
+      var result = new LinkedHashSet<>(added);
+      added.clear();
+      return result;
+   }
+
+   public record Change(EObject notifier, EStructuralFeature feature) {}
+}
@@ -0,0 +1,74 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.validation.constraints;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.uml2.uml.Activity;
+import org.eclipse.uml2.uml.ActivityEdge;
+import org.eclipse.uml2.uml.UMLPackage;
+
+import com.borkdominik.big.glsp.uml.core.validation.UMLAbstractConstraint;
+import com.borkdominik.big.glsp.uml.core.validation.UMLValidationIssue;
+
+public class ActivityEdgeActivityConstraint extends UMLAbstractConstraint<ActivityEdge> {
+
+   public ActivityEdgeActivityConstraint() {
+      super("uml.activityEdge.activity", UMLPackage.Literals.ACTIVITY_EDGE,
+         UMLPackage.Literals.ACTIVITY_EDGE__SOURCE,
+         UMLPackage.Literals.ACTIVITY_EDGE__TARGET,
+         UMLPackage.Literals.ACTIVITY__OWNED_NODE,
+         UMLPackage.Literals.ACTIVITY__EDGE);
+   }
+
+   @Override
+   public Collection<? extends EObject> getAffected(final EObject notifier, final EStructuralFeature feature) {
+      if (notifier instanceof Activity activity) {
+         // Nodes or edges have been moved into or out of the activity
+         var edges = new ArrayList<ActivityEdge>(activity.getEdges());
+         activity.getOwnedNodes().forEach(node -> {
+            edges.addAll(node.getIncomings());
+            edges.addAll(node.getOutgoings());
+         });
+         return edges;
+      }
+      return super.getAffected(notifier, feature);
+   }
+
+   @Override
+   protected List<UMLValidationIssue> doValidate(final ActivityEdge element) {
+      var source = element.getSource();
+      var target = element.getTarget();
+      if (source == null || target == null) {
+         return List.of();
+      }
+
+      var activity = activityOf(element);
+      if (activityOf(source) != activity || activityOf(target) != activity) {
+         return List.of(error(element, "Edge crosses activities",
+            String.format("The activity edge %s connects nodes of different activities.", element.getName())));
+      }
+      return List.of();
+   }
+
+   protected Activity activityOf(final EObject element) {
+      for (var current = element.eContainer(); current != null; current = current.eContainer()) {
+         if (current instanceof Activity activity) {
+            return activity;
+         }
+      }
+      return null;
+   }
+}
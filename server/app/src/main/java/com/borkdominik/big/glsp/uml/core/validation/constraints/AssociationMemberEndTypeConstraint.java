@@ -0,0 +1,50 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.validation.constraints;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.uml2.uml.Association;
+import org.eclipse.uml2.uml.Property;
+import org.eclipse.uml2.uml.UMLPackage;
+
+import com.borkdominik.big.glsp.uml.core.validation.UMLAbstractConstraint;
+import com.borkdominik.big.glsp.uml.core.validation.UMLValidationIssue;
+
+public class AssociationMemberEndTypeConstraint extends UMLAbstractConstraint<Association> {
+
+   public AssociationMemberEndTypeConstraint() {
+      super("uml.association.memberEndType", UMLPackage.Literals.ASSOCIATION,
+         UMLPackage.Literals.ASSOCIATION__MEMBER_END,
+         UMLPackage.Literals.TYPED_ELEMENT__TYPE);
+   }
+
+   @Override
+   public Collection<? extends EObject> getAffected(final EObject notifier, final EStructuralFeature feature) {
+      if (notifier instanceof Property property) {
+         return property.getAssociation() == null ? List.of() : List.of(property.getAssociation());
+      }
+      return super.getAffected(notifier, feature);
+   }
+
+   @Override
+   protected List<UMLValidationIssue> doValidate(final Association element) {
+      return element.getMemberEnds().stream()
+         .filter(end -> end.getType() == null)
+         .map(end -> error(element, "Member end without type",
+            String.format("The member end %s of association %s has no type.", end.getName(), element.getName())))
+         .collect(Collectors.toList());
+   }
+}
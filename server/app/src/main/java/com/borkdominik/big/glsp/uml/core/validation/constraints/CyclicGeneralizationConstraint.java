@@ -0,0 +1,76 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.validation.constraints;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.uml2.uml.Classifier;
+import org.eclipse.uml2.uml.Generalization;
+import org.eclipse.uml2.uml.UMLPackage;
+
+import com.borkdominik.big.glsp.uml.core.model.index.UMLInheritanceIndex;
+import com.borkdominik.big.glsp.uml.core.validation.UMLAbstractConstraint;
+import com.borkdominik.big.glsp.uml.core.validation.UMLValidationIssue;
+
+public class CyclicGeneralizationConstraint extends UMLAbstractConstraint<Classifier> {
+
+   public CyclicGeneralizationConstraint() {
+      super("uml.generalization.cycle", UMLPackage.Literals.CLASSIFIER,
+         UMLPackage.Literals.CLASSIFIER__GENERALIZATION,
+         UMLPackage.Literals.GENERALIZATION__GENERAL);
+   }
+
+   @Override
+   public Collection<? extends EObject> getAffected(final EObject notifier, final EStructuralFeature feature) {
+      var specific = notifier instanceof Generalization generalization ? generalization.getSpecific()
+         : notifier instanceof Classifier classifier ? classifier : null;
+      if (specific == null) {
+         return List.of();
+      }
+
+      // Every classifier reachable from the changed one may now be part of a cycle
+      var affected = generals(specific);
+      affected.add(specific);
+      // A removed generalization may have broken a cycle through the classifiers that reach the changed one
+      UMLInheritanceIndex.of(specific).ifPresent(index -> affected.addAll(index.getDescendants(specific)));
+      return affected;
+   }
+
+   @Override
+   protected List<UMLValidationIssue> doValidate(final Classifier element) {
+      if (!generals(element).contains(element)) {
+         return List.of();
+      }
+      return List.of(error(element, "Cyclic generalization",
+         String.format("%s is a direct or indirect generalization of itself.", element.getName())));
+   }
+
+   protected Set<Classifier> generals(final Classifier classifier) {
+      var result = new LinkedHashSet<Classifier>();
+      var queue = new ArrayDeque<Classifier>();
+      queue.add(classifier);
+      while (!queue.isEmpty()) {
+         for (var generalization : queue.poll().getGeneralizations()) {
+            var general = generalization.getGeneral();
+            if (general != null && result.add(general)) {
+               queue.add(general);
+            }
+         }
+      }
+      return result;
+   }
+}
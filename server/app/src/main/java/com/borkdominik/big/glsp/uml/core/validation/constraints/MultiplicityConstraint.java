@@ -0,0 +1,56 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.validation.constraints;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.uml2.uml.MultiplicityElement;
+import org.eclipse.uml2.uml.UMLPackage;
+
+import com.borkdominik.big.glsp.uml.core.validation.UMLAbstractConstraint;
+import com.borkdominik.big.glsp.uml.core.validation.UMLValidationIssue;
+import com.borkdominik.big.glsp.uml.uml.elements.multiplicity_element.MultiplicityUtil;
+
+public class MultiplicityConstraint extends UMLAbstractConstraint<MultiplicityElement> {
+
+   public MultiplicityConstraint() {
+      super("uml.multiplicity", UMLPackage.Literals.MULTIPLICITY_ELEMENT,
+         UMLPackage.Literals.MULTIPLICITY_ELEMENT__LOWER_VALUE,
+         UMLPackage.Literals.MULTIPLICITY_ELEMENT__UPPER_VALUE,
+         UMLPackage.Literals.LITERAL_INTEGER__VALUE,
+         UMLPackage.Literals.LITERAL_UNLIMITED_NATURAL__VALUE);
+   }
+
+   @Override
+   public Collection<? extends EObject> getAffected(final EObject notifier, final EStructuralFeature feature) {
+      // The bounds are stored as literals owned by the multiplicity element
+      if (!(notifier instanceof MultiplicityElement) && notifier.eContainer() instanceof MultiplicityElement owner) {
+         return List.of(owner);
+      }
+      return super.getAffected(notifier, feature);
+   }
+
+   @Override
+   protected List<UMLValidationIssue> doValidate(final MultiplicityElement element) {
+      var multiplicity = MultiplicityUtil.getMultiplicity(element);
+      var lower = element.getLower();
+      var upper = element.getUpper();
+
+      if (!MultiplicityUtil.matches(multiplicity) || lower < 0 || upper != -1 && upper < lower) {
+         return List.of(error(element, "Invalid multiplicity",
+            String.format("The multiplicity %s is not valid.", multiplicity)));
+      }
+      return List.of();
+   }
+}
@@ -0,0 +1,97 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.core.validation.constraints;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.uml2.uml.Region;
+import org.eclipse.uml2.uml.Transition;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.eclipse.uml2.uml.Vertex;
+
+import com.borkdominik.big.glsp.uml.core.validation.UMLAbstractConstraint;
+import com.borkdominik.big.glsp.uml.core.validation.UMLValidationIssue;
+
+/**
+ * A transition must not connect vertices of orthogonal regions, i.e., different regions of the same state, or
+ * vertices of different state machines.
+ */
+public class TransitionRegionConstraint extends UMLAbstractConstraint<Transition> {
+
+   public TransitionRegionConstraint() {
+      super("uml.transition.region", UMLPackage.Literals.TRANSITION,
+         UMLPackage.Literals.TRANSITION__SOURCE,
+         UMLPackage.Literals.TRANSITION__TARGET,
+         UMLPackage.Literals.VERTEX__CONTAINER);
+   }
+
+   @Override
+   public Collection<? extends EObject> getAffected(final EObject notifier, final EStructuralFeature feature) {
+      if (notifier instanceof Vertex vertex) {
+         var transitions = new ArrayList<Transition>(vertex.getIncomings());
+         transitions.addAll(vertex.getOutgoings());
+         return transitions;
+      }
+      return super.getAffected(notifier, feature);
+   }
+
+   @Override
+   protected List<UMLValidationIssue> doValidate(final Transition element) {
+      var source = element.getSource();
+      var target = element.getTarget();
+      if (source == null || target == null) {
+         return List.of();
+      }
+
+      var sourceRegions = regions(source);
+      var targetRegions = regions(target);
+
+      var common = -1;
+      for (var i = 0; i < Math.min(sourceRegions.size(), targetRegions.size()); i++) {
+         if (sourceRegions.get(i) != targetRegions.get(i)) {
+            break;
+         }
+         common = i;
+      }
+
+      if (common < 0) {
+         return List.of(error(element, "Transition crosses state machines",
+            String.format("The transition %s connects vertices of different state machines.", element.getName())));
+      }
+
+      if (sourceRegions.size() > common + 1 && targetRegions.size() > common + 1) {
+         var sourceRegion = sourceRegions.get(common + 1);
+         var targetRegion = targetRegions.get(common + 1);
+         if (sourceRegion.getState() != null && sourceRegion.getState() == targetRegion.getState()) {
+            return List.of(error(element, "Transition crosses regions",
+               String.format("The transition %s connects vertices of orthogonal regions of %s.", element.getName(),
+                  sourceRegion.getState().getName())));
+         }
+      }
+      return List.of();
+   }
+
+   /**
+    * Returns the regions containing the vertex, starting with the outermost one.
+    */
+   protected List<Region> regions(final Vertex vertex) {
+      var result = new ArrayList<Region>();
+      for (var region = vertex.getContainer(); region != null; region = region.getState() == null ? null
+         : region.getState().getContainer()) {
+         result.add(0, region);
+      }
+      return result;
+   }
+}
@@ -10,6 +10,11 @@
  ********************************************************************************/
 package com.borkdominik.big.glsp.uml.uml;
 
+import com.borkdominik.big.glsp.uml.core.palette.UMLReferencePageSource;
+import com.borkdominik.big.glsp.uml.uml.elements.enumeration.features.EnumerationPropertyProvider;
+import com.borkdominik.big.glsp.uml.uml.elements.feature.BehavioralFeaturePropertyProvider;
+import com.borkdominik.big.glsp.uml.uml.elements.package_.features.PackagePropertyProvider;
+import com.borkdominik.big.glsp.uml.uml.elements.type.TypeChoiceCache;
 import com.borkdominik.big.glsp.uml.uml.elements.type.TypeInformationProvider;
 import com.borkdominik.big.glsp.uml.uml.representation.activity.UMLActivityManifest;
 import com.borkdominik.big.glsp.uml.uml.representation.class_.UMLClassManifest;
@@ -21,6 +26,8 @@ import com.borkdominik.big.glsp.uml.uml.representation.state_machine.UMLStateMac
 import com.borkdominik.big.glsp.uml.uml.representation.use_case.UMLUseCaseManifest;
 import com.google.inject.AbstractModule;
 import com.google.inject.Singleton;
+import com.google.inject.TypeLiteral;
+import com.google.inject.multibindings.Multibinder;
 
 public class UMLModule extends AbstractModule {
 
@@ -29,6 +36,14 @@ public class UMLModule extends AbstractModule {
       super.configure();
 
       bind(TypeInformationProvider.class).in(Singleton.class);
+      bind(TypeChoiceCache.class).in(Singleton.class);
+
+      var referencePages = Multibinder.newSetBinder(binder(), new TypeLiteral<UMLReferencePageSource<?, ?>>() {});
+      referencePages.addBinding().toInstance(BehavioralFeaturePropertyProvider.OWNED_PARAMETERS_PAGES);
+      referencePages.addBinding().toInstance(EnumerationPropertyProvider.OWNED_LITERALS_PAGES);
+      referencePages.addBinding().toInstance(PackagePropertyProvider.ELEMENT_IMPORTS_PAGES);
+      referencePages.addBinding().toInstance(PackagePropertyProvider.PACKAGE_IMPORTS_PAGES);
+      referencePages.addBinding().toInstance(PackagePropertyProvider.PACKAGE_MERGES_PAGES);
 
       install(new UMLActivityManifest());
       install(new UMLClassManifest());
@@ -16,6 +16,7 @@ import org.eclipse.glsp.server.types.GLSPServerException;
 import org.eclipse.uml2.uml.NamedElement;
 import com.borkdominik.big.glsp.server.core.commands.emf.BGEMFCommandContext;
 import com.borkdominik.big.glsp.server.core.commands.semantic.BGCreateEdgeSemanticCommand;
+import com.borkdominik.big.glsp.uml.core.layout.UMLCreatedElementsAdapter;
 
 public class UMLCreateEdgeCommand<TElement extends EObject, TSource extends EObject, TTarget extends EObject, TArgument extends UMLCreateEdgeCommand.Argument<TElement, TSource, TTarget>> extends BGCreateEdgeSemanticCommand<TElement, TSource, TTarget, TArgument> {
 
@@ -87,8 +88,11 @@ public class UMLCreateEdgeCommand<TElement extends EObject, TSource extends EObj
       }
    }
 
+   protected final EObject semanticRoot;
+
    public UMLCreateEdgeCommand(final BGEMFCommandContext context, final TSource source, final TTarget target, final TArgument argument) {
       super(context, context.modelState().getSemanticModel(), source, target, argument);
+      this.semanticRoot = context.modelState().getSemanticModel();
    }
 
    @Override
@@ -100,6 +104,7 @@ public class UMLCreateEdgeCommand<TElement extends EObject, TSource extends EObj
       if (argument.initName && (element instanceof NamedElement ne && (ne.getName() == null || ne.getName().isEmpty()))) {
          ne.setName(element.getClass().getSimpleName().replace("Impl", ""));
       }
+      UMLCreatedElementsAdapter.track(semanticRoot, element);
       return element;
    }
 }
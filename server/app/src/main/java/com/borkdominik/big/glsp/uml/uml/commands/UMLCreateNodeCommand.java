@@ -16,6 +16,7 @@ import org.eclipse.glsp.server.types.GLSPServerException;
 import org.eclipse.uml2.uml.NamedElement;
 import com.borkdominik.big.glsp.server.core.commands.emf.BGEMFCommandContext;
 import com.borkdominik.big.glsp.server.core.commands.semantic.BGCreateNodeSemanticCommand;
+import com.borkdominik.big.glsp.uml.core.layout.UMLCreatedElementsAdapter;
 
 public class UMLCreateNodeCommand<TElement extends EObject, TParent extends EObject, TArgument extends UMLCreateNodeCommand.Argument<TElement, TParent>> extends BGCreateNodeSemanticCommand<TElement, TParent, TArgument> {
 
@@ -87,8 +88,11 @@ public class UMLCreateNodeCommand<TElement extends EObject, TParent extends EObj
       }
    }
 
+   protected final EObject semanticRoot;
+
    public UMLCreateNodeCommand(final BGEMFCommandContext context, final TParent parent, final TArgument argument) {
       super(context, context.modelState().getSemanticModel(), parent, argument);
+      this.semanticRoot = context.modelState().getSemanticModel();
    }
 
    @Override
@@ -100,6 +104,7 @@ public class UMLCreateNodeCommand<TElement extends EObject, TParent extends EObj
       if (argument.initName && (element instanceof NamedElement ne && (ne.getName() == null || ne.getName().isEmpty()))) {
          ne.setName(element.getClass().getSimpleName().replace("Impl", ""));
       }
+      UMLCreatedElementsAdapter.track(semanticRoot, element);
       return element;
    }
 }
@@ -0,0 +1,71 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.uml.customizations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.common.command.Command;
+import org.eclipse.emf.common.command.CompoundCommand;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.glsp.server.emf.model.notation.NotationElement;
+import org.eclipse.glsp.server.operations.DeleteOperation;
+
+import com.borkdominik.big.glsp.server.core.commands.BGRecordingRunnableCommand;
+import com.borkdominik.big.glsp.server.core.handler.operation.delete.BGDeleteHandler;
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.borkdominik.big.glsp.server.core.model.BGTypeProvider;
+import com.borkdominik.big.glsp.server.core.model.BGTypeProviderAll;
+import com.borkdominik.big.glsp.uml.core.model.index.UMLInverseReferenceIndex;
+import com.borkdominik.big.glsp.uml.unotation.UMLDiagram;
+import com.google.inject.Inject;
+
+/**
+ * Deletes an element with its contents and its notation elements. The references to the deleted elements and the
+ * notation elements showing them are taken from the {@link UMLInverseReferenceIndex}, deleting many elements does
+ * not scan the model once per element.
+ */
+public class UMLDefaultDeleteHandler implements BGDeleteHandler {
+
+   @Inject
+   protected BGEMFModelState modelState;
+
+   @Inject
+   protected UMLInverseReferenceIndex inverseReferenceIndex;
+
+   @Override
+   public Set<BGTypeProvider> getHandledElementTypes() { return Set.of(BGTypeProviderAll.instance); }
+
+   @Override
+   public Optional<Command> handleDelete(final DeleteOperation operation, final EObject object) {
+      var semanticElement = modelState.getElementIndex().getSemanticOrThrow(object, EObject.class);
+      var notations = new ArrayList<NotationElement>();
+      var command = new CompoundCommand();
+      command.append(new BGRecordingRunnableCommand(modelState.getSemanticModel(), () -> {
+         // The notation elements are indexed by id, they are collected before the elements are detached
+         notations.addAll(notationElementsOf(semanticElement));
+         inverseReferenceIndex.delete(List.of(semanticElement));
+      }));
+      modelState.getNotationModel(UMLDiagram.class).ifPresent(diagram -> command
+         .append(new BGRecordingRunnableCommand(diagram, () -> notations.forEach(EcoreUtil::remove))));
+      return Optional.of(command);
+   }
+
+   protected List<NotationElement> notationElementsOf(final EObject semanticElement) {
+      var result = new ArrayList<NotationElement>(inverseReferenceIndex.getNotationElements(semanticElement));
+      semanticElement.eAllContents()
+         .forEachRemaining(element -> result.addAll(inverseReferenceIndex.getNotationElements(element)));
+      return result;
+   }
+}
@@ -10,6 +10,7 @@
  ********************************************************************************/
 package com.borkdominik.big.glsp.uml.uml.elements.association;
 
+import java.util.ArrayList;
 import java.util.Optional;
 import java.util.Set;
 
@@ -29,11 +30,11 @@ import org.eclipse.uml2.uml.Type;
 import com.borkdominik.big.glsp.server.core.commands.BGRecordingRunnableCommand;
 import com.borkdominik.big.glsp.server.core.commands.emf.notation.BGEMFDeleteNotationCommand;
 import com.borkdominik.big.glsp.server.core.commands.semantic.BGCreateEdgeSemanticCommand;
-import com.borkdominik.big.glsp.server.core.commands.semantic.BGDeleteElementSemanticCommand;
 import com.borkdominik.big.glsp.server.core.handler.operation.delete.BGDeleteHandler;
 import com.borkdominik.big.glsp.server.core.handler.operation.reconnect_edge.BGReconnectEdgeHandler;
 import com.borkdominik.big.glsp.server.core.model.BGTypeProvider;
 import com.borkdominik.big.glsp.server.elements.handler.operations.integrations.BGEMFEdgeOperationHandler;
+import com.borkdominik.big.glsp.uml.core.model.index.UMLInverseReferenceIndex;
 import com.borkdominik.big.glsp.uml.uml.UMLTypes;
 import com.borkdominik.big.glsp.uml.uml.commands.UMLCreateEdgeCommand;
 import com.google.inject.Inject;
@@ -42,6 +43,9 @@ import com.google.inject.assistedinject.Assisted;
 public class AssociationOperationHandler extends BGEMFEdgeOperationHandler<Association, Type, Type>
    implements BGDeleteHandler, BGReconnectEdgeHandler {
 
+   @Inject
+   protected UMLInverseReferenceIndex inverseReferenceIndex;
+
    @Inject
    public AssociationOperationHandler(@Assisted final Enumerator representation,
       @Assisted final Set<BGTypeProvider> elementTypes) {
@@ -87,15 +91,18 @@ public class AssociationOperationHandler extends BGEMFEdgeOperationHandler<Assoc
    public Optional<Command> handleDelete(final DeleteOperation operation, final EObject object) {
       var semanticElement = modelState.getElementIndex().getSemanticOrThrow(object, Association.class);
 
-      var command = new CompoundCommand();
+      var elements = new ArrayList<EObject>();
       for (var end : semanticElement.getMemberEnds()) {
          if (!EcoreUtil.isAncestor(semanticElement, end)) {
-            command.append(new BGDeleteElementSemanticCommand(commandContext, modelState.getSemanticModel(), end));
+            elements.add(end);
          }
       }
+      elements.add(semanticElement);
 
-      command
-         .append(new BGDeleteElementSemanticCommand(commandContext, modelState.getSemanticModel(), semanticElement));
+      // The references to the deleted elements are taken from the index instead of scanning the model
+      var command = new CompoundCommand();
+      command.append(new BGRecordingRunnableCommand(modelState.getSemanticModel(),
+         () -> inverseReferenceIndex.delete(elements)));
       command.append(new BGEMFDeleteNotationCommand(commandContext, semanticElement));
 
       return Optional.of(command);
@@ -18,10 +18,12 @@ import org.eclipse.uml2.uml.VisibilityKind;
 import com.borkdominik.big.glsp.server.features.property_palette.model.ElementChoicePropertyItem;
 
 public class VisibilityKindUtils {
+   private static final List<ElementChoicePropertyItem.Choice> CHOICES = VisibilityKind.VALUES.stream()
+      .map(v -> ElementChoicePropertyItem.Choice.builder().label(v.getLiteral()).value(v.getLiteral()).build())
+      .collect(Collectors.toUnmodifiableList());
+
    public static List<ElementChoicePropertyItem.Choice> asChoices() {
-      return VisibilityKind.VALUES.stream()
-         .map(v -> ElementChoicePropertyItem.Choice.builder().label(v.getLiteral()).value(v.getLiteral()).build())
-         .collect(Collectors.toList());
+      return CHOICES;
    }
 
    public static String asSingleLabel(final VisibilityKind kind) {
@@ -15,11 +15,13 @@ import java.util.Set;
 
 import org.eclipse.emf.common.util.Enumerator;
 import org.eclipse.uml2.uml.Enumeration;
+import org.eclipse.uml2.uml.EnumerationLiteral;
 
 import com.borkdominik.big.glsp.server.core.model.BGTypeProvider;
 import com.borkdominik.big.glsp.server.features.property_palette.model.ElementPropertyBuilder;
 import com.borkdominik.big.glsp.server.features.property_palette.model.ElementPropertyItem;
 import com.borkdominik.big.glsp.server.features.property_palette.provider.integrations.BGEMFElementPropertyProvider;
+import com.borkdominik.big.glsp.uml.core.palette.UMLReferencePageSource;
 import com.borkdominik.big.glsp.uml.uml.UMLTypes;
 import com.borkdominik.big.glsp.uml.uml.elements.enumeration_literal.utils.EnumerationLiteralPropertyPaletteUtils;
 import com.google.inject.Inject;
@@ -29,6 +31,10 @@ public class EnumerationPropertyProvider extends BGEMFElementPropertyProvider<En
 
    public static final String OWNED_LITERALS = "ownedLiterals";
 
+   public static final UMLReferencePageSource<Enumeration, EnumerationLiteral> OWNED_LITERALS_PAGES =
+      new UMLReferencePageSource<>(Enumeration.class, OWNED_LITERALS, Enumeration::getOwnedLiterals,
+         EnumerationLiteral::getName, EnumerationLiteralPropertyPaletteUtils::toReference);
+
    @Inject
    public EnumerationPropertyProvider(@Assisted final Enumerator representation,
       @Assisted final Set<BGTypeProvider> elementTypes) {
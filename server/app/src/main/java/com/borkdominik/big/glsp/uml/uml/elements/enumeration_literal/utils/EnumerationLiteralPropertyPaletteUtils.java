@@ -11,7 +11,6 @@
 package com.borkdominik.big.glsp.uml.uml.elements.enumeration_literal.utils;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.glsp.server.emf.EMFIdGenerator;
@@ -21,6 +20,7 @@ import org.eclipse.uml2.uml.EnumerationLiteral;
 
 import com.borkdominik.big.glsp.server.features.property_palette.model.ElementReferencePropertyItem;
 import com.borkdominik.big.glsp.server.features.property_palette.provider.BGPropertyProviderContext;
+import com.borkdominik.big.glsp.uml.core.palette.UMLReferencePages;
 import com.borkdominik.big.glsp.uml.uml.UMLTypes;
 
 public class EnumerationLiteralPropertyPaletteUtils {
@@ -31,7 +31,7 @@ public class EnumerationLiteralPropertyPaletteUtils {
          .elementId(elementId)
          .propertyId(propertyId)
          .label(label)
-         .references(asReferences(literals, context.idGenerator()))
+         .references(UMLReferencePages.firstPage(literals, v -> toReference(v, context.idGenerator())))
          .creates(List.of(
             ElementReferencePropertyItem.CreateReference.builder()
                .label("Enumeration Literal")
@@ -42,21 +42,15 @@ public class EnumerationLiteralPropertyPaletteUtils {
          .build();
    }
 
-   public static List<ElementReferencePropertyItem.Reference> asReferences(final List<EnumerationLiteral> literals,
+   public static ElementReferencePropertyItem.Reference toReference(final EnumerationLiteral literal,
       final EMFIdGenerator idGenerator) {
-      var references = literals.stream()
-         .map(v -> {
-            var id = idGenerator.getOrCreateId(v);
-            var label = v.getName() == null ? "Enumeration Literal" : v.getName();
-            return ElementReferencePropertyItem.Reference.builder()
-               .elementId(idGenerator.getOrCreateId(v))
-               .label(label)
-               .name(v.getName())
-               .deleteActions(List.of(new DeleteOperation(List.of(id))))
-               .build();
-         })
-         .collect(Collectors.toList());
-
-      return references;
+      var id = idGenerator.getOrCreateId(literal);
+      var label = literal.getName() == null ? "Enumeration Literal" : literal.getName();
+      return ElementReferencePropertyItem.Reference.builder()
+         .elementId(id)
+         .label(label)
+         .name(literal.getName())
+         .deleteActions(List.of(new DeleteOperation(List.of(id))))
+         .build();
    }
 }
@@ -18,6 +18,7 @@ import org.eclipse.emf.common.command.Command;
 import org.eclipse.emf.common.util.Enumerator;
 import org.eclipse.uml2.uml.BehavioralFeature;
 import org.eclipse.uml2.uml.CallConcurrencyKind;
+import org.eclipse.uml2.uml.Parameter;
 
 import com.borkdominik.big.glsp.server.core.model.BGTypeProvider;
 import com.borkdominik.big.glsp.server.features.property_palette.handler.BGUpdateElementPropertyAction;
@@ -26,6 +27,7 @@ import com.borkdominik.big.glsp.server.features.property_palette.model.ElementPr
 import com.borkdominik.big.glsp.server.features.property_palette.model.NewListIndex;
 import com.borkdominik.big.glsp.server.features.property_palette.provider.integrations.BGEMFElementPropertyProvider;
 import com.borkdominik.big.glsp.server.features.property_palette.utils.BGPropertyPaletteUtils;
+import com.borkdominik.big.glsp.uml.core.palette.UMLReferencePageSource;
 import com.borkdominik.big.glsp.uml.uml.commands.UMLUpdateElementCommand;
 import com.borkdominik.big.glsp.uml.uml.elements.parameter.utils.ParameterPropertyPaletteUtils;
 import com.google.gson.Gson;
@@ -40,6 +42,10 @@ public class BehavioralFeaturePropertyProvider extends BGEMFElementPropertyProvi
    public static final String OWNED_PARAMETERS = "ownedParameters";
    public static final String OWNED_PARAMETERS_INDEX = "ownedParameters_index";
 
+   public static final UMLReferencePageSource<BehavioralFeature, Parameter> OWNED_PARAMETERS_PAGES =
+      new UMLReferencePageSource<>(BehavioralFeature.class, OWNED_PARAMETERS,
+         BehavioralFeature::getOwnedParameters, Parameter::getName, ParameterPropertyPaletteUtils::toReference);
+
    protected Gson gson;
 
    @Inject
@@ -14,18 +14,23 @@ import java.util.Set;
 
 import org.eclipse.emf.common.util.Enumerator;
 import org.eclipse.glsp.server.operations.CreateEdgeOperation;
+import org.eclipse.glsp.server.types.GLSPServerException;
 import org.eclipse.uml2.uml.Classifier;
 import org.eclipse.uml2.uml.Generalization;
 
 import com.borkdominik.big.glsp.server.core.commands.semantic.BGCreateEdgeSemanticCommand;
 import com.borkdominik.big.glsp.server.core.model.BGTypeProvider;
 import com.borkdominik.big.glsp.server.elements.handler.operations.integrations.BGEMFEdgeOperationHandler;
+import com.borkdominik.big.glsp.uml.core.model.index.UMLInheritanceIndex;
 import com.borkdominik.big.glsp.uml.uml.commands.UMLCreateEdgeCommand;
 import com.google.inject.Inject;
 import com.google.inject.assistedinject.Assisted;
 
 public class GeneralizationOperationHandler extends BGEMFEdgeOperationHandler<Generalization, Classifier, Classifier> {
 
+   @Inject
+   protected UMLInheritanceIndex inheritanceIndex;
+
    @Inject
    public GeneralizationOperationHandler(@Assisted final Enumerator representation,
       @Assisted final Set<BGTypeProvider> elementTypes) {
@@ -36,6 +41,11 @@ public class GeneralizationOperationHandler extends BGEMFEdgeOperationHandler<Ge
    @Override
    protected BGCreateEdgeSemanticCommand<Generalization, Classifier, Classifier, ?> createSemanticCommand(
       final CreateEdgeOperation operation, final Classifier source, final Classifier target) {
+      if (inheritanceIndex.wouldCreateCycle(source, target)) {
+         throw new GLSPServerException(
+            String.format("Generalization from %s to %s would create a cycle", source.getName(), target.getName()));
+      }
+
       var argument = UMLCreateEdgeCommand.Argument
          .<Generalization, Classifier, Classifier> createEdgeArgumentBuilder()
          .supplier((s, t) -> {
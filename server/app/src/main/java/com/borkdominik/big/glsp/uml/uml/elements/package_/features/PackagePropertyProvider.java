@@ -15,13 +15,18 @@ import java.util.Set;
 
 import org.eclipse.emf.common.command.Command;
 import org.eclipse.emf.common.util.Enumerator;
+import org.eclipse.uml2.uml.ElementImport;
 import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.PackageImport;
+import org.eclipse.uml2.uml.PackageMerge;
 
 import com.borkdominik.big.glsp.server.core.model.BGTypeProvider;
 import com.borkdominik.big.glsp.server.features.property_palette.handler.BGUpdateElementPropertyAction;
 import com.borkdominik.big.glsp.server.features.property_palette.model.ElementPropertyBuilder;
 import com.borkdominik.big.glsp.server.features.property_palette.model.ElementPropertyItem;
 import com.borkdominik.big.glsp.server.features.property_palette.provider.integrations.BGEMFElementPropertyProvider;
+import com.borkdominik.big.glsp.uml.core.palette.UMLReferencePageSource;
+import com.borkdominik.big.glsp.uml.core.palette.UMLReferencePages;
 import com.borkdominik.big.glsp.uml.uml.UMLTypes;
 import com.borkdominik.big.glsp.uml.uml.commands.UMLUpdateElementCommand;
 import com.borkdominik.big.glsp.uml.uml.elements.package_import.utils.PackageImportPropertyPaletteUtils;
@@ -37,6 +42,19 @@ public class PackagePropertyProvider extends BGEMFElementPropertyProvider<Packag
    public static final String PACKAGE_IMPORTS = "packageImports";
    public static final String PACKAGE_MERGES = "packageMerges";
 
+   public static final UMLReferencePageSource<Package, ElementImport> ELEMENT_IMPORTS_PAGES =
+      new UMLReferencePageSource<>(Package.class, ELEMENT_IMPORTS, Package::getElementImports,
+         v -> v.getImportedElement() == null ? null : v.getImportedElement().getName(),
+         ElementImportPropertyPaletteUtils::toReference);
+   public static final UMLReferencePageSource<Package, PackageImport> PACKAGE_IMPORTS_PAGES =
+      new UMLReferencePageSource<>(Package.class, PACKAGE_IMPORTS, Package::getPackageImports,
+         v -> v.getImportedPackage() == null ? null : v.getImportedPackage().getName(),
+         PackageImportPropertyPaletteUtils::toReference);
+   public static final UMLReferencePageSource<Package, PackageMerge> PACKAGE_MERGES_PAGES =
+      new UMLReferencePageSource<>(Package.class, PACKAGE_MERGES, Package::getPackageMerges,
+         v -> v.getMergedPackage() == null ? null : v.getMergedPackage().getName(),
+         PackageMergePropertyPaletteUtils::toReference);
+
    @Inject
    public PackagePropertyProvider(@Assisted final Enumerator representation,
       @Assisted final Set<BGTypeProvider> elementTypes) {
@@ -53,23 +71,24 @@ public class PackagePropertyProvider extends BGEMFElementPropertyProvider<Packag
          builder.reference(
             PACKAGE_IMPORTS,
             "Package Import",
-            PackageImportPropertyPaletteUtils.asReferenceFromPackageImport(element.getPackageImports(),
-               providerContext.idGenerator()));
+            UMLReferencePages.firstPage(element.getPackageImports(),
+               v -> PackageImportPropertyPaletteUtils.toReference(v, providerContext.idGenerator())));
       }
 
       if (providerContext.elementConfig().has(UMLTypes.PACKAGE_MERGE)) {
          builder.reference(
             PACKAGE_MERGES,
             "Package Merge",
-            PackageMergePropertyPaletteUtils.asReferences(element.getPackageMerges(), providerContext.idGenerator()));
+            UMLReferencePages.firstPage(element.getPackageMerges(),
+               v -> PackageMergePropertyPaletteUtils.toReference(v, providerContext.idGenerator())));
       }
 
       if (providerContext.elementConfig().has(UMLTypes.ELEMENT_IMPORT)) {
          builder.reference(
             ELEMENT_IMPORTS,
             "Element Import",
-            ElementImportPropertyPaletteUtils.asReferenceFromElementImports(element.getElementImports(),
-               providerContext.idGenerator()));
+            UMLReferencePages.firstPage(element.getElementImports(),
+               v -> ElementImportPropertyPaletteUtils.toReference(v, providerContext.idGenerator())));
       }
 
       return builder.items();
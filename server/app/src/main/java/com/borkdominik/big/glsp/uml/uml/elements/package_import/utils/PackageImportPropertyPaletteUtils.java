@@ -20,33 +20,23 @@ import org.eclipse.uml2.uml.PackageImport;
 import com.borkdominik.big.glsp.server.features.property_palette.model.ElementReferencePropertyItem;
 
 public class PackageImportPropertyPaletteUtils {
-
-   public static List<ElementReferencePropertyItem.Reference> asReferenceFromPackageImport(
-      final List<PackageImport> packageImports,
+   public static ElementReferencePropertyItem.Reference toReference(final PackageImport packageImport,
       final EMFIdGenerator idGenerator) {
-      var references = packageImports.stream()
-         .map(v -> {
-            var p = v.getImportedPackage();
-            var label = String.format("<Package Import> %s", p.getName());
-            return ElementReferencePropertyItem.Reference.builder()
-               .elementId(idGenerator.getOrCreateId(p))
-               .label(label)
-               .name(p.getName())
-               .build();
-         })
-         .collect(Collectors.toList());
-
-      return references;
+      var p = packageImport.getImportedPackage();
+      return ElementReferencePropertyItem.Reference.builder()
+         .elementId(idGenerator.getOrCreateId(p))
+         .label("<Package Import> " + p.getName())
+         .name(p.getName())
+         .build();
    }
 
    public static List<ElementReferencePropertyItem.Reference> asReferenceFromPackage(final List<Package> packages,
       final EMFIdGenerator idGenerator) {
       var references = packages.stream()
          .map(v -> {
-            var label = String.format("<Package> %s", v.getName());
             return ElementReferencePropertyItem.Reference.builder()
                .elementId(idGenerator.getOrCreateId(v))
-               .label(label)
+               .label("<Package> " + v.getName())
                .name(v.getName()).build();
          })
          .collect(Collectors.toList());
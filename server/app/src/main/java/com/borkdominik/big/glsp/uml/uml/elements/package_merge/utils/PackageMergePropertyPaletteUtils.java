@@ -10,29 +10,19 @@
  ********************************************************************************/
 package com.borkdominik.big.glsp.uml.uml.elements.package_merge.utils;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 import org.eclipse.glsp.server.emf.EMFIdGenerator;
 import org.eclipse.uml2.uml.PackageMerge;
 
 import com.borkdominik.big.glsp.server.features.property_palette.model.ElementReferencePropertyItem;
 
 public class PackageMergePropertyPaletteUtils {
-   public static List<ElementReferencePropertyItem.Reference> asReferences(final List<PackageMerge> packageMerges,
+   public static ElementReferencePropertyItem.Reference toReference(final PackageMerge packageMerge,
       final EMFIdGenerator idGenerator) {
-      var references = packageMerges.stream()
-         .map(v -> {
-            var p = v.getMergedPackage();
-            var label = String.format("<Package Merge> %s", p.getName());
-            return ElementReferencePropertyItem.Reference.builder()
-               .elementId(idGenerator.getOrCreateId(p))
-               .label(label)
-               .name(p.getName())
-               .build();
-         })
-         .collect(Collectors.toList());
-
-      return references;
+      var p = packageMerge.getMergedPackage();
+      return ElementReferencePropertyItem.Reference.builder()
+         .elementId(idGenerator.getOrCreateId(p))
+         .label("<Package Merge> " + p.getName())
+         .name(p.getName())
+         .build();
    }
 }
@@ -18,9 +18,11 @@ import org.eclipse.uml2.uml.ParameterEffectKind;
 import com.borkdominik.big.glsp.server.features.property_palette.model.ElementChoicePropertyItem;
 
 public class ParameterEffectKindUtils {
+   private static final List<ElementChoicePropertyItem.Choice> CHOICES = ParameterEffectKind.VALUES.stream()
+      .map(v -> ElementChoicePropertyItem.Choice.builder().label(v.getLiteral()).value(v.getLiteral()).build())
+      .collect(Collectors.toUnmodifiableList());
+
    public static List<ElementChoicePropertyItem.Choice> asChoices() {
-      return ParameterEffectKind.VALUES.stream()
-         .map(v -> ElementChoicePropertyItem.Choice.builder().label(v.getLiteral()).value(v.getLiteral()).build())
-         .collect(Collectors.toList());
+      return CHOICES;
    }
 }
@@ -11,7 +11,6 @@
 package com.borkdominik.big.glsp.uml.uml.elements.parameter.utils;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.glsp.server.emf.EMFIdGenerator;
@@ -21,6 +20,7 @@ import org.eclipse.uml2.uml.Parameter;
 
 import com.borkdominik.big.glsp.server.features.property_palette.model.ElementReferencePropertyItem;
 import com.borkdominik.big.glsp.server.features.property_palette.provider.BGPropertyProviderContext;
+import com.borkdominik.big.glsp.uml.core.palette.UMLReferencePages;
 import com.borkdominik.big.glsp.uml.uml.UMLTypes;
 import com.borkdominik.big.glsp.uml.uml.elements.type.TypeUtils;
 
@@ -33,7 +33,7 @@ public class ParameterPropertyPaletteUtils {
          .propertyId(propertyId)
          .label(label)
          .isOrderable(true)
-         .references(asReferences(parameters, context.idGenerator()))
+         .references(UMLReferencePages.firstPage(parameters, v -> toReference(v, context.idGenerator())))
          .creates(List.of(
             ElementReferencePropertyItem.CreateReference.builder()
                .label("Parameter")
@@ -44,22 +44,16 @@ public class ParameterPropertyPaletteUtils {
          .build();
    }
 
-   public static List<ElementReferencePropertyItem.Reference> asReferences(final List<Parameter> parameters,
+   public static ElementReferencePropertyItem.Reference toReference(final Parameter parameter,
       final EMFIdGenerator idGenerator) {
-      var references = parameters.stream()
-         .map(v -> {
-            var id = idGenerator.getOrCreateId(v);
-            return ElementReferencePropertyItem.Reference.builder()
-               .elementId(idGenerator.getOrCreateId(v))
-               .label(v.getLabel())
-               .name(v.getName())
-               .hint(asHint(v))
-               .deleteActions(List.of(new DeleteOperation(List.of(id))))
-               .build();
-         })
-         .collect(Collectors.toList());
-
-      return references;
+      var id = idGenerator.getOrCreateId(parameter);
+      return ElementReferencePropertyItem.Reference.builder()
+         .elementId(id)
+         .label(parameter.getLabel())
+         .name(parameter.getName())
+         .hint(asHint(parameter))
+         .deleteActions(List.of(new DeleteOperation(List.of(id))))
+         .build();
    }
 
    public static String asText(final Parameter parameter) {
@@ -10,24 +10,20 @@
  ********************************************************************************/
 package com.borkdominik.big.glsp.uml.uml.elements.property.utils;
 
-import org.eclipse.emf.common.notify.Notifier;
-import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.uml2.uml.DataType;
-import org.eclipse.uml2.uml.NamedElement;
 import org.eclipse.uml2.uml.Type;
+import org.eclipse.uml2.uml.UseCase;
+
+import com.borkdominik.big.glsp.uml.core.model.index.UMLModelIndex;
 
 public class PropertyUtil {
    public static Type getType(final EditingDomain domain, final String typeName) {
-      TreeIterator<Notifier> resourceSetContent = domain.getResourceSet().getAllContents();
-      while (resourceSetContent.hasNext()) {
-         Notifier res = resourceSetContent.next();
-         if (res instanceof DataType || res instanceof org.eclipse.uml2.uml.UseCase) {
-            if (res instanceof NamedElement && ((NamedElement) res).getName().equals(typeName)) {
-               return (Type) res;
-            }
-         }
-      }
-      return null;
+      return UMLModelIndex.of(domain.getResourceSet())
+         .flatMap(index -> index.query(Type.class)
+            .named(typeName)
+            .where(type -> type instanceof DataType || type instanceof UseCase)
+            .first())
+         .orElse(null);
    }
 }
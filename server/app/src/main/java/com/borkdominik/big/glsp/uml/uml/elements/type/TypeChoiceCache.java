@@ -0,0 +1,154 @@
+/********************************************************************************
+ * Copyright (c) 2024 borkdominik and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package com.borkdominik.big.glsp.uml.uml.elements.type;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.glsp.server.emf.EMFIdGenerator;
+import org.eclipse.uml2.uml.Type;
+import org.eclipse.uml2.uml.UMLPackage;
+
+import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.borkdominik.big.glsp.server.features.property_palette.model.ElementChoicePropertyItem;
+import com.google.inject.Inject;
+
+/**
+ * Sorted type choices of the semantic model, shared between palette requests. The cache observes the semantic
+ * resource and only updates the entries of types that have been added, removed or renamed. The list is sorted again
+ * on the next request after such a change.
+ */
+public class TypeChoiceCache extends EContentAdapter {
+   protected static final ElementChoicePropertyItem.Choice UNDEFINED = ElementChoicePropertyItem.Choice.builder()
+      .label("<Undefined>").value("").build();
+
+   @Inject
+   protected BGEMFModelState modelState;
+
+   @Inject
+   protected EMFIdGenerator idGenerator;
+
+   protected Resource resource;
+   // Choices are created lazily, a null value marks a type whose choice has to be (re)built
+   protected final Map<Type, ElementChoicePropertyItem.Choice> entries = new LinkedHashMap<>();
+   protected List<ElementChoicePropertyItem.Choice> choices;
+
+   public synchronized List<ElementChoicePropertyItem.Choice> getChoices() {
+      install();
+
+      if (choices == null) {
+         var result = new ArrayList<ElementChoicePropertyItem.Choice>(entries.size() + 1);
+         for (var entry : entries.entrySet()) {
+            var choice = entry.getValue();
+            if (choice == null) {
+               choice = createChoice(entry.getKey());
+               entry.setValue(choice);
+            }
+            result.add(choice);
+         }
+         result.add(UNDEFINED);
+         result.sort(Comparator.comparing(choice -> choice.label));
+         choices = List.copyOf(result);
+      }
+
+      return choices;
+   }
+
+   protected void install() {
+      var current = modelState.getSemanticModel().eResource();
+      if (current == resource) {
+         return;
+      }
+
+      uninstall();
+      resource = current;
+      resource.eAdapters().add(this);
+   }
+
+   public synchronized void uninstall() {
+      if (resource != null) {
+         resource.eAdapters().remove(this);
+      }
+      entries.clear();
+      choices = null;
+      resource = null;
+   }
+
+   protected ElementChoicePropertyItem.Choice createChoice(final Type type) {
+      return ElementChoicePropertyItem.Choice.builder()
+         .label(type.getName())
+         .value(idGenerator.getOrCreateId(type))
+         .secondaryText(type.getClass().getSimpleName().replace("Impl", ""))
+         .build();
+   }
+
+   protected boolean isChoice(final Type type) {
+      return type.getName() != null && !type.getName().isBlank();
+   }
+
+   @Override
+   protected synchronized void setTarget(final EObject target) {
+      super.setTarget(target);
+      if (target instanceof Type type && isChoice(type)) {
+         entries.put(type, null);
+         choices = null;
+      }
+   }
+
+   @Override
+   protected synchronized void unsetTarget(final EObject target) {
+      super.unsetTarget(target);
+      if (entries.containsKey(target)) {
+         entries.remove(target);
+         choices = null;
+      }
+   }
+
+   @Override
+   protected void unsetTarget(final Resource target) {
+      super.unsetTarget(target);
+      synchronized (this) {
+         if (target == resource) {
+            entries.clear();
+            choices = null;
+            resource = null;
+         }
+      }
+   }
+
+   @Override
+   public void notifyChanged(final Notification notification) {
+      super.notifyChanged(notification);
+
+      if (!notification.isTouch() && notification.getFeature() == UMLPackage.Literals.NAMED_ELEMENT__NAME
+         && notification.getNotifier() instanceof Type type) {
+         synchronized (this) {
+            entries.remove(type);
+            if (isChoice(type)) {
+               entries.put(type, null);
+            }
+            choices = null;
+         }
+      }
+   }
+
+   @Override
+   public boolean isAdapterForType(final Object type) {
+      return type == TypeChoiceCache.class;
+   }
+}
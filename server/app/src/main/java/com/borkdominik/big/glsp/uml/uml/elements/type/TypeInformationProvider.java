@@ -17,6 +17,7 @@ import org.eclipse.glsp.server.emf.EMFIdGenerator;
 import org.eclipse.uml2.uml.Type;
 
 import com.borkdominik.big.glsp.server.core.model.BGEMFModelState;
+import com.borkdominik.big.glsp.uml.core.model.index.UMLModelIndex;
 import com.borkdominik.big.glsp.uml.uml.elements.type.model.TypeInformation;
 import com.google.inject.Inject;
 
@@ -25,17 +26,18 @@ public class TypeInformationProvider {
    protected BGEMFModelState modelState;
    @Inject
    protected EMFIdGenerator idGenerator;
+   @Inject
+   protected UMLModelIndex modelIndex;
 
    public Set<TypeInformation> provide() {
       var types = new HashSet<TypeInformation>();
       var resource = modelState.getSemanticModel().eResource();
-      var contents = resource.getAllContents();
       var modelUri = resource.getURI();
 
-      while (contents.hasNext()) {
-         var res = contents.next();
-         if (res instanceof Type) {
-            var type = (Type) res;
+      modelIndex.query(Type.class)
+         .inResource(resource)
+         .stream()
+         .forEach(type -> {
             var simpleName = type.getClass().getSimpleName().replace("Impl", "");
             var name = type.getName() == null || type.getName().isBlank() ? simpleName : type.getName();
 
@@ -45,8 +47,7 @@ public class TypeInformationProvider {
                .name(name)
                .type(simpleName)
                .build());
-         }
-      }
+         });
 
       return types;
    }
@@ -12,11 +12,9 @@ package com.borkdominik.big.glsp.uml.uml.elements.typed_element;
 
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.eclipse.emf.common.command.Command;
 import org.eclipse.emf.common.util.Enumerator;
-import org.eclipse.uml2.uml.NamedElement;
 import org.eclipse.uml2.uml.Type;
 import org.eclipse.uml2.uml.TypedElement;
 
@@ -26,8 +24,7 @@ import com.borkdominik.big.glsp.server.features.property_palette.model.ElementPr
 import com.borkdominik.big.glsp.server.features.property_palette.model.ElementPropertyItem;
 import com.borkdominik.big.glsp.server.features.property_palette.provider.integrations.BGEMFElementPropertyProvider;
 import com.borkdominik.big.glsp.uml.uml.commands.UMLUpdateElementCommand;
-import com.borkdominik.big.glsp.uml.uml.elements.type.TypeInformationProvider;
-import com.borkdominik.big.glsp.uml.uml.elements.type.TypeUtils;
+import com.borkdominik.big.glsp.uml.uml.elements.type.TypeChoiceCache;
 import com.google.inject.Inject;
 import com.google.inject.assistedinject.Assisted;
 
@@ -36,7 +33,7 @@ public class TypedElementPropertyProvider extends BGEMFElementPropertyProvider<T
    public static final String TYPE = "type";
 
    @Inject
-   protected TypeInformationProvider typeProvider;
+   protected TypeChoiceCache typeChoices;
 
    @Inject
    public TypedElementPropertyProvider(@Assisted final Enumerator representation,
@@ -51,20 +48,7 @@ public class TypedElementPropertyProvider extends BGEMFElementPropertyProvider<T
          .choice(
             TYPE,
             "Type",
-            TypeUtils
-               .asChoices(typeProvider.provide().stream()
-                  .filter(type -> this.modelState.getIndex().getEObject(type.getId())
-                     .map(t -> {
-                        if (t instanceof NamedElement namedElement) {
-                           if (namedElement.getName() != null && !namedElement.getName().isBlank()) {
-                              return true;
-                           }
-                        }
-
-                        return null;
-                     })
-                     .isPresent())
-                  .collect(Collectors.toSet())),
+            typeChoices.getChoices(),
             element.getType() == null ? "" : idGenerator.getOrCreateId(element.getType()));
 
       return builder.items();
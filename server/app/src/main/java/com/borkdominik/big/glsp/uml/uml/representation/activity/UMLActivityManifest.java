@@ -11,8 +11,8 @@
 package com.borkdominik.big.glsp.uml.uml.representation.activity;
 
 import com.borkdominik.big.glsp.server.core.features.direct_editing.implementations.BGEMFDefaultDirectEditHandler;
-import com.borkdominik.big.glsp.server.core.handler.operation.delete.implementations.BGEMFDefaultDeleteHandler;
 import com.borkdominik.big.glsp.server.core.manifest.BGRepresentationManifest;
+import com.borkdominik.big.glsp.uml.uml.customizations.UMLDefaultDeleteHandler;
 import com.borkdominik.big.glsp.uml.uml.customizations.UMLDefaultPropertyPaletteProvider;
 import com.borkdominik.big.glsp.uml.uml.customizations.UMLDefaultReconnectElementHandler;
 import com.borkdominik.big.glsp.uml.uml.elements.activity.ActivityElementManifest;
@@ -39,7 +39,7 @@ public class UMLActivityManifest extends BGRepresentationManifest {
       super.configure();
 
       bindToolPalette(ActivityToolPaletteProvider.class);
-      bindDefaultDeleteOperation(BGEMFDefaultDeleteHandler.class);
+      bindDefaultDeleteOperation(UMLDefaultDeleteHandler.class);
       bindDefaultDirectEdit(BGEMFDefaultDirectEditHandler.class);
       bindDefaultReconnectOperation(UMLDefaultReconnectElementHandler.class);
       bindDefaultPropertyPalette(UMLDefaultPropertyPaletteProvider.class);
@@ -13,8 +13,8 @@ package com.borkdominik.big.glsp.uml.uml.representation.communication;
 import org.eclipse.emf.common.util.Enumerator;
 
 import com.borkdominik.big.glsp.server.core.features.direct_editing.implementations.BGEMFDefaultDirectEditHandler;
-import com.borkdominik.big.glsp.server.core.handler.operation.delete.implementations.BGEMFDefaultDeleteHandler;
 import com.borkdominik.big.glsp.server.core.manifest.BGRepresentationManifest;
+import com.borkdominik.big.glsp.uml.uml.customizations.UMLDefaultDeleteHandler;
 import com.borkdominik.big.glsp.uml.uml.customizations.UMLDefaultPropertyPaletteProvider;
 import com.borkdominik.big.glsp.uml.uml.customizations.UMLDefaultReconnectElementHandler;
 import com.borkdominik.big.glsp.uml.uml.elements.interaction.InteractionElementManifest;
@@ -34,7 +34,7 @@ public class UMLCommunicationManifest extends BGRepresentationManifest {
       super.configure();
 
       bindToolPalette(CommunicationToolPaletteProvider.class);
-      bindDefaultDeleteOperation(BGEMFDefaultDeleteHandler.class);
+      bindDefaultDeleteOperation(UMLDefaultDeleteHandler.class);
       bindDefaultDirectEdit(BGEMFDefaultDirectEditHandler.class);
       bindDefaultReconnectOperation(UMLDefaultReconnectElementHandler.class);
       bindDefaultPropertyPalette(UMLDefaultPropertyPaletteProvider.class);
@@ -20,23 +20,14 @@ import org.eclipse.uml2.uml.PackageableElement;
 import com.borkdominik.big.glsp.server.features.property_palette.model.ElementReferencePropertyItem;
 
 public class ElementImportPropertyPaletteUtils {
-
-   public static List<ElementReferencePropertyItem.Reference> asReferenceFromElementImports(
-      final List<ElementImport> packageImports,
+   public static ElementReferencePropertyItem.Reference toReference(final ElementImport elementImport,
       final EMFIdGenerator idGenerator) {
-      var references = packageImports.stream()
-         .map(v -> {
-            var p = v.getImportedElement();
-            var label = String.format("<Element Import> %s", p.getName());
-            return ElementReferencePropertyItem.Reference.builder()
-               .elementId(idGenerator.getOrCreateId(p))
-               .label(label).name(
-                  p.getName())
-               .build();
-         })
-         .collect(Collectors.toList());
-
-      return references;
+      var p = elementImport.getImportedElement();
+      return ElementReferencePropertyItem.Reference.builder()
+         .elementId(idGenerator.getOrCreateId(p))
+         .label("<Element Import> " + p.getName())
+         .name(p.getName())
+         .build();
    }
 
    public static List<ElementReferencePropertyItem.Reference> asReferenceFromPackageableElement(
@@ -44,10 +35,9 @@ public class ElementImportPropertyPaletteUtils {
       final EMFIdGenerator idGenerator) {
       var references = packages.stream()
          .map(v -> {
-            var label = String.format("<Packageable Element> %s", v.getName());
             return ElementReferencePropertyItem.Reference.builder()
                .elementId(idGenerator.getOrCreateId(v))
-               .label(label)
+               .label("<Packageable Element> " + v.getName())
                .name(v.getName()).build();
          })
          .collect(Collectors.toList());